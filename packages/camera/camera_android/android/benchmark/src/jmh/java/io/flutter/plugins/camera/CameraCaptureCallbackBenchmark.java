@@ -0,0 +1,75 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CameraCaptureSession;
+import android.hardware.camera2.CaptureRequest;
+import android.hardware.camera2.CaptureResult;
+import android.hardware.camera2.TotalCaptureResult;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures handling the capture result of a preview frame, which runs for every frame the camera
+ * produces.
+ *
+ * <p>The capture result is a Mockito fake, as it cannot be created outside of the camera service.
+ * Its lookups are only part of the score while the capture properties are enabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CameraCaptureCallbackBenchmark {
+  @Param({"false", "true"})
+  public boolean capturePropertiesEnabled;
+
+  private CameraCaptureCallback callback;
+  private CameraCaptureProperties captureProps;
+  private CameraCaptureSession session;
+  private CaptureRequest request;
+  private TotalCaptureResult result;
+
+  @Setup
+  public void setUp() {
+    captureProps = new CameraCaptureProperties();
+    callback =
+        CameraCaptureCallback.create(
+            new CameraCaptureCallback.CameraCaptureStateListener() {
+              @Override
+              public void onConverged() {}
+
+              @Override
+              public void onPrecapture() {}
+            },
+            new CaptureTimeoutsWrapper(3000, 3000),
+            captureProps);
+    callback.setCapturePropertiesEnabled(capturePropertiesEnabled);
+
+    session = mock(CameraCaptureSession.class);
+    request = mock(CaptureRequest.class);
+    result = mock(TotalCaptureResult.class);
+    when(result.get(CaptureResult.LENS_APERTURE)).thenReturn(1.8f);
+    when(result.get(CaptureResult.SENSOR_EXPOSURE_TIME)).thenReturn(16666666L);
+    when(result.get(CaptureResult.SENSOR_SENSITIVITY)).thenReturn(400);
+  }
+
+  @Benchmark
+  public CameraCaptureProperties onCaptureCompleted() {
+    callback.onCaptureCompleted(session, request, result);
+    return captureProps;
+  }
+}
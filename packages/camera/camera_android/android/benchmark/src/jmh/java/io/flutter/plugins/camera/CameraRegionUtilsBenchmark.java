@@ -0,0 +1,42 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.params.MeteringRectangle;
+import android.util.Size;
+import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures converting a point on the preview into a metering rectangle on a 4032x3024 sensor, as is
+ * done whenever Dart sets an exposure or focus point.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CameraRegionUtilsBenchmark {
+  @Param({"PORTRAIT_UP", "LANDSCAPE_LEFT", "PORTRAIT_DOWN", "LANDSCAPE_RIGHT"})
+  public PlatformChannel.DeviceOrientation orientation;
+
+  private Size boundaries;
+
+  @Setup
+  public void setUp() {
+    boundaries = new Size(4032, 3024);
+  }
+
+  @Benchmark
+  public MeteringRectangle convertPointToMeteringRectangle() {
+    return CameraRegionUtils.convertPointToMeteringRectangle(boundaries, 0.3, 0.7, orientation);
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.media.Image;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures writing a captured JPEG to a file with {@link ImageSaver}.
+ *
+ * <p>The image is a Mockito fake whose single plane is a direct buffer of random bytes, the way
+ * {@link android.media.ImageReader} hands out JPEG data.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ImageSaverBenchmark {
+  /** The size of the JPEG data, roughly that of a 2MP and a 12MP picture. */
+  @Param({"500000", "4000000"})
+  public int jpegSize;
+
+  private ByteBuffer jpeg;
+  private Image image;
+  private File file;
+  private final ImageSaver.Callback callback =
+      new ImageSaver.Callback() {
+        @Override
+        public void onComplete(String absolutePath) {}
+
+        @Override
+        public void onError(String errorCode, String errorMessage) {
+          throw new IllegalStateException(errorMessage);
+        }
+      };
+
+  @Setup
+  public void setUp() throws IOException {
+    final byte[] bytes = new byte[jpegSize];
+    new Random(0).nextBytes(bytes);
+    jpeg = ByteBuffer.allocateDirect(jpegSize);
+    jpeg.put(bytes);
+
+    final Image.Plane plane = mock(Image.Plane.class);
+    when(plane.getBuffer()).thenReturn(jpeg);
+    image = mock(Image.class);
+    when(image.getPlanes()).thenReturn(new Image.Plane[] {plane});
+    file = File.createTempFile("CAP", ".jpg");
+  }
+
+  @TearDown
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Benchmark
+  public File save() {
+    jpeg.rewind();
+    new ImageSaver(image, file, callback).run();
+    return file;
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.graphics.ImageFormat;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures copying the planes of a synthetic YUV_420_888 frame into a pooled {@link
+ * ImageStreamFrame} and serializing it with the {@link StandardMessageCodec}, as is done for every
+ * streamed frame.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ImageStreamFrameBenchmark {
+  @Param({"640x480", "1280x720", "1920x1080"})
+  public String size;
+
+  private int width;
+  private int height;
+  private int rowStride;
+  private ByteBuffer y;
+  private ByteBuffer u;
+  private ByteBuffer v;
+  private ImageStreamFramePool pool;
+  private final EncodingSink encodingSink = new EncodingSink();
+  private final DiscardingSink discardingSink = new DiscardingSink();
+
+  /** Serializes every frame the way the event channel does. */
+  static class EncodingSink implements EventChannel.EventSink {
+    ByteBuffer message;
+
+    @Override
+    public void success(Object event) {
+      message = StandardMessageCodec.INSTANCE.encodeMessage(event);
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {}
+
+    @Override
+    public void endOfStream() {}
+  }
+
+  /** Drops every frame, so that only copying the planes is measured. */
+  static class DiscardingSink implements EventChannel.EventSink {
+    @Override
+    public void success(Object event) {}
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {}
+
+    @Override
+    public void endOfStream() {}
+  }
+
+  @Setup
+  public void setUp() {
+    final String[] dimensions = size.split("x");
+    width = Integer.parseInt(dimensions[0]);
+    height = Integer.parseInt(dimensions[1]);
+    rowStride = width + 64;
+    y = ByteBuffer.allocateDirect(rowStride * (height - 1) + width);
+    // The chroma planes share one interleaved buffer, as with most camera HALs.
+    final ByteBuffer chroma = ByteBuffer.allocateDirect(rowStride * (height / 2 - 1) + width);
+    chroma.limit(chroma.capacity() - 1);
+    v = chroma.slice();
+    chroma.limit(chroma.capacity());
+    chroma.position(1);
+    u = chroma.slice();
+    pool = new ImageStreamFramePool();
+  }
+
+  @Benchmark
+  public ByteBuffer copyAndSerialize() {
+    deliver(encodingSink);
+    return encodingSink.message;
+  }
+
+  /** Baseline: copies the planes without serializing them. */
+  @Benchmark
+  public ImageStreamFramePool copy() {
+    deliver(discardingSink);
+    return pool;
+  }
+
+  private void deliver(EventChannel.EventSink sink) {
+    final ImageStreamFrame frame = pool.acquire();
+    frame.setPlaneCount(3);
+    frame.setPlane(0, y, rowStride, 1);
+    frame.setPlane(1, u, rowStride, 2);
+    frame.setPlane(2, v, rowStride, 2);
+    frame.setImageInfo(width, height, ImageFormat.YUV_420_888);
+    frame.setCaptureProperties(1.8f, 16666666L, 400);
+    frame.deliverTo(sink, null, 0).run();
+  }
+}
@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures packing a synthetic 1280x720 YUV_420_888 frame, laid out the way most camera HALs
+ * deliver it: a padded luma plane and chroma planes that share one interleaved buffer with a pixel
+ * stride of 2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class YuvPackerBenchmark {
+  private static final int WIDTH = 1280;
+  private static final int HEIGHT = 720;
+  private static final int ROW_STRIDE = WIDTH + 64;
+
+  /** The planes of the synthetic frame. */
+  @State(Scope.Thread)
+  public static class Frame {
+    ByteBuffer y;
+    ByteBuffer u;
+    ByteBuffer v;
+    final byte[][] planeCopies = new byte[3][];
+
+    @Setup
+    public void setUp() {
+      y = ByteBuffer.allocateDirect(ROW_STRIDE * (HEIGHT - 1) + WIDTH);
+      ByteBuffer chroma = ByteBuffer.allocateDirect(ROW_STRIDE * (HEIGHT / 2 - 1) + WIDTH);
+      fill(y);
+      fill(chroma);
+      chroma.limit(chroma.capacity() - 1);
+      v = chroma.slice();
+      chroma.limit(chroma.capacity());
+      chroma.position(1);
+      u = chroma.slice();
+
+      planeCopies[0] = new byte[y.remaining()];
+      planeCopies[1] = new byte[u.remaining()];
+      planeCopies[2] = new byte[v.remaining()];
+    }
+
+    private static void fill(ByteBuffer buffer) {
+      for (int i = 0; i < buffer.capacity(); i++) {
+        buffer.put(i, (byte) i);
+      }
+    }
+  }
+
+  /** A packer and its output buffer for every combination of options. */
+  @State(Scope.Thread)
+  public static class Packer {
+    @Param({"nv21", "i420"})
+    public String format;
+
+    @Param({"1", "2", "4"})
+    public int downscaleFactor;
+
+    @Param({"false", "true"})
+    public boolean crop;
+
+    YuvPacker packer;
+    byte[] out;
+
+    @Setup
+    public void setUp() {
+      packer = new YuvPacker(YuvPackingFormat.getValueForString(format), downscaleFactor);
+      if (crop) {
+        packer.setCropRect(WIDTH / 4, HEIGHT / 4, WIDTH / 2, HEIGHT / 2);
+      }
+      packer.setImageSize(WIDTH, HEIGHT);
+      out = new byte[packer.getOutputSize()];
+    }
+  }
+
+  @Benchmark
+  public byte[] pack(Frame frame, Packer packer) {
+    packer.packer.pack(
+        frame.y, ROW_STRIDE, 1, frame.u, ROW_STRIDE, 2, frame.v, ROW_STRIDE, 2, packer.out);
+    return packer.out;
+  }
+
+  /** Baseline: copies the three planes as they are, as the plugin does without packing. */
+  @Benchmark
+  public byte[][] copyPlanes(Frame frame) {
+    copy(frame.y, frame.planeCopies[0]);
+    copy(frame.u, frame.planeCopies[1]);
+    copy(frame.v, frame.planeCopies[2]);
+    return frame.planeCopies;
+  }
+
+  private static void copy(ByteBuffer plane, byte[] target) {
+    plane.get(target, 0, target.length);
+    plane.rewind();
+  }
+}
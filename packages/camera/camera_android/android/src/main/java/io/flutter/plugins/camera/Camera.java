@@ -23,6 +23,7 @@ import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.Image;
 import android.media.ImageReader;
+import android.media.MediaCodec;
 import android.media.MediaRecorder;
 import android.os.Build;
 import android.os.Build.VERSION;
@@ -30,6 +31,7 @@ import android.os.Build.VERSION_CODES;
 import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.util.Size;
 import android.view.Display;
@@ -44,6 +46,7 @@ import io.flutter.plugin.common.MethodChannel.Result;
 import io.flutter.plugins.camera.features.CameraFeature;
 import io.flutter.plugins.camera.features.CameraFeatureFactory;
 import io.flutter.plugins.camera.features.CameraFeatures;
+import io.flutter.plugins.camera.features.CameraSettings;
 import io.flutter.plugins.camera.features.Point;
 import io.flutter.plugins.camera.features.autofocus.AutoFocusFeature;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
@@ -59,20 +62,27 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
+import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
+import io.flutter.plugins.camera.media.RecordingSegmentOptions;
+import io.flutter.plugins.camera.media.ZslOptions;
+import io.flutter.plugins.camera.media.ZslRingBuffer;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
 import io.flutter.view.TextureRegistry.SurfaceTextureEntry;
 import java.io.File;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @FunctionalInterface
 interface ErrorCallback {
@@ -131,17 +141,62 @@ class Camera
 
   /** An additional thread for running tasks that shouldn't block the UI. */
   private HandlerThread backgroundHandlerThread;
+  /** Saves captured pictures, so that file I/O does not block the background thread. */
+  @Nullable private volatile ExecutorService imageSaverExecutor;
+  /** Collects the latency of saving captured pictures. */
+  private final ImageSaver.Metrics imageSaverMetrics = new ImageSaver.Metrics();
 
   private CameraDeviceWrapper cameraDevice;
   private CameraCaptureSession captureSession;
   private ImageReader pictureImageReader;
-  private ImageReader imageStreamReader;
+  private ImageStreamReader imageStreamReader;
+  /** The options for zero shutter lag capture, or null when it is disabled. */
+  @Nullable private ZslOptions zslOptions;
+  /** Receives the full resolution frames kept for zero shutter lag capture. */
+  private ImageReader zslImageReader;
+  /** Keeps the most recent frames of {@link #zslImageReader}. */
+  private ZslRingBuffer zslRingBuffer;
   /** {@link CaptureRequest.Builder} for the camera preview */
   private CaptureRequest.Builder previewRequestBuilder;
+  /** The surface rendering to the Flutter texture in the current capture session. */
+  private Surface previewSurface;
+
+  /**
+   * True when the capture session is configured with all surfaces up front, so that starting and
+   * stopping the image stream or a recording only switches the targets of the repeating request.
+   */
+  private boolean persistentCaptureSession;
+  /** True when the current capture session was configured with all surfaces. */
+  private boolean persistentSessionConfigured;
+  /** The persistent input surface of {@link #mediaRecorder}, kept across recordings. */
+  @Nullable private Surface recorderSurface;
+  /** The file the recorder is prepared with before the first recording, to size its surface. */
+  @Nullable private File recorderPlaceholderFile;
+  /** The number of capture sessions configured by this camera. */
+  private int sessionConfigurationCount;
+  /** The number of times the repeating request switched targets without configuring a session. */
+  private int repeatingRequestUpdateCount;
+  /** Records the timing of the camera pipeline, or null when metrics are disabled. */
+  @Nullable private volatile CameraMetrics metrics;
+
+  /** True when the camera is opened by {@link #prewarm} and has not been adopted yet. */
+  private volatile boolean prewarming;
+  /** The image stream format the camera was prewarmed with. */
+  @Nullable private String prewarmImageFormatGroup;
+  /** True between requesting the camera to open and it being opened or failing to open. */
+  private volatile boolean openPending;
+  /** The preview size the image stream reader was created with. */
+  @Nullable private Size streamPreviewSize;
 
   private MediaRecorder mediaRecorder;
   /** True when recording video. */
   private boolean recordingVideo;
+  /** The options of the current segmented recording, or null when recording to a single file. */
+  @Nullable private RecordingSegmentOptions segmentOptions;
+  /** The file the recorder switches to once the current segment is full. */
+  @Nullable private File nextSegmentFile;
+  /** When the current segment started, in milliseconds since boot. */
+  private long segmentStartTimeMs;
   /** True when the preview is paused. */
   private boolean pausedPreview;
 
@@ -225,6 +280,7 @@ class Camera
 
   @Override
   public void onConverged() {
+    recordMetricsEvent(CameraMetrics.Event.PRECAPTURE_CONVERGED);
     takePictureAfterPrecapture();
   }
 
@@ -274,11 +330,205 @@ class Camera
                 lockedOrientation == null
                     ? getDeviceOrientationManager().getVideoOrientation()
                     : getDeviceOrientationManager().getVideoOrientation(lockedOrientation))
+            .setInputSurface(recorderSurface)
+            .setSegmentOptions(segmentOptions)
             .build();
+    if (segmentOptions != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      mediaRecorder.setOnInfoListener(this::onRecorderInfo);
+      // The next file is set up front, so that the recorder switches without dropping frames.
+      armNextSegmentFile();
+    }
   }
 
-  @SuppressLint("MissingPermission")
+  /** Handles the recorder switching to the next segment of a segmented recording. */
+  @TargetApi(VERSION_CODES.O)
+  @VisibleForTesting
+  void onRecorderInfo(MediaRecorder recorder, int what, int extra) {
+    if (recorder != mediaRecorder || segmentOptions == null) {
+      return;
+    }
+    switch (what) {
+      case MediaRecorder.MEDIA_RECORDER_INFO_NEXT_OUTPUT_FILE_STARTED:
+        {
+          final long now = SystemClock.elapsedRealtime();
+          dartMessenger.sendRecordingSegmentClosedEvent(
+              captureFile.getAbsolutePath(), now - segmentStartTimeMs);
+          captureFile = nextSegmentFile;
+          nextSegmentFile = null;
+          segmentStartTimeMs = now;
+          armNextSegmentFile();
+          break;
+        }
+      case MediaRecorder.MEDIA_RECORDER_INFO_MAX_FILESIZE_APPROACHING:
+        {
+          if (nextSegmentFile == null) {
+            armNextSegmentFile();
+          }
+          break;
+        }
+      case MediaRecorder.MEDIA_RECORDER_INFO_MAX_FILESIZE_REACHED:
+        {
+          // The recorder stopped itself, so close the last segment and return to the preview.
+          dartMessenger.sendRecordingSegmentClosedEvent(
+              captureFile.getAbsolutePath(), SystemClock.elapsedRealtime() - segmentStartTimeMs);
+          cameraFeatures.setAutoFocus(
+              cameraFeatureFactory.createAutoFocusFeature(cameraProperties, false));
+          recordingVideo = false;
+          mediaRecorder.reset();
+          deleteNextSegmentFile();
+          segmentOptions = null;
+          captureFile = null;
+          dartMessenger.sendCameraErrorEvent(
+              "The recording stopped, as the next segment file could not be set.");
+          try {
+            startPreview();
+          } catch (CameraAccessException | IllegalStateException e) {
+            dartMessenger.sendCameraErrorEvent(e.getMessage());
+          }
+          break;
+        }
+      default:
+        break;
+    }
+  }
+
+  /** Creates the file of the next segment and sets it as the next output file of the recorder. */
+  @TargetApi(VERSION_CODES.O)
+  private void armNextSegmentFile() {
+    File file = null;
+    try {
+      file = File.createTempFile("REC", ".mp4", applicationContext.getCacheDir());
+      mediaRecorder.setNextOutputFile(file);
+      nextSegmentFile = file;
+    } catch (IOException | IllegalStateException | SecurityException e) {
+      Log.w(TAG, "Failed to set the next segment file", e);
+      if (file != null) {
+        file.delete();
+      }
+    }
+  }
+
+  /** Deletes the next segment file the recorder did not switch to. */
+  private void deleteNextSegmentFile() {
+    if (nextSegmentFile != null) {
+      nextSegmentFile.delete();
+      nextSegmentFile = null;
+    }
+  }
+
+  /**
+   * Opens the camera, or adopts the camera opened by {@link #prewarm}.
+   *
+   * <p>The initialized event is sent once the camera is open.
+   *
+   * @param imageFormatGroup the format of the image stream.
+   */
   public void open(String imageFormatGroup) throws CameraAccessException {
+    if (prewarming) {
+      adoptPrewarmedCamera(imageFormatGroup);
+      return;
+    }
+    openCamera(imageFormatGroup);
+  }
+
+  /**
+   * Opens the camera and starts its preview before Dart initializes it, without sending the
+   * initialized event.
+   *
+   * <p>The next call to {@link #open} adopts the camera, so that it is initialized as soon as the
+   * camera is open.
+   *
+   * @param imageFormatGroup the expected format of the image stream.
+   */
+  public void prewarm(String imageFormatGroup) {
+    prewarming = true;
+    prewarmImageFormatGroup = imageFormatGroup;
+    // Creating the image readers and opening the camera does not block the caller.
+    backgroundHandler.post(
+        () -> {
+          try {
+            openCamera(imageFormatGroup);
+          } catch (CameraAccessException | SecurityException | IllegalArgumentException e) {
+            // The camera is opened again when it is adopted.
+            Log.w(TAG, "Failed to prewarm the camera", e);
+          }
+        });
+  }
+
+  private void adoptPrewarmedCamera(String imageFormatGroup) throws CameraAccessException {
+    Log.i(TAG, "adoptPrewarmedCamera");
+    // The camera is opened on the background thread, so the adoption is serialized with it.
+    final Handler handler = backgroundHandler;
+    if (handler != null
+        && handler.post(
+            () -> {
+              prewarming = false;
+              // A target preview size may have been set after the camera was prewarmed.
+              final boolean previewSizeChanged =
+                  !Objects.equals(
+                      cameraFeatures.getResolution().getPreviewSize(), streamPreviewSize);
+              if ((previewSizeChanged || !Objects.equals(imageFormatGroup, prewarmImageFormatGroup))
+                  && imageStreamReader != null) {
+                imageStreamReader.close();
+                createImageStreamReader(imageFormatGroup);
+              }
+              if (cameraDevice != null) {
+                if (previewSizeChanged) {
+                  try {
+                    startPreview();
+                  } catch (CameraAccessException e) {
+                    dartMessenger.sendCameraErrorEvent(e.getMessage());
+                    return;
+                  }
+                }
+                sendCameraInitializedEvent();
+              } else if (!openPending) {
+                // Opening the prewarmed camera failed, so try again.
+                try {
+                  openCamera(imageFormatGroup);
+                } catch (CameraAccessException | SecurityException | IllegalArgumentException e) {
+                  dartMessenger.sendCameraErrorEvent(e.getMessage());
+                }
+              }
+            })) {
+      return;
+    }
+
+    // The prewarmed camera was closed along with its background thread.
+    prewarming = false;
+    startBackgroundThread();
+    openCamera(imageFormatGroup);
+  }
+
+  private void sendCameraInitializedEvent() {
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    dartMessenger.sendCameraInitializedEvent(
+        resolutionFeature.getPreviewSize().getWidth(),
+        resolutionFeature.getPreviewSize().getHeight(),
+        cameraFeatures.getExposureLock().getValue(),
+        cameraFeatures.getAutoFocus().getValue(),
+        cameraFeatures.getExposurePoint().checkIsSupported(),
+        cameraFeatures.getFocusPoint().checkIsSupported());
+  }
+
+  private void createImageStreamReader(String imageFormatGroup) {
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    // For image streaming, use the provided image format or fall back to YUV420.
+    Integer imageFormat = supportedImageFormats.get(imageFormatGroup);
+    if (imageFormat == null) {
+      Log.w(TAG, "The selected imageFormatGroup is not supported by Android. Defaulting to yuv420");
+      imageFormat = ImageFormat.YUV_420_888;
+    }
+    streamPreviewSize = resolutionFeature.getPreviewSize();
+    imageStreamReader =
+        new ImageStreamReader(
+            streamPreviewSize.getWidth(), streamPreviewSize.getHeight(), imageFormat, 1);
+    imageStreamReader.setFrameProcessorResultListener(dartMessenger::sendFrameProcessorResultEvent);
+    setMetrics(metrics);
+  }
+
+  @SuppressLint("MissingPermission")
+  private void openCamera(String imageFormatGroup) throws CameraAccessException {
     final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
 
     if (!resolutionFeature.checkIsSupported()) {
@@ -292,44 +542,47 @@ class Camera
       return;
     }
 
-    // Always capture using JPEG format.
+    // Always capture using JPEG format. Images stay open until they are saved, so leave room for
+    // the one being saved, those waiting to be saved and the next capture.
     pictureImageReader =
         ImageReader.newInstance(
             resolutionFeature.getCaptureSize().getWidth(),
             resolutionFeature.getCaptureSize().getHeight(),
             ImageFormat.JPEG,
-            1);
-
-    // For image streaming, use the provided image format or fall back to YUV420.
-    Integer imageFormat = supportedImageFormats.get(imageFormatGroup);
-    if (imageFormat == null) {
-      Log.w(TAG, "The selected imageFormatGroup is not supported by Android. Defaulting to yuv420");
-      imageFormat = ImageFormat.YUV_420_888;
-    }
-    imageStreamReader =
-        ImageReader.newInstance(
-            resolutionFeature.getPreviewSize().getWidth(),
-            resolutionFeature.getPreviewSize().getHeight(),
-            imageFormat,
-            1);
+            ImageSaver.MAX_PENDING_SAVES + 2);
+    createZslBuffer();
+    createImageStreamReader(imageFormatGroup);
 
     // Open the camera.
+    recordMetricsEvent(CameraMetrics.Event.OPEN_REQUESTED);
+    openPending = true;
     CameraManager cameraManager = CameraUtils.getCameraManager(activity);
+    try {
+      openCameraDevice(cameraManager);
+    } catch (CameraAccessException | RuntimeException e) {
+      // No callback follows a failed request, so a later open must not wait for one.
+      openPending = false;
+      throw e;
+    }
+  }
+
+  /** Requests the camera device, whose state callbacks run on the background thread. */
+  @SuppressLint("MissingPermission")
+  private void openCameraDevice(CameraManager cameraManager) throws CameraAccessException {
     cameraManager.openCamera(
         cameraProperties.getCameraName(),
         new CameraDevice.StateCallback() {
           @Override
           public void onOpened(@NonNull CameraDevice device) {
+            recordMetricsEvent(CameraMetrics.Event.OPENED);
+            openPending = false;
             cameraDevice = new DefaultCameraDeviceWrapper(device);
             try {
               startPreview();
-              dartMessenger.sendCameraInitializedEvent(
-                  resolutionFeature.getPreviewSize().getWidth(),
-                  resolutionFeature.getPreviewSize().getHeight(),
-                  cameraFeatures.getExposureLock().getValue(),
-                  cameraFeatures.getAutoFocus().getValue(),
-                  cameraFeatures.getExposurePoint().checkIsSupported(),
-                  cameraFeatures.getFocusPoint().checkIsSupported());
+              // A prewarmed camera is initialized once it is adopted.
+              if (!prewarming) {
+                sendCameraInitializedEvent();
+              }
             } catch (CameraAccessException e) {
               dartMessenger.sendCameraErrorEvent(e.getMessage());
               close();
@@ -339,6 +592,7 @@ class Camera
           @Override
           public void onClosed(@NonNull CameraDevice camera) {
             Log.i(TAG, "open | onClosed");
+            openPending = false;
 
             // Prevents calls to methods that would otherwise result in IllegalStateException exceptions.
             cameraDevice = null;
@@ -349,6 +603,7 @@ class Camera
           @Override
           public void onDisconnected(@NonNull CameraDevice cameraDevice) {
             Log.i(TAG, "open | onDisconnected");
+            openPending = false;
 
             close();
             dartMessenger.sendCameraErrorEvent("The camera was disconnected.");
@@ -357,6 +612,7 @@ class Camera
           @Override
           public void onError(@NonNull CameraDevice cameraDevice, int errorCode) {
             Log.i(TAG, "open | onError");
+            openPending = false;
 
             close();
             String errorDescription;
@@ -393,8 +649,29 @@ class Camera
   private void createCaptureSession(
       int templateType, Runnable onSuccessCallback, Surface... surfaces)
       throws CameraAccessException {
+    createCaptureSession(templateType, onSuccessCallback, null, surfaces);
+  }
+
+  /**
+   * Configures a new capture session with the given surfaces and the Flutter surface.
+   *
+   * @param templateType the template of the repeating request.
+   * @param onSuccessCallback called once the repeating request is set.
+   * @param targets the surfaces the repeating request targets besides the Flutter surface, or null
+   *     to target all surfaces unless {@code templateType} is {@link
+   *     CameraDevice#TEMPLATE_PREVIEW}.
+   * @param surfaces the surfaces to configure the session with besides the Flutter surface.
+   */
+  private void createCaptureSession(
+      int templateType,
+      Runnable onSuccessCallback,
+      @Nullable List<Surface> targets,
+      Surface... surfaces)
+      throws CameraAccessException {
     // Close any existing capture session.
     captureSession = null;
+    persistentSessionConfigured = false;
+    sessionConfigurationCount++;
 
     // Create a new capture builder.
     previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
@@ -406,21 +683,26 @@ class Camera
         resolutionFeature.getPreviewSize().getWidth(),
         resolutionFeature.getPreviewSize().getHeight());
     Surface flutterSurface = new Surface(surfaceTexture);
+    previewSurface = flutterSurface;
     previewRequestBuilder.addTarget(flutterSurface);
 
     List<Surface> remainingSurfaces = Arrays.asList(surfaces);
-    if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
+    if (targets != null) {
+      for (Surface surface : targets) {
+        previewRequestBuilder.addTarget(surface);
+      }
+    } else if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
       // If it is not preview mode, add all surfaces as targets.
       for (Surface surface : remainingSurfaces) {
         previewRequestBuilder.addTarget(surface);
       }
+    } else if (zslImageReader != null && remainingSurfaces.contains(zslImageReader.getSurface())) {
+      // The ZSL ring buffer is filled by the repeating preview request.
+      previewRequestBuilder.addTarget(zslImageReader.getSurface());
     }
 
     // Update camera regions.
-    Size cameraBoundaries =
-        CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
-    cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
-    cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
+    updateCameraBoundaries();
 
     // Prepare the callback.
     CameraCaptureSession.StateCallback callback =
@@ -436,6 +718,7 @@ class Camera
               return;
             }
             captureSession = session;
+            recordMetricsEvent(CameraMetrics.Event.SESSION_CONFIGURED);
 
             Log.i(TAG, "Updating builder settings");
             updateBuilderSettings(previewRequestBuilder);
@@ -475,6 +758,13 @@ class Camera
     }
   }
 
+  private void updateCameraBoundaries() {
+    Size cameraBoundaries =
+        CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
+    cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
+    cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
+  }
+
   @TargetApi(VERSION_CODES.P)
   private void createCaptureSessionWithSessionConfig(
       List<OutputConfiguration> outputConfigs, CameraCaptureSession.StateCallback callback)
@@ -526,6 +816,15 @@ class Camera
   }
 
   private void startCapture(boolean record, boolean stream) throws CameraAccessException {
+    if (persistentCaptureSession && (!record || recorderSurface != null)) {
+      if (zslRingBuffer != null) {
+        // The ZSL surface is not targeted while capturing, so its frames would only get stale.
+        zslRingBuffer.trimTo(0);
+      }
+      updatePersistentCaptureSession(record, stream, record ? () -> mediaRecorder.start() : null);
+      return;
+    }
+
     List<Surface> surfaces = new ArrayList<>();
     Runnable successCallback = null;
     if (record) {
@@ -535,11 +834,121 @@ class Camera
     if (stream) {
       surfaces.add(imageStreamReader.getSurface());
     }
+    if (zslRingBuffer != null) {
+      // The ZSL surface is not part of this session, so its frames would only get stale.
+      zslRingBuffer.trimTo(0);
+    }
 
     createCaptureSession(
         CameraDevice.TEMPLATE_RECORD, successCallback, surfaces.toArray(new Surface[0]));
   }
 
+  /**
+   * Switches the targets of the repeating request of the persistent capture session, configuring
+   * the session first when there is none.
+   *
+   * @param record whether to target the recorder.
+   * @param stream whether to target the image stream.
+   * @param onSuccessCallback called once the repeating request is set.
+   */
+  private void updatePersistentCaptureSession(
+      boolean record, boolean stream, @Nullable Runnable onSuccessCallback)
+      throws CameraAccessException {
+    final int templateType =
+        record || stream ? CameraDevice.TEMPLATE_RECORD : CameraDevice.TEMPLATE_PREVIEW;
+    if (captureSession == null || !persistentSessionConfigured) {
+      createCaptureSession(
+          templateType,
+          onSuccessCallback,
+          getPersistentTargets(record, stream),
+          getPersistentSurfaces());
+      persistentSessionConfigured = true;
+      return;
+    }
+
+    previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
+    previewRequestBuilder.addTarget(previewSurface);
+    for (Surface surface : getPersistentTargets(record, stream)) {
+      previewRequestBuilder.addTarget(surface);
+    }
+    updateCameraBoundaries();
+    updateBuilderSettings(previewRequestBuilder);
+    repeatingRequestUpdateCount++;
+
+    refreshPreviewCaptureSession(
+        onSuccessCallback, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+  }
+
+  /** Returns all surfaces the persistent capture session is configured with. */
+  private Surface[] getPersistentSurfaces() {
+    if (recorderSurface == null && VERSION.SDK_INT >= VERSION_CODES.M) {
+      createRecorderSurface();
+    }
+
+    List<Surface> surfaces = new ArrayList<>();
+    surfaces.add(pictureImageReader.getSurface());
+    surfaces.add(imageStreamReader.getSurface());
+    if (zslImageReader != null) {
+      surfaces.add(zslImageReader.getSurface());
+    }
+    if (recorderSurface != null) {
+      surfaces.add(recorderSurface);
+    }
+    return surfaces.toArray(new Surface[0]);
+  }
+
+  /** Returns the surfaces the repeating request of the persistent capture session targets. */
+  private List<Surface> getPersistentTargets(boolean record, boolean stream) {
+    List<Surface> targets = new ArrayList<>();
+    if (record) {
+      targets.add(recorderSurface);
+    }
+    if (stream) {
+      targets.add(imageStreamReader.getSurface());
+    }
+    if (!record && !stream && zslImageReader != null) {
+      // The ZSL ring buffer is filled by the repeating preview request.
+      targets.add(zslImageReader.getSurface());
+    }
+    return targets;
+  }
+
+  @TargetApi(VERSION_CODES.M)
+  private void createRecorderSurface() {
+    recorderSurface = MediaCodec.createPersistentInputSurface();
+    try {
+      // The surface only gets the size of the video once a recorder is prepared with it, which
+      // requires an output file.
+      recorderPlaceholderFile =
+          File.createTempFile("REC", ".mp4", applicationContext.getCacheDir());
+      prepareMediaRecorder(recorderPlaceholderFile.getAbsolutePath());
+    } catch (IOException | RuntimeException e) {
+      Log.w(TAG, "Could not prepare the recorder surface, recordings reconfigure the session.", e);
+      releaseRecorderSurface();
+    }
+  }
+
+  private void deleteRecorderPlaceholderFile() {
+    if (recorderPlaceholderFile != null) {
+      if (!recorderPlaceholderFile.delete()) {
+        Log.w(TAG, "Could not delete " + recorderPlaceholderFile);
+      }
+      recorderPlaceholderFile = null;
+    }
+  }
+
+  private void releaseRecorderSurface() {
+    if (mediaRecorder != null) {
+      // The recorder may still be prepared with the placeholder file.
+      mediaRecorder.reset();
+    }
+    deleteRecorderPlaceholderFile();
+    if (recorderSurface != null) {
+      recorderSurface.release();
+      recorderSurface = null;
+    }
+  }
+
   public void takePicture(@NonNull final Result result) {
     // Only take one picture at a time.
     if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
@@ -548,6 +957,7 @@ class Camera
     }
 
     flutterResult = result;
+    recordMetricsEvent(CameraMetrics.Event.PICTURE_REQUESTED);
 
     // Create temporary file.
     final File outputDir = applicationContext.getCacheDir();
@@ -559,6 +969,10 @@ class Camera
       return;
     }
 
+    if (takeZslPicture()) {
+      return;
+    }
+
     // Listen for picture being taken.
     pictureImageReader.setOnImageAvailableListener(this, backgroundHandler);
 
@@ -571,12 +985,89 @@ class Camera
     }
   }
 
+  /**
+   * Takes the picture from the frame in the ZSL ring buffer that is closest to now, skipping the
+   * focus and precapture sequences.
+   *
+   * @return whether a frame was available to take the picture from.
+   */
+  private boolean takeZslPicture() {
+    if (zslRingBuffer == null) {
+      return false;
+    }
+    // The frames in the ring buffer were captured without firing the flash.
+    final FlashMode flashMode = cameraFeatures.getFlash().getValue();
+    if (flashMode == FlashMode.auto || flashMode == FlashMode.always) {
+      return false;
+    }
+
+    // Sensor timestamps can only be compared with the current time when they use the realtime
+    // clock, otherwise the most recent frame is picked.
+    final long timestamp =
+        cameraProperties.getSensorInfoTimestampSource()
+                == CameraMetadata.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME
+            ? SystemClock.elapsedRealtimeNanos()
+            : Long.MAX_VALUE;
+    final Image image = zslRingBuffer.takeClosest(timestamp);
+    if (image == null) {
+      return false;
+    }
+
+    Log.i(TAG, "takeZslPicture");
+    recordMetricsEvent(CameraMetrics.Event.CAPTURE_COMPLETED);
+    // The next picture can be requested before this one is saved, so hold on to its result.
+    final Result result = flutterResult;
+    saveImage(
+        new ZslImageSaver(
+            image,
+            captureFile,
+            getPhotoOrientation(),
+            new ImageSaver.Callback() {
+              @Override
+              public void onComplete(String absolutePath) {
+                recordMetricsEvent(CameraMetrics.Event.IMAGE_SAVED);
+                dartMessenger.finish(result, absolutePath);
+              }
+
+              @Override
+              public void onError(String errorCode, String errorMessage) {
+                dartMessenger.error(result, errorCode, errorMessage, null);
+              }
+            },
+            imageSaverMetrics));
+    return true;
+  }
+
+  /**
+   * Saves the image on {@link #imageSaverExecutor}, or discards it when the background thread has
+   * already been stopped.
+   */
+  private void saveImage(@NonNull ImageSaverTask task) {
+    final ExecutorService executor = imageSaverExecutor;
+    if (executor == null) {
+      task.discard("The camera was closed before the image was saved.");
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  /** Returns the clockwise rotation of pictures in degrees, honoring a locked orientation. */
+  private int getPhotoOrientation() {
+    final PlatformChannel.DeviceOrientation lockedOrientation =
+        ((SensorOrientationFeature) cameraFeatures.getSensorOrientation())
+            .getLockedCaptureOrientation();
+    return lockedOrientation == null
+        ? getDeviceOrientationManager().getPhotoOrientation()
+        : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation);
+  }
+
   /**
    * Run the precapture sequence for capturing a still image. This method should be called when a
    * response is received in {@link #cameraCaptureCallback} from lockFocus().
    */
   private void runPrecaptureSequence() {
     Log.i(TAG, "runPrecaptureSequence");
+    recordMetricsEvent(CameraMetrics.Event.PRECAPTURE_STARTED);
     try {
       // First set precapture state to idle or else it can hang in STATE_WAITING_PRECAPTURE_START.
       previewRequestBuilder.set(
@@ -636,14 +1127,7 @@ class Camera
     updateBuilderSettings(stillBuilder);
 
     // Orientation.
-    final PlatformChannel.DeviceOrientation lockedOrientation =
-        ((SensorOrientationFeature) cameraFeatures.getSensorOrientation())
-            .getLockedCaptureOrientation();
-    stillBuilder.set(
-        CaptureRequest.JPEG_ORIENTATION,
-        lockedOrientation == null
-            ? getDeviceOrientationManager().getPhotoOrientation()
-            : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation));
+    stillBuilder.set(CaptureRequest.JPEG_ORIENTATION, getPhotoOrientation());
 
     CameraCaptureSession.CaptureCallback captureCallback =
         new CameraCaptureSession.CaptureCallback() {
@@ -652,6 +1136,7 @@ class Camera
               @NonNull CameraCaptureSession session,
               @NonNull CaptureRequest request,
               @NonNull TotalCaptureResult result) {
+            recordMetricsEvent(CameraMetrics.Event.CAPTURE_COMPLETED);
             unlockAutoFocus();
           }
         };
@@ -683,6 +1168,7 @@ class Camera
       // Ignore exception in case the thread has already started.
     }
     backgroundHandler = HandlerFactory.create(backgroundHandlerThread.getLooper());
+    imageSaverExecutor = ImageSaver.createExecutor();
   }
 
   /** Stops the background thread and its {@link Handler}. */
@@ -692,6 +1178,11 @@ class Camera
     }
     backgroundHandlerThread = null;
     backgroundHandler = null;
+    if (imageSaverExecutor != null) {
+      // Lets pictures that are already being saved finish.
+      imageSaverExecutor.shutdown();
+    }
+    imageSaverExecutor = null;
   }
 
   /** Start capturing a picture, doing autofocus first. */
@@ -751,6 +1242,30 @@ class Camera
 
   public void startVideoRecording(
       @NonNull Result result, @Nullable EventChannel imageStreamChannel) {
+    startVideoRecording(result, imageStreamChannel, null);
+  }
+
+  /**
+   * Starts recording video, optionally split into segments.
+   *
+   * <p>Each time the recorder switches to the next segment, the path and duration of the closed
+   * segment are sent to Dart. Stopping the recording returns the path of the last segment.
+   *
+   * @param result Flutter result.
+   * @param imageStreamChannel the channel to stream images to while recording, or null.
+   * @param segmentOptions the options that split the recording into segments, or null to record to
+   *     a single file. Segmented recording requires Android API 26 and up.
+   */
+  public void startVideoRecording(
+      @NonNull Result result,
+      @Nullable EventChannel imageStreamChannel,
+      @Nullable RecordingSegmentOptions segmentOptions) {
+    if (segmentOptions != null && Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+      result.error("videoRecordingFailed", "Segmented recording requires Android API +26.", null);
+      return;
+    }
+    this.segmentOptions = segmentOptions;
+    segmentStartTimeMs = SystemClock.elapsedRealtime();
     prepareRecording(result);
 
     if (imageStreamChannel != null) {
@@ -764,6 +1279,8 @@ class Camera
     } catch (CameraAccessException e) {
       recordingVideo = false;
       captureFile = null;
+      deleteNextSegmentFile();
+      this.segmentOptions = null;
       result.error("videoRecordingFailed", e.getMessage(), null);
     }
   }
@@ -784,6 +1301,8 @@ class Camera
       // Ignore exceptions and try to continue (changes are camera session already aborted capture).
     }
     mediaRecorder.reset();
+    deleteNextSegmentFile();
+    segmentOptions = null;
     try {
       startPreview();
     } catch (CameraAccessException | IllegalStateException e) {
@@ -1020,6 +1539,49 @@ class Camera
    * @param zoom new value.
    */
   public void setZoomLevel(@NonNull final Result result, float zoom) throws CameraAccessException {
+    final ZoomLevelFeature zoomLevel = cameraFeatures.getZoomLevel();
+    if (!checkZoomLevel(result, zoom)) {
+      return;
+    }
+
+    zoomLevel.setValue(zoom);
+    zoomLevel.updateBuilder(previewRequestBuilder);
+
+    refreshPreviewCaptureSession(
+        () -> result.success(null),
+        (code, message) -> result.error("setZoomLevelFailed", "Could not set zoom level.", null));
+  }
+
+  /**
+   * Sets the size of the view the preview is shown in, so that the preview uses the smallest
+   * supported size covering it.
+   *
+   * <p>The target has to be set before the camera is initialized, as the preview size is sent to
+   * Dart along with the initialized event.
+   *
+   * @param result Flutter result.
+   * @param targetPreviewSize the size of the view in pixels, or null to use the resolution preset.
+   */
+  public void setTargetPreviewSize(@NonNull final Result result, @Nullable Size targetPreviewSize) {
+    if (cameraDevice != null && !prewarming) {
+      result.error(
+          "setTargetPreviewSizeFailed",
+          "The target preview size must be set before the camera is initialized.",
+          null);
+      return;
+    }
+    cameraFeatures.getResolution().setTargetPreviewSize(targetPreviewSize);
+    result.success(null);
+  }
+
+  /**
+   * Checks that the zoom level is within the bounds supported by the camera.
+   *
+   * @param result Flutter result, receives an error when the zoom level is out of bounds.
+   * @param zoom the zoom level to check.
+   * @return whether the zoom level is within bounds.
+   */
+  private boolean checkZoomLevel(@NonNull final Result result, float zoom) {
     final ZoomLevelFeature zoomLevel = cameraFeatures.getZoomLevel();
     float maxZoom = zoomLevel.getMaximumZoomLevel();
     float minZoom = zoomLevel.getMinimumZoomLevel();
@@ -1032,15 +1594,84 @@ class Camera
               minZoom,
               maxZoom);
       result.error("ZOOM_ERROR", errorMessage, null);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Applies several feature changes at once from dart.
+   *
+   * <p>All changes are applied to the preview request builder before the repeating request is set a
+   * single time, instead of once per change. Nothing is changed when the zoom level is out of
+   * bounds.
+   *
+   * @param result Flutter result.
+   * @param settings the changes to apply.
+   */
+  public void applySettings(@NonNull final Result result, @NonNull CameraSettings settings) {
+    if (settings.getZoomLevel() != null && !checkZoomLevel(result, settings.getZoomLevel())) {
       return;
     }
 
-    zoomLevel.setValue(zoom);
-    zoomLevel.updateBuilder(previewRequestBuilder);
+    final List<CameraFeature<?>> changedFeatures = new ArrayList<>();
+    if (settings.getFlashMode() != null) {
+      cameraFeatures.getFlash().setValue(settings.getFlashMode());
+      changedFeatures.add(cameraFeatures.getFlash());
+    }
+    if (settings.getExposureMode() != null) {
+      cameraFeatures.getExposureLock().setValue(settings.getExposureMode());
+      changedFeatures.add(cameraFeatures.getExposureLock());
+    }
+    if (settings.getExposurePoint() != null) {
+      cameraFeatures.getExposurePoint().setValue(settings.getExposurePoint());
+      changedFeatures.add(cameraFeatures.getExposurePoint());
+    }
+    if (settings.getExposureOffset() != null) {
+      cameraFeatures.getExposureOffset().setValue(settings.getExposureOffset());
+      changedFeatures.add(cameraFeatures.getExposureOffset());
+    }
+    if (settings.getFocusMode() != null) {
+      cameraFeatures.getAutoFocus().setValue(settings.getFocusMode());
+      changedFeatures.add(cameraFeatures.getAutoFocus());
+    }
+    if (settings.getFocusPoint() != null) {
+      cameraFeatures.getFocusPoint().setValue(settings.getFocusPoint());
+      changedFeatures.add(cameraFeatures.getFocusPoint());
+    }
+    if (settings.getZoomLevel() != null) {
+      cameraFeatures.getZoomLevel().setValue(settings.getZoomLevel());
+      changedFeatures.add(cameraFeatures.getZoomLevel());
+    }
+    for (CameraFeature<?> feature : changedFeatures) {
+      feature.updateBuilder(previewRequestBuilder);
+    }
+
+    final boolean focusChanged =
+        settings.getFocusMode() != null || settings.getFocusPoint() != null;
+    if (focusChanged && !pausedPreview && captureSession != null) {
+      // Like setFocusMode, lock or unlock the focus so that it goes into the correct state. The
+      // repeating request then runs with the trigger set back to idle.
+      final boolean locked = cameraFeatures.getAutoFocus().getValue() == FocusMode.locked;
+      previewRequestBuilder.set(
+          CaptureRequest.CONTROL_AF_TRIGGER,
+          locked
+              ? CaptureRequest.CONTROL_AF_TRIGGER_START
+              : CaptureRequest.CONTROL_AF_TRIGGER_CANCEL);
+      try {
+        captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
+      } catch (CameraAccessException e) {
+        result.error("applySettingsFailed", "Could not apply settings: " + e.getMessage(), null);
+        return;
+      } finally {
+        previewRequestBuilder.set(
+            CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_IDLE);
+      }
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
-        (code, message) -> result.error("setZoomLevelFailed", "Could not set zoom level.", null));
+        (code, message) -> result.error("applySettingsFailed", "Could not apply settings.", null));
   }
 
   /**
@@ -1074,17 +1705,241 @@ class Camera
     if (pictureImageReader == null || pictureImageReader.getSurface() == null) return;
     Log.i(TAG, "startPreview");
 
-    createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, pictureImageReader.getSurface());
+    if (persistentCaptureSession) {
+      if (zslRingBuffer != null) {
+        // Frames that were evicted when memory was trimmed are kept again once the preview
+        // restarts.
+        zslRingBuffer.resume();
+      }
+      updatePersistentCaptureSession(false, false, null);
+      return;
+    }
+    if (recorderSurface != null && !recordingVideo) {
+      // The persistent capture session was disabled.
+      releaseRecorderSurface();
+    }
+
+    if (zslImageReader != null) {
+      // Frames that were evicted when memory was trimmed are kept again once the preview restarts.
+      zslRingBuffer.resume();
+      createCaptureSession(
+          CameraDevice.TEMPLATE_PREVIEW,
+          pictureImageReader.getSurface(),
+          zslImageReader.getSurface());
+    } else {
+      createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, pictureImageReader.getSurface());
+    }
   }
 
-  public void startPreviewWithImageStream(EventChannel imageStreamChannel)
+  /**
+   * Enables or disables zero shutter lag capture.
+   *
+   * <p>With ZSL enabled, the most recent full resolution preview frames are kept in a {@link
+   * ZslRingBuffer} and {@link #takePicture(Result)} encodes the frame closest to the request
+   * instead of running a still capture. When the camera is already open, the preview is restarted
+   * to add or remove the ZSL surface, which also ends an active image stream.
+   *
+   * @param zslOptions the options of the ring buffer, or null to disable ZSL.
+   */
+  public void setZslOptions(@Nullable ZslOptions zslOptions) throws CameraAccessException {
+    this.zslOptions = zslOptions;
+    if (pictureImageReader == null) {
+      // The ring buffer is created when the camera is opened.
+      return;
+    }
+    if (recordingVideo) {
+      // The preview session, and the new ZSL surface with it, is recreated when recording stops.
+      createZslBuffer();
+      return;
+    }
+    closeCaptureSession();
+    createZslBuffer();
+    if (cameraDevice != null) {
+      startPreview();
+    }
+  }
+
+  /**
+   * Enables or disables the persistent capture session.
+   *
+   * <p>With the persistent capture session enabled, the session is configured with the surfaces of
+   * the preview, the image stream and the recorder up front, so that starting and stopping the
+   * image stream or a recording only switches the targets of the repeating request instead of
+   * configuring a new session. The recorder surface requires Android API 23 and up, below that
+   * recordings still configure a new session. When the camera is already open, the preview is
+   * restarted, which also ends an active image stream.
+   *
+   * @param enabled whether to enable the persistent capture session.
+   */
+  public void setPersistentCaptureSession(boolean enabled) throws CameraAccessException {
+    if (persistentCaptureSession == enabled) {
+      return;
+    }
+    persistentCaptureSession = enabled;
+    if (pictureImageReader == null || recordingVideo) {
+      // Applied when the camera is opened, or when the recording stops.
+      return;
+    }
+    closeCaptureSession();
+    if (cameraDevice != null) {
+      startPreview();
+    }
+  }
+
+  /**
+   * Returns the number of capture sessions configured by this camera, and the number of times the
+   * repeating request switched targets without configuring a session.
+   */
+  public Map<String, Object> getCaptureSessionStatistics() {
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("sessionConfigurations", sessionConfigurationCount);
+    statistics.put("repeatingRequestUpdates", repeatingRequestUpdateCount);
+    return statistics;
+  }
+
+  private void createZslBuffer() {
+    closeZslBuffer();
+    if (zslOptions == null) {
+      return;
+    }
+
+    final Size captureSize = cameraFeatures.getResolution().getCaptureSize();
+    // YUV_420_888 frames take up 12 bits per pixel.
+    final long frameSizeBytes = (long) captureSize.getWidth() * captureSize.getHeight() * 3 / 2;
+    final int capacity = zslOptions.getCapacity(frameSizeBytes);
+    if (capacity == 0) {
+      Log.w(TAG, "A single frame exceeds the ZSL memory budget, ZSL is disabled.");
+      return;
+    }
+
+    final ZslRingBuffer ringBuffer = new ZslRingBuffer(capacity);
+    // Besides the frames in the ring buffer, the reader has to hold the frames of the pictures
+    // waiting to be encoded.
+    final ImageReader reader =
+        ImageReader.newInstance(
+            captureSize.getWidth(),
+            captureSize.getHeight(),
+            ImageFormat.YUV_420_888,
+            capacity + ImageSaver.MAX_PENDING_SAVES + 2);
+    reader.setOnImageAvailableListener(
+        imageReader -> {
+          // Make room first, so that acquiring the frame never exceeds the images of the reader.
+          ringBuffer.trimTo(capacity - 1);
+          final Image image = imageReader.acquireNextImage();
+          if (image != null) {
+            ringBuffer.add(image);
+          }
+        },
+        backgroundHandler);
+    ringBuffer.setOnEvictedListener(this::onZslBufferEvicted);
+    applicationContext.registerComponentCallbacks(ringBuffer);
+
+    zslRingBuffer = ringBuffer;
+    zslImageReader = reader;
+  }
+
+  // Called on the main thread when the system asks to trim memory.
+  private void onZslBufferEvicted() {
+    if (zslImageReader == null) {
+      return;
+    }
+    Log.i(TAG, "onZslBufferEvicted");
+    // Stop sending frames to the reader, so that its buffers can be freed.
+    if (previewRequestBuilder != null && !recordingVideo) {
+      previewRequestBuilder.removeTarget(zslImageReader.getSurface());
+      refreshPreviewCaptureSession(
+          null, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+    }
+    if (VERSION.SDK_INT >= VERSION_CODES.P) {
+      zslImageReader.discardFreeBuffers();
+    }
+  }
+
+  private void closeZslBuffer() {
+    if (zslRingBuffer != null) {
+      applicationContext.unregisterComponentCallbacks(zslRingBuffer);
+      zslRingBuffer.close();
+      zslRingBuffer = null;
+    }
+    if (zslImageReader != null) {
+      zslImageReader.close();
+      zslImageReader = null;
+    }
+  }
+
+  /**
+   * Starts the preview and streams its frames to Dart.
+   *
+   * @param imageStreamChannel the channel the frames are sent on.
+   * @param imageStreamOptions the options controlling how frames are delivered.
+   */
+  public void startPreviewWithImageStream(
+      EventChannel imageStreamChannel, @NonNull ImageStreamOptions imageStreamOptions)
       throws CameraAccessException {
+    imageStreamReader.setOptions(imageStreamOptions);
     setStreamHandler(imageStreamChannel);
 
     startCapture(false, true);
     Log.i(TAG, "startPreviewWithImageStream");
   }
 
+  /**
+   * Returns the number of frames the current image stream delivered to Dart, dropped and skipped,
+   * and the number of frames waiting to be sent.
+   */
+  public Map<String, Object> getImageStreamStatistics() {
+    Map<String, Object> statistics = new HashMap<>();
+    if (imageStreamReader != null) {
+      statistics.put("deliveredFrames", imageStreamReader.getDeliveredFrameCount());
+      statistics.put("droppedFrames", imageStreamReader.getDroppedFrameCount());
+      statistics.put("skippedFrames", imageStreamReader.getSkippedFrameCount());
+      statistics.put("framesInFlight", imageStreamReader.getFramesInFlightCount());
+    }
+    return statistics;
+  }
+
+  /**
+   * Returns the number of pictures saved and the latency of saving them, from the picture being
+   * available to it being written to its file.
+   */
+  public Map<String, Object> getImageSaveStatistics() {
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("savedImages", imageSaverMetrics.getSavedImageCount());
+    statistics.put(
+        "lastSaveLatencyMicros",
+        TimeUnit.NANOSECONDS.toMicros(imageSaverMetrics.getLastSaveLatencyNanos()));
+    statistics.put(
+        "averageSaveLatencyMicros",
+        TimeUnit.NANOSECONDS.toMicros(imageSaverMetrics.getAverageSaveLatencyNanos()));
+    statistics.put(
+        "maxSaveLatencyMicros",
+        TimeUnit.NANOSECONDS.toMicros(imageSaverMetrics.getMaxSaveLatencyNanos()));
+    return statistics;
+  }
+
+  /**
+   * Sets the metrics that record the timing of the camera pipeline.
+   *
+   * <p>Set the metrics before opening the camera to record how long it takes to open.
+   *
+   * @param metrics the metrics, or null to stop recording.
+   */
+  void setMetrics(@Nullable CameraMetrics metrics) {
+    this.metrics = metrics;
+    cameraCaptureCallback.setMetrics(metrics);
+    if (imageStreamReader != null) {
+      imageStreamReader.setFrameDeliveryListener(
+          metrics == null ? null : metrics::recordStreamDelivery);
+    }
+  }
+
+  private void recordMetricsEvent(CameraMetrics.Event event) {
+    final CameraMetrics currentMetrics = metrics;
+    if (currentMetrics != null) {
+      currentMetrics.record(event);
+    }
+  }
+
   /**
    * This a callback object for the {@link ImageReader}. "onImageAvailable" will be called when a
    * still image is ready to be saved.
@@ -1093,22 +1948,27 @@ class Camera
   public void onImageAvailable(ImageReader reader) {
     Log.i(TAG, "onImageAvailable");
 
-    backgroundHandler.post(
+    // The next picture can be requested before this one is saved, so hold on to its result and
+    // file.
+    final Result result = flutterResult;
+    final File file = captureFile;
+    saveImage(
         new ImageSaver(
-            // Use acquireNextImage since image reader is only for one image.
             reader.acquireNextImage(),
-            captureFile,
+            file,
             new ImageSaver.Callback() {
               @Override
               public void onComplete(String absolutePath) {
-                dartMessenger.finish(flutterResult, absolutePath);
+                recordMetricsEvent(CameraMetrics.Event.IMAGE_SAVED);
+                dartMessenger.finish(result, absolutePath);
               }
 
               @Override
               public void onError(String errorCode, String errorMessage) {
-                dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+                dartMessenger.error(result, errorCode, errorMessage, null);
               }
-            }));
+            },
+            imageSaverMetrics));
     cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
@@ -1128,6 +1988,8 @@ class Camera
       result.error("videoRecordingFailed", e.getMessage(), null);
       return;
     }
+    // The recorder that was prepared with the placeholder file has been released.
+    deleteRecorderPlaceholderFile();
     // Re-create autofocus feature so it's using video focus mode now.
     cameraFeatures.setAutoFocus(
         cameraFeatureFactory.createAutoFocusFeature(cameraProperties, true));
@@ -1143,49 +2005,16 @@ class Camera
 
           @Override
           public void onCancel(Object o) {
-            imageStreamReader.setOnImageAvailableListener(null, backgroundHandler);
+            imageStreamReader.removeListener(backgroundHandler);
+            cameraCaptureCallback.setCapturePropertiesEnabled(false);
           }
         });
   }
 
   private void setImageStreamImageAvailableListener(final EventChannel.EventSink imageStreamSink) {
-    imageStreamReader.setOnImageAvailableListener(
-        reader -> {
-          Image img = reader.acquireNextImage();
-          // Use acquireNextImage since image reader is only for one image.
-          if (img == null) return;
-
-          List<Map<String, Object>> planes = new ArrayList<>();
-          for (Image.Plane plane : img.getPlanes()) {
-            ByteBuffer buffer = plane.getBuffer();
-
-            byte[] bytes = new byte[buffer.remaining()];
-            buffer.get(bytes, 0, bytes.length);
-
-            Map<String, Object> planeBuffer = new HashMap<>();
-            planeBuffer.put("bytesPerRow", plane.getRowStride());
-            planeBuffer.put("bytesPerPixel", plane.getPixelStride());
-            planeBuffer.put("bytes", bytes);
-
-            planes.add(planeBuffer);
-          }
-
-          Map<String, Object> imageBuffer = new HashMap<>();
-          imageBuffer.put("width", img.getWidth());
-          imageBuffer.put("height", img.getHeight());
-          imageBuffer.put("format", img.getFormat());
-          imageBuffer.put("planes", planes);
-          imageBuffer.put("lensAperture", this.captureProps.getLastLensAperture());
-          imageBuffer.put("sensorExposureTime", this.captureProps.getLastSensorExposureTime());
-          Integer sensorSensitivity = this.captureProps.getLastSensorSensitivity();
-          imageBuffer.put(
-              "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
-
-          final Handler handler = new Handler(Looper.getMainLooper());
-          handler.post(() -> imageStreamSink.success(imageBuffer));
-          img.close();
-        },
-        backgroundHandler);
+    // The image stream attaches the capture properties to every frame.
+    cameraCaptureCallback.setCapturePropertiesEnabled(true);
+    imageStreamReader.subscribeListener(this.captureProps, imageStreamSink, backgroundHandler);
   }
 
   private void closeCaptureSession() {
@@ -1220,11 +2049,15 @@ class Camera
       imageStreamReader.close();
       imageStreamReader = null;
     }
+    closeZslBuffer();
     if (mediaRecorder != null) {
       mediaRecorder.reset();
       mediaRecorder.release();
       mediaRecorder = null;
     }
+    deleteNextSegmentFile();
+    releaseRecorderSurface();
+    persistentSessionConfigured = false;
 
     stopBackgroundThread();
   }
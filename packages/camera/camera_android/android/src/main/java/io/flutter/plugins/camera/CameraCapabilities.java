@@ -0,0 +1,509 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.graphics.ImageFormat;
+import android.graphics.Rect;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import android.util.Range;
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A snapshot of the {@link CameraProperties} of a camera device that can be written to and read
+ * from a stream.
+ *
+ * <p>Snapshots are kept by the {@link CameraCapabilityCache}, so that the characteristics of a
+ * camera only have to be queried from the {@link android.hardware.camera2.CameraManager} once.
+ * Output sizes are only kept for the formats in {@link #CACHED_OUTPUT_FORMATS}.
+ */
+class CameraCapabilities implements CameraProperties {
+  /** The image formats whose output sizes are part of the snapshot. */
+  @VisibleForTesting
+  static final int[] CACHED_OUTPUT_FORMATS = {
+    ImageFormat.YUV_420_888, ImageFormat.JPEG, ImageFormat.PRIVATE
+  };
+
+  private final String cameraName;
+  @Nullable private final int[] autoExposureTargetFpsRanges;
+  @Nullable private final int[] autoExposureCompensationRange;
+  private final double autoExposureCompensationStep;
+  @Nullable private final int[] autoFocusAvailableModes;
+  @Nullable private final Integer maxRegionsAutoExposure;
+  @Nullable private final Integer maxRegionsAutoFocus;
+  @Nullable private final int[] distortionCorrectionAvailableModes;
+  @Nullable private final Boolean flashInfoAvailable;
+  private final int lensFacing;
+  @Nullable private final Float lensInfoMinimumFocusDistance;
+  @Nullable private final Float scalerAvailableMaxDigitalZoom;
+  @Nullable private final Float scalerMinZoomRatio;
+  @Nullable private final Float scalerMaxZoomRatio;
+  @Nullable private final int[] sensorInfoActiveArraySize;
+  @Nullable private final int[] sensorInfoPixelArraySize;
+  @Nullable private final int[] sensorInfoPreCorrectionActiveArraySize;
+  private final int sensorOrientation;
+  private final int sensorInfoTimestampSource;
+  private final int hardwareLevel;
+  @Nullable private final int[] availableNoiseReductionModes;
+  // Indexed like CACHED_OUTPUT_FORMATS, each holding width and height pairs.
+  private final int[][] outputSizes;
+
+  // The immutable Android types handed out by the getters, created once from the values above.
+  // Snapshots are shared by every camera, so the getters hand out copies of arrays and of mutable
+  // types such as Rect.
+  @Nullable private final Range<Integer>[] autoExposureTargetFpsRangeObjects;
+  @Nullable private final Range<Integer> autoExposureCompensationRangeObject;
+  @Nullable private final Size sensorInfoPixelArraySizeObject;
+  private final Size[][] outputSizeObjects;
+
+  private CameraCapabilities(
+      String cameraName,
+      @Nullable int[] autoExposureTargetFpsRanges,
+      @Nullable int[] autoExposureCompensationRange,
+      double autoExposureCompensationStep,
+      @Nullable int[] autoFocusAvailableModes,
+      @Nullable Integer maxRegionsAutoExposure,
+      @Nullable Integer maxRegionsAutoFocus,
+      @Nullable int[] distortionCorrectionAvailableModes,
+      @Nullable Boolean flashInfoAvailable,
+      int lensFacing,
+      @Nullable Float lensInfoMinimumFocusDistance,
+      @Nullable Float scalerAvailableMaxDigitalZoom,
+      @Nullable Float scalerMinZoomRatio,
+      @Nullable Float scalerMaxZoomRatio,
+      @Nullable int[] sensorInfoActiveArraySize,
+      @Nullable int[] sensorInfoPixelArraySize,
+      @Nullable int[] sensorInfoPreCorrectionActiveArraySize,
+      int sensorOrientation,
+      int sensorInfoTimestampSource,
+      int hardwareLevel,
+      @Nullable int[] availableNoiseReductionModes,
+      int[][] outputSizes) {
+    this.cameraName = cameraName;
+    this.autoExposureTargetFpsRanges = autoExposureTargetFpsRanges;
+    this.autoExposureCompensationRange = autoExposureCompensationRange;
+    this.autoExposureCompensationStep = autoExposureCompensationStep;
+    this.autoFocusAvailableModes = autoFocusAvailableModes;
+    this.maxRegionsAutoExposure = maxRegionsAutoExposure;
+    this.maxRegionsAutoFocus = maxRegionsAutoFocus;
+    this.distortionCorrectionAvailableModes = distortionCorrectionAvailableModes;
+    this.flashInfoAvailable = flashInfoAvailable;
+    this.lensFacing = lensFacing;
+    this.lensInfoMinimumFocusDistance = lensInfoMinimumFocusDistance;
+    this.scalerAvailableMaxDigitalZoom = scalerAvailableMaxDigitalZoom;
+    this.scalerMinZoomRatio = scalerMinZoomRatio;
+    this.scalerMaxZoomRatio = scalerMaxZoomRatio;
+    this.sensorInfoActiveArraySize = sensorInfoActiveArraySize;
+    this.sensorInfoPixelArraySize = sensorInfoPixelArraySize;
+    this.sensorInfoPreCorrectionActiveArraySize = sensorInfoPreCorrectionActiveArraySize;
+    this.sensorOrientation = sensorOrientation;
+    this.sensorInfoTimestampSource = sensorInfoTimestampSource;
+    this.hardwareLevel = hardwareLevel;
+    this.availableNoiseReductionModes = availableNoiseReductionModes;
+    this.outputSizes = outputSizes;
+
+    this.autoExposureTargetFpsRangeObjects = toRanges(autoExposureTargetFpsRanges);
+    this.autoExposureCompensationRangeObject =
+        autoExposureCompensationRange == null
+            ? null
+            : new Range<>(autoExposureCompensationRange[0], autoExposureCompensationRange[1]);
+    this.sensorInfoPixelArraySizeObject =
+        sensorInfoPixelArraySize == null
+            ? null
+            : new Size(sensorInfoPixelArraySize[0], sensorInfoPixelArraySize[1]);
+    this.outputSizeObjects = new Size[outputSizes.length][];
+    for (int i = 0; i < outputSizes.length; i++) {
+      outputSizeObjects[i] = toSizes(outputSizes[i]);
+    }
+  }
+
+  /**
+   * Takes a snapshot of the given properties.
+   *
+   * @param properties the properties to copy, usually backed by the camera characteristics.
+   * @return the snapshot.
+   * @throws RuntimeException when a characteristic the properties rely on is missing.
+   */
+  @NonNull
+  static CameraCapabilities from(@NonNull CameraProperties properties) {
+    final int[][] outputSizes = new int[CACHED_OUTPUT_FORMATS.length][];
+    for (int i = 0; i < CACHED_OUTPUT_FORMATS.length; i++) {
+      if (CACHED_OUTPUT_FORMATS[i] == ImageFormat.PRIVATE && VERSION.SDK_INT < VERSION_CODES.M) {
+        continue;
+      }
+      outputSizes[i] = fromSizes(properties.getOutputSizes(CACHED_OUTPUT_FORMATS[i]));
+    }
+
+    return new CameraCapabilities(
+        properties.getCameraName(),
+        fromRanges(properties.getControlAutoExposureAvailableTargetFpsRanges()),
+        fromRange(properties.getControlAutoExposureCompensationRange()),
+        properties.getControlAutoExposureCompensationStep(),
+        properties.getControlAutoFocusAvailableModes(),
+        properties.getControlMaxRegionsAutoExposure(),
+        properties.getControlMaxRegionsAutoFocus(),
+        VERSION.SDK_INT >= VERSION_CODES.P
+            ? properties.getDistortionCorrectionAvailableModes()
+            : null,
+        properties.getFlashInfoAvailable(),
+        properties.getLensFacing(),
+        properties.getLensInfoMinimumFocusDistance(),
+        properties.getScalerAvailableMaxDigitalZoom(),
+        VERSION.SDK_INT >= VERSION_CODES.R ? properties.getScalerMinZoomRatio() : null,
+        VERSION.SDK_INT >= VERSION_CODES.R ? properties.getScalerMaxZoomRatio() : null,
+        fromRect(properties.getSensorInfoActiveArraySize()),
+        fromSize(properties.getSensorInfoPixelArraySize()),
+        VERSION.SDK_INT >= VERSION_CODES.M
+            ? fromRect(properties.getSensorInfoPreCorrectionActiveArraySize())
+            : null,
+        properties.getSensorOrientation(),
+        properties.getSensorInfoTimestampSource(),
+        properties.getHardwareLevel(),
+        properties.getAvailableNoiseReductionModes(),
+        outputSizes);
+  }
+
+  /**
+   * Writes this snapshot to the given stream.
+   *
+   * @param out the stream to write to.
+   * @throws IOException when writing to the stream fails.
+   */
+  void writeTo(@NonNull DataOutputStream out) throws IOException {
+    out.writeUTF(cameraName);
+    writeIntArray(out, autoExposureTargetFpsRanges);
+    writeIntArray(out, autoExposureCompensationRange);
+    out.writeDouble(autoExposureCompensationStep);
+    writeIntArray(out, autoFocusAvailableModes);
+    writeInteger(out, maxRegionsAutoExposure);
+    writeInteger(out, maxRegionsAutoFocus);
+    writeIntArray(out, distortionCorrectionAvailableModes);
+    out.writeBoolean(flashInfoAvailable != null);
+    if (flashInfoAvailable != null) {
+      out.writeBoolean(flashInfoAvailable);
+    }
+    out.writeInt(lensFacing);
+    writeFloat(out, lensInfoMinimumFocusDistance);
+    writeFloat(out, scalerAvailableMaxDigitalZoom);
+    writeFloat(out, scalerMinZoomRatio);
+    writeFloat(out, scalerMaxZoomRatio);
+    writeIntArray(out, sensorInfoActiveArraySize);
+    writeIntArray(out, sensorInfoPixelArraySize);
+    writeIntArray(out, sensorInfoPreCorrectionActiveArraySize);
+    out.writeInt(sensorOrientation);
+    out.writeInt(sensorInfoTimestampSource);
+    out.writeInt(hardwareLevel);
+    writeIntArray(out, availableNoiseReductionModes);
+    for (int[] sizes : outputSizes) {
+      writeIntArray(out, sizes);
+    }
+  }
+
+  /**
+   * Reads a snapshot written by {@link #writeTo(DataOutputStream)}.
+   *
+   * @param in the stream to read from.
+   * @return the snapshot.
+   * @throws IOException when reading from the stream fails.
+   */
+  @NonNull
+  static CameraCapabilities readFrom(@NonNull DataInputStream in) throws IOException {
+    final String cameraName = in.readUTF();
+    final int[] autoExposureTargetFpsRanges = readIntArray(in);
+    final int[] autoExposureCompensationRange = readIntArray(in);
+    final double autoExposureCompensationStep = in.readDouble();
+    final int[] autoFocusAvailableModes = readIntArray(in);
+    final Integer maxRegionsAutoExposure = readInteger(in);
+    final Integer maxRegionsAutoFocus = readInteger(in);
+    final int[] distortionCorrectionAvailableModes = readIntArray(in);
+    final Boolean flashInfoAvailable = in.readBoolean() ? in.readBoolean() : null;
+    final int lensFacing = in.readInt();
+    final Float lensInfoMinimumFocusDistance = readFloat(in);
+    final Float scalerAvailableMaxDigitalZoom = readFloat(in);
+    final Float scalerMinZoomRatio = readFloat(in);
+    final Float scalerMaxZoomRatio = readFloat(in);
+    final int[] sensorInfoActiveArraySize = readIntArray(in);
+    final int[] sensorInfoPixelArraySize = readIntArray(in);
+    final int[] sensorInfoPreCorrectionActiveArraySize = readIntArray(in);
+    final int sensorOrientation = in.readInt();
+    final int sensorInfoTimestampSource = in.readInt();
+    final int hardwareLevel = in.readInt();
+    final int[] availableNoiseReductionModes = readIntArray(in);
+    final int[][] outputSizes = new int[CACHED_OUTPUT_FORMATS.length][];
+    for (int i = 0; i < outputSizes.length; i++) {
+      outputSizes[i] = readIntArray(in);
+    }
+
+    return new CameraCapabilities(
+        cameraName,
+        autoExposureTargetFpsRanges,
+        autoExposureCompensationRange,
+        autoExposureCompensationStep,
+        autoFocusAvailableModes,
+        maxRegionsAutoExposure,
+        maxRegionsAutoFocus,
+        distortionCorrectionAvailableModes,
+        flashInfoAvailable,
+        lensFacing,
+        lensInfoMinimumFocusDistance,
+        scalerAvailableMaxDigitalZoom,
+        scalerMinZoomRatio,
+        scalerMaxZoomRatio,
+        sensorInfoActiveArraySize,
+        sensorInfoPixelArraySize,
+        sensorInfoPreCorrectionActiveArraySize,
+        sensorOrientation,
+        sensorInfoTimestampSource,
+        hardwareLevel,
+        availableNoiseReductionModes,
+        outputSizes);
+  }
+
+  @Override
+  public String getCameraName() {
+    return cameraName;
+  }
+
+  @Override
+  public Range<Integer>[] getControlAutoExposureAvailableTargetFpsRanges() {
+    return autoExposureTargetFpsRangeObjects == null
+        ? null
+        : autoExposureTargetFpsRangeObjects.clone();
+  }
+
+  @Override
+  public Range<Integer> getControlAutoExposureCompensationRange() {
+    return autoExposureCompensationRangeObject;
+  }
+
+  @Override
+  public double getControlAutoExposureCompensationStep() {
+    return autoExposureCompensationStep;
+  }
+
+  @Override
+  public int[] getControlAutoFocusAvailableModes() {
+    return autoFocusAvailableModes == null ? null : autoFocusAvailableModes.clone();
+  }
+
+  @Override
+  public Integer getControlMaxRegionsAutoExposure() {
+    return maxRegionsAutoExposure;
+  }
+
+  @Override
+  public Integer getControlMaxRegionsAutoFocus() {
+    return maxRegionsAutoFocus;
+  }
+
+  @Override
+  public int[] getDistortionCorrectionAvailableModes() {
+    return distortionCorrectionAvailableModes == null
+        ? null
+        : distortionCorrectionAvailableModes.clone();
+  }
+
+  @Override
+  public Boolean getFlashInfoAvailable() {
+    return flashInfoAvailable;
+  }
+
+  @Override
+  public int getLensFacing() {
+    return lensFacing;
+  }
+
+  @Override
+  public Float getLensInfoMinimumFocusDistance() {
+    return lensInfoMinimumFocusDistance;
+  }
+
+  @Override
+  public Float getScalerAvailableMaxDigitalZoom() {
+    return scalerAvailableMaxDigitalZoom;
+  }
+
+  @Override
+  public Float getScalerMinZoomRatio() {
+    return scalerMinZoomRatio;
+  }
+
+  @Override
+  public Float getScalerMaxZoomRatio() {
+    return scalerMaxZoomRatio;
+  }
+
+  @Override
+  public Rect getSensorInfoActiveArraySize() {
+    return toRect(sensorInfoActiveArraySize);
+  }
+
+  @Override
+  public Size getSensorInfoPixelArraySize() {
+    return sensorInfoPixelArraySizeObject;
+  }
+
+  @Override
+  public Rect getSensorInfoPreCorrectionActiveArraySize() {
+    return toRect(sensorInfoPreCorrectionActiveArraySize);
+  }
+
+  @Override
+  public int getSensorOrientation() {
+    return sensorOrientation;
+  }
+
+  @Override
+  public int getSensorInfoTimestampSource() {
+    return sensorInfoTimestampSource;
+  }
+
+  @Override
+  public int getHardwareLevel() {
+    return hardwareLevel;
+  }
+
+  @Override
+  public int[] getAvailableNoiseReductionModes() {
+    return availableNoiseReductionModes == null ? null : availableNoiseReductionModes.clone();
+  }
+
+  @Override
+  public Size[] getOutputSizes(int imageFormat) {
+    for (int i = 0; i < CACHED_OUTPUT_FORMATS.length; i++) {
+      if (CACHED_OUTPUT_FORMATS[i] == imageFormat) {
+        return outputSizeObjects[i] == null ? null : outputSizeObjects[i].clone();
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static int[] fromRanges(@Nullable Range<Integer>[] ranges) {
+    if (ranges == null) {
+      return null;
+    }
+    final int[] values = new int[ranges.length * 2];
+    for (int i = 0; i < ranges.length; i++) {
+      values[i * 2] = ranges[i].getLower();
+      values[i * 2 + 1] = ranges[i].getUpper();
+    }
+    return values;
+  }
+
+  @Nullable
+  private static int[] fromRange(@Nullable Range<Integer> range) {
+    return range == null ? null : new int[] {range.getLower(), range.getUpper()};
+  }
+
+  @Nullable
+  private static int[] fromRect(@Nullable Rect rect) {
+    return rect == null ? null : new int[] {rect.left, rect.top, rect.right, rect.bottom};
+  }
+
+  @Nullable
+  private static int[] fromSize(@Nullable Size size) {
+    return size == null ? null : new int[] {size.getWidth(), size.getHeight()};
+  }
+
+  @Nullable
+  private static int[] fromSizes(@Nullable Size[] sizes) {
+    if (sizes == null) {
+      return null;
+    }
+    final int[] values = new int[sizes.length * 2];
+    for (int i = 0; i < sizes.length; i++) {
+      values[i * 2] = sizes[i].getWidth();
+      values[i * 2 + 1] = sizes[i].getHeight();
+    }
+    return values;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static Range<Integer>[] toRanges(@Nullable int[] values) {
+    if (values == null) {
+      return null;
+    }
+    final Range<Integer>[] ranges = new Range[values.length / 2];
+    for (int i = 0; i < ranges.length; i++) {
+      ranges[i] = new Range<>(values[i * 2], values[i * 2 + 1]);
+    }
+    return ranges;
+  }
+
+  @Nullable
+  private static Rect toRect(@Nullable int[] values) {
+    return values == null ? null : new Rect(values[0], values[1], values[2], values[3]);
+  }
+
+  @Nullable
+  private static Size[] toSizes(@Nullable int[] values) {
+    if (values == null) {
+      return null;
+    }
+    final Size[] sizes = new Size[values.length / 2];
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = new Size(values[i * 2], values[i * 2 + 1]);
+    }
+    return sizes;
+  }
+
+  private static void writeIntArray(DataOutputStream out, @Nullable int[] values)
+      throws IOException {
+    if (values == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(values.length);
+    for (int value : values) {
+      out.writeInt(value);
+    }
+  }
+
+  @Nullable
+  private static int[] readIntArray(DataInputStream in) throws IOException {
+    final int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    final int[] values = new int[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = in.readInt();
+    }
+    return values;
+  }
+
+  private static void writeInteger(DataOutputStream out, @Nullable Integer value)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeInt(value);
+    }
+  }
+
+  @Nullable
+  private static Integer readInteger(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readInt() : null;
+  }
+
+  private static void writeFloat(DataOutputStream out, @Nullable Float value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeFloat(value);
+    }
+  }
+
+  @Nullable
+  private static Float readFloat(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readFloat() : null;
+  }
+}
@@ -0,0 +1,270 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.content.Context;
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraManager;
+import android.os.Build;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the {@link CameraCapabilities} of the camera devices in memory and on disk.
+ *
+ * <p>Querying the characteristics of a camera from the {@link CameraManager} is slow on some
+ * devices, while they never change for a given build of the system. Snapshots are therefore kept in
+ * a file keyed by the build fingerprint, so that only the first use of a camera after installing
+ * the app or updating the system queries the {@link CameraManager}.
+ *
+ * <p>The shared instance reads and writes the file on a background thread, so that the platform
+ * thread does not wait for storage. Cameras looked up while the file is still being read are
+ * queried from the {@link CameraManager} directly.
+ */
+public class CameraCapabilityCache {
+  private static final String TAG = "CameraCapabilityCache";
+  private static final String FILE_NAME = "io.flutter.plugins.camera.capabilities";
+
+  /** Identifies the layout of the cache file, must be changed when the layout changes. */
+  @VisibleForTesting static final int FILE_VERSION = 1;
+
+  @Nullable private static CameraCapabilityCache instance;
+
+  private final File file;
+  private final String fingerprint;
+  private final Executor ioExecutor;
+  private final Map<String, CameraCapabilities> capabilities = new HashMap<>();
+  private boolean loaded;
+  private boolean loadInFlight;
+
+  /**
+   * Creates a cache backed by the given file.
+   *
+   * @param file the file the snapshots are persisted to.
+   * @param fingerprint identifies the system build, snapshots of other builds are discarded.
+   */
+  @VisibleForTesting
+  CameraCapabilityCache(@NonNull File file, @NonNull String fingerprint) {
+    this(file, fingerprint, Runnable::run);
+  }
+
+  /**
+   * Creates a cache backed by the given file.
+   *
+   * @param file the file the snapshots are persisted to.
+   * @param fingerprint identifies the system build, snapshots of other builds are discarded.
+   * @param ioExecutor runs the writes to the file, and the initial read started by {@link
+   *     #loadAsync()}, in submission order.
+   */
+  @VisibleForTesting
+  CameraCapabilityCache(
+      @NonNull File file, @NonNull String fingerprint, @NonNull Executor ioExecutor) {
+    this.file = file;
+    this.fingerprint = fingerprint;
+    this.ioExecutor = ioExecutor;
+  }
+
+  /**
+   * Returns the cache shared by all cameras of the app.
+   *
+   * <p>The first call starts reading the cache file in the background.
+   *
+   * @param context any context of the app, used to locate the cache directory.
+   */
+  @NonNull
+  public static synchronized CameraCapabilityCache getInstance(@NonNull Context context) {
+    if (instance == null) {
+      // A single thread keeps the file operations in order, and is stopped while idle.
+      final ThreadPoolExecutor ioExecutor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              1L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> new Thread(runnable, "CameraCapabilityCache"));
+      ioExecutor.allowCoreThreadTimeOut(true);
+      instance =
+          new CameraCapabilityCache(
+              new File(context.getApplicationContext().getCacheDir(), FILE_NAME),
+              String.valueOf(Build.FINGERPRINT),
+              ioExecutor);
+      instance.loadAsync();
+    }
+    return instance;
+  }
+
+  /**
+   * Reads the cache file on the I/O executor, so that it is usually loaded before the first camera
+   * is looked up.
+   */
+  @VisibleForTesting
+  synchronized void loadAsync() {
+    if (loaded || loadInFlight) {
+      return;
+    }
+    loadInFlight = true;
+    ioExecutor.execute(
+        () -> {
+          // The file is read without holding the lock, so that lookups are not blocked by it.
+          final Map<String, CameraCapabilities> snapshots = read();
+          synchronized (this) {
+            loadInFlight = false;
+            if (!loaded) {
+              loaded = true;
+              capabilities.putAll(snapshots);
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns the properties of the given camera, querying and caching them on a miss.
+   *
+   * @param cameraName the name of the camera device.
+   * @param cameraManager the manager queried when the camera is not cached yet.
+   * @return the cached snapshot, or properties backed by the camera characteristics when a snapshot
+   *     could not be taken or the cache file is still being read.
+   * @throws CameraAccessException when the camera characteristics could not be queried.
+   */
+  @NonNull
+  public synchronized CameraProperties getCameraProperties(
+      @NonNull String cameraName, @NonNull CameraManager cameraManager)
+      throws CameraAccessException {
+    if (loadInFlight) {
+      // Querying the camera is usually faster than waiting for the file.
+      return new CameraPropertiesImpl(cameraName, cameraManager);
+    }
+    final CameraCapabilities cached = get(cameraName);
+    if (cached != null) {
+      return cached;
+    }
+    return put(new CameraPropertiesImpl(cameraName, cameraManager));
+  }
+
+  /**
+   * Returns the cached snapshot of the given camera, loading the cache file on first use.
+   *
+   * @param cameraName the name of the camera device.
+   * @return the snapshot, or null when the camera is not cached.
+   */
+  @Nullable
+  synchronized CameraCapabilities get(@NonNull String cameraName) {
+    load();
+    return capabilities.get(cameraName);
+  }
+
+  /**
+   * Takes a snapshot of the given properties and persists it.
+   *
+   * @param properties the properties to cache.
+   * @return the snapshot, or {@code properties} itself when a snapshot could not be taken.
+   */
+  @NonNull
+  synchronized CameraProperties put(@NonNull CameraProperties properties) {
+    load();
+    final CameraCapabilities snapshot;
+    try {
+      snapshot = CameraCapabilities.from(properties);
+    } catch (RuntimeException e) {
+      // A characteristic is missing, keep using the live properties so the error surfaces where it
+      // is used, as it did without the cache.
+      Log.w(TAG, "Could not take a snapshot of camera " + properties.getCameraName(), e);
+      return properties;
+    }
+    capabilities.put(snapshot.getCameraName(), snapshot);
+    save();
+    return snapshot;
+  }
+
+  /** Removes all snapshots from memory and disk. */
+  public synchronized void clear() {
+    capabilities.clear();
+    loaded = true;
+    // Queued behind any pending write, so that none of them recreates the file afterwards.
+    ioExecutor.execute(
+        () -> {
+          if (file.exists() && !file.delete()) {
+            Log.w(TAG, "Could not delete " + file);
+          }
+        });
+  }
+
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+    capabilities.putAll(read());
+  }
+
+  @NonNull
+  private Map<String, CameraCapabilities> read() {
+    final Map<String, CameraCapabilities> snapshots = new HashMap<>();
+    if (!file.exists()) {
+      return snapshots;
+    }
+
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != FILE_VERSION || !fingerprint.equals(in.readUTF())) {
+        // Written by another version of the plugin or the system, the snapshots may be outdated.
+        return snapshots;
+      }
+      final int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        final CameraCapabilities snapshot = CameraCapabilities.readFrom(in);
+        snapshots.put(snapshot.getCameraName(), snapshot);
+      }
+    } catch (IOException | RuntimeException e) {
+      Log.w(TAG, "Discarding unreadable camera capability cache", e);
+      snapshots.clear();
+    }
+    return snapshots;
+  }
+
+  private void save() {
+    final List<CameraCapabilities> snapshots = new ArrayList<>(capabilities.values());
+    ioExecutor.execute(() -> write(snapshots));
+  }
+
+  private void write(@NonNull List<CameraCapabilities> snapshots) {
+    // Write to a temporary file first, so that a crash cannot leave a truncated cache behind.
+    final File tempFile = new File(file.getPath() + ".tmp");
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+      out.writeInt(FILE_VERSION);
+      out.writeUTF(fingerprint);
+      out.writeInt(snapshots.size());
+      for (CameraCapabilities snapshot : snapshots) {
+        snapshot.writeTo(out);
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Could not write camera capability cache", e);
+      return;
+    }
+    if (!tempFile.renameTo(file)) {
+      Log.w(TAG, "Could not replace " + file);
+    }
+  }
+}
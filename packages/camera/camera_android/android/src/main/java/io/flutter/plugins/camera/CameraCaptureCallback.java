@@ -11,6 +11,7 @@ import android.hardware.camera2.CaptureResult;
 import android.hardware.camera2.TotalCaptureResult;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
 
@@ -24,6 +25,10 @@ class CameraCaptureCallback extends CaptureCallback {
   private CameraState cameraState;
   private final CaptureTimeoutsWrapper captureTimeouts;
   private final CameraCaptureProperties captureProps;
+  /** Receives the timestamp of every frame, or null when metrics are disabled. */
+  @Nullable private volatile CameraMetrics metrics;
+  /** True when the capture properties are updated for every frame. */
+  private volatile boolean capturePropertiesEnabled;
 
   private CameraCaptureCallback(
       @NonNull CameraCaptureStateListener cameraStateListener,
@@ -68,31 +73,36 @@ class CameraCaptureCallback extends CaptureCallback {
     cameraState = state;
   }
 
-  private void process(CaptureResult result) {
-    Integer aeState = result.get(CaptureResult.CONTROL_AE_STATE);
-    Integer afState = result.get(CaptureResult.CONTROL_AF_STATE);
+  /**
+   * Sets the metrics that record the timestamp of every frame.
+   *
+   * @param metrics the metrics, or null to stop recording.
+   */
+  void setMetrics(@Nullable CameraMetrics metrics) {
+    this.metrics = metrics;
+  }
 
-    // Update capture properties
-    if (result instanceof TotalCaptureResult) {
-      Float lensAperture = result.get(CaptureResult.LENS_APERTURE);
-      Long sensorExposureTime = result.get(CaptureResult.SENSOR_EXPOSURE_TIME);
-      Integer sensorSensitivity = result.get(CaptureResult.SENSOR_SENSITIVITY);
-      this.captureProps.setLastLensAperture(lensAperture);
-      this.captureProps.setLastSensorExposureTime(sensorExposureTime);
-      this.captureProps.setLastSensorSensitivity(sensorSensitivity);
-    }
+  /**
+   * Sets whether the lens aperture, exposure time and sensitivity of every frame are stored in the
+   * capture properties.
+   *
+   * <p>Reading them allocates for every frame, so they are only read while they are used.
+   *
+   * @param enabled whether to update the capture properties.
+   */
+  void setCapturePropertiesEnabled(boolean enabled) {
+    capturePropertiesEnabled = enabled;
+  }
 
-    if (cameraState != CameraState.STATE_PREVIEW) {
-      Log.d(
-          TAG,
-          "CameraCaptureCallback | state: "
-              + cameraState
-              + " | afState: "
-              + afState
-              + " | aeState: "
-              + aeState);
+  private void process(CaptureResult result) {
+    // Update capture properties
+    if (capturePropertiesEnabled && result instanceof TotalCaptureResult) {
+      this.captureProps.setLastLensAperture(result.get(CaptureResult.LENS_APERTURE));
+      this.captureProps.setLastSensorExposureTime(result.get(CaptureResult.SENSOR_EXPOSURE_TIME));
+      this.captureProps.setLastSensorSensitivity(result.get(CaptureResult.SENSOR_SENSITIVITY));
     }
 
+    // Only the keys needed by the current state are read, so that the preview does not allocate.
     switch (cameraState) {
       case STATE_PREVIEW:
         {
@@ -101,6 +111,9 @@ class CameraCaptureCallback extends CaptureCallback {
         }
       case STATE_WAITING_FOCUS:
         {
+          Integer afState = result.get(CaptureResult.CONTROL_AF_STATE);
+          Integer aeState = result.get(CaptureResult.CONTROL_AE_STATE);
+          logState(afState, aeState);
           if (afState == null) {
             return;
           } else if (afState == CaptureResult.CONTROL_AF_STATE_FOCUSED_LOCKED
@@ -115,6 +128,8 @@ class CameraCaptureCallback extends CaptureCallback {
         }
       case STATE_WAITING_PRECAPTURE_START:
         {
+          Integer aeState = result.get(CaptureResult.CONTROL_AE_STATE);
+          logState(null, aeState);
           // CONTROL_AE_STATE can be null on some devices
           if (aeState == null
               || aeState == CaptureResult.CONTROL_AE_STATE_CONVERGED
@@ -130,6 +145,8 @@ class CameraCaptureCallback extends CaptureCallback {
         }
       case STATE_WAITING_PRECAPTURE_DONE:
         {
+          Integer aeState = result.get(CaptureResult.CONTROL_AE_STATE);
+          logState(null, aeState);
           // CONTROL_AE_STATE can be null on some devices
           if (aeState == null || aeState != CaptureResult.CONTROL_AE_STATE_PRECAPTURE) {
             cameraStateListener.onConverged();
@@ -144,6 +161,20 @@ class CameraCaptureCallback extends CaptureCallback {
     }
   }
 
+  private void logState(Integer afState, Integer aeState) {
+    // Skips building the message when debug logging is off.
+    if (Log.isLoggable(TAG, Log.DEBUG)) {
+      Log.d(
+          TAG,
+          "CameraCaptureCallback | state: "
+              + cameraState
+              + " | afState: "
+              + afState
+              + " | aeState: "
+              + aeState);
+    }
+  }
+
   private void handleWaitingFocusState(Integer aeState) {
     // CONTROL_AE_STATE can be null on some devices
     if (aeState == null || aeState == CaptureRequest.CONTROL_AE_STATE_CONVERGED) {
@@ -153,6 +184,18 @@ class CameraCaptureCallback extends CaptureCallback {
     }
   }
 
+  @Override
+  public void onCaptureStarted(
+      @NonNull CameraCaptureSession session,
+      @NonNull CaptureRequest request,
+      long timestamp,
+      long frameNumber) {
+    final CameraMetrics currentMetrics = metrics;
+    if (currentMetrics != null) {
+      currentMetrics.recordFrame(timestamp);
+    }
+  }
+
   @Override
   public void onCaptureProgressed(
       @NonNull CameraCaptureSession session,
@@ -0,0 +1,167 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.camera.types.RollingHistogram;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records when the stages of opening the camera and taking a picture happen, and the distribution
+ * of the frame interval and image stream delivery latency.
+ *
+ * <p>Snapshots of the metrics are sent to the event channel this is the stream handler of, on every
+ * event and at most once per snapshot interval while frames arrive. All times are reported in
+ * microseconds.
+ */
+class CameraMetrics implements EventChannel.StreamHandler {
+  /** The number of recent frames the histograms are computed over. */
+  private static final int HISTOGRAM_CAPACITY = 256;
+
+  /** The stages of opening the camera and taking a picture, in the order they happen. */
+  enum Event {
+    OPEN_REQUESTED("openRequested"),
+    OPENED("opened"),
+    SESSION_CONFIGURED("sessionConfigured"),
+    FIRST_FRAME("firstFrame"),
+    PICTURE_REQUESTED("pictureRequested"),
+    PRECAPTURE_STARTED("precaptureStarted"),
+    PRECAPTURE_CONVERGED("precaptureConverged"),
+    CAPTURE_COMPLETED("captureCompleted"),
+    IMAGE_SAVED("imageSaved");
+
+    final String key;
+
+    Event(String key) {
+      this.key = key;
+    }
+  }
+
+  private final Handler mainHandler;
+  private final long snapshotIntervalNanos;
+  /** The time of every event indexed by its ordinal, or 0 when it has not happened. */
+  private final long[] eventTimes = new long[Event.values().length];
+
+  private final RollingHistogram frameIntervals = new RollingHistogram(HISTOGRAM_CAPACITY);
+  private final RollingHistogram streamDeliveryLatencies = new RollingHistogram(HISTOGRAM_CAPACITY);
+  private long lastFrameTimestamp;
+  private long lastSnapshotTime;
+  @Nullable private EventChannel.EventSink eventSink;
+
+  /**
+   * Creates a new instance of the {@link CameraMetrics} class.
+   *
+   * @param mainHandler a handler on the main thread, used to send the snapshots to Dart.
+   * @param snapshotIntervalNanos the minimum time between snapshots sent for frame updates.
+   */
+  CameraMetrics(@NonNull Handler mainHandler, long snapshotIntervalNanos) {
+    this.mainHandler = mainHandler;
+    this.snapshotIntervalNanos = snapshotIntervalNanos;
+  }
+
+  @Override
+  public synchronized void onListen(Object arguments, EventChannel.EventSink events) {
+    eventSink = events;
+  }
+
+  @Override
+  public synchronized void onCancel(Object arguments) {
+    eventSink = null;
+  }
+
+  /**
+   * Records that an event happened now and sends a snapshot.
+   *
+   * <p>Recording the start of a sequence, opening the camera or requesting a picture, clears the
+   * events that follow it. Configuring a session restarts the frame interval and waits for the
+   * first frame again.
+   *
+   * @param event the event that happened.
+   */
+  synchronized void record(@NonNull Event event) {
+    final long now = SystemClock.elapsedRealtimeNanos();
+    if (event == Event.OPEN_REQUESTED || event == Event.PICTURE_REQUESTED) {
+      for (int i = event.ordinal() + 1; i < eventTimes.length; i++) {
+        eventTimes[i] = 0;
+      }
+    }
+    if (event == Event.SESSION_CONFIGURED) {
+      eventTimes[Event.FIRST_FRAME.ordinal()] = 0;
+      lastFrameTimestamp = 0;
+    }
+    eventTimes[event.ordinal()] = now;
+    sendSnapshot(now);
+  }
+
+  /**
+   * Records that the sensor started exposing a frame.
+   *
+   * @param sensorTimestampNanos the sensor timestamp of the frame.
+   */
+  synchronized void recordFrame(long sensorTimestampNanos) {
+    final long now = SystemClock.elapsedRealtimeNanos();
+    if (lastFrameTimestamp != 0 && sensorTimestampNanos > lastFrameTimestamp) {
+      frameIntervals.record(sensorTimestampNanos - lastFrameTimestamp);
+    }
+    lastFrameTimestamp = sensorTimestampNanos;
+
+    if (eventTimes[Event.SESSION_CONFIGURED.ordinal()] != 0
+        && eventTimes[Event.FIRST_FRAME.ordinal()] == 0) {
+      eventTimes[Event.FIRST_FRAME.ordinal()] = now;
+      sendSnapshot(now);
+    } else {
+      sendThrottledSnapshot(now);
+    }
+  }
+
+  /**
+   * Records the time between reading an image stream frame and delivering it to Dart.
+   *
+   * @param latencyNanos the delivery latency.
+   */
+  synchronized void recordStreamDelivery(long latencyNanos) {
+    streamDeliveryLatencies.record(latencyNanos);
+    sendThrottledSnapshot(SystemClock.elapsedRealtimeNanos());
+  }
+
+  /** Returns the current metrics. */
+  @NonNull
+  synchronized Map<String, Object> getSnapshot() {
+    Map<String, Object> timestamps = new HashMap<>();
+    for (Event event : Event.values()) {
+      long time = eventTimes[event.ordinal()];
+      if (time != 0) {
+        timestamps.put(event.key, time / 1000);
+      }
+    }
+
+    Map<String, Object> snapshot = new HashMap<>();
+    snapshot.put("timestamps", timestamps);
+    snapshot.put("frameInterval", frameIntervals.toMap(1000));
+    snapshot.put("streamDeliveryLatency", streamDeliveryLatencies.toMap(1000));
+    return snapshot;
+  }
+
+  private void sendThrottledSnapshot(long now) {
+    if (now - lastSnapshotTime >= snapshotIntervalNanos) {
+      sendSnapshot(now);
+    }
+  }
+
+  private void sendSnapshot(long now) {
+    lastSnapshotTime = now;
+    final EventChannel.EventSink sink = eventSink;
+    if (sink == null) {
+      return;
+    }
+    final Map<String, Object> snapshot = getSnapshot();
+    mainHandler.post(() -> sink.success(snapshot));
+  }
+}
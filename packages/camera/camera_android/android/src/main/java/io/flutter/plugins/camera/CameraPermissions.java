@@ -50,7 +50,7 @@ final class CameraPermissions {
           CAMERA_PERMISSIONS_REQUEST_ONGOING, CAMERA_PERMISSIONS_REQUEST_ONGOING_MESSAGE);
       return;
     }
-    if (!hasCameraPermission(activity) || (enableAudio && !hasAudioPermission(activity))) {
+    if (!hasPermissions(activity, enableAudio)) {
       permissionsRegistry.addListener(
           new CameraRequestPermissionsListener(
               (String errorCode, String errorDescription) -> {
@@ -70,6 +70,16 @@ final class CameraPermissions {
     }
   }
 
+  /**
+   * Returns whether the app has the permissions a camera needs, without requesting them.
+   *
+   * @param activity the activity to check the permissions of.
+   * @param enableAudio whether the camera records audio.
+   */
+  boolean hasPermissions(Activity activity, boolean enableAudio) {
+    return hasCameraPermission(activity) && (!enableAudio || hasAudioPermission(activity));
+  }
+
   private boolean hasCameraPermission(Activity activity) {
     return ContextCompat.checkSelfPermission(activity, permission.CAMERA)
         == PackageManager.PERMISSION_GRANTED;
@@ -27,6 +27,7 @@ import io.flutter.view.TextureRegistry;
 public final class CameraPlugin implements FlutterPlugin, ActivityAware {
 
   private static final String TAG = "CameraPlugin";
+  private static @Nullable CameraPrewarmOptions prewarmOptions;
   private @Nullable FlutterPluginBinding flutterPluginBinding;
   private @Nullable MethodCallHandlerImpl methodCallHandler;
 
@@ -54,6 +55,22 @@ public final class CameraPlugin implements FlutterPlugin, ActivityAware {
         registrar.view());
   }
 
+  /**
+   * Sets the camera that is opened when the plugin is attached to an activity, before Dart creates
+   * it.
+   *
+   * <p>Call this before the Flutter engine is attached to the activity, for example in {@code
+   * Application#onCreate}. The camera is only opened when the app already has the permissions it
+   * needs. It is adopted when Dart creates and initializes a camera with the same name, resolution
+   * preset and audio setting, and closed when no such camera is created before the timeout of the
+   * options.
+   *
+   * @param options the camera to open, or null to not open a camera ahead of time.
+   */
+  public static void setPrewarmOptions(@Nullable CameraPrewarmOptions options) {
+    prewarmOptions = options;
+  }
+
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
     this.flutterPluginBinding = binding;
@@ -66,11 +83,10 @@ public final class CameraPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onAttachedToActivity(@NonNull ActivityPluginBinding binding) {
-    maybeStartListening(
-        binding.getActivity(),
-        flutterPluginBinding.getBinaryMessenger(),
-        binding::addRequestPermissionsResultListener,
-        flutterPluginBinding.getTextureRegistry());
+    startListening(binding);
+    if (methodCallHandler != null && prewarmOptions != null) {
+      methodCallHandler.prewarm(prewarmOptions);
+    }
   }
 
   @Override
@@ -84,7 +100,8 @@ public final class CameraPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onReattachedToActivityForConfigChanges(@NonNull ActivityPluginBinding binding) {
-    onAttachedToActivity(binding);
+    // The camera is only prewarmed when the activity is first attached.
+    startListening(binding);
   }
 
   @Override
@@ -92,6 +109,14 @@ public final class CameraPlugin implements FlutterPlugin, ActivityAware {
     onDetachedFromActivity();
   }
 
+  private void startListening(@NonNull ActivityPluginBinding binding) {
+    maybeStartListening(
+        binding.getActivity(),
+        flutterPluginBinding.getBinaryMessenger(),
+        binding::addRequestPermissionsResultListener,
+        flutterPluginBinding.getTextureRegistry());
+  }
+
   private void maybeStartListening(
       Activity activity,
       BinaryMessenger messenger,
@@ -102,6 +127,8 @@ public final class CameraPlugin implements FlutterPlugin, ActivityAware {
       return;
     }
 
+    // Starts reading the cached camera characteristics in the background, before they are needed.
+    CameraCapabilityCache.getInstance(activity);
     methodCallHandler =
         new MethodCallHandlerImpl(
             activity, messenger, new CameraPermissions(), permissionsRegistry, textureRegistry);
@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+
+/**
+ * Options for the camera that is opened when the plugin is attached to an activity, before Dart
+ * creates it.
+ *
+ * <p>The prewarmed camera is adopted when Dart creates a camera with the same name, resolution
+ * preset and audio setting, and initializes it. See {@link CameraPlugin#setPrewarmOptions}.
+ */
+public class CameraPrewarmOptions {
+  /** The default time an unused prewarmed camera is kept open. */
+  public static final long DEFAULT_TIMEOUT_MS = 5000;
+
+  private final String cameraName;
+  private final ResolutionPreset resolutionPreset;
+  private boolean enableAudio;
+  private String imageFormatGroup = "yuv420";
+  private long timeoutMs = DEFAULT_TIMEOUT_MS;
+
+  /**
+   * Creates a new instance of the {@link CameraPrewarmOptions} class.
+   *
+   * @param cameraName the name of the camera to open, as returned by availableCameras.
+   * @param resolutionPreset the resolution preset the camera is created with.
+   */
+  public CameraPrewarmOptions(
+      @NonNull String cameraName, @NonNull ResolutionPreset resolutionPreset) {
+    this.cameraName = cameraName;
+    this.resolutionPreset = resolutionPreset;
+  }
+
+  /** Returns the name of the camera to open. */
+  @NonNull
+  public String getCameraName() {
+    return cameraName;
+  }
+
+  /** Returns the resolution preset the camera is created with. */
+  @NonNull
+  public ResolutionPreset getResolutionPreset() {
+    return resolutionPreset;
+  }
+
+  /** Returns whether the camera is created with audio enabled. */
+  public boolean getEnableAudio() {
+    return enableAudio;
+  }
+
+  /**
+   * Sets whether the camera is created with audio enabled.
+   *
+   * <p>The camera is only prewarmed when the app already has the permissions it needs.
+   *
+   * @param enableAudio whether audio is enabled.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraPrewarmOptions setEnableAudio(boolean enableAudio) {
+    this.enableAudio = enableAudio;
+    return this;
+  }
+
+  /** Returns the expected format of the image stream. */
+  @NonNull
+  public String getImageFormatGroup() {
+    return imageFormatGroup;
+  }
+
+  /**
+   * Sets the expected format of the image stream, "yuv420" or "jpeg".
+   *
+   * <p>The camera is still adopted when it is initialized with another format, but the image stream
+   * reader is recreated.
+   *
+   * @param imageFormatGroup the image format group.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraPrewarmOptions setImageFormatGroup(@NonNull String imageFormatGroup) {
+    this.imageFormatGroup = imageFormatGroup;
+    return this;
+  }
+
+  /** Returns the time an unused prewarmed camera is kept open, in milliseconds. */
+  public long getTimeoutMs() {
+    return timeoutMs;
+  }
+
+  /**
+   * Sets the time an unused prewarmed camera is kept open.
+   *
+   * @param timeoutMs the timeout in milliseconds, must be positive.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraPrewarmOptions setTimeoutMs(long timeoutMs) {
+    if (timeoutMs <= 0) {
+      throw new IllegalArgumentException("timeoutMs must be positive.");
+    }
+    this.timeoutMs = timeoutMs;
+    return this;
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.os.Handler;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+
+/**
+ * Holds the camera that was opened before Dart created it, until it is claimed or times out.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+final class CameraPrewarmer {
+  private static final String TAG = "CameraPrewarmer";
+
+  /** A prewarmed camera and the id of the texture it renders to. */
+  static final class WarmCamera {
+    final Camera camera;
+    final long textureId;
+
+    WarmCamera(@NonNull Camera camera, long textureId) {
+      this.camera = camera;
+      this.textureId = textureId;
+    }
+  }
+
+  private final Handler mainHandler;
+  private final Runnable timeoutRunnable = this::onTimeout;
+  @Nullable private WarmCamera warmCamera;
+  @Nullable private CameraPrewarmOptions options;
+
+  /**
+   * Creates a new instance of the {@link CameraPrewarmer} class.
+   *
+   * @param mainHandler a handler on the main thread, used to close unused cameras.
+   */
+  CameraPrewarmer(@NonNull Handler mainHandler) {
+    this.mainHandler = mainHandler;
+  }
+
+  /**
+   * Holds a prewarmed camera until it is claimed, or until the timeout of the options passes.
+   *
+   * <p>A camera that is already held is released.
+   *
+   * @param camera the prewarmed camera.
+   * @param textureId the id of the texture the camera renders to.
+   * @param options the options the camera was prewarmed with.
+   */
+  void start(@NonNull Camera camera, long textureId, @NonNull CameraPrewarmOptions options) {
+    release();
+    warmCamera = new WarmCamera(camera, textureId);
+    this.options = options;
+    mainHandler.postDelayed(timeoutRunnable, options.getTimeoutMs());
+  }
+
+  /**
+   * Hands over the prewarmed camera when it matches the camera Dart creates.
+   *
+   * <p>A prewarmed camera that does not match is released, so that it does not keep a camera device
+   * open.
+   *
+   * @param cameraName the name of the created camera.
+   * @param resolutionPreset the resolution preset of the created camera.
+   * @param enableAudio whether the created camera records audio.
+   * @return the prewarmed camera, or null when there is none that matches.
+   */
+  @Nullable
+  WarmCamera claim(
+      @NonNull String cameraName, @NonNull ResolutionPreset resolutionPreset, boolean enableAudio) {
+    final WarmCamera claimed = warmCamera;
+    final CameraPrewarmOptions claimedOptions = options;
+    if (claimed == null || claimedOptions == null) {
+      return null;
+    }
+    mainHandler.removeCallbacks(timeoutRunnable);
+    warmCamera = null;
+    options = null;
+
+    if (claimedOptions.getCameraName().equals(cameraName)
+        && claimedOptions.getResolutionPreset() == resolutionPreset
+        && claimedOptions.getEnableAudio() == enableAudio) {
+      Log.i(TAG, "Adopting the prewarmed camera");
+      return claimed;
+    }
+    Log.i(TAG, "Closing the prewarmed camera, as another camera was created");
+    claimed.camera.dispose();
+    return null;
+  }
+
+  /** Closes the prewarmed camera, if there is one. */
+  void release() {
+    if (warmCamera == null) {
+      return;
+    }
+    mainHandler.removeCallbacks(timeoutRunnable);
+    warmCamera.camera.dispose();
+    warmCamera = null;
+    options = null;
+  }
+
+  private void onTimeout() {
+    Log.i(TAG, "Closing the prewarmed camera, as it was not used in time");
+    release();
+  }
+}
@@ -8,6 +8,7 @@ import android.graphics.Rect;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.params.StreamConfigurationMap;
 import android.os.Build.VERSION_CODES;
 import android.util.Range;
 import android.util.Rational;
@@ -227,6 +228,23 @@ public interface CameraProperties {
    */
   int getSensorOrientation();
 
+  /**
+   * Returns the time base source of the sensor capture start timestamp.
+   *
+   * <p><strong>Possible values:</strong>
+   *
+   * <ul>
+   *   <li>@see android.hardware.camera2.CameraMetadata.SENSOR_INFO_TIMESTAMP_SOURCE_UNKNOWN
+   *   <li>@see android.hardware.camera2.CameraMetadata.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME
+   * </ul>
+   *
+   * <p>By default maps to the @see
+   * android.hardware.camera2.CameraCharacteristics#SENSOR_INFO_TIMESTAMP_SOURCE key.
+   *
+   * @return int Time base source of the sensor timestamps.
+   */
+  int getSensorInfoTimestampSource();
+
   /**
    * Returns a level which generally classifies the overall set of the camera device functionality.
    *
@@ -259,6 +277,19 @@ public interface CameraProperties {
    * @return int[] List of noise reduction modes that are supported by this camera device.
    */
   int[] getAvailableNoiseReductionModes();
+
+  /**
+   * Returns the output sizes supported by this camera device for the given image format.
+   *
+   * <p>By default maps to the @see
+   * android.hardware.camera2.params.StreamConfigurationMap#getOutputSizes(int) method of the @see
+   * android.hardware.camera2.CameraCharacteristics#SCALER_STREAM_CONFIGURATION_MAP key.
+   *
+   * @param imageFormat the {@link android.graphics.ImageFormat} to get the output sizes for.
+   * @return android.util.Size[] List of output sizes supported for the format, or null if the
+   *     format is not supported.
+   */
+  Size[] getOutputSizes(int imageFormat);
 }
 
 /**
@@ -373,6 +404,11 @@ class CameraPropertiesImpl implements CameraProperties {
     return cameraCharacteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
   }
 
+  @Override
+  public int getSensorInfoTimestampSource() {
+    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE);
+  }
+
   @Override
   public int getHardwareLevel() {
     return cameraCharacteristics.get(CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL);
@@ -383,4 +419,14 @@ class CameraPropertiesImpl implements CameraProperties {
     return cameraCharacteristics.get(
         CameraCharacteristics.NOISE_REDUCTION_AVAILABLE_NOISE_REDUCTION_MODES);
   }
+
+  @Override
+  public Size[] getOutputSizes(int imageFormat) {
+    StreamConfigurationMap streamConfigurationMap =
+        cameraCharacteristics.get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP);
+
+    return streamConfigurationMap == null
+        ? null
+        : streamConfigurationMap.getOutputSizes(imageFormat);
+  }
 }
@@ -10,6 +10,7 @@ import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
+import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -93,6 +94,23 @@ public final class CameraUtils {
    */
   public static List<Map<String, Object>> getAvailableCameras(Activity activity)
       throws CameraAccessException {
+    return getAvailableCameras(activity, null);
+  }
+
+  /**
+   * Gets all the available cameras for the device.
+   *
+   * <p>The list of cameras is always queried, as external cameras can be connected at any time, but
+   * the characteristics of the cameras are served from the given cache when possible.
+   *
+   * @param activity The current Android activity.
+   * @param capabilityCache The cache of camera characteristics, or null to query them directly.
+   * @return A map of all the available cameras, with their name as their key.
+   * @throws CameraAccessException when the camera could not be accessed.
+   */
+  public static List<Map<String, Object>> getAvailableCameras(
+      Activity activity, @Nullable CameraCapabilityCache capabilityCache)
+      throws CameraAccessException {
     CameraManager cameraManager = (CameraManager) activity.getSystemService(Context.CAMERA_SERVICE);
     String[] cameraNames = cameraManager.getCameraIdList();
     List<Map<String, Object>> cameras = new ArrayList<>();
@@ -108,12 +126,21 @@ public final class CameraUtils {
       }
 
       HashMap<String, Object> details = new HashMap<>();
-      CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
+      int sensorOrientation;
+      int lensFacing;
+      if (capabilityCache != null) {
+        CameraProperties properties =
+            capabilityCache.getCameraProperties(cameraName, cameraManager);
+        sensorOrientation = properties.getSensorOrientation();
+        lensFacing = properties.getLensFacing();
+      } else {
+        CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
+        sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
+        lensFacing = characteristics.get(CameraCharacteristics.LENS_FACING);
+      }
       details.put("name", cameraName);
-      int sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
       details.put("sensorOrientation", sensorOrientation);
 
-      int lensFacing = characteristics.get(CameraCharacteristics.LENS_FACING);
       switch (lensFacing) {
         case CameraMetadata.LENS_FACING_FRONT:
           details.put("lensFacing", "front");
@@ -40,7 +40,11 @@ public class DartMessenger {
     /** Indicates that the camera is closing. */
     CLOSING("camera_closing"),
     /** Indicates that the camera is initialized. */
-    INITIALIZED("initialized");
+    INITIALIZED("initialized"),
+    /** Indicates that a frame processor returned a result for a streamed frame. */
+    FRAME_PROCESSOR_RESULT("frame_processor_result"),
+    /** Indicates that a segment of a segmented recording was closed. */
+    RECORDING_SEGMENT_CLOSED("recording_segment_closed");
 
     private final String method;
 
@@ -144,6 +148,44 @@ public class DartMessenger {
         });
   }
 
+  /**
+   * Sends a message to the Flutter client containing the result of a frame processor.
+   *
+   * @param processorName the name the frame processor was enabled with.
+   * @param timestamp the timestamp of the processed frame, in nanoseconds.
+   * @param result the result returned by the frame processor.
+   */
+  void sendFrameProcessorResultEvent(
+      @NonNull String processorName, long timestamp, @NonNull Object result) {
+    this.send(
+        CameraEventType.FRAME_PROCESSOR_RESULT,
+        new HashMap<String, Object>() {
+          {
+            put("processorName", processorName);
+            put("timestamp", timestamp);
+            put("result", result);
+          }
+        });
+  }
+
+  /**
+   * Sends a message to the Flutter client informing that a segment of a segmented recording was
+   * closed and can be used.
+   *
+   * @param path the path of the file the segment was written to.
+   * @param durationMs the duration of the segment in milliseconds.
+   */
+  void sendRecordingSegmentClosedEvent(@NonNull String path, long durationMs) {
+    this.send(
+        CameraEventType.RECORDING_SEGMENT_CLOSED,
+        new HashMap<String, Object>() {
+          {
+            put("path", path);
+            put("durationMs", durationMs);
+          }
+        });
+  }
+
   private void send(CameraEventType eventType) {
     send(eventType, new HashMap<>());
   }
@@ -6,15 +6,30 @@ package io.flutter.plugins.camera;
 
 import android.media.Image;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-/** Saves a JPEG {@link Image} into the specified {@link File}. */
-public class ImageSaver implements Runnable {
+/**
+ * Saves a JPEG {@link Image} into the specified {@link File}.
+ *
+ * <p>The image data is written straight from the image plane to the file, without copying it into
+ * an intermediate array. Saving is meant to run on the executor returned by {@link
+ * #createExecutor()}, so that slow storage does not hold up the camera background thread.
+ */
+public class ImageSaver implements ImageSaverTask {
+  /** The maximum number of images that can be waiting to be saved. */
+  static final int MAX_PENDING_SAVES = 2;
 
   /** The JPEG image */
   private final Image image;
@@ -25,6 +40,12 @@ public class ImageSaver implements Runnable {
   /** Used to report the status of the save action. */
   private final Callback callback;
 
+  /** Collects the latency of the save action, if set. */
+  @Nullable private final Metrics metrics;
+
+  /** When the image became available, in {@link System#nanoTime()} units. */
+  private final long availableTimeNanos;
+
   /**
    * Creates an instance of the ImageSaver runnable
    *
@@ -33,27 +54,88 @@ public class ImageSaver implements Runnable {
    * @param callback - The callback that is run on completion, or when an error is encountered.
    */
   ImageSaver(@NonNull Image image, @NonNull File file, @NonNull Callback callback) {
+    this(image, file, callback, null);
+  }
+
+  /**
+   * Creates an instance of the ImageSaver runnable
+   *
+   * @param image - The image to save
+   * @param file - The file to save the image to
+   * @param callback - The callback that is run on completion, or when an error is encountered.
+   * @param metrics - Collects the time from creating this instance until the image is saved.
+   */
+  ImageSaver(
+      @NonNull Image image,
+      @NonNull File file,
+      @NonNull Callback callback,
+      @Nullable Metrics metrics) {
     this.image = image;
     this.file = file;
     this.callback = callback;
+    this.metrics = metrics;
+    this.availableTimeNanos = System.nanoTime();
+  }
+
+  /**
+   * Creates the executor images are saved on.
+   *
+   * <p>Images are saved one at a time, in order, on a dedicated thread. When {@link
+   * #MAX_PENDING_SAVES} images are already waiting, or the executor has been shut down, the next
+   * {@link ImageSaverTask} is discarded and reports an error to its callback, so that the camera
+   * background thread never does the saving itself.
+   */
+  @NonNull
+  static ExecutorService createExecutor() {
+    return new ThreadPoolExecutor(
+        1,
+        1,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(MAX_PENDING_SAVES),
+        runnable -> new Thread(runnable, "CameraImageSaver"),
+        (runnable, executor) -> {
+          if (!(runnable instanceof ImageSaverTask)) {
+            throw new RejectedExecutionException("Only image saving tasks can be rejected.");
+          }
+          ((ImageSaverTask) runnable)
+              .discard(
+                  executor.isShutdown()
+                      ? "The camera was closed before the image was saved."
+                      : "Too many images are waiting to be saved.");
+        });
+  }
+
+  @Override
+  public void discard(@NonNull String errorMessage) {
+    image.close();
+    callback.onError("cameraAccess", errorMessage);
   }
 
   @Override
   public void run() {
     ByteBuffer buffer = image.getPlanes()[0].getBuffer();
-    byte[] bytes = new byte[buffer.remaining()];
-    buffer.get(bytes);
     FileOutputStream output = null;
     try {
-      output = FileOutputStreamFactory.create(file);
-      output.write(bytes);
+      try {
+        output = FileOutputStreamFactory.create(file);
+        FileChannel channel = output.getChannel();
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      } finally {
+        // Hand the image back to the reader as soon as its data has been written.
+        image.close();
+      }
 
+      if (metrics != null) {
+        metrics.recordSave(System.nanoTime() - availableTimeNanos);
+      }
       callback.onComplete(file.getAbsolutePath());
 
     } catch (IOException e) {
       callback.onError("IOError", "Failed saving image");
     } finally {
-      image.close();
       if (null != output) {
         try {
           output.close();
@@ -85,6 +167,41 @@ public class ImageSaver implements Runnable {
     void onError(String errorCode, String errorMessage);
   }
 
+  /** Collects the latency of saved images, from the image being available to it being written. */
+  public static class Metrics {
+    private long savedImageCount;
+    private long lastSaveLatencyNanos;
+    private long maxSaveLatencyNanos;
+    private long totalSaveLatencyNanos;
+
+    synchronized void recordSave(long latencyNanos) {
+      savedImageCount++;
+      lastSaveLatencyNanos = latencyNanos;
+      maxSaveLatencyNanos = Math.max(maxSaveLatencyNanos, latencyNanos);
+      totalSaveLatencyNanos += latencyNanos;
+    }
+
+    /** Returns the number of images saved successfully. */
+    public synchronized long getSavedImageCount() {
+      return savedImageCount;
+    }
+
+    /** Returns the latency of the last saved image, in nanoseconds. */
+    public synchronized long getLastSaveLatencyNanos() {
+      return lastSaveLatencyNanos;
+    }
+
+    /** Returns the highest latency of all saved images, in nanoseconds. */
+    public synchronized long getMaxSaveLatencyNanos() {
+      return maxSaveLatencyNanos;
+    }
+
+    /** Returns the average latency of all saved images, in nanoseconds. */
+    public synchronized long getAverageSaveLatencyNanos() {
+      return savedImageCount == 0 ? 0 : totalSaveLatencyNanos / savedImageCount;
+    }
+  }
+
   /** Factory class that assists in creating a {@link FileOutputStream} instance. */
   static class FileOutputStreamFactory {
     /**
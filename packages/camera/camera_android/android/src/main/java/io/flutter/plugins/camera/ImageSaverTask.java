@@ -0,0 +1,17 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+
+/** A runnable that saves an image, and can instead discard it when it cannot be run. */
+interface ImageSaverTask extends Runnable {
+  /**
+   * Closes the image without saving it, and reports the error to the callback.
+   *
+   * @param errorMessage - The human readable reason the image was not saved.
+   */
+  void discard(@NonNull String errorMessage);
+}
@@ -8,6 +8,8 @@ import android.app.Activity;
 import android.hardware.camera2.CameraAccessException;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Log;
+import android.util.Size;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
@@ -18,17 +20,29 @@ import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.Result;
 import io.flutter.plugins.camera.CameraPermissions.PermissionsRegistry;
 import io.flutter.plugins.camera.features.CameraFeatureFactoryImpl;
+import io.flutter.plugins.camera.features.CameraSettings;
 import io.flutter.plugins.camera.features.Point;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.FrameProcessor;
+import io.flutter.plugins.camera.media.FrameProcessorRegistry;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
+import io.flutter.plugins.camera.media.RecordingSegmentOptions;
+import io.flutter.plugins.camera.media.YuvPacker;
+import io.flutter.plugins.camera.media.YuvPackingFormat;
+import io.flutter.plugins.camera.media.ZslOptions;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
+  private static final String TAG = "MethodCallHandlerImpl";
   private final Activity activity;
   private final BinaryMessenger messenger;
   private final CameraPermissions cameraPermissions;
@@ -36,6 +50,9 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
   private final TextureRegistry textureRegistry;
   private final MethodChannel methodChannel;
   private final EventChannel imageStreamChannel;
+  private final EventChannel metricsChannel;
+  private final CameraPrewarmer prewarmer =
+      new CameraPrewarmer(new Handler(Looper.getMainLooper()));
   private @Nullable Camera camera;
 
   MethodCallHandlerImpl(
@@ -53,6 +70,7 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
     methodChannel = new MethodChannel(messenger, "plugins.flutter.io/camera_android");
     imageStreamChannel =
         new EventChannel(messenger, "plugins.flutter.io/camera_android/imageStream");
+    metricsChannel = new EventChannel(messenger, "plugins.flutter.io/camera_android/metrics");
     methodChannel.setMethodCallHandler(this);
   }
 
@@ -61,7 +79,9 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
     switch (call.method) {
       case "availableCameras":
         try {
-          result.success(CameraUtils.getAvailableCameras(activity));
+          result.success(
+              CameraUtils.getAvailableCameras(
+                  activity, CameraCapabilityCache.getInstance(activity)));
         } catch (Exception e) {
           handleException(e, result);
         }
@@ -119,9 +139,22 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         }
       case "startVideoRecording":
         {
+          Number segmentDurationMs = call.argument("segmentDurationMs");
+          Number segmentSizeBytes = call.argument("segmentSizeBytes");
+          RecordingSegmentOptions segmentOptions = null;
+          if (segmentDurationMs != null || segmentSizeBytes != null) {
+            segmentOptions = new RecordingSegmentOptions();
+            if (segmentDurationMs != null) {
+              segmentOptions.setMaxDurationMs(segmentDurationMs.longValue());
+            }
+            if (segmentSizeBytes != null) {
+              segmentOptions.setMaxSizeBytes(segmentSizeBytes.longValue());
+            }
+          }
           camera.startVideoRecording(
               result,
-              Objects.equals(call.argument("enableStream"), true) ? imageStreamChannel : null);
+              Objects.equals(call.argument("enableStream"), true) ? imageStreamChannel : null,
+              segmentOptions);
           break;
         }
       case "stopVideoRecording":
@@ -252,10 +285,223 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
           }
           break;
         }
+      case "applySettings":
+        {
+          CameraSettings settings = new CameraSettings();
+          String flashModeStr = call.argument("flashMode");
+          if (flashModeStr != null) {
+            FlashMode mode = FlashMode.getValueForString(flashModeStr);
+            if (mode == null) {
+              result.error("applySettingsFailed", "Unknown flash mode " + flashModeStr, null);
+              return;
+            }
+            settings.setFlashMode(mode);
+          }
+          String exposureModeStr = call.argument("exposureMode");
+          if (exposureModeStr != null) {
+            ExposureMode mode = ExposureMode.getValueForString(exposureModeStr);
+            if (mode == null) {
+              result.error("applySettingsFailed", "Unknown exposure mode " + exposureModeStr, null);
+              return;
+            }
+            settings.setExposureMode(mode);
+          }
+          Map<String, Object> exposurePoint = call.argument("exposurePoint");
+          if (exposurePoint != null) {
+            settings.setExposurePoint(parsePoint(exposurePoint));
+          }
+          Double exposureOffset = call.argument("exposureOffset");
+          if (exposureOffset != null) {
+            settings.setExposureOffset(exposureOffset);
+          }
+          String focusModeStr = call.argument("focusMode");
+          if (focusModeStr != null) {
+            FocusMode mode = FocusMode.getValueForString(focusModeStr);
+            if (mode == null) {
+              result.error("applySettingsFailed", "Unknown focus mode " + focusModeStr, null);
+              return;
+            }
+            settings.setFocusMode(mode);
+          }
+          Map<String, Object> focusPoint = call.argument("focusPoint");
+          if (focusPoint != null) {
+            settings.setFocusPoint(parsePoint(focusPoint));
+          }
+          Double zoomLevel = call.argument("zoomLevel");
+          if (zoomLevel != null) {
+            settings.setZoomLevel(zoomLevel.floatValue());
+          }
+          try {
+            camera.applySettings(result, settings);
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
       case "startImageStream":
         {
+          ImageStreamOptions options = new ImageStreamOptions();
+          String policyStr = call.argument("deliveryPolicy");
+          if (policyStr != null) {
+            ImageStreamDeliveryPolicy policy =
+                ImageStreamDeliveryPolicy.getValueForString(policyStr);
+            if (policy == null) {
+              result.error(
+                  "startImageStreamFailed",
+                  "Unknown image stream delivery policy " + policyStr,
+                  null);
+              return;
+            }
+            options.setDeliveryPolicy(policy);
+          }
+          Integer maxFramesInFlight = call.argument("maxFramesInFlight");
+          if (maxFramesInFlight != null) {
+            if (maxFramesInFlight < 1) {
+              result.error("startImageStreamFailed", "maxFramesInFlight must be at least 1.", null);
+              return;
+            }
+            options.setMaxFramesInFlight(maxFramesInFlight);
+          }
+          List<String> frameProcessorNames = call.argument("frameProcessors");
+          if (frameProcessorNames != null) {
+            for (String name : frameProcessorNames) {
+              FrameProcessor frameProcessor = FrameProcessorRegistry.get(name);
+              if (frameProcessor == null) {
+                result.error(
+                    "startImageStreamFailed", "No frame processor registered as " + name, null);
+                return;
+              }
+              options.addFrameProcessor(name, frameProcessor);
+            }
+          }
+          Double targetFrameRate = call.argument("targetFrameRate");
+          if (targetFrameRate != null) {
+            if (targetFrameRate < 0) {
+              result.error("startImageStreamFailed", "targetFrameRate must not be negative.", null);
+              return;
+            }
+            options.setTargetFrameRate(targetFrameRate);
+          }
+          Boolean deliverFrames = call.argument("deliverFrames");
+          if (deliverFrames != null) {
+            options.setDeliverFrames(deliverFrames);
+          }
+          String yuvPackingStr = call.argument("yuvPacking");
+          if (yuvPackingStr != null) {
+            YuvPackingFormat yuvPacking = YuvPackingFormat.getValueForString(yuvPackingStr);
+            if (yuvPacking == null) {
+              result.error(
+                  "startImageStreamFailed", "Unknown YUV packing format " + yuvPackingStr, null);
+              return;
+            }
+            Integer downscaleFactor = call.argument("downscaleFactor");
+            Map<String, Object> cropRect = call.argument("cropRect");
+            try {
+              YuvPacker yuvPacker =
+                  new YuvPacker(yuvPacking, downscaleFactor == null ? 1 : downscaleFactor);
+              if (cropRect != null) {
+                yuvPacker.setCropRect(
+                    (int) cropRect.get("left"),
+                    (int) cropRect.get("top"),
+                    (int) cropRect.get("width"),
+                    (int) cropRect.get("height"));
+              }
+              options.setYuvPacker(yuvPacker);
+            } catch (IllegalArgumentException e) {
+              result.error("startImageStreamFailed", e.getMessage(), null);
+              return;
+            }
+          }
+
+          try {
+            camera.startPreviewWithImageStream(imageStreamChannel, options);
+            result.success(null);
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "getImageStreamStatistics":
+        {
+          try {
+            result.success(camera.getImageStreamStatistics());
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "getImageSaveStatistics":
+        {
+          try {
+            result.success(camera.getImageSaveStatistics());
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "setZslOptions":
+        {
+          ZslOptions options = null;
+          Boolean enabled = call.argument("enabled");
+          if (enabled != null && enabled) {
+            options = new ZslOptions();
+            Integer poolSize = call.argument("poolSize");
+            Number memoryBudgetBytes = call.argument("memoryBudgetBytes");
+            try {
+              if (poolSize != null) {
+                options.setPoolSize(poolSize);
+              }
+              if (memoryBudgetBytes != null) {
+                options.setMemoryBudgetBytes(memoryBudgetBytes.longValue());
+              }
+            } catch (IllegalArgumentException e) {
+              result.error("setZslOptionsFailed", e.getMessage(), null);
+              return;
+            }
+          }
+          try {
+            camera.setZslOptions(options);
+            result.success(null);
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "setPersistentCaptureSession":
+        {
+          Boolean enabled = call.argument("enabled");
           try {
-            camera.startPreviewWithImageStream(imageStreamChannel);
+            camera.setPersistentCaptureSession(enabled != null && enabled);
+            result.success(null);
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "getCaptureSessionStatistics":
+        {
+          try {
+            result.success(camera.getCaptureSessionStatistics());
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "setMetricsEnabled":
+        {
+          Boolean enabled = call.argument("enabled");
+          Number snapshotIntervalMs = call.argument("snapshotIntervalMs");
+          try {
+            CameraMetrics metrics = null;
+            if (enabled != null && enabled) {
+              metrics =
+                  new CameraMetrics(
+                      new Handler(Looper.getMainLooper()),
+                      TimeUnit.MILLISECONDS.toNanos(
+                          snapshotIntervalMs == null ? 1000 : snapshotIntervalMs.longValue()));
+            }
+            metricsChannel.setStreamHandler(metrics);
+            camera.setMetrics(metrics);
             result.success(null);
           } catch (Exception e) {
             handleException(e, result);
@@ -315,6 +561,16 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
           }
           break;
         }
+      case "setTargetPreviewSize":
+        {
+          assert camera != null;
+
+          Integer width = call.argument("width");
+          Integer height = call.argument("height");
+          camera.setTargetPreviewSize(
+              result, width == null || height == null ? null : new Size(width, height));
+          break;
+        }
       case "lockCaptureOrientation":
         {
           PlatformChannel.DeviceOrientation orientation =
@@ -370,35 +626,94 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
 
   void stopListening() {
     methodChannel.setMethodCallHandler(null);
+    prewarmer.release();
+  }
+
+  /**
+   * Opens a camera before Dart creates it, so that it is initialized sooner.
+   *
+   * <p>The camera is only opened when the app already has the permissions it needs, and is adopted
+   * by the next create call with the same name, resolution preset and audio setting.
+   *
+   * @param options the camera to open.
+   */
+  void prewarm(@NonNull CameraPrewarmOptions options) {
+    if (!cameraPermissions.hasPermissions(activity, options.getEnableAudio())) {
+      Log.i(TAG, "Not prewarming the camera, as the app does not have the permissions it needs");
+      return;
+    }
+
+    try {
+      TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture =
+          textureRegistry.createSurfaceTexture();
+      Camera warmCamera =
+          createCamera(
+              flutterSurfaceTexture,
+              options.getCameraName(),
+              options.getResolutionPreset(),
+              options.getEnableAudio());
+      prewarmer.start(warmCamera, flutterSurfaceTexture.id(), options);
+      warmCamera.prewarm(options.getImageFormatGroup());
+    } catch (CameraAccessException | RuntimeException e) {
+      Log.w(TAG, "Failed to prewarm the camera", e);
+      prewarmer.release();
+    }
   }
 
   private void instantiateCamera(MethodCall call, Result result) throws CameraAccessException {
     String cameraName = call.argument("cameraName");
     String preset = call.argument("resolutionPreset");
     boolean enableAudio = call.argument("enableAudio");
+    ResolutionPreset resolutionPreset = ResolutionPreset.valueOf(preset);
+
+    long cameraId;
+    CameraPrewarmer.WarmCamera warmCamera =
+        prewarmer.claim(cameraName, resolutionPreset, enableAudio);
+    if (warmCamera != null) {
+      camera = warmCamera.camera;
+      cameraId = warmCamera.textureId;
+    } else {
+      TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture =
+          textureRegistry.createSurfaceTexture();
+      camera = createCamera(flutterSurfaceTexture, cameraName, resolutionPreset, enableAudio);
+      cameraId = flutterSurfaceTexture.id();
+    }
 
-    TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture =
-        textureRegistry.createSurfaceTexture();
+    Map<String, Object> reply = new HashMap<>();
+    reply.put("cameraId", cameraId);
+    result.success(reply);
+  }
+
+  private Camera createCamera(
+      TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture,
+      String cameraName,
+      ResolutionPreset resolutionPreset,
+      boolean enableAudio)
+      throws CameraAccessException {
     DartMessenger dartMessenger =
         new DartMessenger(
             messenger, flutterSurfaceTexture.id(), new Handler(Looper.getMainLooper()));
     CameraProperties cameraProperties =
-        new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity));
-    ResolutionPreset resolutionPreset = ResolutionPreset.valueOf(preset);
+        CameraCapabilityCache.getInstance(activity)
+            .getCameraProperties(cameraName, CameraUtils.getCameraManager(activity));
 
-    camera =
-        new Camera(
-            activity,
-            flutterSurfaceTexture,
-            new CameraFeatureFactoryImpl(),
-            dartMessenger,
-            cameraProperties,
-            resolutionPreset,
-            enableAudio);
+    return new Camera(
+        activity,
+        flutterSurfaceTexture,
+        new CameraFeatureFactoryImpl(),
+        dartMessenger,
+        cameraProperties,
+        resolutionPreset,
+        enableAudio);
+  }
 
-    Map<String, Object> reply = new HashMap<>();
-    reply.put("cameraId", flutterSurfaceTexture.id());
-    result.success(reply);
+  // Parses a point sent as the arguments of setExposurePoint and setFocusPoint.
+  private static Point parsePoint(Map<String, Object> arguments) {
+    Boolean reset = (Boolean) arguments.get("reset");
+    if (reset != null && reset) {
+      return new Point(null, null);
+    }
+    return new Point((Double) arguments.get("x"), (Double) arguments.get("y"));
   }
 
   // We move catching CameraAccessException out of onMethodCall because it causes a crash
@@ -0,0 +1,200 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.graphics.ImageFormat;
+import android.graphics.Rect;
+import android.graphics.YuvImage;
+import android.media.ExifInterface;
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.camera.media.YuvPacker;
+import io.flutter.plugins.camera.media.YuvPackingFormat;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Encodes a YUV_420_888 {@link Image} taken from the ZSL ring buffer as JPEG into the specified
+ * {@link File}.
+ *
+ * <p>Unlike images captured by a still capture request, frames from the ring buffer carry no JPEG
+ * orientation, so the orientation is written to the EXIF data of the file instead.
+ */
+public class ZslImageSaver implements ImageSaverTask {
+  /** The JPEG quality the frames are encoded with. */
+  @VisibleForTesting static final int JPEG_QUALITY = 95;
+
+  /** The YUV_420_888 image */
+  private final Image image;
+
+  /** The file we save the image into. */
+  private final File file;
+
+  /** The clockwise rotation of the image in degrees, written to the EXIF data. */
+  private final int orientation;
+
+  /** Used to report the status of the save action. */
+  private final ImageSaver.Callback callback;
+
+  /** Collects the latency of the save action, if set. */
+  @Nullable private final ImageSaver.Metrics metrics;
+
+  /** When the image was picked from the ring buffer, in {@link System#nanoTime()} units. */
+  private final long availableTimeNanos;
+
+  /**
+   * Creates an instance of the ZslImageSaver runnable
+   *
+   * @param image - The YUV_420_888 image to encode, which is closed once it has been encoded.
+   * @param file - The file to save the image to
+   * @param orientation - The clockwise rotation of the image in degrees.
+   * @param callback - The callback that is run on completion, or when an error is encountered.
+   * @param metrics - Collects the time from creating this instance until the image is saved.
+   */
+  ZslImageSaver(
+      @NonNull Image image,
+      @NonNull File file,
+      int orientation,
+      @NonNull ImageSaver.Callback callback,
+      @Nullable ImageSaver.Metrics metrics) {
+    this.image = image;
+    this.file = file;
+    this.orientation = orientation;
+    this.callback = callback;
+    this.metrics = metrics;
+    this.availableTimeNanos = System.nanoTime();
+  }
+
+  @Override
+  public void discard(@NonNull String errorMessage) {
+    image.close();
+    callback.onError("cameraAccess", errorMessage);
+  }
+
+  @Override
+  public void run() {
+    final YuvImage yuvImage;
+    try {
+      yuvImage = toYuvImage(image);
+    } finally {
+      // Hand the image back to the ring buffer's reader as soon as its data has been copied.
+      image.close();
+    }
+
+    FileOutputStream output = null;
+    try {
+      output = ImageSaver.FileOutputStreamFactory.create(file);
+      if (!yuvImage.compressToJpeg(
+          new Rect(0, 0, yuvImage.getWidth(), yuvImage.getHeight()), JPEG_QUALITY, output)) {
+        callback.onError("IOError", "Failed encoding image");
+        return;
+      }
+      final FileOutputStream jpegOutput = output;
+      output = null;
+      jpegOutput.close();
+
+      final ExifInterface exif = ExifInterfaceFactory.create(file.getAbsolutePath());
+      exif.setAttribute(
+          ExifInterface.TAG_ORIENTATION, String.valueOf(getExifOrientation(orientation)));
+      exif.saveAttributes();
+
+      if (metrics != null) {
+        metrics.recordSave(System.nanoTime() - availableTimeNanos);
+      }
+      callback.onComplete(file.getAbsolutePath());
+
+    } catch (IOException e) {
+      callback.onError("IOError", "Failed saving image");
+    } finally {
+      if (null != output) {
+        try {
+          output.close();
+        } catch (IOException e) {
+          callback.onError("cameraAccess", e.getMessage());
+        }
+      }
+    }
+  }
+
+  @NonNull
+  private static YuvImage toYuvImage(@NonNull Image image) {
+    final YuvPacker packer = new YuvPacker(YuvPackingFormat.nv21, 1);
+    packer.setImageSize(image.getWidth(), image.getHeight());
+    final byte[] nv21 = new byte[packer.getOutputSize()];
+    final Image.Plane[] planes = image.getPlanes();
+    packer.pack(
+        planes[0].getBuffer(),
+        planes[0].getRowStride(),
+        planes[0].getPixelStride(),
+        planes[1].getBuffer(),
+        planes[1].getRowStride(),
+        planes[1].getPixelStride(),
+        planes[2].getBuffer(),
+        planes[2].getRowStride(),
+        planes[2].getPixelStride(),
+        nv21);
+    return YuvImageFactory.create(nv21, packer.getOutputWidth(), packer.getOutputHeight());
+  }
+
+  /**
+   * Converts a clockwise rotation in degrees to the matching EXIF orientation value.
+   *
+   * @param degrees the clockwise rotation, a multiple of 90.
+   * @return one of the {@code ExifInterface.ORIENTATION_*} values.
+   */
+  @VisibleForTesting
+  static int getExifOrientation(int degrees) {
+    switch ((degrees % 360 + 360) % 360) {
+      case 90:
+        return ExifInterface.ORIENTATION_ROTATE_90;
+      case 180:
+        return ExifInterface.ORIENTATION_ROTATE_180;
+      case 270:
+        return ExifInterface.ORIENTATION_ROTATE_270;
+      default:
+        return ExifInterface.ORIENTATION_NORMAL;
+    }
+  }
+
+  /** Factory class that assists in creating a {@link YuvImage} instance. */
+  static class YuvImageFactory {
+    /**
+     * Creates a new instance of the {@link YuvImage} class.
+     *
+     * <p>This method is visible for testing purposes only and should never be used outside this *
+     * class.
+     *
+     * @param nv21 - The NV21 image data
+     * @param width - The width of the image
+     * @param height - The height of the image
+     * @return new instance of the {@link YuvImage} class.
+     */
+    @VisibleForTesting
+    public static YuvImage create(byte[] nv21, int width, int height) {
+      return new YuvImage(nv21, ImageFormat.NV21, width, height, null);
+    }
+  }
+
+  /** Factory class that assists in creating a {@link ExifInterface} instance. */
+  static class ExifInterfaceFactory {
+    /**
+     * Creates a new instance of the {@link ExifInterface} class.
+     *
+     * <p>This method is visible for testing purposes only and should never be used outside this *
+     * class.
+     *
+     * @param path - The path of the JPEG file
+     * @return new instance of the {@link ExifInterface} class.
+     * @throws IOException when the file could not be read.
+     */
+    @VisibleForTesting
+    public static ExifInterface create(String path) throws IOException {
+      return new ExifInterface(path);
+    }
+  }
+}
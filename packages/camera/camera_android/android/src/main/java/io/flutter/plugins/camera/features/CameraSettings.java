@@ -0,0 +1,153 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.camera.features.autofocus.FocusMode;
+import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
+import io.flutter.plugins.camera.features.flash.FlashMode;
+
+/**
+ * A set of changes to the camera features that are applied together.
+ *
+ * <p>Settings that are not set are left unchanged. Points with null coordinates reset the point to
+ * its default.
+ */
+public class CameraSettings {
+  @Nullable private FlashMode flashMode;
+  @Nullable private ExposureMode exposureMode;
+  @Nullable private Point exposurePoint;
+  @Nullable private Double exposureOffset;
+  @Nullable private FocusMode focusMode;
+  @Nullable private Point focusPoint;
+  @Nullable private Float zoomLevel;
+
+  /** Returns the new flash mode, or null to leave it unchanged. */
+  @Nullable
+  public FlashMode getFlashMode() {
+    return flashMode;
+  }
+
+  /**
+   * Sets the new flash mode.
+   *
+   * @param flashMode the new flash mode.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setFlashMode(@NonNull FlashMode flashMode) {
+    this.flashMode = flashMode;
+    return this;
+  }
+
+  /** Returns the new exposure mode, or null to leave it unchanged. */
+  @Nullable
+  public ExposureMode getExposureMode() {
+    return exposureMode;
+  }
+
+  /**
+   * Sets the new exposure mode.
+   *
+   * @param exposureMode the new exposure mode.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setExposureMode(@NonNull ExposureMode exposureMode) {
+    this.exposureMode = exposureMode;
+    return this;
+  }
+
+  /** Returns the new exposure point, or null to leave it unchanged. */
+  @Nullable
+  public Point getExposurePoint() {
+    return exposurePoint;
+  }
+
+  /**
+   * Sets the new exposure point.
+   *
+   * @param exposurePoint the new exposure point, with null coordinates to reset it.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setExposurePoint(@NonNull Point exposurePoint) {
+    this.exposurePoint = exposurePoint;
+    return this;
+  }
+
+  /** Returns the new exposure offset, or null to leave it unchanged. */
+  @Nullable
+  public Double getExposureOffset() {
+    return exposureOffset;
+  }
+
+  /**
+   * Sets the new exposure offset.
+   *
+   * @param exposureOffset the new exposure offset.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setExposureOffset(double exposureOffset) {
+    this.exposureOffset = exposureOffset;
+    return this;
+  }
+
+  /** Returns the new focus mode, or null to leave it unchanged. */
+  @Nullable
+  public FocusMode getFocusMode() {
+    return focusMode;
+  }
+
+  /**
+   * Sets the new focus mode.
+   *
+   * @param focusMode the new focus mode.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setFocusMode(@NonNull FocusMode focusMode) {
+    this.focusMode = focusMode;
+    return this;
+  }
+
+  /** Returns the new focus point, or null to leave it unchanged. */
+  @Nullable
+  public Point getFocusPoint() {
+    return focusPoint;
+  }
+
+  /**
+   * Sets the new focus point.
+   *
+   * @param focusPoint the new focus point, with null coordinates to reset it.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setFocusPoint(@NonNull Point focusPoint) {
+    this.focusPoint = focusPoint;
+    return this;
+  }
+
+  /** Returns the new zoom level, or null to leave it unchanged. */
+  @Nullable
+  public Float getZoomLevel() {
+    return zoomLevel;
+  }
+
+  /**
+   * Sets the new zoom level.
+   *
+   * @param zoomLevel the new zoom level.
+   * @return this instance.
+   */
+  @NonNull
+  public CameraSettings setZoomLevel(float zoomLevel) {
+    this.zoomLevel = zoomLevel;
+    return this;
+  }
+}
@@ -5,14 +5,19 @@
 package io.flutter.plugins.camera.features.resolution;
 
 import android.annotation.TargetApi;
+import android.graphics.ImageFormat;
 import android.hardware.camera2.CaptureRequest;
 import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.os.Build;
 import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugins.camera.CameraProperties;
 import io.flutter.plugins.camera.features.CameraFeature;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -23,8 +28,14 @@ import java.util.List;
  * required to configure the resolution using the {@link android.hardware.camera2} API.
  */
 public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
+  /** The relative difference up to which a preview size matches the aspect ratio of the view. */
+  @VisibleForTesting static final double ASPECT_RATIO_TOLERANCE = 0.05;
+
   private Size captureSize;
   private Size previewSize;
+  @Nullable private Size targetPreviewSize;
+  // The output sizes the preview can use, sorted by area, or null until they are first needed.
+  @Nullable private Size[] previewSizeCandidates;
   private CamcorderProfile recordingProfileLegacy;
   private EncoderProfiles recordingProfile;
   private ResolutionPreset currentSetting;
@@ -73,6 +84,32 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
     return this.previewSize;
   }
 
+  /**
+   * Gets the size of the view the preview is shown in.
+   *
+   * @return The size of the view, or null when the preview size follows the resolution preset.
+   */
+  @Nullable
+  public Size getTargetPreviewSize() {
+    return targetPreviewSize;
+  }
+
+  /**
+   * Sets the size of the view the preview is shown in.
+   *
+   * <p>The preview then uses the smallest output size that covers the view with a matching aspect
+   * ratio, up to the preview size of the resolution preset, instead of always using the preset's
+   * size. The capture size and recording profile are not affected.
+   *
+   * @param targetPreviewSize The size of the view in pixels, or null to use the preset's size.
+   */
+  public void setTargetPreviewSize(@Nullable Size targetPreviewSize) {
+    this.targetPreviewSize = targetPreviewSize;
+    if (checkIsSupported()) {
+      configurePreviewSize(currentSetting, cameraId);
+    }
+  }
+
   /**
    * Gets the optimal capture size based on the configured resolution.
    *
@@ -133,6 +170,75 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
     return new Size(profile.videoFrameWidth, profile.videoFrameHeight);
   }
 
+  /**
+   * Selects the smallest output size that covers the target view.
+   *
+   * <p>Output sizes are in the sensor's landscape orientation, so the target is compared by its
+   * longer and shorter sides. Sizes larger than the preset's preview size are never selected.
+   *
+   * @param candidates The output sizes supported by the camera, sorted by ascending area.
+   * @param target The size of the view the preview is shown in.
+   * @param presetPreviewSize The preview size of the resolution preset.
+   * @return The smallest matching output size, or the preset's preview size when none matches.
+   */
+  @VisibleForTesting
+  static Size computeBestPreviewSizeForTarget(
+      @Nullable Size[] candidates, @NonNull Size target, @NonNull Size presetPreviewSize) {
+    final int targetLong = Math.max(target.getWidth(), target.getHeight());
+    final int targetShort = Math.min(target.getWidth(), target.getHeight());
+    if (candidates == null || targetShort <= 0) {
+      return presetPreviewSize;
+    }
+    final int maxLong = Math.max(presetPreviewSize.getWidth(), presetPreviewSize.getHeight());
+    final int maxShort = Math.min(presetPreviewSize.getWidth(), presetPreviewSize.getHeight());
+    final double targetAspectRatio = (double) targetLong / targetShort;
+
+    for (Size candidate : candidates) {
+      final int candidateLong = Math.max(candidate.getWidth(), candidate.getHeight());
+      final int candidateShort = Math.min(candidate.getWidth(), candidate.getHeight());
+      if (candidateLong < targetLong
+          || candidateShort < targetShort
+          || candidateLong > maxLong
+          || candidateShort > maxShort) {
+        continue;
+      }
+      final double aspectRatio = (double) candidateLong / candidateShort;
+      if (Math.abs(aspectRatio - targetAspectRatio) <= targetAspectRatio * ASPECT_RATIO_TOLERANCE) {
+        return candidate;
+      }
+    }
+    return presetPreviewSize;
+  }
+
+  /**
+   * Gets the output sizes that can be used for both the preview surface and the image stream.
+   *
+   * @param cameraProperties Collection of characteristics for the current camera device.
+   * @return The output sizes sorted by ascending area, or null when they are unknown.
+   */
+  @VisibleForTesting
+  @Nullable
+  static Size[] getPreviewSizeCandidates(@NonNull CameraProperties cameraProperties) {
+    final Size[] streamSizes = cameraProperties.getOutputSizes(ImageFormat.YUV_420_888);
+    if (streamSizes == null) {
+      return null;
+    }
+    final List<Size> candidates = new ArrayList<>(Arrays.asList(streamSizes));
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      // The preview surface uses the sizes of the implementation defined format.
+      final Size[] surfaceSizes = cameraProperties.getOutputSizes(ImageFormat.PRIVATE);
+      if (surfaceSizes != null) {
+        candidates.retainAll(Arrays.asList(surfaceSizes));
+      }
+    }
+    final Size[] sorted = candidates.toArray(new Size[0]);
+    Arrays.sort(
+        sorted,
+        (a, b) ->
+            Long.compare((long) a.getWidth() * a.getHeight(), (long) b.getWidth() * b.getHeight()));
+    return sorted;
+  }
+
   /**
    * Gets the best possible {@link android.media.CamcorderProfile} for the supplied {@link
    * ResolutionPreset}. Supports SDK < 31.
@@ -264,6 +370,19 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
           new Size(recordingProfileLegacy.videoFrameWidth, recordingProfileLegacy.videoFrameHeight);
     }
 
+    configurePreviewSize(resolutionPreset, cameraId);
+  }
+
+  private void configurePreviewSize(ResolutionPreset resolutionPreset, int cameraId) {
     previewSize = computeBestPreviewSize(cameraId, resolutionPreset);
+    if (targetPreviewSize == null) {
+      return;
+    }
+    // The output sizes of a camera do not change, so they are only sorted once.
+    if (previewSizeCandidates == null) {
+      previewSizeCandidates = getPreviewSizeCandidates(cameraProperties);
+    }
+    previewSize =
+        computeBestPreviewSizeForTarget(previewSizeCandidates, targetPreviewSize, previewSize);
   }
 }
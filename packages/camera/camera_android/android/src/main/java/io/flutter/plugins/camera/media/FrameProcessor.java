@@ -0,0 +1,35 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Processes streamed camera frames natively, before they are copied and sent to Dart.
+ *
+ * <p>Frame processors are registered with the {@link FrameProcessorRegistry} by the host app and
+ * enabled by name when the image stream is started from Dart. This allows analysis such as barcode
+ * or face detection to consume the {@link Image} directly and only send its (small) result over the
+ * platform channel.
+ */
+public interface FrameProcessor {
+  /**
+   * Processes a single frame.
+   *
+   * <p>This is called on the camera background thread, so it should return quickly; the camera
+   * cannot deliver the next frame until it does. The image is only valid for the duration of this
+   * call and must not be closed. Processors should also leave the position of the plane buffers
+   * unchanged, as the same buffers are copied to Dart afterwards.
+   *
+   * @param image the frame to process.
+   * @return a result to send to Dart, or null if there is nothing to report for this frame. The
+   *     result must be a value supported by the {@link
+   *     io.flutter.plugin.common.StandardMessageCodec}.
+   */
+  @Nullable
+  Object process(@NonNull Image image);
+}
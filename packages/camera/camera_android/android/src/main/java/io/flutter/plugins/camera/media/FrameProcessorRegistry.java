@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the {@link FrameProcessor}s that can be enabled from Dart when starting an image stream.
+ *
+ * <p>Host apps typically register their processors when configuring the Flutter engine, for example
+ * in {@code MainActivity#configureFlutterEngine}:
+ *
+ * <pre>{@code
+ * FrameProcessorRegistry.register("barcodes", new BarcodeFrameProcessor());
+ * }</pre>
+ */
+public final class FrameProcessorRegistry {
+  private static final Map<String, FrameProcessor> processors = new HashMap<>();
+
+  private FrameProcessorRegistry() {}
+
+  /**
+   * Registers a frame processor, replacing any processor previously registered under the same name.
+   *
+   * @param name the name used to enable the processor from Dart.
+   * @param processor the processor to register.
+   */
+  public static void register(@NonNull String name, @NonNull FrameProcessor processor) {
+    synchronized (processors) {
+      processors.put(name, processor);
+    }
+  }
+
+  /**
+   * Removes the frame processor registered under the given name.
+   *
+   * <p>Image streams that were started with the processor keep using it until they are stopped.
+   *
+   * @param name the name the processor was registered with.
+   */
+  public static void unregister(@NonNull String name) {
+    synchronized (processors) {
+      processors.remove(name);
+    }
+  }
+
+  /**
+   * Returns the frame processor registered under the given name.
+   *
+   * @param name the name the processor was registered with.
+   * @return the registered processor, or null if no processor is registered under this name.
+   */
+  @Nullable
+  public static FrameProcessor get(@NonNull String name) {
+    synchronized (processors) {
+      return processors.get(name);
+    }
+  }
+}
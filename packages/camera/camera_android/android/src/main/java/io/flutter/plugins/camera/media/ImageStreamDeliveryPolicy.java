@@ -0,0 +1,48 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+/** Describes what happens to streamed frames that arrive while Dart is still behind. */
+// Mirrors ImageStreamDeliveryPolicy in image_stream_options.dart
+public enum ImageStreamDeliveryPolicy {
+  /**
+   * Frames that arrive while the maximum number of frames is in flight are dropped, so Dart always
+   * receives the most recent frame once it catches up.
+   */
+  latestOnly("latestOnly"),
+  /**
+   * The thread reading the stream waits for a frame to be released before reading the next image,
+   * letting the camera drop frames at the source instead. Images are then read on a dedicated
+   * thread, so that the wait does not hold up the camera background thread.
+   */
+  block("block");
+
+  private final String strValue;
+
+  ImageStreamDeliveryPolicy(String strValue) {
+    this.strValue = strValue;
+  }
+
+  /**
+   * Tries to convert the supplied string into an {@see ImageStreamDeliveryPolicy} enum value.
+   *
+   * <p>When the supplied string doesn't match a valid {@see ImageStreamDeliveryPolicy} enum value,
+   * null is returned.
+   *
+   * @param policyStr String value to convert into an {@see ImageStreamDeliveryPolicy} enum value.
+   * @return Matching {@see ImageStreamDeliveryPolicy} enum value, or null if no match is found.
+   */
+  public static ImageStreamDeliveryPolicy getValueForString(String policyStr) {
+    for (ImageStreamDeliveryPolicy value : values()) {
+      if (value.strValue.equals(policyStr)) return value;
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
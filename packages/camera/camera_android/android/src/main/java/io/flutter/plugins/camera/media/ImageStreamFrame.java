@@ -0,0 +1,249 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.EventChannel;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A reusable holder for the data of a single streamed camera frame.
+ *
+ * <p>Instances are owned by an {@link ImageStreamFramePool}. The plane buffers and the maps that
+ * are handed to the message codec are kept between frames and are only reallocated when the layout
+ * of the incoming frames changes, so steady-state streaming does not produce garbage.
+ */
+public class ImageStreamFrame {
+  private final ImageStreamFramePool pool;
+  private final HashMap<String, Object> data = new HashMap<>();
+  private final List<Map<String, Object>> planes = new ArrayList<>();
+  private byte[][] planeBytes = new byte[0][];
+  private final Runnable deliverRunnable = this::deliver;
+  @Nullable private EventChannel.EventSink sink;
+  @Nullable private DeliveryCallback onDelivered;
+  private long readTimeNanos;
+
+  /** Called after a frame has been sent to Dart. */
+  interface DeliveryCallback {
+    /**
+     * Called on the thread that sent the frame.
+     *
+     * @param readTimeNanos the time the frame was read from the camera, as given to {@link
+     *     #deliverTo}.
+     */
+    void onDelivered(long readTimeNanos);
+  }
+
+  ImageStreamFrame(@NonNull ImageStreamFramePool pool) {
+    this.pool = pool;
+    data.put("planes", planes);
+  }
+
+  /**
+   * Sets the number of planes of this frame, reusing the existing plane maps where possible.
+   *
+   * @param planeCount the number of planes of the next frame.
+   */
+  public void setPlaneCount(int planeCount) {
+    if (planeBytes.length != planeCount) {
+      byte[][] resized = new byte[planeCount][];
+      System.arraycopy(planeBytes, 0, resized, 0, Math.min(planeBytes.length, planeCount));
+      planeBytes = resized;
+    }
+    while (planes.size() > planeCount) {
+      planes.remove(planes.size() - 1);
+    }
+    while (planes.size() < planeCount) {
+      planes.add(new HashMap<>());
+    }
+  }
+
+  /**
+   * Copies the remaining bytes of {@code buffer} into the pooled buffer of the plane at {@code
+   * index}.
+   *
+   * <p>The position of {@code buffer} is left unchanged.
+   *
+   * @param index index of the plane, must be lower than the count set by {@link
+   *     #setPlaneCount(int)}.
+   * @param buffer the plane data.
+   * @param rowStride the row stride of the plane in bytes.
+   * @param pixelStride the pixel stride of the plane in bytes.
+   */
+  public void setPlane(int index, @NonNull ByteBuffer buffer, int rowStride, int pixelStride) {
+    final int length = buffer.remaining();
+    final byte[] bytes = preparePlane(index, length, rowStride, pixelStride);
+    final int position = buffer.position();
+    buffer.get(bytes, 0, length);
+    buffer.position(position);
+  }
+
+  /**
+   * Returns the pooled buffer of the plane at {@code index}, sized to {@code length} bytes, for the
+   * caller to fill in.
+   *
+   * @param index index of the plane, must be lower than the count set by {@link
+   *     #setPlaneCount(int)}.
+   * @param length the number of bytes of the plane.
+   * @param rowStride the row stride of the plane in bytes.
+   * @param pixelStride the pixel stride of the plane in bytes.
+   * @return the buffer that is sent to Dart for this plane.
+   */
+  @NonNull
+  public byte[] preparePlane(int index, int length, int rowStride, int pixelStride) {
+    byte[] bytes = planeBytes[index];
+    if (bytes == null || bytes.length != length) {
+      bytes = new byte[length];
+      planeBytes[index] = bytes;
+    }
+
+    final Map<String, Object> plane = planes.get(index);
+    putInt(plane, "bytesPerRow", rowStride);
+    putInt(plane, "bytesPerPixel", pixelStride);
+    plane.put("bytes", bytes);
+    return bytes;
+  }
+
+  /**
+   * Sets the dimensions and format of the frame.
+   *
+   * @param width the width of the frame in pixels.
+   * @param height the height of the frame in pixels.
+   * @param format the {@link android.graphics.ImageFormat} of the frame.
+   */
+  public void setImageInfo(int width, int height, int format) {
+    putInt(data, "width", width);
+    putInt(data, "height", height);
+    putInt(data, "format", format);
+  }
+
+  /**
+   * Sets the capture properties that were last reported by the camera.
+   *
+   * @param lensAperture the last known lens aperture (as f-stop value).
+   * @param sensorExposureTime the last known sensor exposure time in nanoseconds.
+   * @param sensorSensitivity the last known sensor sensitivity in ISO arithmetic units.
+   */
+  public void setCaptureProperties(
+      @Nullable Float lensAperture,
+      @Nullable Long sensorExposureTime,
+      @Nullable Integer sensorSensitivity) {
+    setCaptureProperties(
+        lensAperture == null ? Float.NaN : lensAperture,
+        sensorExposureTime == null ? -1 : sensorExposureTime,
+        sensorSensitivity == null ? -1 : sensorSensitivity);
+  }
+
+  /**
+   * Sets the capture properties that were last reported by the camera, without boxing values that
+   * did not change since the previous frame.
+   *
+   * @param lensAperture the last known lens aperture (as f-stop value), or NaN when it is unknown.
+   * @param sensorExposureTime the last known sensor exposure time in nanoseconds, or -1 when it is
+   *     unknown.
+   * @param sensorSensitivity the last known sensor sensitivity in ISO arithmetic units, or -1 when
+   *     it is unknown.
+   */
+  public void setCaptureProperties(
+      float lensAperture, long sensorExposureTime, int sensorSensitivity) {
+    if (Float.isNaN(lensAperture)) {
+      data.put("lensAperture", null);
+    } else {
+      putDouble(data, "lensAperture", lensAperture);
+    }
+    if (sensorExposureTime < 0) {
+      data.put("sensorExposureTime", null);
+    } else {
+      putLong(data, "sensorExposureTime", sensorExposureTime);
+    }
+    if (sensorSensitivity < 0) {
+      data.put("sensorSensitivity", null);
+    } else {
+      putDouble(data, "sensorSensitivity", sensorSensitivity);
+    }
+  }
+
+  /**
+   * Returns the map that is sent to Dart for this frame.
+   *
+   * <p>The returned map is reused for subsequent frames once this frame has been released to its
+   * pool.
+   */
+  @NonNull
+  public Map<String, Object> getData() {
+    return data;
+  }
+
+  /**
+   * Returns a {@link Runnable} that sends this frame to {@code sink} and then releases the frame
+   * back to its pool.
+   *
+   * <p>The same {@link Runnable} instance is returned for every frame so that posting it to a
+   * {@link android.os.Handler} does not allocate.
+   *
+   * @param sink the sink the frame is sent to.
+   * @param onDelivered an optional callback that is run after the frame has been sent.
+   * @param readTimeNanos the time the frame was read from the camera, passed on to {@code
+   *     onDelivered}.
+   */
+  @NonNull
+  Runnable deliverTo(
+      @NonNull EventChannel.EventSink sink,
+      @Nullable DeliveryCallback onDelivered,
+      long readTimeNanos) {
+    this.sink = sink;
+    this.onDelivered = onDelivered;
+    this.readTimeNanos = readTimeNanos;
+    return deliverRunnable;
+  }
+
+  @VisibleForTesting
+  void deliver() {
+    final EventChannel.EventSink currentSink = sink;
+    final DeliveryCallback currentOnDelivered = onDelivered;
+    sink = null;
+    onDelivered = null;
+    try {
+      if (currentSink != null) {
+        // The codec serializes the frame synchronously, so the buffers can be reused as soon as
+        // this call returns.
+        currentSink.success(data);
+        if (currentOnDelivered != null) {
+          currentOnDelivered.onDelivered(readTimeNanos);
+        }
+      }
+    } finally {
+      pool.release(this);
+    }
+  }
+
+  // Only boxes the value when it differs from the one stored for the previous frame.
+  private static void putInt(Map<String, Object> map, String key, int value) {
+    final Object current = map.get(key);
+    if (!(current instanceof Integer) || (Integer) current != value) {
+      map.put(key, value);
+    }
+  }
+
+  private static void putLong(Map<String, Object> map, String key, long value) {
+    final Object current = map.get(key);
+    if (!(current instanceof Long) || (Long) current != value) {
+      map.put(key, value);
+    }
+  }
+
+  private static void putDouble(Map<String, Object> map, String key, double value) {
+    final Object current = map.get(key);
+    if (!(current instanceof Double) || (Double) current != value) {
+      map.put(key, value);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayDeque;
+
+/**
+ * A bounded pool of {@link ImageStreamFrame}s.
+ *
+ * <p>Frames are acquired on the camera background thread and released on the main thread once they
+ * have been sent to Dart, so all access is synchronized.
+ */
+public class ImageStreamFramePool {
+  /** The default number of frames that can be in flight at the same time. */
+  public static final int DEFAULT_CAPACITY = 3;
+
+  private final int capacity;
+  private final ArrayDeque<ImageStreamFrame> available;
+  private int created;
+  private boolean closed;
+
+  /** Creates a pool holding at most {@link #DEFAULT_CAPACITY} frames. */
+  public ImageStreamFramePool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a pool holding at most {@code capacity} frames.
+   *
+   * @param capacity the maximum number of frames that can be acquired at the same time.
+   */
+  public ImageStreamFramePool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1.");
+    }
+    this.capacity = capacity;
+    this.available = new ArrayDeque<>(capacity);
+  }
+
+  /**
+   * Acquires a frame from the pool.
+   *
+   * @return a free frame, or null when all frames are currently in flight.
+   */
+  @Nullable
+  public synchronized ImageStreamFrame acquire() {
+    if (closed) {
+      return null;
+    }
+    ImageStreamFrame frame = available.pollFirst();
+    if (frame == null && created < capacity) {
+      created++;
+      frame = new ImageStreamFrame(this);
+    }
+    return frame;
+  }
+
+  /**
+   * Acquires a frame from the pool, waiting for one to be released if all frames are in flight.
+   *
+   * @param timeoutMs the maximum time to wait for a frame, in milliseconds.
+   * @return a free frame, or null when no frame was released in time or the pool was closed.
+   */
+  @Nullable
+  public synchronized ImageStreamFrame acquire(long timeoutMs) {
+    final long deadline = System.nanoTime() + timeoutMs * 1000000L;
+    ImageStreamFrame frame = acquire();
+    while (frame == null && !closed) {
+      final long remainingMs = (deadline - System.nanoTime()) / 1000000L;
+      if (remainingMs <= 0) {
+        break;
+      }
+      try {
+        wait(remainingMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      frame = acquire();
+    }
+    return frame;
+  }
+
+  /**
+   * Returns a frame to the pool so that its buffers can be reused.
+   *
+   * @param frame a frame previously returned by {@link #acquire()}.
+   */
+  public synchronized void release(@NonNull ImageStreamFrame frame) {
+    available.addFirst(frame);
+    notifyAll();
+  }
+
+  /** Closes the pool, waking up any thread waiting for a frame. */
+  public synchronized void close() {
+    closed = true;
+    notifyAll();
+  }
+
+  /** Returns the maximum number of frames that can be acquired at the same time. */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** Returns the number of frames that are currently acquired and not yet released. */
+  public synchronized int getInFlightCount() {
+    return created - available.size();
+  }
+}
@@ -0,0 +1,147 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Options that control how frames are delivered by the {@link ImageStreamReader}. */
+public class ImageStreamOptions {
+  /** The default maximum number of frames that can be waiting to be sent to Dart. */
+  public static final int DEFAULT_MAX_FRAMES_IN_FLIGHT = ImageStreamFramePool.DEFAULT_CAPACITY;
+
+  @NonNull private ImageStreamDeliveryPolicy deliveryPolicy = ImageStreamDeliveryPolicy.latestOnly;
+  private int maxFramesInFlight = DEFAULT_MAX_FRAMES_IN_FLIGHT;
+  private final Map<String, FrameProcessor> frameProcessors = new LinkedHashMap<>();
+  private boolean deliverFrames = true;
+  @Nullable private YuvPacker yuvPacker;
+  private double targetFrameRate;
+
+  /** Returns the policy applied to frames that arrive while Dart is behind. */
+  @NonNull
+  public ImageStreamDeliveryPolicy getDeliveryPolicy() {
+    return deliveryPolicy;
+  }
+
+  /**
+   * Sets the policy applied to frames that arrive while Dart is behind.
+   *
+   * @param deliveryPolicy the new delivery policy.
+   * @return this instance.
+   */
+  @NonNull
+  public ImageStreamOptions setDeliveryPolicy(@NonNull ImageStreamDeliveryPolicy deliveryPolicy) {
+    this.deliveryPolicy = deliveryPolicy;
+    return this;
+  }
+
+  /** Returns the maximum number of frames that can be waiting to be sent to Dart. */
+  public int getMaxFramesInFlight() {
+    return maxFramesInFlight;
+  }
+
+  /**
+   * Sets the maximum number of frames that can be waiting to be sent to Dart.
+   *
+   * @param maxFramesInFlight the maximum number of frames in flight, must be at least 1.
+   * @return this instance.
+   */
+  @NonNull
+  public ImageStreamOptions setMaxFramesInFlight(int maxFramesInFlight) {
+    if (maxFramesInFlight < 1) {
+      throw new IllegalArgumentException("maxFramesInFlight must be at least 1.");
+    }
+    this.maxFramesInFlight = maxFramesInFlight;
+    return this;
+  }
+
+  /** Returns the frame processors that are run on every frame, keyed by name. */
+  @NonNull
+  public Map<String, FrameProcessor> getFrameProcessors() {
+    return Collections.unmodifiableMap(frameProcessors);
+  }
+
+  /**
+   * Adds a frame processor that is run on every frame, before the frame is sent to Dart.
+   *
+   * @param name the name the results of the processor are reported with.
+   * @param frameProcessor the processor to run.
+   * @return this instance.
+   */
+  @NonNull
+  public ImageStreamOptions addFrameProcessor(
+      @NonNull String name, @NonNull FrameProcessor frameProcessor) {
+    frameProcessors.put(name, frameProcessor);
+    return this;
+  }
+
+  /** Returns whether the frames themselves are sent to Dart. */
+  public boolean getDeliverFrames() {
+    return deliverFrames;
+  }
+
+  /**
+   * Sets whether the frames themselves are sent to Dart.
+   *
+   * <p>When only the results of the frame processors are needed, disabling this skips copying and
+   * serializing the frames altogether.
+   *
+   * @param deliverFrames whether the frames are sent to Dart.
+   * @return this instance.
+   */
+  @NonNull
+  public ImageStreamOptions setDeliverFrames(boolean deliverFrames) {
+    this.deliverFrames = deliverFrames;
+    return this;
+  }
+
+  /** Returns the packer applied to YUV_420_888 frames, or null if frames are sent as planes. */
+  @Nullable
+  public YuvPacker getYuvPacker() {
+    return yuvPacker;
+  }
+
+  /**
+   * Sets the packer applied to YUV_420_888 frames before they are sent to Dart.
+   *
+   * <p>Packed frames are sent as a single plane, which reduces both the bytes sent over the
+   * platform channel and the work needed to convert them in Dart. Frames in other formats are not
+   * affected.
+   *
+   * @param yuvPacker the packer to apply, or null to send the planes as they are.
+   * @return this instance.
+   */
+  @NonNull
+  public ImageStreamOptions setYuvPacker(@Nullable YuvPacker yuvPacker) {
+    this.yuvPacker = yuvPacker;
+    return this;
+  }
+
+  /** Returns the maximum number of frames per second to deliver, or 0 if it is unlimited. */
+  public double getTargetFrameRate() {
+    return targetFrameRate;
+  }
+
+  /**
+   * Sets the maximum number of frames per second to deliver.
+   *
+   * <p>Frames above this rate are skipped based on their sensor timestamp and closed without being
+   * processed or copied. This does not affect the frame rate of the preview.
+   *
+   * @param targetFrameRate the maximum frame rate, or 0 to deliver every frame.
+   * @return this instance.
+   */
+  @NonNull
+  public ImageStreamOptions setTargetFrameRate(double targetFrameRate) {
+    if (targetFrameRate < 0) {
+      throw new IllegalArgumentException("targetFrameRate must not be negative.");
+    }
+    this.targetFrameRate = targetFrameRate;
+    return this;
+  }
+}
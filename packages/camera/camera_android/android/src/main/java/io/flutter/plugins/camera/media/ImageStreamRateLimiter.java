@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+/**
+ * Limits the rate of streamed frames based on their sensor timestamps.
+ *
+ * <p>Frames are delivered on a fixed schedule derived from the target frame rate, so a target that
+ * does not evenly divide the camera frame rate is still met on average. This is independent of the
+ * frame rate range the camera runs at, which keeps the preview smooth while the stream only carries
+ * the frames that are needed.
+ *
+ * <p>This class is not thread safe.
+ */
+public class ImageStreamRateLimiter {
+  private final long frameIntervalNs;
+  // Frames are a little early or late, so accept those close to the scheduled time.
+  private final long toleranceNs;
+  private long nextFrameTimestampNs = Long.MIN_VALUE;
+
+  /**
+   * Creates a new instance of the {@link ImageStreamRateLimiter}.
+   *
+   * @param targetFrameRate the maximum number of frames per second to deliver, must be positive.
+   */
+  public ImageStreamRateLimiter(double targetFrameRate) {
+    if (!(targetFrameRate > 0)) {
+      throw new IllegalArgumentException("targetFrameRate must be positive.");
+    }
+    frameIntervalNs = (long) (1000000000L / targetFrameRate);
+    toleranceNs = frameIntervalNs / 10;
+  }
+
+  /**
+   * Decides whether the frame with the given timestamp should be delivered.
+   *
+   * @param timestampNs the sensor timestamp of the frame, in nanoseconds.
+   * @return true if the frame should be delivered, false if it should be skipped.
+   */
+  public boolean shouldDeliver(long timestampNs) {
+    if (nextFrameTimestampNs != Long.MIN_VALUE
+        && timestampNs < nextFrameTimestampNs - toleranceNs) {
+      return false;
+    }
+    if (nextFrameTimestampNs == Long.MIN_VALUE
+        || timestampNs - nextFrameTimestampNs >= frameIntervalNs) {
+      // First frame, or the stream stalled: restart the schedule from this frame.
+      nextFrameTimestampNs = timestampNs + frameIntervalNs;
+    } else {
+      nextFrameTimestampNs += frameIntervalNs;
+    }
+    return true;
+  }
+}
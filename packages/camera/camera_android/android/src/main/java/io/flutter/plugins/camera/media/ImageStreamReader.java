@@ -0,0 +1,390 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.graphics.ImageFormat;
+import android.media.Image;
+import android.media.ImageReader;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.Surface;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps the {@link ImageReader} used for image streaming and delivers its frames to Dart.
+ *
+ * <p>Plane data is copied into frames taken from an {@link ImageStreamFramePool}, so no buffers or
+ * maps are allocated per frame once the pool is warm. Frames are returned to the pool as soon as
+ * they have been sent over the event channel.
+ *
+ * <p>The size of the pool bounds the number of frames waiting on the main thread. What happens to
+ * frames arriving while the pool is exhausted is decided by the {@link ImageStreamDeliveryPolicy}
+ * of the current {@link ImageStreamOptions}. With the {@link ImageStreamDeliveryPolicy#block}
+ * policy the images are read on a thread owned by this reader, so that waiting for a free frame
+ * never holds up the handler other camera work is posted to.
+ *
+ * <p>The {@link FrameProcessor}s of the current options are run on every frame before it is copied,
+ * and their results are reported to the {@link FrameProcessorResultListener}.
+ */
+public class ImageStreamReader {
+  private static final String TAG = "ImageStreamReader";
+
+  /** Receives the results of the {@link FrameProcessor}s run on the streamed frames. */
+  public interface FrameProcessorResultListener {
+    /**
+     * Called on the camera background thread when a frame processor returns a result.
+     *
+     * @param processorName the name the processor was enabled with.
+     * @param timestamp the timestamp of the processed frame, in nanoseconds.
+     * @param result the result returned by the processor.
+     */
+    void onFrameProcessorResult(
+        @NonNull String processorName, long timestamp, @NonNull Object result);
+  }
+
+  /** Receives the latency of the frames delivered to Dart. */
+  public interface FrameDeliveryListener {
+    /**
+     * Called on the main thread after a frame has been sent to Dart.
+     *
+     * @param latencyNanos the time between the frame being read from the camera and it being sent.
+     */
+    void onFrameDelivered(long latencyNanos);
+  }
+
+  /**
+   * The maximum time the stream thread waits for a free frame when using the {@link
+   * ImageStreamDeliveryPolicy#block} policy. The frame is dropped when the wait times out.
+   */
+  @VisibleForTesting static final long MAX_BLOCKING_WAIT_MS = 1000;
+
+  private final ImageReader imageReader;
+  private final Handler mainHandler;
+  private final AtomicLong deliveredFrameCount = new AtomicLong();
+  private final AtomicLong droppedFrameCount = new AtomicLong();
+  private final AtomicLong skippedFrameCount = new AtomicLong();
+  private final ImageStreamFrame.DeliveryCallback onFrameDelivered = this::onFrameDelivered;
+  private volatile ImageStreamFramePool framePool;
+  private volatile ImageStreamOptions options = new ImageStreamOptions();
+  // Copied from the options so that running the processors does not allocate iterators.
+  private volatile String[] frameProcessorNames = new String[0];
+  private volatile FrameProcessor[] frameProcessors = new FrameProcessor[0];
+  @Nullable private volatile FrameProcessorResultListener frameProcessorResultListener;
+  @Nullable private volatile ImageStreamRateLimiter rateLimiter;
+  @Nullable private volatile FrameDeliveryListener frameDeliveryListener;
+  // Reads the images while subscribed with the block policy.
+  @Nullable private HandlerThread blockingHandlerThread;
+
+  /**
+   * Creates a new instance of the {@link ImageStreamReader}.
+   *
+   * @param imageReader the {@link ImageReader} the frames are read from.
+   * @param framePool the pool the frames delivered to Dart are taken from.
+   * @param mainHandler a handler on the main thread, used to send the frames to Dart.
+   */
+  @VisibleForTesting
+  public ImageStreamReader(
+      @NonNull ImageReader imageReader,
+      @NonNull ImageStreamFramePool framePool,
+      @NonNull Handler mainHandler) {
+    this.imageReader = imageReader;
+    this.framePool = framePool;
+    this.mainHandler = mainHandler;
+  }
+
+  /**
+   * Creates a new instance of the {@link ImageStreamReader}.
+   *
+   * @param width the width of the streamed images.
+   * @param height the height of the streamed images.
+   * @param imageFormat the {@link android.graphics.ImageFormat} of the streamed images.
+   * @param maxImages the maximum number of images that can be acquired from the reader at once.
+   */
+  public ImageStreamReader(int width, int height, int imageFormat, int maxImages) {
+    this(
+        ImageReader.newInstance(width, height, imageFormat, maxImages),
+        new ImageStreamFramePool(),
+        new Handler(Looper.getMainLooper()));
+  }
+
+  /**
+   * Applies new stream options and resets the frame counters.
+   *
+   * <p>Must not be called while the reader is delivering frames.
+   *
+   * @param options the options used for the next stream.
+   */
+  public void setOptions(@NonNull ImageStreamOptions options) {
+    this.options = options;
+    final Map<String, FrameProcessor> processors = options.getFrameProcessors();
+    final String[] names = new String[processors.size()];
+    final FrameProcessor[] values = new FrameProcessor[processors.size()];
+    int i = 0;
+    for (Map.Entry<String, FrameProcessor> entry : processors.entrySet()) {
+      names[i] = entry.getKey();
+      values[i] = entry.getValue();
+      i++;
+    }
+    frameProcessorNames = names;
+    frameProcessors = values;
+    if (framePool.getCapacity() != options.getMaxFramesInFlight()) {
+      // Frames still in flight are released to the old pool and simply discarded.
+      framePool.close();
+      framePool = new ImageStreamFramePool(options.getMaxFramesInFlight());
+    }
+    rateLimiter =
+        options.getTargetFrameRate() > 0
+            ? new ImageStreamRateLimiter(options.getTargetFrameRate())
+            : null;
+    deliveredFrameCount.set(0);
+    droppedFrameCount.set(0);
+    skippedFrameCount.set(0);
+  }
+
+  /**
+   * Sets the listener that receives the results of the frame processors.
+   *
+   * @param listener the listener, or null to discard the results.
+   */
+  public void setFrameProcessorResultListener(@Nullable FrameProcessorResultListener listener) {
+    this.frameProcessorResultListener = listener;
+  }
+
+  /**
+   * Sets the listener that receives the latency of every frame delivered to Dart.
+   *
+   * @param listener the listener, or null to stop measuring the latency.
+   */
+  public void setFrameDeliveryListener(@Nullable FrameDeliveryListener listener) {
+    this.frameDeliveryListener = listener;
+  }
+
+  /** Returns the options currently applied to the stream. */
+  @NonNull
+  public ImageStreamOptions getOptions() {
+    return options;
+  }
+
+  /** Returns the number of frames sent to Dart since the options were last set. */
+  public long getDeliveredFrameCount() {
+    return deliveredFrameCount.get();
+  }
+
+  /** Returns the number of frames dropped since the options were last set. */
+  public long getDroppedFrameCount() {
+    return droppedFrameCount.get();
+  }
+
+  /**
+   * Returns the number of frames skipped to stay under the target frame rate since the options were
+   * last set.
+   */
+  public long getSkippedFrameCount() {
+    return skippedFrameCount.get();
+  }
+
+  /** Returns the number of frames that are waiting to be sent to Dart. */
+  public int getFramesInFlightCount() {
+    return framePool.getInFlightCount();
+  }
+
+  /**
+   * Copies the given image into a pooled frame and posts it to Dart.
+   *
+   * <p>Images above the target frame rate of the current options are closed right away. The frame
+   * processors of the current options are run on the remaining images first. When the options
+   * disable delivering frames to Dart, the image is not copied at all. YUV_420_888 images are
+   * packed into a single plane when the options contain a {@link YuvPacker}.
+   *
+   * <p>The image is closed before this method returns. If all pooled frames are still in flight the
+   * image is either dropped or, with the {@link ImageStreamDeliveryPolicy#block} policy, the
+   * calling thread waits for a frame to be released.
+   *
+   * @param image the image to deliver.
+   * @param captureProps the capture properties to attach to the frame.
+   * @param imageStreamSink the sink the frame is sent to.
+   */
+  @VisibleForTesting
+  public void onImageAvailable(
+      @NonNull Image image,
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink) {
+    final long readTimeNanos = SystemClock.elapsedRealtimeNanos();
+    try {
+      final ImageStreamRateLimiter currentRateLimiter = rateLimiter;
+      if (currentRateLimiter != null && !currentRateLimiter.shouldDeliver(image.getTimestamp())) {
+        skippedFrameCount.incrementAndGet();
+        return;
+      }
+
+      runFrameProcessors(image);
+      if (!options.getDeliverFrames()) {
+        return;
+      }
+
+      final YuvPacker yuvPacker =
+          image.getFormat() == ImageFormat.YUV_420_888 ? options.getYuvPacker() : null;
+      if (yuvPacker != null && !yuvPacker.setImageSize(image.getWidth(), image.getHeight())) {
+        // The crop rect lies outside of the frame.
+        droppedFrameCount.incrementAndGet();
+        return;
+      }
+
+      final ImageStreamFrame frame =
+          options.getDeliveryPolicy() == ImageStreamDeliveryPolicy.block
+              ? framePool.acquire(MAX_BLOCKING_WAIT_MS)
+              : framePool.acquire();
+      if (frame == null) {
+        // The main thread has not sent the previous frames yet, skip this one.
+        droppedFrameCount.incrementAndGet();
+        return;
+      }
+
+      final Image.Plane[] imagePlanes = image.getPlanes();
+      if (yuvPacker != null) {
+        frame.setPlaneCount(1);
+        final byte[] bytes =
+            frame.preparePlane(0, yuvPacker.getOutputSize(), yuvPacker.getOutputWidth(), 1);
+        yuvPacker.pack(
+            imagePlanes[0].getBuffer(),
+            imagePlanes[0].getRowStride(),
+            imagePlanes[0].getPixelStride(),
+            imagePlanes[1].getBuffer(),
+            imagePlanes[1].getRowStride(),
+            imagePlanes[1].getPixelStride(),
+            imagePlanes[2].getBuffer(),
+            imagePlanes[2].getRowStride(),
+            imagePlanes[2].getPixelStride(),
+            bytes);
+        frame.setImageInfo(
+            yuvPacker.getOutputWidth(),
+            yuvPacker.getOutputHeight(),
+            yuvPacker.getFormat() == YuvPackingFormat.nv21
+                ? ImageFormat.NV21
+                : ImageFormat.YUV_420_888);
+      } else {
+        frame.setPlaneCount(imagePlanes.length);
+        for (int i = 0; i < imagePlanes.length; i++) {
+          final Image.Plane plane = imagePlanes[i];
+          frame.setPlane(i, plane.getBuffer(), plane.getRowStride(), plane.getPixelStride());
+        }
+        frame.setImageInfo(image.getWidth(), image.getHeight(), image.getFormat());
+      }
+      frame.setCaptureProperties(
+          captureProps.getLastLensApertureValue(),
+          captureProps.getLastSensorExposureTimeValue(),
+          captureProps.getLastSensorSensitivityValue());
+
+      mainHandler.post(frame.deliverTo(imageStreamSink, onFrameDelivered, readTimeNanos));
+    } finally {
+      image.close();
+    }
+  }
+
+  private void onFrameDelivered(long readTimeNanos) {
+    deliveredFrameCount.incrementAndGet();
+    final FrameDeliveryListener listener = frameDeliveryListener;
+    if (listener != null) {
+      listener.onFrameDelivered(SystemClock.elapsedRealtimeNanos() - readTimeNanos);
+    }
+  }
+
+  private void runFrameProcessors(@NonNull Image image) {
+    final String[] names = frameProcessorNames;
+    final FrameProcessor[] processors = frameProcessors;
+    for (int i = 0; i < processors.length; i++) {
+      final Object result;
+      try {
+        result = processors[i].process(image);
+      } catch (RuntimeException e) {
+        // A failing processor should not stop the stream or the other processors.
+        Log.e(TAG, "Frame processor " + names[i] + " failed", e);
+        continue;
+      }
+      final FrameProcessorResultListener listener = frameProcessorResultListener;
+      if (result != null && listener != null) {
+        listener.onFrameProcessorResult(names[i], image.getTimestamp(), result);
+      }
+    }
+  }
+
+  /**
+   * Returns the {@link Surface} the camera should render the streamed frames to.
+   *
+   * @return the surface of the underlying {@link ImageReader}.
+   */
+  @NonNull
+  public Surface getSurface() {
+    return imageReader.getSurface();
+  }
+
+  /**
+   * Starts delivering frames from the underlying {@link ImageReader} to the given sink.
+   *
+   * @param captureProps the capture properties to attach to each frame.
+   * @param imageStreamSink the sink the frames are sent to.
+   * @param handler the handler on which the images are read and copied, unless the current options
+   *     use the {@link ImageStreamDeliveryPolicy#block} policy. Blocking streams are read on a
+   *     dedicated thread instead, which is stopped by {@link #removeListener(Handler)}.
+   */
+  public void subscribeListener(
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink,
+      @NonNull Handler handler) {
+    stopBlockingHandlerThread();
+    Handler listenerHandler = handler;
+    if (options.getDeliveryPolicy() == ImageStreamDeliveryPolicy.block) {
+      blockingHandlerThread = new HandlerThread("CameraImageStream");
+      blockingHandlerThread.start();
+      listenerHandler = new Handler(blockingHandlerThread.getLooper());
+    }
+    imageReader.setOnImageAvailableListener(
+        reader -> {
+          // When only the latest frame matters, skip any older images still queued in the reader.
+          Image image =
+              options.getDeliveryPolicy() == ImageStreamDeliveryPolicy.latestOnly
+                  ? reader.acquireLatestImage()
+                  : reader.acquireNextImage();
+          if (image == null) return;
+
+          onImageAvailable(image, captureProps, imageStreamSink);
+        },
+        listenerHandler);
+  }
+
+  /**
+   * Stops delivering frames to Dart.
+   *
+   * @param handler the handler the listener was registered on.
+   */
+  public void removeListener(@NonNull Handler handler) {
+    imageReader.setOnImageAvailableListener(null, handler);
+    stopBlockingHandlerThread();
+  }
+
+  /** Closes the underlying {@link ImageReader}. */
+  public void close() {
+    stopBlockingHandlerThread();
+    framePool.close();
+    imageReader.close();
+  }
+
+  private void stopBlockingHandlerThread() {
+    if (blockingHandlerThread != null) {
+      // Lets the image being read finish, it closes the image itself.
+      blockingHandlerThread.quitSafely();
+      blockingHandlerThread = null;
+    }
+  }
+}
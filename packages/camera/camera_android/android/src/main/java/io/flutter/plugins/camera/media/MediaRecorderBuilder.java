@@ -8,7 +8,9 @@ import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.MediaRecorder;
 import android.os.Build;
+import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import java.io.IOException;
 
 public class MediaRecorderBuilder {
@@ -26,6 +28,8 @@ public class MediaRecorderBuilder {
 
   private boolean enableAudio;
   private int mediaOrientation;
+  @Nullable private Surface inputSurface;
+  @Nullable private RecordingSegmentOptions segmentOptions;
 
   public MediaRecorderBuilder(
       @NonNull CamcorderProfile camcorderProfile, @NonNull String outputFilePath) {
@@ -67,6 +71,28 @@ public class MediaRecorderBuilder {
     return this;
   }
 
+  /**
+   * Sets a persistent input surface the recorder records from, instead of creating its own.
+   *
+   * <p>Only used on Android API 23 and up, where persistent input surfaces are available.
+   */
+  public MediaRecorderBuilder setInputSurface(@Nullable Surface inputSurface) {
+    this.inputSurface = inputSurface;
+    return this;
+  }
+
+  /**
+   * Sets the options that split the recording into segments, which limit the size of the output
+   * file.
+   *
+   * <p>The next output file has to be set on the recorder before the limit is reached, otherwise
+   * the recording stops.
+   */
+  public MediaRecorderBuilder setSegmentOptions(@Nullable RecordingSegmentOptions segmentOptions) {
+    this.segmentOptions = segmentOptions;
+    return this;
+  }
+
   public MediaRecorder build() throws IOException, NullPointerException, IndexOutOfBoundsException {
     MediaRecorder mediaRecorder = recorderFactory.makeMediaRecorder();
 
@@ -75,6 +101,7 @@ public class MediaRecorderBuilder {
     if (enableAudio) mediaRecorder.setAudioSource(MediaRecorder.AudioSource.MIC);
     mediaRecorder.setVideoSource(MediaRecorder.VideoSource.SURFACE);
 
+    long bitRate;
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && encoderProfiles != null) {
       EncoderProfiles.VideoProfile videoProfile = encoderProfiles.getVideoProfiles().get(0);
       EncoderProfiles.AudioProfile audioProfile = encoderProfiles.getAudioProfiles().get(0);
@@ -90,6 +117,7 @@ public class MediaRecorderBuilder {
       mediaRecorder.setVideoFrameRate(videoProfile.getFrameRate());
       mediaRecorder.setVideoSize(videoProfile.getWidth(), videoProfile.getHeight());
       mediaRecorder.setVideoSize(videoProfile.getWidth(), videoProfile.getHeight());
+      bitRate = videoProfile.getBitrate() + (enableAudio ? audioProfile.getBitrate() : 0);
     } else {
       mediaRecorder.setOutputFormat(camcorderProfile.fileFormat);
       if (enableAudio) {
@@ -102,10 +130,20 @@ public class MediaRecorderBuilder {
       mediaRecorder.setVideoFrameRate(camcorderProfile.videoFrameRate);
       mediaRecorder.setVideoSize(
           camcorderProfile.videoFrameWidth, camcorderProfile.videoFrameHeight);
+      bitRate = camcorderProfile.videoBitRate + (enableAudio ? camcorderProfile.audioBitRate : 0);
     }
 
     mediaRecorder.setOutputFile(outputFilePath);
+    if (segmentOptions != null) {
+      long segmentSizeBytes = segmentOptions.getSegmentSizeBytes(bitRate);
+      if (segmentSizeBytes > 0) {
+        mediaRecorder.setMaxFileSize(segmentSizeBytes);
+      }
+    }
     mediaRecorder.setOrientationHint(this.mediaOrientation);
+    if (inputSurface != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      mediaRecorder.setInputSurface(inputSurface);
+    }
 
     mediaRecorder.prepare();
 
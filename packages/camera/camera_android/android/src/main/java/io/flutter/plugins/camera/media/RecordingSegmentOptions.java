@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Options that split a recording into segments, each written to its own file.
+ *
+ * <p>The recorder switches files when a segment reaches its size limit. A duration limit is
+ * converted to a size limit using the encoding bit rate, so segments are approximately that long.
+ */
+public class RecordingSegmentOptions {
+  private long maxDurationMs;
+  private long maxSizeBytes;
+
+  /** Returns the approximate duration of a segment in milliseconds, or 0 when it is unlimited. */
+  public long getMaxDurationMs() {
+    return maxDurationMs;
+  }
+
+  /**
+   * Sets the approximate duration of a segment.
+   *
+   * @param maxDurationMs the duration in milliseconds, or 0 for no duration limit.
+   * @return this instance.
+   */
+  @NonNull
+  public RecordingSegmentOptions setMaxDurationMs(long maxDurationMs) {
+    if (maxDurationMs < 0) {
+      throw new IllegalArgumentException("maxDurationMs must not be negative.");
+    }
+    this.maxDurationMs = maxDurationMs;
+    return this;
+  }
+
+  /** Returns the maximum size of a segment in bytes, or 0 when it is unlimited. */
+  public long getMaxSizeBytes() {
+    return maxSizeBytes;
+  }
+
+  /**
+   * Sets the maximum size of a segment.
+   *
+   * @param maxSizeBytes the size in bytes, or 0 for no size limit.
+   * @return this instance.
+   */
+  @NonNull
+  public RecordingSegmentOptions setMaxSizeBytes(long maxSizeBytes) {
+    if (maxSizeBytes < 0) {
+      throw new IllegalArgumentException("maxSizeBytes must not be negative.");
+    }
+    this.maxSizeBytes = maxSizeBytes;
+    return this;
+  }
+
+  /**
+   * Returns the size at which the recorder switches to the next segment.
+   *
+   * @param bitRate the total encoding bit rate of the recording, in bits per second.
+   * @return the smaller of the size limit and the size of the duration limit at the bit rate, or 0
+   *     when neither is set.
+   */
+  public long getSegmentSizeBytes(long bitRate) {
+    long sizeBytes = maxSizeBytes;
+    if (maxDurationMs > 0 && bitRate > 0) {
+      long durationSizeBytes = bitRate * maxDurationMs / 8000;
+      sizeBytes = sizeBytes > 0 ? Math.min(sizeBytes, durationSizeBytes) : durationSizeBytes;
+    }
+    return sizeBytes;
+  }
+}
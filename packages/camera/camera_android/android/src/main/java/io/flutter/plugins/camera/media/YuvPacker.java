@@ -0,0 +1,284 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import java.nio.ByteBuffer;
+
+/**
+ * Packs the three planes of a YUV_420_888 frame into a single NV21 or I420 buffer, optionally
+ * cropped to a region of interest and downscaled by an integer factor.
+ *
+ * <p>Downscaling picks every n-th sample rather than averaging, which keeps the conversion cheap
+ * enough to run on every streamed frame. The crop origin and the output size are rounded down to
+ * even values so that they line up with the subsampled chroma planes.
+ *
+ * <p>This class only depends on {@link ByteBuffer}s so that it can be unit tested and benchmarked
+ * without an Android device. It is not thread safe.
+ */
+public class YuvPacker {
+  private final YuvPackingFormat format;
+  private final int downscaleFactor;
+  private boolean hasCropRect;
+  private int cropLeft;
+  private int cropTop;
+  private int cropWidth;
+  private int cropHeight;
+
+  // Derived from the size of the last frame, see setImageSize.
+  private int imageWidth = -1;
+  private int imageHeight = -1;
+  private int sourceLeft;
+  private int sourceTop;
+  private int outputWidth;
+  private int outputHeight;
+  private byte[] rowScratch = new byte[0];
+
+  /**
+   * Creates a packer that converts whole frames.
+   *
+   * @param format the layout of the packed buffer.
+   * @param downscaleFactor the factor both dimensions are divided by, must be at least 1.
+   */
+  public YuvPacker(@NonNull YuvPackingFormat format, int downscaleFactor) {
+    if (downscaleFactor < 1) {
+      throw new IllegalArgumentException("downscaleFactor must be at least 1.");
+    }
+    this.format = format;
+    this.downscaleFactor = downscaleFactor;
+  }
+
+  /**
+   * Restricts the packed buffer to a region of the frame.
+   *
+   * <p>The region is clipped to the bounds of each frame.
+   *
+   * @param left the left edge of the region, in pixels.
+   * @param top the top edge of the region, in pixels.
+   * @param width the width of the region, in pixels.
+   * @param height the height of the region, in pixels.
+   * @return this instance.
+   */
+  @NonNull
+  public YuvPacker setCropRect(int left, int top, int width, int height) {
+    if (left < 0 || top < 0 || width < 1 || height < 1) {
+      throw new IllegalArgumentException("The crop rect must be non-empty and inside the frame.");
+    }
+    this.hasCropRect = true;
+    this.cropLeft = left;
+    this.cropTop = top;
+    this.cropWidth = width;
+    this.cropHeight = height;
+    imageWidth = -1;
+    imageHeight = -1;
+    return this;
+  }
+
+  /** Returns the layout of the packed buffer. */
+  @NonNull
+  public YuvPackingFormat getFormat() {
+    return format;
+  }
+
+  /**
+   * Prepares the packer for frames of the given size.
+   *
+   * <p>This is cheap to call for every frame, the output size is only recomputed when the frame
+   * size changes.
+   *
+   * @param width the width of the frame, in pixels.
+   * @param height the height of the frame, in pixels.
+   * @return false if the crop rect does not leave anything to pack for frames of this size.
+   */
+  public boolean setImageSize(int width, int height) {
+    if (width != imageWidth || height != imageHeight) {
+      imageWidth = width;
+      imageHeight = height;
+
+      int left = 0;
+      int top = 0;
+      int right = width;
+      int bottom = height;
+      if (hasCropRect) {
+        left = Math.min(cropLeft, width);
+        top = Math.min(cropTop, height);
+        right = Math.min(cropLeft + cropWidth, width);
+        bottom = Math.min(cropTop + cropHeight, height);
+      }
+      sourceLeft = left & ~1;
+      sourceTop = top & ~1;
+      outputWidth = ((right - sourceLeft) / downscaleFactor) & ~1;
+      outputHeight = ((bottom - sourceTop) / downscaleFactor) & ~1;
+    }
+    return outputWidth > 0 && outputHeight > 0;
+  }
+
+  /** Returns the width of the packed frame, in pixels. */
+  public int getOutputWidth() {
+    return outputWidth;
+  }
+
+  /** Returns the height of the packed frame, in pixels. */
+  public int getOutputHeight() {
+    return outputHeight;
+  }
+
+  /** Returns the number of bytes of the packed frame. */
+  public int getOutputSize() {
+    return outputWidth * outputHeight * 3 / 2;
+  }
+
+  /**
+   * Packs the planes of a frame into {@code out}.
+   *
+   * <p>{@link #setImageSize(int, int)} must have been called with the size of the frame first. The
+   * positions of the plane buffers are left unchanged.
+   *
+   * @param y the luma plane.
+   * @param yRowStride the row stride of the luma plane, in bytes.
+   * @param yPixelStride the pixel stride of the luma plane, in bytes.
+   * @param u the U (Cb) plane.
+   * @param uRowStride the row stride of the U plane, in bytes.
+   * @param uPixelStride the pixel stride of the U plane, in bytes.
+   * @param v the V (Cr) plane.
+   * @param vRowStride the row stride of the V plane, in bytes.
+   * @param vPixelStride the pixel stride of the V plane, in bytes.
+   * @param out the buffer to write to, at least {@link #getOutputSize()} bytes long.
+   */
+  public void pack(
+      @NonNull ByteBuffer y,
+      int yRowStride,
+      int yPixelStride,
+      @NonNull ByteBuffer u,
+      int uRowStride,
+      int uPixelStride,
+      @NonNull ByteBuffer v,
+      int vRowStride,
+      int vPixelStride,
+      @NonNull byte[] out) {
+    int offset =
+        copyPlane(
+            y,
+            yRowStride,
+            yPixelStride,
+            sourceLeft,
+            sourceTop,
+            outputWidth,
+            outputHeight,
+            out,
+            0,
+            1);
+
+    final int chromaLeft = sourceLeft / 2;
+    final int chromaTop = sourceTop / 2;
+    final int chromaWidth = outputWidth / 2;
+    final int chromaHeight = outputHeight / 2;
+    switch (format) {
+      case i420:
+        offset =
+            copyPlane(
+                u,
+                uRowStride,
+                uPixelStride,
+                chromaLeft,
+                chromaTop,
+                chromaWidth,
+                chromaHeight,
+                out,
+                offset,
+                1);
+        copyPlane(
+            v,
+            vRowStride,
+            vPixelStride,
+            chromaLeft,
+            chromaTop,
+            chromaWidth,
+            chromaHeight,
+            out,
+            offset,
+            1);
+        break;
+      case nv21:
+        copyPlane(
+            v,
+            vRowStride,
+            vPixelStride,
+            chromaLeft,
+            chromaTop,
+            chromaWidth,
+            chromaHeight,
+            out,
+            offset,
+            2);
+        copyPlane(
+            u,
+            uRowStride,
+            uPixelStride,
+            chromaLeft,
+            chromaTop,
+            chromaWidth,
+            chromaHeight,
+            out,
+            offset + 1,
+            2);
+        break;
+    }
+  }
+
+  /**
+   * Copies a region of a plane into {@code out}, picking every n-th sample when downscaling.
+   *
+   * @return the offset in {@code out} following the last sample written.
+   */
+  private int copyPlane(
+      ByteBuffer plane,
+      int rowStride,
+      int pixelStride,
+      int left,
+      int top,
+      int width,
+      int height,
+      byte[] out,
+      int offset,
+      int outPixelStride) {
+    final int base = plane.position();
+    final int rowStep = rowStride * downscaleFactor;
+    final int columnStep = pixelStride * downscaleFactor;
+    int rowStart = base + top * rowStride + left * pixelStride;
+    int outIndex = offset;
+
+    if (columnStep == 1 && outPixelStride == 1) {
+      // Rows are contiguous in both buffers, copy them in bulk.
+      for (int row = 0; row < height; row++) {
+        plane.position(rowStart);
+        plane.get(out, outIndex, width);
+        rowStart += rowStep;
+        outIndex += width;
+      }
+      plane.position(base);
+      return outIndex;
+    }
+
+    // Reading samples one by one from a direct buffer is slow, so each row is first copied in bulk
+    // into a scratch array and the samples are picked from there.
+    final int rowLength = (width - 1) * columnStep + 1;
+    if (rowScratch.length < rowLength) {
+      rowScratch = new byte[rowLength];
+    }
+    final byte[] scratch = rowScratch;
+    for (int row = 0; row < height; row++) {
+      plane.position(rowStart);
+      plane.get(scratch, 0, rowLength);
+      for (int index = 0; index < rowLength; index += columnStep) {
+        out[outIndex] = scratch[index];
+        outIndex += outPixelStride;
+      }
+      rowStart += rowStep;
+    }
+    plane.position(base);
+    return outIndex;
+  }
+}
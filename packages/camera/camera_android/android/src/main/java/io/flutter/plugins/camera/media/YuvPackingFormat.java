@@ -0,0 +1,41 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+/** The packed layouts {@link YuvPacker} can convert YUV_420_888 frames to. */
+// Mirrors YuvPackingFormat in image_stream_options.dart
+public enum YuvPackingFormat {
+  /** A full-resolution Y plane followed by interleaved V and U samples. */
+  nv21("nv21"),
+  /** A full-resolution Y plane followed by a U plane and a V plane. */
+  i420("i420");
+
+  private final String strValue;
+
+  YuvPackingFormat(String strValue) {
+    this.strValue = strValue;
+  }
+
+  /**
+   * Tries to convert the supplied string into a {@see YuvPackingFormat} enum value.
+   *
+   * <p>When the supplied string doesn't match a valid {@see YuvPackingFormat} enum value, null is
+   * returned.
+   *
+   * @param formatStr String value to convert into a {@see YuvPackingFormat} enum value.
+   * @return Matching {@see YuvPackingFormat} enum value, or null if no match is found.
+   */
+  public static YuvPackingFormat getValueForString(String formatStr) {
+    for (YuvPackingFormat value : values()) {
+      if (value.strValue.equals(formatStr)) return value;
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
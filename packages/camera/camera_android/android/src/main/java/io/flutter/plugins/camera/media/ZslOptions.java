@@ -0,0 +1,76 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+
+/** Options that control the frames kept by a {@link ZslRingBuffer}. */
+public class ZslOptions {
+  /** The default maximum number of frames kept in the ring buffer. */
+  public static final int DEFAULT_POOL_SIZE = 3;
+
+  /** The default maximum number of bytes the frames in the ring buffer may take up. */
+  public static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L * 1024 * 1024;
+
+  private int poolSize = DEFAULT_POOL_SIZE;
+  private long memoryBudgetBytes = DEFAULT_MEMORY_BUDGET_BYTES;
+
+  /** Returns the maximum number of frames kept in the ring buffer. */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * Sets the maximum number of frames kept in the ring buffer.
+   *
+   * @param poolSize the maximum number of frames, must be at least 1.
+   * @return this instance.
+   */
+  @NonNull
+  public ZslOptions setPoolSize(int poolSize) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("poolSize must be at least 1.");
+    }
+    this.poolSize = poolSize;
+    return this;
+  }
+
+  /** Returns the maximum number of bytes the frames in the ring buffer may take up. */
+  public long getMemoryBudgetBytes() {
+    return memoryBudgetBytes;
+  }
+
+  /**
+   * Sets the maximum number of bytes the frames in the ring buffer may take up.
+   *
+   * <p>The budget takes precedence over the pool size: fewer frames are kept when the pool would
+   * not fit in the budget at the capture resolution.
+   *
+   * @param memoryBudgetBytes the memory budget in bytes, must be positive.
+   * @return this instance.
+   */
+  @NonNull
+  public ZslOptions setMemoryBudgetBytes(long memoryBudgetBytes) {
+    if (memoryBudgetBytes <= 0) {
+      throw new IllegalArgumentException("memoryBudgetBytes must be positive.");
+    }
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    return this;
+  }
+
+  /**
+   * Returns the number of frames of {@code frameSizeBytes} that fit both the pool size and the
+   * memory budget.
+   *
+   * @param frameSizeBytes the size of a single frame in bytes.
+   * @return the number of frames to keep, which is 0 when not even a single frame fits the budget.
+   */
+  public int getCapacity(long frameSizeBytes) {
+    if (frameSizeBytes <= 0) {
+      return poolSize;
+    }
+    return (int) Math.min(poolSize, memoryBudgetBytes / frameSizeBytes);
+  }
+}
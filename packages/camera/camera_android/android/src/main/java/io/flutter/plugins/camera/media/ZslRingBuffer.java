@@ -0,0 +1,174 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayDeque;
+
+/**
+ * Keeps the most recent full resolution frames of the camera, so that a picture can be taken from a
+ * frame that was captured before the shutter was pressed (zero shutter lag).
+ *
+ * <p>Frames are added on the camera background thread, while pictures are taken and memory is
+ * trimmed on the main thread, so all access is synchronized. Frames pushed out of the buffer are
+ * closed, returning them to their {@link android.media.ImageReader}.
+ *
+ * <p>The buffer registers as {@link ComponentCallbacks2} so that its frames are released when the
+ * system runs low on memory. Once the frames have been evicted the buffer stops keeping new ones
+ * until {@link #resume()} is called, as they would otherwise be refilled right away.
+ */
+public class ZslRingBuffer implements ComponentCallbacks2 {
+  private final int capacity;
+  private final ArrayDeque<Image> frames;
+  private boolean suspended;
+  private boolean closed;
+  @Nullable private Runnable onEvicted;
+
+  /**
+   * Creates a ring buffer holding at most {@code capacity} frames.
+   *
+   * @param capacity the maximum number of frames to keep, a capacity of 0 keeps no frames at all.
+   */
+  public ZslRingBuffer(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative.");
+    }
+    this.capacity = capacity;
+    this.frames = new ArrayDeque<>(Math.max(capacity, 1));
+  }
+
+  /**
+   * Sets a callback that is run after the frames have been evicted because memory was trimmed.
+   *
+   * @param onEvicted the callback, or null to remove it.
+   */
+  public synchronized void setOnEvictedListener(@Nullable Runnable onEvicted) {
+    this.onEvicted = onEvicted;
+  }
+
+  /**
+   * Adds a frame to the buffer, closing the oldest frame when the buffer is full.
+   *
+   * <p>The buffer takes ownership of the frame. It is closed right away when the buffer keeps no
+   * frames.
+   *
+   * @param image the frame to add.
+   */
+  public synchronized void add(@NonNull Image image) {
+    if (closed || suspended || capacity == 0) {
+      image.close();
+      return;
+    }
+    while (frames.size() >= capacity) {
+      frames.pollFirst().close();
+    }
+    frames.addLast(image);
+  }
+
+  /**
+   * Removes the frame whose timestamp is closest to {@code timestampNs} from the buffer.
+   *
+   * <p>The caller takes ownership of the returned frame and must close it. Frames older than the
+   * returned one are closed, as later pictures will never pick them.
+   *
+   * @param timestampNs the time the picture was requested, in the time base of the sensor.
+   * @return the closest frame, or null when the buffer is empty.
+   */
+  @Nullable
+  public synchronized Image takeClosest(long timestampNs) {
+    Image closest = null;
+    long closestDistance = Long.MAX_VALUE;
+    for (Image frame : frames) {
+      final long distance = Math.abs(frame.getTimestamp() - timestampNs);
+      // Frames are ordered by timestamp, so the distance only grows past the closest frame.
+      if (distance > closestDistance) {
+        break;
+      }
+      closest = frame;
+      closestDistance = distance;
+    }
+    if (closest == null) {
+      return null;
+    }
+    Image frame;
+    while ((frame = frames.pollFirst()) != closest) {
+      frame.close();
+    }
+    return closest;
+  }
+
+  /**
+   * Closes frames until at most {@code maxFrames} of the most recent frames are left.
+   *
+   * @param maxFrames the number of frames to keep.
+   */
+  public synchronized void trimTo(int maxFrames) {
+    while (frames.size() > Math.max(maxFrames, 0)) {
+      frames.pollFirst().close();
+    }
+  }
+
+  /** Closes all frames and stops keeping new frames until {@link #resume()} is called. */
+  public void evictAll() {
+    final Runnable listener;
+    synchronized (this) {
+      trimTo(0);
+      suspended = true;
+      listener = onEvicted;
+    }
+    if (listener != null) {
+      listener.run();
+    }
+  }
+
+  /** Starts keeping new frames again after they were evicted. */
+  public synchronized void resume() {
+    suspended = false;
+  }
+
+  /** Returns whether the buffer stopped keeping frames because memory was trimmed. */
+  public synchronized boolean isSuspended() {
+    return suspended;
+  }
+
+  /** Returns the maximum number of frames kept in the buffer. */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** Returns the number of frames currently kept in the buffer. */
+  public synchronized int getSize() {
+    return frames.size();
+  }
+
+  /** Closes all frames and stops keeping new frames for good. */
+  public synchronized void close() {
+    closed = true;
+    trimTo(0);
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level >= TRIM_MEMORY_RUNNING_LOW) {
+      evictAll();
+    } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+      synchronized (this) {
+        trimTo(frames.size() / 2);
+      }
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    evictAll();
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+}
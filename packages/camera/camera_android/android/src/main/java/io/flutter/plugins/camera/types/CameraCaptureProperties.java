@@ -4,18 +4,27 @@
 
 package io.flutter.plugins.camera.types;
 
-public class CameraCaptureProperties {
+import androidx.annotation.Nullable;
 
-  private Float lastLensAperture;
-  private Long lastSensorExposureTime;
-  private Integer lastSensorSensitivity;
+public class CameraCaptureProperties {
+  // The properties are updated for every frame, so they are kept in primitive fields. Unknown
+  // values are stored as NaN or -1.
+  private float lastLensAperture = Float.NaN;
+  private long lastSensorExposureTime = -1;
+  private int lastSensorSensitivity = -1;
 
   /**
    * Gets the last known lens aperture. (As f-stop value)
    *
-   * @return the last known lens aperture. (As f-stop value)
+   * @return the last known lens aperture. (As f-stop value), or null when it is unknown.
    */
+  @Nullable
   public Float getLastLensAperture() {
+    return Float.isNaN(lastLensAperture) ? null : lastLensAperture;
+  }
+
+  /** Gets the last known lens aperture (as f-stop value) without boxing it, or NaN when unknown. */
+  public float getLastLensApertureValue() {
     return lastLensAperture;
   }
 
@@ -24,16 +33,24 @@ public class CameraCaptureProperties {
    *
    * @param lastLensAperture - The last known lens aperture to set. (As f-stop value)
    */
-  public void setLastLensAperture(Float lastLensAperture) {
-    this.lastLensAperture = lastLensAperture;
+  public void setLastLensAperture(@Nullable Float lastLensAperture) {
+    this.lastLensAperture = lastLensAperture == null ? Float.NaN : lastLensAperture;
   }
 
   /**
    * Gets the last known sensor exposure time in nanoseconds.
    *
-   * @return the last known sensor exposure time in nanoseconds.
+   * @return the last known sensor exposure time in nanoseconds, or null when it is unknown.
    */
+  @Nullable
   public Long getLastSensorExposureTime() {
+    return lastSensorExposureTime < 0 ? null : lastSensorExposureTime;
+  }
+
+  /**
+   * Gets the last known sensor exposure time in nanoseconds without boxing it, or -1 when unknown.
+   */
+  public long getLastSensorExposureTimeValue() {
     return lastSensorExposureTime;
   }
 
@@ -42,16 +59,25 @@ public class CameraCaptureProperties {
    *
    * @param lastSensorExposureTime - The last known sensor exposure time to set, in nanoseconds.
    */
-  public void setLastSensorExposureTime(Long lastSensorExposureTime) {
-    this.lastSensorExposureTime = lastSensorExposureTime;
+  public void setLastSensorExposureTime(@Nullable Long lastSensorExposureTime) {
+    this.lastSensorExposureTime = lastSensorExposureTime == null ? -1 : lastSensorExposureTime;
   }
 
   /**
    * Gets the last known sensor sensitivity in ISO arithmetic units.
    *
-   * @return the last known sensor sensitivity in ISO arithmetic units.
+   * @return the last known sensor sensitivity in ISO arithmetic units, or null when it is unknown.
    */
+  @Nullable
   public Integer getLastSensorSensitivity() {
+    return lastSensorSensitivity < 0 ? null : lastSensorSensitivity;
+  }
+
+  /**
+   * Gets the last known sensor sensitivity in ISO arithmetic units without boxing it, or -1 when
+   * unknown.
+   */
+  public int getLastSensorSensitivityValue() {
     return lastSensorSensitivity;
   }
 
@@ -61,7 +87,7 @@ public class CameraCaptureProperties {
    * @param lastSensorSensitivity - The last known sensor sensitivity to set, in ISO arithmetic
    *     units.
    */
-  public void setLastSensorSensitivity(Integer lastSensorSensitivity) {
-    this.lastSensorSensitivity = lastSensorSensitivity;
+  public void setLastSensorSensitivity(@Nullable Integer lastSensorSensitivity) {
+    this.lastSensorSensitivity = lastSensorSensitivity == null ? -1 : lastSensorSensitivity;
   }
 }
@@ -0,0 +1,96 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the most recent samples of a duration, so that its distribution can be reported.
+ *
+ * <p>Recording a sample does not allocate. Percentiles are computed when a snapshot is taken.
+ */
+public class RollingHistogram {
+  private final long[] samples;
+  private int next;
+  private int size;
+  private long count;
+
+  /**
+   * Creates a new instance of the {@link RollingHistogram} class.
+   *
+   * @param capacity the number of recent samples to keep.
+   */
+  public RollingHistogram(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    samples = new long[capacity];
+  }
+
+  /**
+   * Records a sample, replacing the oldest one when the histogram is full.
+   *
+   * @param value the sample to record.
+   */
+  public void record(long value) {
+    samples[next] = value;
+    next = (next + 1) % samples.length;
+    if (size < samples.length) {
+      size++;
+    }
+    count++;
+  }
+
+  /** Removes all samples. */
+  public void clear() {
+    next = 0;
+    size = 0;
+    count = 0;
+  }
+
+  /** Returns the number of samples recorded since the histogram was created or cleared. */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the distribution of the kept samples.
+   *
+   * @param divisor the value every sample is divided by, to convert it to the reported unit.
+   * @return a map with the total count and the min, max, mean, p50, p90 and p99 of the kept
+   *     samples, which are omitted when there are none.
+   */
+  @NonNull
+  public Map<String, Object> toMap(long divisor) {
+    Map<String, Object> map = new HashMap<>();
+    map.put("count", count);
+    if (size == 0) {
+      return map;
+    }
+
+    long[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    long sum = 0;
+    for (long sample : sorted) {
+      sum += sample;
+    }
+    map.put("min", sorted[0] / divisor);
+    map.put("max", sorted[size - 1] / divisor);
+    map.put("mean", sum / size / divisor);
+    map.put("p50", percentile(sorted, 50) / divisor);
+    map.put("p90", percentile(sorted, 90) / divisor);
+    map.put("p99", percentile(sorted, 99) / divisor);
+    return map;
+  }
+
+  /** Returns the nearest-rank percentile of sorted samples. */
+  private static long percentile(long[] sorted, int percent) {
+    int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+}
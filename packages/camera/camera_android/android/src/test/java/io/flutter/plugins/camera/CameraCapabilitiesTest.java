@@ -0,0 +1,153 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.graphics.ImageFormat;
+import android.graphics.Rect;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraMetadata;
+import android.util.Range;
+import android.util.Size;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+
+public class CameraCapabilitiesTest {
+  @SuppressWarnings("unchecked")
+  static CameraProperties mockCameraProperties(String cameraName) {
+    CameraProperties properties = mock(CameraProperties.class);
+    when(properties.getCameraName()).thenReturn(cameraName);
+
+    Range<Integer> fpsRange = mock(Range.class);
+    when(fpsRange.getLower()).thenReturn(15);
+    when(fpsRange.getUpper()).thenReturn(30);
+    when(properties.getControlAutoExposureAvailableTargetFpsRanges())
+        .thenReturn(new Range[] {fpsRange});
+    Range<Integer> compensationRange = mock(Range.class);
+    when(compensationRange.getLower()).thenReturn(-12);
+    when(compensationRange.getUpper()).thenReturn(12);
+    when(properties.getControlAutoExposureCompensationRange()).thenReturn(compensationRange);
+    when(properties.getControlAutoExposureCompensationStep()).thenReturn(1.0 / 6);
+    when(properties.getControlAutoFocusAvailableModes()).thenReturn(new int[] {0, 1, 4});
+    when(properties.getControlMaxRegionsAutoExposure()).thenReturn(1);
+    when(properties.getControlMaxRegionsAutoFocus()).thenReturn(null);
+    when(properties.getFlashInfoAvailable()).thenReturn(true);
+    when(properties.getLensFacing()).thenReturn(CameraMetadata.LENS_FACING_BACK);
+    when(properties.getLensInfoMinimumFocusDistance()).thenReturn(10.0f);
+    when(properties.getScalerAvailableMaxDigitalZoom()).thenReturn(8.0f);
+    Rect activeArraySize = mock(Rect.class);
+    activeArraySize.left = 8;
+    activeArraySize.top = 8;
+    activeArraySize.right = 4040;
+    activeArraySize.bottom = 3032;
+    when(properties.getSensorInfoActiveArraySize()).thenReturn(activeArraySize);
+    Size pixelArraySize = mock(Size.class);
+    when(pixelArraySize.getWidth()).thenReturn(4048);
+    when(pixelArraySize.getHeight()).thenReturn(3040);
+    when(properties.getSensorInfoPixelArraySize()).thenReturn(pixelArraySize);
+    when(properties.getSensorOrientation()).thenReturn(90);
+    when(properties.getSensorInfoTimestampSource())
+        .thenReturn(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME);
+    when(properties.getHardwareLevel())
+        .thenReturn(CameraMetadata.INFO_SUPPORTED_HARDWARE_LEVEL_FULL);
+    when(properties.getAvailableNoiseReductionModes()).thenReturn(new int[] {0, 1, 2});
+    Size outputSize = mock(Size.class);
+    when(outputSize.getWidth()).thenReturn(1920);
+    when(outputSize.getHeight()).thenReturn(1080);
+    when(properties.getOutputSizes(ImageFormat.YUV_420_888)).thenReturn(new Size[] {outputSize});
+    return properties;
+  }
+
+  private static byte[] write(CameraCapabilities capabilities) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    capabilities.writeTo(out);
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  @Test
+  public void from_copiesProperties() {
+    CameraCapabilities capabilities = CameraCapabilities.from(mockCameraProperties("0"));
+
+    assertEquals("0", capabilities.getCameraName());
+    assertEquals(1.0 / 6, capabilities.getControlAutoExposureCompensationStep(), 0);
+    assertArrayEquals(new int[] {0, 1, 4}, capabilities.getControlAutoFocusAvailableModes());
+    assertEquals(Integer.valueOf(1), capabilities.getControlMaxRegionsAutoExposure());
+    assertNull(capabilities.getControlMaxRegionsAutoFocus());
+    assertEquals(true, capabilities.getFlashInfoAvailable());
+    assertEquals(CameraMetadata.LENS_FACING_BACK, capabilities.getLensFacing());
+    assertEquals(Float.valueOf(10.0f), capabilities.getLensInfoMinimumFocusDistance());
+    assertEquals(Float.valueOf(8.0f), capabilities.getScalerAvailableMaxDigitalZoom());
+    assertEquals(90, capabilities.getSensorOrientation());
+    assertEquals(
+        CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME,
+        capabilities.getSensorInfoTimestampSource());
+    assertEquals(
+        CameraMetadata.INFO_SUPPORTED_HARDWARE_LEVEL_FULL, capabilities.getHardwareLevel());
+    assertArrayEquals(new int[] {0, 1, 2}, capabilities.getAvailableNoiseReductionModes());
+    assertEquals(1, capabilities.getControlAutoExposureAvailableTargetFpsRanges().length);
+    assertNotNull(capabilities.getControlAutoExposureCompensationRange());
+    assertNotNull(capabilities.getSensorInfoActiveArraySize());
+    assertNotNull(capabilities.getSensorInfoPixelArraySize());
+    assertEquals(1, capabilities.getOutputSizes(ImageFormat.YUV_420_888).length);
+    assertNull(capabilities.getOutputSizes(ImageFormat.JPEG));
+  }
+
+  @Test
+  public void getters_returnCopiesOfArrays() {
+    CameraCapabilities capabilities = CameraCapabilities.from(mockCameraProperties("0"));
+
+    capabilities.getControlAutoFocusAvailableModes()[0] = 3;
+    capabilities.getOutputSizes(ImageFormat.YUV_420_888)[0] = null;
+
+    assertArrayEquals(new int[] {0, 1, 4}, capabilities.getControlAutoFocusAvailableModes());
+    assertNotNull(capabilities.getOutputSizes(ImageFormat.YUV_420_888)[0]);
+    assertNotSame(
+        capabilities.getSensorInfoActiveArraySize(), capabilities.getSensorInfoActiveArraySize());
+  }
+
+  @Test
+  public void getOutputSizes_returnsNullForFormatsThatAreNotCached() {
+    CameraCapabilities capabilities = CameraCapabilities.from(mockCameraProperties("0"));
+
+    assertNull(capabilities.getOutputSizes(ImageFormat.RAW_SENSOR));
+  }
+
+  @Test
+  public void readFrom_restoresWrittenSnapshot() throws IOException {
+    CameraCapabilities capabilities = CameraCapabilities.from(mockCameraProperties("1"));
+    byte[] written = write(capabilities);
+
+    CameraCapabilities restored =
+        CameraCapabilities.readFrom(new DataInputStream(new ByteArrayInputStream(written)));
+
+    assertArrayEquals(written, write(restored));
+    assertEquals("1", restored.getCameraName());
+    assertEquals(CameraMetadata.LENS_FACING_BACK, restored.getLensFacing());
+    assertEquals(90, restored.getSensorOrientation());
+    assertNull(restored.getControlMaxRegionsAutoFocus());
+    assertNull(restored.getDistortionCorrectionAvailableModes());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void from_throwsWhenPrimitivePropertyIsMissing() {
+    CameraProperties properties = mockCameraProperties("0");
+    when(properties.getLensFacing()).thenThrow(new NullPointerException());
+
+    CameraCapabilities.from(properties);
+  }
+}
@@ -0,0 +1,166 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraManager;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CameraCapabilityCacheTest {
+  private static final String FINGERPRINT = "brand/device/device:13/TQ1A/1234:user/release-keys";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File file;
+
+  @Before
+  public void before() {
+    file = new File(temporaryFolder.getRoot(), "capabilities");
+  }
+
+  @Test
+  public void get_returnsNullWhenNotCached() {
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT);
+
+    assertNull(cache.get("0"));
+  }
+
+  @Test
+  public void put_keepsSnapshotInMemory() {
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT);
+
+    CameraProperties snapshot = cache.put(CameraCapabilitiesTest.mockCameraProperties("0"));
+
+    assertSame(snapshot, cache.get("0"));
+  }
+
+  @Test
+  public void put_persistsSnapshotForSameFingerprint() {
+    new CameraCapabilityCache(file, FINGERPRINT)
+        .put(CameraCapabilitiesTest.mockCameraProperties("0"));
+
+    CameraCapabilities restored = new CameraCapabilityCache(file, FINGERPRINT).get("0");
+
+    assertNotNull(restored);
+    assertEquals(90, restored.getSensorOrientation());
+  }
+
+  @Test
+  public void get_discardsSnapshotsOfOtherFingerprint() {
+    new CameraCapabilityCache(file, FINGERPRINT)
+        .put(CameraCapabilitiesTest.mockCameraProperties("0"));
+
+    assertNull(new CameraCapabilityCache(file, FINGERPRINT + ".1").get("0"));
+  }
+
+  @Test
+  public void get_ignoresCorruptFile() throws IOException {
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write(new byte[] {0, 0, 0, CameraCapabilityCache.FILE_VERSION, 0});
+    }
+
+    assertNull(new CameraCapabilityCache(file, FINGERPRINT).get("0"));
+  }
+
+  @Test
+  public void put_returnsPropertiesWhenSnapshotFails() {
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT);
+    CameraProperties properties = CameraCapabilitiesTest.mockCameraProperties("0");
+    when(properties.getSensorOrientation()).thenThrow(new NullPointerException());
+
+    assertSame(properties, cache.put(properties));
+    assertNull(cache.get("0"));
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void getCameraProperties_doesNotQueryCameraManagerWhenCached()
+      throws CameraAccessException {
+    new CameraCapabilityCache(file, FINGERPRINT)
+        .put(CameraCapabilitiesTest.mockCameraProperties("0"));
+    CameraManager mockCameraManager = mock(CameraManager.class);
+
+    CameraProperties properties =
+        new CameraCapabilityCache(file, FINGERPRINT).getCameraProperties("0", mockCameraManager);
+
+    assertEquals("0", properties.getCameraName());
+    verifyNoInteractions(mockCameraManager);
+  }
+
+  @Test
+  public void put_writesFileOnIoExecutor() {
+    List<Runnable> ioTasks = new ArrayList<>();
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT, ioTasks::add);
+
+    cache.put(CameraCapabilitiesTest.mockCameraProperties("0"));
+
+    assertFalse(file.exists());
+    assertEquals(1, ioTasks.size());
+    ioTasks.get(0).run();
+    assertNotNull(new CameraCapabilityCache(file, FINGERPRINT).get("0"));
+  }
+
+  @Test
+  public void loadAsync_readsFileOnIoExecutor() {
+    new CameraCapabilityCache(file, FINGERPRINT)
+        .put(CameraCapabilitiesTest.mockCameraProperties("0"));
+    List<Runnable> ioTasks = new ArrayList<>();
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT, ioTasks::add);
+
+    cache.loadAsync();
+    ioTasks.get(0).run();
+    assertTrue(file.delete());
+
+    assertNotNull(cache.get("0"));
+  }
+
+  @Test
+  public void getCameraProperties_queriesCameraManagerWhileLoading() throws CameraAccessException {
+    new CameraCapabilityCache(file, FINGERPRINT)
+        .put(CameraCapabilitiesTest.mockCameraProperties("0"));
+    List<Runnable> ioTasks = new ArrayList<>();
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT, ioTasks::add);
+    CameraManager mockCameraManager = mock(CameraManager.class);
+
+    cache.loadAsync();
+    CameraProperties properties = cache.getCameraProperties("0", mockCameraManager);
+
+    assertTrue(properties instanceof CameraPropertiesImpl);
+    verify(mockCameraManager).getCameraCharacteristics("0");
+    ioTasks.get(0).run();
+    assertSame(cache.get("0"), cache.getCameraProperties("0", mockCameraManager));
+  }
+
+  @Test
+  public void clear_removesSnapshotsAndFile() {
+    CameraCapabilityCache cache = new CameraCapabilityCache(file, FINGERPRINT);
+    cache.put(CameraCapabilitiesTest.mockCameraProperties("0"));
+    assertTrue(file.exists());
+
+    cache.clear();
+
+    assertNull(cache.get("0"));
+    assertFalse(file.exists());
+  }
+}
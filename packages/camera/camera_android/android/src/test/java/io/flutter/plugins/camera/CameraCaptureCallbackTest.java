@@ -4,6 +4,8 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -11,6 +13,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import android.hardware.camera2.CameraCaptureSession;
@@ -19,6 +22,7 @@ import android.hardware.camera2.CaptureResult;
 import android.hardware.camera2.TotalCaptureResult;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
+import io.flutter.plugins.camera.utils.AllocationCounter;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -56,6 +60,7 @@ public class CameraCaptureCallbackTest {
 
   @Test
   public void onCaptureCompleted_updatesCameraCaptureProperties() {
+    cameraCaptureCallback.setCapturePropertiesEnabled(true);
     CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
     CaptureRequest mockRequest = mock(CaptureRequest.class);
     TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
@@ -69,4 +74,53 @@ public class CameraCaptureCallbackTest {
     verify(mockCaptureProps, times(1)).setLastSensorExposureTime(2L);
     verify(mockCaptureProps, times(1)).setLastSensorSensitivity(3);
   }
+
+  @Test
+  public void onCaptureStarted_recordsFrameTimestampInMetrics() {
+    CameraMetrics mockMetrics = mock(CameraMetrics.class);
+    cameraCaptureCallback.setMetrics(mockMetrics);
+
+    cameraCaptureCallback.onCaptureStarted(
+        mock(CameraCaptureSession.class), mock(CaptureRequest.class), 1000L, 1L);
+
+    verify(mockMetrics, times(1)).recordFrame(1000L);
+  }
+
+  @Test
+  public void onCaptureCompleted_doesNotReadResultInPreviewStateWithoutCaptureProperties() {
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+
+    cameraCaptureCallback.onCaptureCompleted(
+        mock(CameraCaptureSession.class), mock(CaptureRequest.class), mockResult);
+
+    verifyNoInteractions(mockResult);
+    verifyNoInteractions(mockCaptureProps);
+  }
+
+  @Test
+  public void onCaptureCompleted_doesNotAllocateInPreviewState() {
+    final AllocationCounter allocationCounter = new AllocationCounter();
+    assumeTrue(allocationCounter.isSupported());
+
+    // Few enough frames that the callback is not compiled, which would fold the keys that other
+    // tests replace.
+    final int frameCount = 100;
+    CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
+    CaptureRequest mockRequest = mock(CaptureRequest.class);
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+
+    // Warm up, so that class loading is not measured.
+    for (int i = 0; i < 10; i++) {
+      cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+    }
+    long allocatedBefore = allocationCounter.getAllocatedBytes();
+    for (int i = 0; i < frameCount; i++) {
+      cameraCaptureCallback.onCaptureStarted(mockSession, mockRequest, i, i);
+      cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+    }
+    long allocated = allocationCounter.getAllocatedBytes() - allocatedBefore;
+
+    // Reading the allocated bytes may allocate itself, but far less than a byte per frame.
+    assertTrue("Allocated " + allocated + " bytes", allocated < frameCount);
+  }
 }
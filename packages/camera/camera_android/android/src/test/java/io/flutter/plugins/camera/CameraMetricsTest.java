@@ -0,0 +1,137 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import io.flutter.plugin.common.EventChannel;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+public class CameraMetricsTest {
+  private Handler mockHandler;
+  private EventChannel.EventSink mockEventSink;
+  private MockedStatic<SystemClock> mockSystemClock;
+  private CameraMetrics metrics;
+
+  @Before
+  public void setUp() {
+    mockHandler = mock(Handler.class);
+    mockEventSink = mock(EventChannel.EventSink.class);
+    mockSystemClock = mockStatic(SystemClock.class);
+    metrics = new CameraMetrics(mockHandler, 100_000_000L);
+    metrics.onListen(null, mockEventSink);
+  }
+
+  @After
+  public void tearDown() {
+    mockSystemClock.close();
+  }
+
+  private void setTimeMicros(long micros) {
+    mockSystemClock.when(SystemClock::elapsedRealtimeNanos).thenReturn(micros * 1000);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> getTimestamps(Map<String, Object> snapshot) {
+    return (Map<String, Object>) snapshot.get("timestamps");
+  }
+
+  @Test
+  public void record_sendsSnapshotWithEventTimestamp() {
+    setTimeMicros(10);
+    metrics.record(CameraMetrics.Event.OPEN_REQUESTED);
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+
+    runnableCaptor.getValue().run();
+
+    ArgumentCaptor<Object> snapshotCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockEventSink, times(1)).success(snapshotCaptor.capture());
+    @SuppressWarnings("unchecked")
+    Map<String, Object> snapshot = (Map<String, Object>) snapshotCaptor.getValue();
+    assertEquals(10L, getTimestamps(snapshot).get("openRequested"));
+  }
+
+  @Test
+  public void record_doesNotSendSnapshotWhenNotListening() {
+    metrics.onCancel(null);
+    setTimeMicros(10);
+
+    metrics.record(CameraMetrics.Event.OPEN_REQUESTED);
+
+    verify(mockHandler, never()).post(any());
+  }
+
+  @Test
+  public void record_pictureRequestedClearsLaterEvents() {
+    setTimeMicros(10);
+    metrics.record(CameraMetrics.Event.OPENED);
+    metrics.record(CameraMetrics.Event.IMAGE_SAVED);
+
+    setTimeMicros(20);
+    metrics.record(CameraMetrics.Event.PICTURE_REQUESTED);
+
+    Map<String, Object> timestamps = getTimestamps(metrics.getSnapshot());
+    assertEquals(10L, timestamps.get("opened"));
+    assertEquals(20L, timestamps.get("pictureRequested"));
+    assertFalse(timestamps.containsKey("imageSaved"));
+  }
+
+  @Test
+  public void recordFrame_recordsFirstFrameAfterSessionConfigured() {
+    setTimeMicros(10);
+    metrics.recordFrame(1000L);
+    assertFalse(getTimestamps(metrics.getSnapshot()).containsKey("firstFrame"));
+
+    metrics.record(CameraMetrics.Event.SESSION_CONFIGURED);
+    setTimeMicros(30);
+    metrics.recordFrame(2000L);
+    setTimeMicros(40);
+    metrics.recordFrame(3000L);
+
+    assertEquals(30L, getTimestamps(metrics.getSnapshot()).get("firstFrame"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void recordFrame_recordsFrameIntervalSinceSessionConfigured() {
+    setTimeMicros(10);
+    metrics.recordFrame(1_000_000L);
+    metrics.record(CameraMetrics.Event.SESSION_CONFIGURED);
+    metrics.recordFrame(2_000_000L);
+    metrics.recordFrame(35_000_000L);
+
+    Map<String, Object> frameInterval =
+        (Map<String, Object>) metrics.getSnapshot().get("frameInterval");
+    assertEquals(1L, frameInterval.get("count"));
+    assertEquals(33000L, frameInterval.get("p50"));
+  }
+
+  @Test
+  public void recordStreamDelivery_throttlesSnapshots() {
+    setTimeMicros(100_000);
+    metrics.recordStreamDelivery(1000L);
+    setTimeMicros(150_000);
+    metrics.recordStreamDelivery(1000L);
+    setTimeMicros(200_000);
+    metrics.recordStreamDelivery(1000L);
+
+    verify(mockHandler, times(2)).post(any());
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class CameraPrewarmerTest {
+  private Handler mockHandler;
+  private Camera mockCamera;
+  private CameraPrewarmer prewarmer;
+
+  @Before
+  public void before() {
+    mockHandler = mock(Handler.class);
+    mockCamera = mock(Camera.class);
+    prewarmer = new CameraPrewarmer(mockHandler);
+  }
+
+  @Test
+  public void start_schedulesTimeout() {
+    prewarmer.start(
+        mockCamera, 3, new CameraPrewarmOptions("0", ResolutionPreset.high).setTimeoutMs(2000));
+
+    verify(mockHandler, times(1)).postDelayed(any(Runnable.class), eq(2000L));
+  }
+
+  @Test
+  public void claim_returnsMatchingCamera() {
+    prewarmer.start(mockCamera, 3, new CameraPrewarmOptions("0", ResolutionPreset.high));
+
+    CameraPrewarmer.WarmCamera warmCamera = prewarmer.claim("0", ResolutionPreset.high, false);
+
+    assertSame(mockCamera, warmCamera.camera);
+    assertEquals(3, warmCamera.textureId);
+    verify(mockHandler, times(1)).removeCallbacks(any(Runnable.class));
+    verify(mockCamera, never()).dispose();
+    assertNull(prewarmer.claim("0", ResolutionPreset.high, false));
+  }
+
+  @Test
+  public void claim_disposesCameraThatDoesNotMatch() {
+    prewarmer.start(mockCamera, 3, new CameraPrewarmOptions("0", ResolutionPreset.high));
+
+    assertNull(prewarmer.claim("0", ResolutionPreset.high, true));
+
+    verify(mockCamera, times(1)).dispose();
+  }
+
+  @Test
+  public void claim_returnsNullWithoutPrewarmedCamera() {
+    assertNull(prewarmer.claim("0", ResolutionPreset.high, false));
+  }
+
+  @Test
+  public void timeout_disposesUnusedCamera() {
+    prewarmer.start(mockCamera, 3, new CameraPrewarmOptions("0", ResolutionPreset.high));
+    ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(timeoutCaptor.capture(), anyLong());
+
+    timeoutCaptor.getValue().run();
+
+    verify(mockCamera, times(1)).dispose();
+    assertNull(prewarmer.claim("0", ResolutionPreset.high, false));
+  }
+
+  @Test
+  public void start_releasesPreviousCamera() {
+    Camera otherCamera = mock(Camera.class);
+    prewarmer.start(mockCamera, 3, new CameraPrewarmOptions("0", ResolutionPreset.high));
+
+    prewarmer.start(otherCamera, 4, new CameraPrewarmOptions("1", ResolutionPreset.low));
+
+    verify(mockCamera, times(1)).dispose();
+    verify(otherCamera, never()).dispose();
+  }
+}
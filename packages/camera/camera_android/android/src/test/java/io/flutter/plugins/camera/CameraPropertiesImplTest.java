@@ -7,16 +7,19 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.graphics.ImageFormat;
 import android.graphics.Rect;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.params.StreamConfigurationMap;
 import android.util.Range;
 import android.util.Rational;
 import android.util.Size;
@@ -275,6 +278,18 @@ public class CameraPropertiesImplTest {
     assertEquals(actualOrientation, expectedOrientation);
   }
 
+  @Test
+  public void getSensorInfoTimestampSourceTest() {
+    int expectedSource = CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME;
+    when(mockCharacteristics.get(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE))
+        .thenReturn(expectedSource);
+
+    int actualSource = cameraProperties.getSensorInfoTimestampSource();
+
+    verify(mockCharacteristics, times(1)).get(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE);
+    assertEquals(actualSource, expectedSource);
+  }
+
   @Test
   public void getHardwareLevelTest() {
     int expectedLevel = 42;
@@ -300,4 +315,24 @@ public class CameraPropertiesImplTest {
         .get(CameraCharacteristics.NOISE_REDUCTION_AVAILABLE_NOISE_REDUCTION_MODES);
     assertEquals(actualReductionModes, expectedReductionModes);
   }
+
+  @Test
+  public void getOutputSizesTest() {
+    Size[] expectedSizes = new Size[] {mock(Size.class)};
+    StreamConfigurationMap mockStreamConfigurationMap = mock(StreamConfigurationMap.class);
+    when(mockCharacteristics.get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP))
+        .thenReturn(mockStreamConfigurationMap);
+    when(mockStreamConfigurationMap.getOutputSizes(ImageFormat.JPEG)).thenReturn(expectedSizes);
+
+    Size[] actualSizes = cameraProperties.getOutputSizes(ImageFormat.JPEG);
+
+    verify(mockCharacteristics, times(1))
+        .get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP);
+    assertArrayEquals(actualSizes, expectedSizes);
+  }
+
+  @Test
+  public void getOutputSizes_returnsNullWithoutStreamConfigurationMap() {
+    assertNull(cameraProperties.getOutputSizes(ImageFormat.JPEG));
+  }
 }
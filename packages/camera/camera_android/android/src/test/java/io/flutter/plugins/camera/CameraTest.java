@@ -7,9 +7,13 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -18,27 +22,33 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.app.Activity;
+import android.content.Context;
 import android.graphics.SurfaceTexture;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCaptureSession;
 import android.hardware.camera2.CameraDevice;
+import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.params.SessionConfiguration;
+import android.media.Image;
 import android.media.ImageReader;
 import android.media.MediaRecorder;
 import android.os.Build;
 import android.os.Handler;
 import android.os.HandlerThread;
+import android.os.SystemClock;
 import android.util.Size;
 import android.view.Surface;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LifecycleObserver;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugins.camera.features.CameraFeatureFactory;
 import io.flutter.plugins.camera.features.CameraFeatures;
+import io.flutter.plugins.camera.features.CameraSettings;
 import io.flutter.plugins.camera.features.Point;
 import io.flutter.plugins.camera.features.autofocus.AutoFocusFeature;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
@@ -56,13 +66,27 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
+import io.flutter.plugins.camera.media.ImageStreamReader;
+import io.flutter.plugins.camera.media.RecordingSegmentOptions;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 
 class FakeCameraDeviceWrapper implements CameraDeviceWrapper {
@@ -92,6 +116,8 @@ class FakeCameraDeviceWrapper implements CameraDeviceWrapper {
 }
 
 public class CameraTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private CameraProperties mockCameraProperties;
   private CameraFeatureFactory mockCameraFeatureFactory;
   private DartMessenger mockDartMessenger;
@@ -463,6 +489,39 @@ public class CameraTest {
     verify(mockResult, times(1)).error("setFocusPointFailed", "Could not set focus point.", null);
   }
 
+  @Test
+  public void setTargetPreviewSize_shouldUpdateResolutionFeatureBeforeInitialize() {
+    ResolutionFeature mockResolutionFeature =
+        mockCameraFeatureFactory.createResolutionFeature(
+            mockCameraProperties, ResolutionPreset.high, "1");
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    Size targetPreviewSize = mock(Size.class);
+
+    camera.setTargetPreviewSize(mockResult, targetPreviewSize);
+
+    verify(mockResolutionFeature, times(1)).setTargetPreviewSize(targetPreviewSize);
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void setTargetPreviewSize_shouldErrorAfterInitialize() {
+    ResolutionFeature mockResolutionFeature =
+        mockCameraFeatureFactory.createResolutionFeature(
+            mockCameraProperties, ResolutionPreset.high, "1");
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    TestUtils.setPrivateField(camera, "cameraDevice", mock(CameraDeviceWrapper.class));
+
+    camera.setTargetPreviewSize(mockResult, mock(Size.class));
+
+    verify(mockResolutionFeature, never()).setTargetPreviewSize(any());
+    verify(mockResult, never()).success(any());
+    verify(mockResult, times(1))
+        .error(
+            "setTargetPreviewSizeFailed",
+            "The target preview size must be set before the camera is initialized.",
+            null);
+  }
+
   @Test
   public void setZoomLevel_shouldUpdateZoomLevelFeature() throws CameraAccessException {
     ZoomLevelFeature mockZoomLevelFeature =
@@ -915,6 +974,453 @@ public class CameraTest {
     verify(mockCaptureSession, never()).close();
   }
 
+  @Test
+  public void applySettings_shouldUpdateAllFeaturesWithSingleRepeatingRequest()
+      throws CameraAccessException {
+    FlashFeature mockFlashFeature =
+        mockCameraFeatureFactory.createFlashFeature(mockCameraProperties);
+    ExposureLockFeature mockExposureLockFeature =
+        mockCameraFeatureFactory.createExposureLockFeature(mockCameraProperties);
+    ExposureOffsetFeature mockExposureOffsetFeature =
+        mockCameraFeatureFactory.createExposureOffsetFeature(mockCameraProperties);
+    ZoomLevelFeature mockZoomLevelFeature =
+        mockCameraFeatureFactory.createZoomLevelFeature(mockCameraProperties);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    when(mockZoomLevelFeature.getMinimumZoomLevel()).thenReturn(1f);
+    when(mockZoomLevelFeature.getMaximumZoomLevel()).thenReturn(4f);
+    CameraSettings settings =
+        new CameraSettings()
+            .setFlashMode(FlashMode.torch)
+            .setExposureMode(ExposureMode.locked)
+            .setExposureOffset(1.0)
+            .setZoomLevel(2f);
+
+    camera.applySettings(mockResult, settings);
+
+    verify(mockFlashFeature, times(1)).setValue(FlashMode.torch);
+    verify(mockFlashFeature, times(1)).updateBuilder(mockPreviewRequestBuilder);
+    verify(mockExposureLockFeature, times(1)).setValue(ExposureMode.locked);
+    verify(mockExposureLockFeature, times(1)).updateBuilder(mockPreviewRequestBuilder);
+    verify(mockExposureOffsetFeature, times(1)).setValue(1.0);
+    verify(mockExposureOffsetFeature, times(1)).updateBuilder(mockPreviewRequestBuilder);
+    verify(mockZoomLevelFeature, times(1)).setValue(2f);
+    verify(mockZoomLevelFeature, times(1)).updateBuilder(mockPreviewRequestBuilder);
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+    verify(mockCaptureSession, never()).capture(any(), any(), any());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void applySettings_shouldNotChangeFeaturesWhenZoomLevelIsOutOfBounds()
+      throws CameraAccessException {
+    FlashFeature mockFlashFeature =
+        mockCameraFeatureFactory.createFlashFeature(mockCameraProperties);
+    ZoomLevelFeature mockZoomLevelFeature =
+        mockCameraFeatureFactory.createZoomLevelFeature(mockCameraProperties);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    when(mockZoomLevelFeature.getMinimumZoomLevel()).thenReturn(1f);
+    when(mockZoomLevelFeature.getMaximumZoomLevel()).thenReturn(4f);
+    CameraSettings settings = new CameraSettings().setFlashMode(FlashMode.torch).setZoomLevel(5f);
+
+    camera.applySettings(mockResult, settings);
+
+    verify(mockFlashFeature, never()).setValue(any());
+    verify(mockZoomLevelFeature, never()).setValue(any());
+    verify(mockCaptureSession, never()).setRepeatingRequest(any(), any(), any());
+    verify(mockResult, times(1)).error(eq("ZOOM_ERROR"), any(), any());
+  }
+
+  @Test
+  public void applySettings_shouldTriggerAutoFocusBeforeRepeatingRequestWhenFocusChanges()
+      throws CameraAccessException {
+    AutoFocusFeature mockAutoFocusFeature =
+        mockCameraFeatureFactory.createAutoFocusFeature(mockCameraProperties, false);
+    FocusPointFeature mockFocusPointFeature =
+        mockCameraFeatureFactory.createFocusPointFeature(mockCameraProperties, null);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    when(mockAutoFocusFeature.getValue()).thenReturn(FocusMode.locked);
+    Point point = new Point(0.5, 0.5);
+    CameraSettings settings =
+        new CameraSettings().setFocusMode(FocusMode.locked).setFocusPoint(point);
+
+    camera.applySettings(mockResult, settings);
+
+    verify(mockAutoFocusFeature, times(1)).setValue(FocusMode.locked);
+    verify(mockFocusPointFeature, times(1)).setValue(point);
+    InOrder inOrder = inOrder(mockCaptureSession);
+    inOrder.verify(mockCaptureSession, times(1)).capture(any(), any(), any());
+    inOrder.verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void applySettings_shouldCallErrorOnResultOnCameraAccessException()
+      throws CameraAccessException {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    when(mockCaptureSession.setRepeatingRequest(any(), any(), any()))
+        .thenThrow(new CameraAccessException(0, ""));
+
+    camera.applySettings(mockResult, new CameraSettings().setFlashMode(FlashMode.off));
+
+    verify(mockResult, never()).success(any());
+    verify(mockResult, times(1)).error("applySettingsFailed", "Could not apply settings.", null);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void startPreview_configuresPersistentSessionWithAllSurfaces()
+      throws CameraAccessException {
+    CameraDeviceWrapper mockCameraDevice = mock(CameraDeviceWrapper.class);
+    CaptureRequest.Builder mockRequestBuilder = mock(CaptureRequest.Builder.class);
+    Surface pictureSurface = mock(Surface.class);
+    Surface streamSurface = mock(Surface.class);
+    setUpPersistentCaptureSession(
+        mockCameraDevice, mockRequestBuilder, pictureSurface, streamSurface);
+    TestUtils.setPrivateField(camera, "captureSession", null);
+
+    camera.startPreview();
+
+    ArgumentCaptor<List<Surface>> surfacesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(mockCameraDevice, times(1)).createCaptureSession(surfacesCaptor.capture(), any(), any());
+    List<Surface> surfaces = surfacesCaptor.getValue();
+    assertEquals(3, surfaces.size());
+    assertTrue(surfaces.contains(pictureSurface));
+    assertTrue(surfaces.contains(streamSurface));
+    verify(mockRequestBuilder, times(1)).addTarget(any());
+    verify(mockRequestBuilder, never()).addTarget(streamSurface);
+    assertEquals(1, camera.getCaptureSessionStatistics().get("sessionConfigurations"));
+  }
+
+  @Test
+  public void startPreviewWithImageStream_switchesTargetsOfPersistentSession()
+      throws CameraAccessException {
+    CameraDeviceWrapper mockCameraDevice = mock(CameraDeviceWrapper.class);
+    CaptureRequest.Builder mockRequestBuilder = mock(CaptureRequest.Builder.class);
+    Surface streamSurface = mock(Surface.class);
+    Surface previewSurface = mock(Surface.class);
+    setUpPersistentCaptureSession(
+        mockCameraDevice, mockRequestBuilder, mock(Surface.class), streamSurface);
+    TestUtils.setPrivateField(camera, "persistentSessionConfigured", true);
+    TestUtils.setPrivateField(camera, "previewSurface", previewSurface);
+
+    camera.startPreviewWithImageStream(mock(EventChannel.class), new ImageStreamOptions());
+
+    verify(mockCameraDevice, never()).createCaptureSession(any(), any(), any());
+    verify(mockCameraDevice, times(1)).createCaptureRequest(CameraDevice.TEMPLATE_RECORD);
+    verify(mockRequestBuilder, times(1)).addTarget(previewSurface);
+    verify(mockRequestBuilder, times(1)).addTarget(streamSurface);
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+    Map<String, Object> statistics = camera.getCaptureSessionStatistics();
+    assertEquals(0, statistics.get("sessionConfigurations"));
+    assertEquals(1, statistics.get("repeatingRequestUpdates"));
+  }
+
+  @Test
+  public void startPreview_removesImageStreamTargetOfPersistentSession()
+      throws CameraAccessException {
+    CameraDeviceWrapper mockCameraDevice = mock(CameraDeviceWrapper.class);
+    CaptureRequest.Builder mockRequestBuilder = mock(CaptureRequest.Builder.class);
+    Surface streamSurface = mock(Surface.class);
+    Surface previewSurface = mock(Surface.class);
+    setUpPersistentCaptureSession(
+        mockCameraDevice, mockRequestBuilder, mock(Surface.class), streamSurface);
+    TestUtils.setPrivateField(camera, "persistentSessionConfigured", true);
+    TestUtils.setPrivateField(camera, "previewSurface", previewSurface);
+
+    camera.startPreview();
+
+    verify(mockCameraDevice, never()).createCaptureSession(any(), any(), any());
+    verify(mockCameraDevice, times(1)).createCaptureRequest(CameraDevice.TEMPLATE_PREVIEW);
+    verify(mockRequestBuilder, times(1)).addTarget(previewSurface);
+    verify(mockRequestBuilder, never()).addTarget(streamSurface);
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+  }
+
+  @Test
+  public void setPersistentCaptureSession_doesNotRestartPreviewWhenRecording()
+      throws CameraAccessException {
+    TestUtils.setPrivateField(camera, "pictureImageReader", mock(ImageReader.class));
+    TestUtils.setPrivateField(camera, "recordingVideo", true);
+
+    camera.setPersistentCaptureSession(true);
+
+    verify(mockCaptureSession, never()).close();
+  }
+
+  private void setUpPersistentCaptureSession(
+      CameraDeviceWrapper mockCameraDevice,
+      CaptureRequest.Builder mockRequestBuilder,
+      Surface pictureSurface,
+      Surface streamSurface)
+      throws CameraAccessException {
+    ImageReader mockPictureImageReader = mock(ImageReader.class);
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    SurfaceTexture mockSurfaceTexture = mock(SurfaceTexture.class);
+    TextureRegistry.SurfaceTextureEntry cameraFlutterTexture =
+        (TextureRegistry.SurfaceTextureEntry) TestUtils.getPrivateField(camera, "flutterTexture");
+    ResolutionFeature resolutionFeature =
+        (ResolutionFeature)
+            TestUtils.getPrivateField(mockCameraFeatureFactory, "mockResolutionFeature");
+
+    when(mockCameraDevice.createCaptureRequest(anyInt())).thenReturn(mockRequestBuilder);
+    when(mockPictureImageReader.getSurface()).thenReturn(pictureSurface);
+    when(mockImageStreamReader.getSurface()).thenReturn(streamSurface);
+    when(cameraFlutterTexture.surfaceTexture()).thenReturn(mockSurfaceTexture);
+    when(resolutionFeature.getPreviewSize()).thenReturn(mock(Size.class));
+    TestUtils.setPrivateField(camera, "cameraDevice", mockCameraDevice);
+    TestUtils.setPrivateField(camera, "pictureImageReader", mockPictureImageReader);
+    TestUtils.setPrivateField(camera, "imageStreamReader", mockImageStreamReader);
+    TestUtils.setPrivateField(camera, "persistentCaptureSession", true);
+  }
+
+  @Test
+  public void prewarm_opensCameraOnBackgroundThread() {
+    camera.prewarm("yuv420");
+
+    verify(mockHandler, times(1)).post(any(Runnable.class));
+    assertEquals(true, TestUtils.getPrivateField(camera, "prewarming"));
+  }
+
+  @Test
+  public void prewarm_leavesCameraClosedWhenOpeningIsNotPermitted() throws CameraAccessException {
+    ResolutionFeature resolutionFeature =
+        (ResolutionFeature)
+            TestUtils.getPrivateField(mockCameraFeatureFactory, "mockResolutionFeature");
+    when(resolutionFeature.getCaptureSize()).thenReturn(mock(Size.class));
+    when(resolutionFeature.getPreviewSize()).thenReturn(mock(Size.class));
+    when(resolutionFeature.checkIsSupported()).thenReturn(true);
+    CameraManager mockCameraManager = mock(CameraManager.class);
+    doThrow(new SecurityException("Camera permission was denied"))
+        .when(mockCameraManager)
+        .openCamera(any(String.class), any(CameraDevice.StateCallback.class), any());
+
+    camera.prewarm("yuv420");
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    try (MockedStatic<CameraUtils> mockCameraUtils = mockStatic(CameraUtils.class)) {
+      mockCameraUtils.when(() -> CameraUtils.getCameraManager(any())).thenReturn(mockCameraManager);
+      runnableCaptor.getValue().run();
+    }
+
+    verify(mockCameraManager, times(1))
+        .openCamera(eq("1"), any(CameraDevice.StateCallback.class), any());
+    // The camera is opened again when it is adopted.
+    assertEquals(false, TestUtils.getPrivateField(camera, "openPending"));
+    assertNull(TestUtils.getPrivateField(camera, "cameraDevice"));
+  }
+
+  @Test
+  public void open_adoptsOpenedPrewarmedCameraAndSendsInitializedEvent()
+      throws CameraAccessException {
+    ResolutionFeature resolutionFeature =
+        (ResolutionFeature)
+            TestUtils.getPrivateField(mockCameraFeatureFactory, "mockResolutionFeature");
+    Size previewSize = mock(Size.class);
+    when(resolutionFeature.getPreviewSize()).thenReturn(previewSize);
+    when(mockHandler.post(any(Runnable.class))).thenReturn(true);
+    TestUtils.setPrivateField(camera, "prewarming", true);
+    TestUtils.setPrivateField(camera, "prewarmImageFormatGroup", "yuv420");
+    TestUtils.setPrivateField(camera, "streamPreviewSize", previewSize);
+    TestUtils.setPrivateField(camera, "cameraDevice", mock(CameraDeviceWrapper.class));
+
+    camera.open("yuv420");
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    assertEquals(false, TestUtils.getPrivateField(camera, "prewarming"));
+    verify(mockDartMessenger, times(1))
+        .sendCameraInitializedEvent(
+            anyInt(), anyInt(), any(), any(), any(Boolean.class), any(Boolean.class));
+  }
+
+  @Test
+  public void open_restartsPreviewOfPrewarmedCameraWhenPreviewSizeChanged()
+      throws CameraAccessException {
+    CameraDeviceWrapper mockCameraDevice = mock(CameraDeviceWrapper.class);
+    ImageReader mockPictureImageReader = mock(ImageReader.class);
+    TextureRegistry.SurfaceTextureEntry cameraFlutterTexture =
+        (TextureRegistry.SurfaceTextureEntry) TestUtils.getPrivateField(camera, "flutterTexture");
+    ResolutionFeature resolutionFeature =
+        (ResolutionFeature)
+            TestUtils.getPrivateField(mockCameraFeatureFactory, "mockResolutionFeature");
+    when(resolutionFeature.getPreviewSize()).thenReturn(mock(Size.class));
+    when(mockPictureImageReader.getSurface()).thenReturn(mock(Surface.class));
+    when(mockCameraDevice.createCaptureRequest(anyInt()))
+        .thenReturn(mock(CaptureRequest.Builder.class));
+    when(cameraFlutterTexture.surfaceTexture()).thenReturn(mock(SurfaceTexture.class));
+    when(mockHandler.post(any(Runnable.class))).thenReturn(true);
+    TestUtils.setPrivateField(camera, "prewarming", true);
+    TestUtils.setPrivateField(camera, "prewarmImageFormatGroup", "yuv420");
+    TestUtils.setPrivateField(camera, "streamPreviewSize", mock(Size.class));
+    TestUtils.setPrivateField(camera, "pictureImageReader", mockPictureImageReader);
+    TestUtils.setPrivateField(camera, "cameraDevice", mockCameraDevice);
+
+    camera.open("yuv420");
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    verify(mockCameraDevice, times(1)).createCaptureRequest(CameraDevice.TEMPLATE_PREVIEW);
+    verify(mockDartMessenger, times(1))
+        .sendCameraInitializedEvent(
+            anyInt(), anyInt(), any(), any(), any(Boolean.class), any(Boolean.class));
+  }
+
+  @Test
+  public void open_adoptsPendingPrewarmedCameraWithoutSendingInitializedEvent()
+      throws CameraAccessException {
+    when(mockHandler.post(any(Runnable.class))).thenReturn(true);
+    TestUtils.setPrivateField(camera, "prewarming", true);
+    TestUtils.setPrivateField(camera, "prewarmImageFormatGroup", "yuv420");
+    TestUtils.setPrivateField(camera, "openPending", true);
+
+    camera.open("yuv420");
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    // The initialized event is sent once the pending open completes.
+    assertEquals(false, TestUtils.getPrivateField(camera, "prewarming"));
+    verify(mockDartMessenger, never())
+        .sendCameraInitializedEvent(
+            anyInt(), anyInt(), any(), any(), any(Boolean.class), any(Boolean.class));
+  }
+
+  @Test
+  public void startVideoRecording_shouldErrorForSegmentsBeforeApi26() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+
+    camera.startVideoRecording(
+        mockResult, null, new RecordingSegmentOptions().setMaxSizeBytes(1000));
+
+    verify(mockResult, times(1))
+        .error("videoRecordingFailed", "Segmented recording requires Android API +26.", null);
+    assertFalse((boolean) TestUtils.getPrivateField(camera, "recordingVideo"));
+  }
+
+  @Test
+  public void onRecorderInfo_nextOutputFileStarted_sendsSegmentClosedEventAndArmsNextFile()
+      throws IOException {
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", 26);
+    File cacheDir = temporaryFolder.newFolder();
+    File firstSegment = new File(cacheDir, "first.mp4");
+    File secondSegment = new File(cacheDir, "second.mp4");
+    Context mockContext = mock(Context.class);
+    when(mockContext.getCacheDir()).thenReturn(cacheDir);
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    TestUtils.setPrivateField(camera, "applicationContext", mockContext);
+    TestUtils.setPrivateField(camera, "mediaRecorder", mockMediaRecorder);
+    TestUtils.setPrivateField(
+        camera, "segmentOptions", new RecordingSegmentOptions().setMaxSizeBytes(1000));
+    TestUtils.setPrivateField(camera, "captureFile", firstSegment);
+    TestUtils.setPrivateField(camera, "nextSegmentFile", secondSegment);
+    TestUtils.setPrivateField(camera, "segmentStartTimeMs", 1000L);
+
+    try (MockedStatic<SystemClock> mockSystemClock = mockStatic(SystemClock.class)) {
+      mockSystemClock.when(SystemClock::elapsedRealtime).thenReturn(5000L);
+      camera.onRecorderInfo(
+          mockMediaRecorder, MediaRecorder.MEDIA_RECORDER_INFO_NEXT_OUTPUT_FILE_STARTED, 0);
+    }
+
+    verify(mockDartMessenger, times(1))
+        .sendRecordingSegmentClosedEvent(firstSegment.getAbsolutePath(), 4000L);
+    assertEquals(secondSegment, TestUtils.getPrivateField(camera, "captureFile"));
+    File nextSegment = (File) TestUtils.getPrivateField(camera, "nextSegmentFile");
+    assertNotNull(nextSegment);
+    assertEquals(cacheDir, nextSegment.getParentFile());
+    verify(mockMediaRecorder, times(1)).setNextOutputFile(nextSegment);
+  }
+
+  @Test
+  public void onRecorderInfo_maxFileSizeReached_stopsRecordingAndRestoresPreview()
+      throws IOException, CameraAccessException {
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", 26);
+    CameraDeviceWrapper mockCameraDevice = mock(CameraDeviceWrapper.class);
+    CaptureRequest.Builder mockRequestBuilder = mock(CaptureRequest.Builder.class);
+    Surface previewSurface = mock(Surface.class);
+    setUpPersistentCaptureSession(
+        mockCameraDevice, mockRequestBuilder, mock(Surface.class), mock(Surface.class));
+    TestUtils.setPrivateField(camera, "persistentSessionConfigured", true);
+    TestUtils.setPrivateField(camera, "previewSurface", previewSurface);
+    File lastSegment = temporaryFolder.newFile("last.mp4");
+    File unusedSegment = temporaryFolder.newFile("unused.mp4");
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    TestUtils.setPrivateField(camera, "mediaRecorder", mockMediaRecorder);
+    TestUtils.setPrivateField(
+        camera, "segmentOptions", new RecordingSegmentOptions().setMaxSizeBytes(1000));
+    TestUtils.setPrivateField(camera, "recordingVideo", true);
+    TestUtils.setPrivateField(camera, "captureFile", lastSegment);
+    TestUtils.setPrivateField(camera, "nextSegmentFile", unusedSegment);
+    TestUtils.setPrivateField(camera, "segmentStartTimeMs", 1000L);
+
+    try (MockedStatic<SystemClock> mockSystemClock = mockStatic(SystemClock.class)) {
+      mockSystemClock.when(SystemClock::elapsedRealtime).thenReturn(3000L);
+      camera.onRecorderInfo(
+          mockMediaRecorder, MediaRecorder.MEDIA_RECORDER_INFO_MAX_FILESIZE_REACHED, 0);
+    }
+
+    verify(mockDartMessenger, times(1))
+        .sendRecordingSegmentClosedEvent(lastSegment.getAbsolutePath(), 2000L);
+    verify(mockDartMessenger, times(1)).sendCameraErrorEvent(any());
+    verify(mockMediaRecorder, times(1)).reset();
+    assertFalse((boolean) TestUtils.getPrivateField(camera, "recordingVideo"));
+    assertNull(TestUtils.getPrivateField(camera, "segmentOptions"));
+    assertNull(TestUtils.getPrivateField(camera, "nextSegmentFile"));
+    assertFalse(unusedSegment.exists());
+    verify(mockRequestBuilder, times(1)).addTarget(previewSurface);
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+  }
+
+  @Test
+  public void onImageAvailable_finishesEachPictureWithItsOwnResultAndFile() throws IOException {
+    ExecutorService mockExecutor = mock(ExecutorService.class);
+    ImageReader mockImageReader = mock(ImageReader.class);
+    Image firstImage = mockJpegImage();
+    Image secondImage = mockJpegImage();
+    when(mockImageReader.acquireNextImage()).thenReturn(firstImage, secondImage);
+    MethodChannel.Result firstResult = mock(MethodChannel.Result.class);
+    MethodChannel.Result secondResult = mock(MethodChannel.Result.class);
+    File firstFile = temporaryFolder.newFile("first.jpg");
+    File secondFile = temporaryFolder.newFile("second.jpg");
+    TestUtils.setPrivateField(camera, "imageSaverExecutor", mockExecutor);
+
+    // Take the second picture before the first one is saved.
+    TestUtils.setPrivateField(camera, "flutterResult", firstResult);
+    TestUtils.setPrivateField(camera, "captureFile", firstFile);
+    camera.onImageAvailable(mockImageReader);
+    TestUtils.setPrivateField(camera, "flutterResult", secondResult);
+    TestUtils.setPrivateField(camera, "captureFile", secondFile);
+    camera.onImageAvailable(mockImageReader);
+
+    ArgumentCaptor<Runnable> saverCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockExecutor, times(2)).execute(saverCaptor.capture());
+    try (MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory =
+        mockStatic(ImageSaver.FileOutputStreamFactory.class)) {
+      FileOutputStream mockFileOutputStream = mock(FileOutputStream.class);
+      when(mockFileOutputStream.getChannel()).thenReturn(mock(FileChannel.class));
+      mockFileOutputStreamFactory
+          .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
+          .thenReturn(mockFileOutputStream);
+      for (Runnable saver : saverCaptor.getAllValues()) {
+        saver.run();
+      }
+    }
+
+    verify(mockDartMessenger, times(1)).finish(firstResult, firstFile.getAbsolutePath());
+    verify(mockDartMessenger, times(1)).finish(secondResult, secondFile.getAbsolutePath());
+    verify(firstImage, times(1)).close();
+    verify(secondImage, times(1)).close();
+  }
+
+  private static Image mockJpegImage() {
+    Image.Plane mockPlane = mock(Image.Plane.class);
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.allocate(0));
+    Image mockImage = mock(Image.class);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
+    return mockImage;
+  }
+
   private static class TestCameraFeatureFactory implements CameraFeatureFactory {
     private final AutoFocusFeature mockAutoFocusFeature;
     private final ExposureLockFeature mockExposureLockFeature;
@@ -8,6 +8,8 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.app.Activity;
@@ -97,4 +99,27 @@ public class CameraUtilsTest {
     assertEquals(availableCameras.get(1).get("sensorOrientation"), mockSensorOrientation2);
     assertEquals(availableCameras.get(1).get("lensFacing"), "external");
   }
+
+  @Test
+  public void getAvailableCameras_servesCharacteristicsFromCache() throws CameraAccessException {
+    final Activity mockActivity = mock(Activity.class);
+    final CameraManager mockCameraManager = mock(CameraManager.class);
+    final CameraCapabilityCache mockCache = mock(CameraCapabilityCache.class);
+    final CameraProperties mockProperties = mock(CameraProperties.class);
+
+    when(mockActivity.getSystemService(Context.CAMERA_SERVICE)).thenReturn(mockCameraManager);
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0"});
+    when(mockCache.getCameraProperties("0", mockCameraManager)).thenReturn(mockProperties);
+    when(mockProperties.getSensorOrientation()).thenReturn(270);
+    when(mockProperties.getLensFacing()).thenReturn(CameraMetadata.LENS_FACING_BACK);
+
+    List<Map<String, Object>> availableCameras =
+        CameraUtils.getAvailableCameras(mockActivity, mockCache);
+
+    assertEquals(availableCameras.size(), 1);
+    assertEquals(availableCameras.get(0).get("name"), "0");
+    assertEquals(availableCameras.get(0).get("sensorOrientation"), 270);
+    assertEquals(availableCameras.get(0).get("lensFacing"), "back");
+    verify(mockCameraManager, never()).getCameraCharacteristics(anyString());
+  }
 }
@@ -102,6 +102,20 @@ public class DartMessengerTest {
     assertNull(call.argument("description"));
   }
 
+  @Test
+  public void sendFrameProcessorResultEvent() {
+    doAnswer(createPostHandlerAnswer()).when(mockHandler).post(any(Runnable.class));
+    dartMessenger.sendFrameProcessorResultEvent("barcodes", 42L, "result");
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(1, sentMessages.size());
+    MethodCall call = decodeSentMessage(sentMessages.get(0));
+    assertEquals("frame_processor_result", call.method);
+    assertEquals("barcodes", call.argument("processorName"));
+    assertEquals(42L, (long) call.argument("timestamp"));
+    assertEquals("result", call.argument("result"));
+  }
+
   @Test
   public void sendDeviceOrientationChangedEvent() {
     doAnswer(createPostHandlerAnswer()).when(mockHandler).post(any(Runnable.class));
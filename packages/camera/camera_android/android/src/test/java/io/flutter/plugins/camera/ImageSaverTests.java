@@ -4,8 +4,12 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -14,16 +18,21 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.media.Image;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
 
 public class ImageSaverTests {
 
@@ -32,39 +41,39 @@ public class ImageSaverTests {
   ImageSaver.Callback mockCallback;
   ImageSaver imageSaver;
   Image.Plane mockPlane;
-  ByteBuffer mockBuffer;
+  ByteBuffer buffer;
   MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
   FileOutputStream mockFileOutputStream;
+  FileChannel mockFileChannel;
+  ByteArrayOutputStream writtenBytes;
 
   @Before
-  public void setup() {
+  public void setup() throws IOException {
     // Set up mocked file dependency
     mockFile = mock(File.class);
     when(mockFile.getAbsolutePath()).thenReturn("absolute/path");
     mockPlane = mock(Image.Plane.class);
-    mockBuffer = mock(ByteBuffer.class);
-    when(mockBuffer.remaining()).thenReturn(3);
-    when(mockBuffer.get(any()))
-        .thenAnswer(
-            new Answer<Object>() {
-              @Override
-              public Object answer(InvocationOnMock invocation) throws Throwable {
-                byte[] bytes = invocation.getArgument(0);
-                bytes[0] = 0x42;
-                bytes[1] = 0x00;
-                bytes[2] = 0x13;
-                return mockBuffer;
-              }
-            });
+    buffer = ByteBuffer.wrap(new byte[] {0x42, 0x00, 0x13});
 
     // Set up mocked image dependency
     mockImage = mock(Image.class);
-    when(mockPlane.getBuffer()).thenReturn(mockBuffer);
+    when(mockPlane.getBuffer()).thenReturn(buffer);
     when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
 
     // Set up mocked FileOutputStream
     mockFileOutputStreamFactory = mockStatic(ImageSaver.FileOutputStreamFactory.class);
     mockFileOutputStream = mock(FileOutputStream.class);
+    mockFileChannel = mock(FileChannel.class);
+    writtenBytes = new ByteArrayOutputStream();
+    when(mockFileOutputStream.getChannel()).thenReturn(mockFileChannel);
+    // Writes one byte per call, to check that the whole buffer is written.
+    when(mockFileChannel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer source = invocation.getArgument(0);
+              writtenBytes.write(source.get());
+              return 1;
+            });
     mockFileOutputStreamFactory
         .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
         .thenReturn(mockFileOutputStream);
@@ -83,14 +92,118 @@ public class ImageSaverTests {
   public void runWritesBytesToFileAndFinishesWithPath() throws IOException {
     imageSaver.run();
 
-    verify(mockFileOutputStream, times(1)).write(new byte[] {0x42, 0x00, 0x13});
+    assertArrayEquals(new byte[] {0x42, 0x00, 0x13}, writtenBytes.toByteArray());
+    verify(mockFileOutputStream, never()).write(any(byte[].class));
     verify(mockCallback, times(1)).onComplete("absolute/path");
     verify(mockCallback, never()).onError(any(), any());
   }
 
+  @Test
+  public void runClosesImageBeforeReportingCompletion() {
+    imageSaver.run();
+
+    InOrder inOrder = inOrder(mockImage, mockCallback);
+    inOrder.verify(mockImage, times(1)).close();
+    inOrder.verify(mockCallback, times(1)).onComplete("absolute/path");
+  }
+
+  @Test
+  public void runClosesImageWhenFileCannotBeCreated() {
+    mockFileOutputStreamFactory
+        .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
+        .thenThrow(new FileNotFoundException());
+
+    imageSaver.run();
+
+    verify(mockImage, times(1)).close();
+    verify(mockCallback, times(1)).onError("IOError", "Failed saving image");
+  }
+
+  @Test
+  public void runRecordsSaveLatency() {
+    ImageSaver.Metrics metrics = new ImageSaver.Metrics();
+    imageSaver = new ImageSaver(mockImage, mockFile, mockCallback, metrics);
+
+    imageSaver.run();
+
+    assertEquals(1, metrics.getSavedImageCount());
+    assertTrue(metrics.getLastSaveLatencyNanos() > 0);
+    assertEquals(metrics.getLastSaveLatencyNanos(), metrics.getMaxSaveLatencyNanos());
+    assertEquals(metrics.getLastSaveLatencyNanos(), metrics.getAverageSaveLatencyNanos());
+  }
+
+  @Test
+  public void runDoesNotRecordFailedSaves() throws IOException {
+    ImageSaver.Metrics metrics = new ImageSaver.Metrics();
+    imageSaver = new ImageSaver(mockImage, mockFile, mockCallback, metrics);
+    doThrow(new IOException()).when(mockFileChannel).write(any(ByteBuffer.class));
+
+    imageSaver.run();
+
+    assertEquals(0, metrics.getSavedImageCount());
+  }
+
+  @Test
+  public void createExecutor_savesImagesOffTheCallingThread() throws InterruptedException {
+    ExecutorService executor = ImageSaver.createExecutor();
+    CountDownLatch latch = new CountDownLatch(1);
+    Thread[] savingThread = new Thread[1];
+
+    executor.execute(
+        () -> {
+          savingThread[0] = Thread.currentThread();
+          latch.countDown();
+        });
+
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+    assertTrue(savingThread[0] != Thread.currentThread());
+    executor.shutdown();
+  }
+
+  @Test
+  public void createExecutor_discardsImagesAfterShutdown() {
+    ExecutorService executor = ImageSaver.createExecutor();
+    executor.shutdown();
+
+    executor.execute(imageSaver);
+
+    verify(mockImage, times(1)).close();
+    verify(mockCallback, times(1))
+        .onError("cameraAccess", "The camera was closed before the image was saved.");
+    verify(mockCallback, never()).onComplete(any());
+  }
+
+  @Test
+  public void createExecutor_discardsImagesWhenTooManyAreWaiting() throws InterruptedException {
+    ExecutorService executor = ImageSaver.createExecutor();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          started.countDown();
+          try {
+            blocker.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    for (int i = 0; i < ImageSaver.MAX_PENDING_SAVES; i++) {
+      executor.execute(() -> {});
+    }
+
+    executor.execute(imageSaver);
+
+    verify(mockImage, times(1)).close();
+    verify(mockCallback, times(1))
+        .onError("cameraAccess", "Too many images are waiting to be saved.");
+    blocker.countDown();
+    executor.shutdown();
+  }
+
   @Test
   public void runCallsErrorOnWriteIoexception() throws IOException {
-    doThrow(new IOException()).when(mockFileOutputStream).write(any());
+    doThrow(new IOException()).when(mockFileChannel).write(any(ByteBuffer.class));
     imageSaver.run();
     verify(mockCallback, times(1)).onError("IOError", "Failed saving image");
     verify(mockCallback, never()).onComplete(any());
@@ -4,11 +4,19 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.app.Activity;
 import android.hardware.camera2.CameraAccessException;
@@ -16,10 +24,27 @@ import androidx.lifecycle.LifecycleObserver;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugins.camera.features.CameraSettings;
+import io.flutter.plugins.camera.features.autofocus.FocusMode;
+import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
+import io.flutter.plugins.camera.features.flash.FlashMode;
+import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.FrameProcessor;
+import io.flutter.plugins.camera.media.FrameProcessorRegistry;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
+import io.flutter.plugins.camera.media.RecordingSegmentOptions;
+import io.flutter.plugins.camera.media.YuvPacker;
+import io.flutter.plugins.camera.media.YuvPackingFormat;
+import io.flutter.plugins.camera.media.ZslOptions;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class MethodCallHandlerImplTest {
 
@@ -48,6 +73,24 @@ public class MethodCallHandlerImplTest {
     assertFalse(LifecycleObserver.class.isAssignableFrom(methodCallHandlerClass));
   }
 
+  @Test
+  public void prewarm_shouldNotOpenCameraWithoutPermissions() {
+    CameraPermissions mockCameraPermissions = mock(CameraPermissions.class);
+    TextureRegistry mockTextureRegistry = mock(TextureRegistry.class);
+    MethodCallHandlerImpl handler =
+        new MethodCallHandlerImpl(
+            mock(Activity.class),
+            mock(BinaryMessenger.class),
+            mockCameraPermissions,
+            mock(CameraPermissions.PermissionsRegistry.class),
+            mockTextureRegistry);
+    when(mockCameraPermissions.hasPermissions(any(), eq(false))).thenReturn(false);
+
+    handler.prewarm(new CameraPrewarmOptions("0", ResolutionPreset.high));
+
+    verify(mockTextureRegistry, never()).createSurfaceTexture();
+  }
+
   @Test
   public void onMethodCall_pausePreview_shouldPausePreviewAndSendSuccessResult()
       throws CameraAccessException {
@@ -74,4 +117,321 @@ public class MethodCallHandlerImplTest {
     verify(mockCamera, times(1)).resumePreview();
     verify(mockResult, times(1)).success(null);
   }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldUseDefaultOptionsWithoutArguments()
+      throws CameraAccessException {
+    handler.onMethodCall(new MethodCall("startImageStream", null), mockResult);
+
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    assertEquals(
+        ImageStreamDeliveryPolicy.latestOnly, optionsCaptor.getValue().getDeliveryPolicy());
+    assertEquals(
+        ImageStreamOptions.DEFAULT_MAX_FRAMES_IN_FLIGHT,
+        optionsCaptor.getValue().getMaxFramesInFlight());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldPassOptionsToCamera()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("deliveryPolicy", "block");
+    arguments.put("maxFramesInFlight", 5);
+    arguments.put("targetFrameRate", 7.5);
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    assertEquals(ImageStreamDeliveryPolicy.block, optionsCaptor.getValue().getDeliveryPolicy());
+    assertEquals(5, optionsCaptor.getValue().getMaxFramesInFlight());
+    assertEquals(7.5, optionsCaptor.getValue().getTargetFrameRate(), 0);
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldSendErrorResultOnUnknownPolicy()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("deliveryPolicy", "unknown");
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    verify(mockCamera, never()).startPreviewWithImageStream(any(), any());
+    verify(mockResult, times(1)).error(eq("startImageStreamFailed"), anyString(), eq(null));
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldAddRegisteredFrameProcessors()
+      throws CameraAccessException {
+    FrameProcessor mockProcessor = mock(FrameProcessor.class);
+    FrameProcessorRegistry.register("barcodes", mockProcessor);
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("frameProcessors", Collections.singletonList("barcodes"));
+    arguments.put("deliverFrames", false);
+
+    try {
+      handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+    } finally {
+      FrameProcessorRegistry.unregister("barcodes");
+    }
+
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    assertSame(mockProcessor, optionsCaptor.getValue().getFrameProcessors().get("barcodes"));
+    assertFalse(optionsCaptor.getValue().getDeliverFrames());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldSendErrorResultOnUnknownFrameProcessor()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("frameProcessors", Collections.singletonList("unknown"));
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    verify(mockCamera, never()).startPreviewWithImageStream(any(), any());
+    verify(mockResult, times(1)).error(eq("startImageStreamFailed"), anyString(), eq(null));
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldConfigureYuvPacker()
+      throws CameraAccessException {
+    Map<String, Object> cropRect = new HashMap<>();
+    cropRect.put("left", 0);
+    cropRect.put("top", 0);
+    cropRect.put("width", 320);
+    cropRect.put("height", 240);
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("yuvPacking", "i420");
+    arguments.put("downscaleFactor", 2);
+    arguments.put("cropRect", cropRect);
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    YuvPacker yuvPacker = optionsCaptor.getValue().getYuvPacker();
+    assertEquals(YuvPackingFormat.i420, yuvPacker.getFormat());
+    yuvPacker.setImageSize(640, 480);
+    assertEquals(160, yuvPacker.getOutputWidth());
+    assertEquals(120, yuvPacker.getOutputHeight());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldNotPackWithoutYuvPacking()
+      throws CameraAccessException {
+    handler.onMethodCall(new MethodCall("startImageStream", new HashMap<>()), mockResult);
+
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    assertNull(optionsCaptor.getValue().getYuvPacker());
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldSendErrorResultOnInvalidDownscaleFactor()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("yuvPacking", "nv21");
+    arguments.put("downscaleFactor", 0);
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    verify(mockCamera, never()).startPreviewWithImageStream(any(), any());
+    verify(mockResult, times(1))
+        .error("startImageStreamFailed", "downscaleFactor must be at least 1.", null);
+  }
+
+  @Test
+  public void onMethodCall_setZslOptions_shouldPassOptionsToCamera() throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enabled", true);
+    arguments.put("poolSize", 5);
+    arguments.put("memoryBudgetBytes", 100000000L);
+
+    handler.onMethodCall(new MethodCall("setZslOptions", arguments), mockResult);
+
+    ArgumentCaptor<ZslOptions> optionsCaptor = ArgumentCaptor.forClass(ZslOptions.class);
+    verify(mockCamera, times(1)).setZslOptions(optionsCaptor.capture());
+    assertEquals(5, optionsCaptor.getValue().getPoolSize());
+    assertEquals(100000000L, optionsCaptor.getValue().getMemoryBudgetBytes());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_setZslOptions_shouldDisableZslWhenNotEnabled()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enabled", false);
+
+    handler.onMethodCall(new MethodCall("setZslOptions", arguments), mockResult);
+
+    verify(mockCamera, times(1)).setZslOptions(null);
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_setZslOptions_shouldSendErrorResultOnInvalidPoolSize()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enabled", true);
+    arguments.put("poolSize", 0);
+
+    handler.onMethodCall(new MethodCall("setZslOptions", arguments), mockResult);
+
+    verify(mockCamera, never()).setZslOptions(any());
+    verify(mockResult, times(1)).error("setZslOptionsFailed", "poolSize must be at least 1.", null);
+  }
+
+  @Test
+  public void onMethodCall_setPersistentCaptureSession_shouldEnablePersistentSession()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enabled", true);
+
+    handler.onMethodCall(new MethodCall("setPersistentCaptureSession", arguments), mockResult);
+
+    verify(mockCamera, times(1)).setPersistentCaptureSession(true);
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_setMetricsEnabled_shouldSetMetricsOnCamera() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enabled", true);
+    arguments.put("snapshotIntervalMs", 500);
+
+    handler.onMethodCall(new MethodCall("setMetricsEnabled", arguments), mockResult);
+
+    verify(mockCamera, times(1)).setMetrics(any(CameraMetrics.class));
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_setMetricsEnabled_shouldClearMetricsWhenDisabled() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enabled", false);
+
+    handler.onMethodCall(new MethodCall("setMetricsEnabled", arguments), mockResult);
+
+    verify(mockCamera, times(1)).setMetrics(null);
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startVideoRecording_shouldPassSegmentOptionsToCamera() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enableStream", false);
+    arguments.put("segmentDurationMs", 60000);
+    ArgumentCaptor<RecordingSegmentOptions> optionsCaptor =
+        ArgumentCaptor.forClass(RecordingSegmentOptions.class);
+
+    handler.onMethodCall(new MethodCall("startVideoRecording", arguments), mockResult);
+
+    verify(mockCamera, times(1))
+        .startVideoRecording(eq(mockResult), eq(null), optionsCaptor.capture());
+    assertEquals(60000, optionsCaptor.getValue().getMaxDurationMs());
+    assertEquals(0, optionsCaptor.getValue().getMaxSizeBytes());
+  }
+
+  @Test
+  public void onMethodCall_startVideoRecording_shouldRecordSingleFileWithoutSegmentOptions() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("enableStream", false);
+
+    handler.onMethodCall(new MethodCall("startVideoRecording", arguments), mockResult);
+
+    verify(mockCamera, times(1)).startVideoRecording(mockResult, null, null);
+  }
+
+  @Test
+  public void onMethodCall_setTargetPreviewSize_shouldResetWithoutSize() {
+    handler.onMethodCall(new MethodCall("setTargetPreviewSize", new HashMap<>()), mockResult);
+
+    verify(mockCamera, times(1)).setTargetPreviewSize(mockResult, null);
+  }
+
+  @Test
+  public void onMethodCall_getCaptureSessionStatistics_shouldReturnCameraStatistics() {
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("sessionConfigurations", 1);
+    when(mockCamera.getCaptureSessionStatistics()).thenReturn(statistics);
+
+    handler.onMethodCall(
+        new MethodCall("getCaptureSessionStatistics", new HashMap<>()), mockResult);
+
+    verify(mockResult, times(1)).success(statistics);
+  }
+
+  @Test
+  public void onMethodCall_applySettings_shouldPassSettingsToCamera() {
+    Map<String, Object> exposurePoint = new HashMap<>();
+    exposurePoint.put("reset", true);
+    Map<String, Object> focusPoint = new HashMap<>();
+    focusPoint.put("reset", false);
+    focusPoint.put("x", 0.25);
+    focusPoint.put("y", 0.75);
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("flashMode", "torch");
+    arguments.put("exposureMode", "locked");
+    arguments.put("exposurePoint", exposurePoint);
+    arguments.put("exposureOffset", 1.5);
+    arguments.put("focusMode", "auto");
+    arguments.put("focusPoint", focusPoint);
+    arguments.put("zoomLevel", 2.0);
+
+    handler.onMethodCall(new MethodCall("applySettings", arguments), mockResult);
+
+    ArgumentCaptor<CameraSettings> settingsCaptor = ArgumentCaptor.forClass(CameraSettings.class);
+    verify(mockCamera, times(1)).applySettings(eq(mockResult), settingsCaptor.capture());
+    CameraSettings settings = settingsCaptor.getValue();
+    assertEquals(FlashMode.torch, settings.getFlashMode());
+    assertEquals(ExposureMode.locked, settings.getExposureMode());
+    assertNull(settings.getExposurePoint().x);
+    assertNull(settings.getExposurePoint().y);
+    assertEquals(Double.valueOf(1.5), settings.getExposureOffset());
+    assertEquals(FocusMode.auto, settings.getFocusMode());
+    assertEquals(Double.valueOf(0.25), settings.getFocusPoint().x);
+    assertEquals(Double.valueOf(0.75), settings.getFocusPoint().y);
+    assertEquals(Float.valueOf(2f), settings.getZoomLevel());
+  }
+
+  @Test
+  public void onMethodCall_applySettings_shouldLeaveMissingSettingsUnchanged() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("flashMode", "off");
+
+    handler.onMethodCall(new MethodCall("applySettings", arguments), mockResult);
+
+    ArgumentCaptor<CameraSettings> settingsCaptor = ArgumentCaptor.forClass(CameraSettings.class);
+    verify(mockCamera, times(1)).applySettings(eq(mockResult), settingsCaptor.capture());
+    CameraSettings settings = settingsCaptor.getValue();
+    assertEquals(FlashMode.off, settings.getFlashMode());
+    assertNull(settings.getExposureMode());
+    assertNull(settings.getExposurePoint());
+    assertNull(settings.getExposureOffset());
+    assertNull(settings.getFocusMode());
+    assertNull(settings.getFocusPoint());
+    assertNull(settings.getZoomLevel());
+  }
+
+  @Test
+  public void onMethodCall_applySettings_shouldSendErrorResultOnUnknownMode() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("focusMode", "manual");
+
+    handler.onMethodCall(new MethodCall("applySettings", arguments), mockResult);
+
+    verify(mockCamera, never()).applySettings(any(), any());
+    verify(mockResult, times(1)).error("applySettingsFailed", "Unknown focus mode manual", null);
+  }
 }
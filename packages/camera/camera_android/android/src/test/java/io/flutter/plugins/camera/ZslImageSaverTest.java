@@ -0,0 +1,176 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.YuvImage;
+import android.media.ExifInterface;
+import android.media.Image;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+
+public class ZslImageSaverTest {
+  Image mockImage;
+  File mockFile;
+  ImageSaver.Callback mockCallback;
+  YuvImage mockYuvImage;
+  ExifInterface mockExif;
+  FileOutputStream mockFileOutputStream;
+  MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
+  MockedStatic<ZslImageSaver.YuvImageFactory> mockYuvImageFactory;
+  MockedStatic<ZslImageSaver.ExifInterfaceFactory> mockExifInterfaceFactory;
+  byte[] packedBytes;
+
+  @Before
+  public void setup() {
+    mockFile = mock(File.class);
+    when(mockFile.getAbsolutePath()).thenReturn("absolute/path");
+    mockCallback = mock(ImageSaver.Callback.class);
+
+    // A 2x2 YUV_420_888 image with planar chroma planes.
+    mockImage = mock(Image.class);
+    when(mockImage.getWidth()).thenReturn(2);
+    when(mockImage.getHeight()).thenReturn(2);
+    Image.Plane yPlane = mockPlane(new byte[] {1, 2, 3, 4}, 2, 1);
+    Image.Plane uPlane = mockPlane(new byte[] {5}, 1, 1);
+    Image.Plane vPlane = mockPlane(new byte[] {6}, 1, 1);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {yPlane, uPlane, vPlane});
+
+    mockYuvImage = mock(YuvImage.class);
+    when(mockYuvImage.getWidth()).thenReturn(2);
+    when(mockYuvImage.getHeight()).thenReturn(2);
+    when(mockYuvImage.compressToJpeg(any(), anyInt(), any())).thenReturn(true);
+    mockYuvImageFactory = mockStatic(ZslImageSaver.YuvImageFactory.class);
+    mockYuvImageFactory
+        .when(() -> ZslImageSaver.YuvImageFactory.create(any(), anyInt(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              packedBytes = invocation.getArgument(0);
+              return mockYuvImage;
+            });
+
+    mockExif = mock(ExifInterface.class);
+    mockExifInterfaceFactory = mockStatic(ZslImageSaver.ExifInterfaceFactory.class);
+    mockExifInterfaceFactory
+        .when(() -> ZslImageSaver.ExifInterfaceFactory.create(anyString()))
+        .thenReturn(mockExif);
+
+    mockFileOutputStream = mock(FileOutputStream.class);
+    mockFileOutputStreamFactory = mockStatic(ImageSaver.FileOutputStreamFactory.class);
+    mockFileOutputStreamFactory
+        .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
+        .thenReturn(mockFileOutputStream);
+  }
+
+  @After
+  public void teardown() {
+    mockFileOutputStreamFactory.close();
+    mockYuvImageFactory.close();
+    mockExifInterfaceFactory.close();
+  }
+
+  private static Image.Plane mockPlane(byte[] bytes, int rowStride, int pixelStride) {
+    Image.Plane plane = mock(Image.Plane.class);
+    when(plane.getBuffer()).thenReturn(ByteBuffer.wrap(bytes));
+    when(plane.getRowStride()).thenReturn(rowStride);
+    when(plane.getPixelStride()).thenReturn(pixelStride);
+    return plane;
+  }
+
+  @Test
+  public void run_encodesImageAsNv21Jpeg() throws IOException {
+    ZslImageSaver saver = new ZslImageSaver(mockImage, mockFile, 90, mockCallback, null);
+
+    saver.run();
+
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 6, 5}, packedBytes);
+    verify(mockYuvImage, times(1))
+        .compressToJpeg(any(), eq(ZslImageSaver.JPEG_QUALITY), eq(mockFileOutputStream));
+    verify(mockFileOutputStream, times(1)).close();
+    verify(mockImage, times(1)).close();
+    verify(mockCallback, times(1)).onComplete("absolute/path");
+    verify(mockCallback, never()).onError(any(), any());
+  }
+
+  @Test
+  public void run_writesOrientationAfterClosingFile() throws IOException {
+    ZslImageSaver saver = new ZslImageSaver(mockImage, mockFile, 270, mockCallback, null);
+
+    saver.run();
+
+    InOrder inOrder = inOrder(mockFileOutputStream, mockExif);
+    inOrder.verify(mockFileOutputStream).close();
+    inOrder
+        .verify(mockExif)
+        .setAttribute(
+            ExifInterface.TAG_ORIENTATION, String.valueOf(ExifInterface.ORIENTATION_ROTATE_270));
+    inOrder.verify(mockExif).saveAttributes();
+  }
+
+  @Test
+  public void run_recordsSaveInMetrics() {
+    ImageSaver.Metrics metrics = new ImageSaver.Metrics();
+    ZslImageSaver saver = new ZslImageSaver(mockImage, mockFile, 0, mockCallback, metrics);
+
+    saver.run();
+
+    assertEquals(1, metrics.getSavedImageCount());
+  }
+
+  @Test
+  public void run_reportsErrorWhenEncodingFails() throws IOException {
+    when(mockYuvImage.compressToJpeg(any(), anyInt(), any())).thenReturn(false);
+    ZslImageSaver saver = new ZslImageSaver(mockImage, mockFile, 0, mockCallback, null);
+
+    saver.run();
+
+    verify(mockCallback, times(1)).onError("IOError", "Failed encoding image");
+    verify(mockCallback, never()).onComplete(any());
+    verify(mockFileOutputStream, times(1)).close();
+    verify(mockImage, times(1)).close();
+  }
+
+  @Test
+  public void run_reportsErrorWhenExifCannotBeSaved() throws IOException {
+    doThrow(new IOException()).when(mockExif).saveAttributes();
+    ZslImageSaver saver = new ZslImageSaver(mockImage, mockFile, 0, mockCallback, null);
+
+    saver.run();
+
+    verify(mockCallback, times(1)).onError("IOError", "Failed saving image");
+    verify(mockCallback, never()).onComplete(any());
+    verify(mockFileOutputStream, times(1)).close();
+  }
+
+  @Test
+  public void getExifOrientation_mapsDegrees() {
+    assertEquals(ExifInterface.ORIENTATION_NORMAL, ZslImageSaver.getExifOrientation(0));
+    assertEquals(ExifInterface.ORIENTATION_ROTATE_90, ZslImageSaver.getExifOrientation(90));
+    assertEquals(ExifInterface.ORIENTATION_ROTATE_180, ZslImageSaver.getExifOrientation(180));
+    assertEquals(ExifInterface.ORIENTATION_ROTATE_270, ZslImageSaver.getExifOrientation(270));
+    assertEquals(ExifInterface.ORIENTATION_ROTATE_90, ZslImageSaver.getExifOrientation(450));
+  }
+}
@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.camera.features.resolution;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -14,6 +15,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import android.graphics.ImageFormat;
 import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.util.Size;
@@ -427,4 +429,62 @@ public class ResolutionFeatureTest {
       assertNull(resolutionFeature.getRecordingProfile());
     }
   }
+
+  @Test
+  public void computeBestPreviewSizeForTarget_shouldSelectSmallestSizeCoveringTarget() {
+    Size[] candidates = {
+      new Size(320, 240), new Size(640, 360), new Size(640, 480), new Size(1280, 720)
+    };
+
+    Size previewSize =
+        ResolutionFeature.computeBestPreviewSizeForTarget(
+            candidates, new Size(300, 533), new Size(1280, 720));
+
+    assertEquals(new Size(640, 360), previewSize);
+  }
+
+  @Test
+  public void computeBestPreviewSizeForTarget_shouldMatchAspectRatio() {
+    Size[] candidates = {new Size(640, 360), new Size(640, 480), new Size(1280, 720)};
+
+    Size previewSize =
+        ResolutionFeature.computeBestPreviewSizeForTarget(
+            candidates, new Size(400, 300), new Size(1280, 720));
+
+    assertEquals(new Size(640, 480), previewSize);
+  }
+
+  @Test
+  public void computeBestPreviewSizeForTarget_shouldNotExceedPresetPreviewSize() {
+    Size[] candidates = {new Size(640, 360), new Size(1280, 720), new Size(1920, 1080)};
+
+    Size previewSize =
+        ResolutionFeature.computeBestPreviewSizeForTarget(
+            candidates, new Size(1600, 900), new Size(1280, 720));
+
+    assertEquals(new Size(1280, 720), previewSize);
+  }
+
+  @Test
+  public void computeBestPreviewSizeForTarget_shouldUsePresetPreviewSizeWithoutCandidates() {
+    Size previewSize =
+        ResolutionFeature.computeBestPreviewSizeForTarget(
+            null, new Size(400, 300), new Size(1280, 720));
+
+    assertEquals(new Size(1280, 720), previewSize);
+  }
+
+  @Config(minSdk = 23)
+  @Test
+  public void getPreviewSizeCandidates_shouldSortSizesSupportedByStreamAndSurface() {
+    CameraProperties mockCameraProperties = mock(CameraProperties.class);
+    when(mockCameraProperties.getOutputSizes(ImageFormat.YUV_420_888))
+        .thenReturn(new Size[] {new Size(1280, 720), new Size(176, 144), new Size(640, 480)});
+    when(mockCameraProperties.getOutputSizes(ImageFormat.PRIVATE))
+        .thenReturn(new Size[] {new Size(640, 480), new Size(1280, 720)});
+
+    Size[] candidates = ResolutionFeature.getPreviewSizeCandidates(mockCameraProperties);
+
+    assertArrayEquals(new Size[] {new Size(640, 480), new Size(1280, 720)}, candidates);
+  }
 }
@@ -0,0 +1,47 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class FrameProcessorRegistryTest {
+  @After
+  public void after() {
+    FrameProcessorRegistry.unregister("test");
+  }
+
+  @Test
+  public void get_returnsRegisteredProcessor() {
+    FrameProcessor processor = mock(FrameProcessor.class);
+
+    FrameProcessorRegistry.register("test", processor);
+
+    assertSame(processor, FrameProcessorRegistry.get("test"));
+  }
+
+  @Test
+  public void register_replacesProcessorWithSameName() {
+    FrameProcessor processor = mock(FrameProcessor.class);
+
+    FrameProcessorRegistry.register("test", mock(FrameProcessor.class));
+    FrameProcessorRegistry.register("test", processor);
+
+    assertSame(processor, FrameProcessorRegistry.get("test"));
+  }
+
+  @Test
+  public void unregister_removesProcessor() {
+    FrameProcessorRegistry.register("test", mock(FrameProcessor.class));
+
+    FrameProcessorRegistry.unregister("test");
+
+    assertNull(FrameProcessorRegistry.get("test"));
+  }
+}
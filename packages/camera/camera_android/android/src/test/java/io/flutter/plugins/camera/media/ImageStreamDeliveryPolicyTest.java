@@ -0,0 +1,44 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ImageStreamDeliveryPolicyTest {
+
+  @Test
+  public void getValueForString_returnsCorrectValues() {
+    assertEquals(
+        "Returns ImageStreamDeliveryPolicy.latestOnly for 'latestOnly'",
+        ImageStreamDeliveryPolicy.getValueForString("latestOnly"),
+        ImageStreamDeliveryPolicy.latestOnly);
+    assertEquals(
+        "Returns ImageStreamDeliveryPolicy.block for 'block'",
+        ImageStreamDeliveryPolicy.getValueForString("block"),
+        ImageStreamDeliveryPolicy.block);
+  }
+
+  @Test
+  public void getValueForString_returnsNullForNonexistantValue() {
+    assertEquals(
+        "Returns null for 'nonexistant'",
+        ImageStreamDeliveryPolicy.getValueForString("nonexistant"),
+        null);
+  }
+
+  @Test
+  public void toString_returnsCorrectValue() {
+    assertEquals(
+        "Returns 'latestOnly' for ImageStreamDeliveryPolicy.latestOnly",
+        ImageStreamDeliveryPolicy.latestOnly.toString(),
+        "latestOnly");
+    assertEquals(
+        "Returns 'block' for ImageStreamDeliveryPolicy.block",
+        ImageStreamDeliveryPolicy.block.toString(),
+        "block");
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.camera.utils.AllocationCounter;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class ImageStreamFramePoolTest {
+  @Test
+  public void acquire_returnsNullWhenAllFramesAreInFlight() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(2);
+
+    ImageStreamFrame first = pool.acquire();
+    ImageStreamFrame second = pool.acquire();
+
+    assertNotNull(first);
+    assertNotNull(second);
+    assertNull(pool.acquire());
+    assertEquals(2, pool.getInFlightCount());
+  }
+
+  @Test
+  public void release_makesFrameAvailableForReuse() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(1);
+
+    ImageStreamFrame frame = pool.acquire();
+    pool.release(frame);
+
+    assertSame(frame, pool.acquire());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_throwsWhenCapacityIsZero() {
+    new ImageStreamFramePool(0);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void setPlane_copiesBytesAndStrides() {
+    ImageStreamFrame frame = new ImageStreamFramePool(1).acquire();
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0x01, 0x02, 0x03});
+
+    frame.setPlaneCount(1);
+    frame.setPlane(0, buffer, 3, 1);
+    frame.setImageInfo(3, 1, 35);
+
+    Map<String, Object> data = frame.getData();
+    List<Map<String, Object>> planes = (List<Map<String, Object>>) data.get("planes");
+    assertEquals(1, planes.size());
+    assertArrayEquals(new byte[] {0x01, 0x02, 0x03}, (byte[]) planes.get(0).get("bytes"));
+    assertEquals(3, planes.get(0).get("bytesPerRow"));
+    assertEquals(1, planes.get(0).get("bytesPerPixel"));
+    assertEquals(3, data.get("width"));
+    assertEquals(1, data.get("height"));
+    assertEquals(35, data.get("format"));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  public void deliver_sendsDataAndReleasesFrame() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(1);
+    ImageStreamFrame frame = pool.acquire();
+    FakeEventSink sink = new FakeEventSink();
+
+    frame.deliverTo(sink, null, 0).run();
+
+    assertSame(frame.getData(), sink.lastEvent);
+    assertEquals(0, pool.getInFlightCount());
+  }
+
+  @Test
+  public void steadyStateStreaming_doesNotAllocatePerFrame() {
+    final AllocationCounter allocationCounter = new AllocationCounter();
+    assumeTrue(allocationCounter.isSupported());
+
+    // A 640x480 YUV_420_888 frame.
+    final ByteBuffer yPlane = ByteBuffer.allocateDirect(640 * 480);
+    final ByteBuffer uPlane = ByteBuffer.allocateDirect(640 * 240 - 1);
+    final ByteBuffer vPlane = ByteBuffer.allocateDirect(640 * 240 - 1);
+    final ImageStreamFramePool pool = new ImageStreamFramePool();
+    final FakeEventSink sink = new FakeEventSink();
+    final float lensAperture = 1.8f;
+    final long exposureTime = 33000000L;
+    final int sensitivity = 400;
+
+    final int warmUpFrames = 1000;
+    final int measuredFrames = 1000;
+    for (int i = 0; i < warmUpFrames; i++) {
+      streamFrame(pool, sink, yPlane, uPlane, vPlane, lensAperture, exposureTime, sensitivity);
+    }
+
+    final long before = allocationCounter.getAllocatedBytes();
+    for (int i = 0; i < measuredFrames; i++) {
+      streamFrame(pool, sink, yPlane, uPlane, vPlane, lensAperture, exposureTime, sensitivity);
+    }
+    final long after = allocationCounter.getAllocatedBytes();
+
+    final long bytesPerFrame = (after - before) / measuredFrames;
+    assertTrue(
+        "Expected no allocations per frame, got " + bytesPerFrame + " bytes per frame.",
+        bytesPerFrame < 16);
+  }
+
+  private static void streamFrame(
+      ImageStreamFramePool pool,
+      EventChannel.EventSink sink,
+      ByteBuffer yPlane,
+      ByteBuffer uPlane,
+      ByteBuffer vPlane,
+      float lensAperture,
+      long exposureTime,
+      int sensitivity) {
+    ImageStreamFrame frame = pool.acquire();
+    frame.setPlaneCount(3);
+    frame.setPlane(0, yPlane, 640, 1);
+    frame.setPlane(1, uPlane, 640, 2);
+    frame.setPlane(2, vPlane, 640, 2);
+    frame.setImageInfo(640, 480, 35);
+    frame.setCaptureProperties(lensAperture, exposureTime, sensitivity);
+    frame.deliverTo(sink, null, 0).run();
+  }
+
+  private static class FakeEventSink implements EventChannel.EventSink {
+    Object lastEvent;
+
+    @Override
+    public void success(Object event) {
+      lastEvent = event;
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {}
+
+    @Override
+    public void endOfStream() {}
+  }
+}
@@ -0,0 +1,72 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ImageStreamRateLimiterTest {
+  private static final long FRAME_INTERVAL_30_FPS_NS = 33333333L;
+
+  @Test
+  public void shouldDeliver_deliversFirstFrame() {
+    ImageStreamRateLimiter rateLimiter = new ImageStreamRateLimiter(10);
+
+    assertTrue(rateLimiter.shouldDeliver(123456789L));
+  }
+
+  @Test
+  public void shouldDeliver_deliversEveryThirdFrameAt10FpsFrom30Fps() {
+    ImageStreamRateLimiter rateLimiter = new ImageStreamRateLimiter(10);
+
+    for (int i = 0; i < 30; i++) {
+      assertEquals(
+          "frame " + i, i % 3 == 0, rateLimiter.shouldDeliver(i * FRAME_INTERVAL_30_FPS_NS));
+    }
+  }
+
+  @Test
+  public void shouldDeliver_meetsTargetRateOnAverage() {
+    ImageStreamRateLimiter rateLimiter = new ImageStreamRateLimiter(20);
+
+    int delivered = 0;
+    for (int i = 0; i < 300; i++) {
+      if (rateLimiter.shouldDeliver(i * FRAME_INTERVAL_30_FPS_NS)) {
+        delivered++;
+      }
+    }
+
+    // 300 frames at 30 fps are 10 seconds.
+    assertEquals(200, delivered);
+  }
+
+  @Test
+  public void shouldDeliver_toleratesTimestampJitter() {
+    ImageStreamRateLimiter rateLimiter = new ImageStreamRateLimiter(10);
+
+    assertTrue(rateLimiter.shouldDeliver(0));
+    assertFalse(rateLimiter.shouldDeliver(33000000L));
+    assertFalse(rateLimiter.shouldDeliver(66000000L));
+    assertTrue(rateLimiter.shouldDeliver(99000000L));
+  }
+
+  @Test
+  public void shouldDeliver_restartsScheduleAfterStall() {
+    ImageStreamRateLimiter rateLimiter = new ImageStreamRateLimiter(10);
+
+    assertTrue(rateLimiter.shouldDeliver(0));
+    assertTrue(rateLimiter.shouldDeliver(1000000000L));
+    // Without restarting the schedule, the frames right after the stall would all be delivered.
+    assertFalse(rateLimiter.shouldDeliver(1000000000L + FRAME_INTERVAL_30_FPS_NS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_throwsForNonPositiveFrameRate() {
+    new ImageStreamRateLimiter(0);
+  }
+}
@@ -0,0 +1,377 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.ImageFormat;
+import android.media.Image;
+import android.media.ImageReader;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+public class ImageStreamReaderTest {
+  private ImageReader mockImageReader;
+  private Handler mockHandler;
+  private EventChannel.EventSink mockEventSink;
+  private ImageStreamFramePool framePool;
+  private ImageStreamReader imageStreamReader;
+
+  @Before
+  public void before() {
+    mockImageReader = mock(ImageReader.class);
+    mockHandler = mock(Handler.class);
+    mockEventSink = mock(EventChannel.EventSink.class);
+    framePool = new ImageStreamFramePool(1);
+    imageStreamReader = new ImageStreamReader(mockImageReader, framePool, mockHandler);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onImageAvailable_postsPooledFrameAndClosesImage() {
+    Image mockImage = createMockImage();
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    imageStreamReader.onImageAvailable(mockImage, new CameraCaptureProperties(), mockEventSink);
+
+    verify(mockImage, times(1)).close();
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    assertEquals(1, framePool.getInFlightCount());
+
+    runnableCaptor.getValue().run();
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockEventSink, times(1)).success(eventCaptor.capture());
+    Map<String, Object> event = (Map<String, Object>) eventCaptor.getValue();
+    assertEquals(4, event.get("width"));
+    assertEquals(2, event.get("height"));
+    assertEquals(ImageFormat.YUV_420_888, event.get("format"));
+    assertEquals(0, framePool.getInFlightCount());
+  }
+
+  @Test
+  public void onImageAvailable_dropsImageWhenNoFrameIsAvailable() {
+    Image firstImage = createMockImage();
+    Image secondImage = createMockImage();
+
+    imageStreamReader.onImageAvailable(firstImage, new CameraCaptureProperties(), mockEventSink);
+    imageStreamReader.onImageAvailable(secondImage, new CameraCaptureProperties(), mockEventSink);
+
+    verify(mockHandler, times(1)).post(any());
+    verify(secondImage, times(1)).close();
+    verify(secondImage, never()).getPlanes();
+  }
+
+  @Test
+  public void onImageAvailable_countsDeliveredAndDroppedFrames() {
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+
+    assertEquals(0, imageStreamReader.getDeliveredFrameCount());
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+    assertEquals(1, imageStreamReader.getFramesInFlightCount());
+
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    assertEquals(1, imageStreamReader.getDeliveredFrameCount());
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+    assertEquals(0, imageStreamReader.getFramesInFlightCount());
+  }
+
+  @Test
+  public void onImageAvailable_reportsDeliveryLatencyToListener() {
+    ImageStreamReader.FrameDeliveryListener mockListener =
+        mock(ImageStreamReader.FrameDeliveryListener.class);
+    imageStreamReader.setFrameDeliveryListener(mockListener);
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    try (MockedStatic<SystemClock> mockSystemClock = mockStatic(SystemClock.class)) {
+      mockSystemClock.when(SystemClock::elapsedRealtimeNanos).thenReturn(1000L);
+      imageStreamReader.onImageAvailable(
+          createMockImage(), new CameraCaptureProperties(), mockEventSink);
+
+      verify(mockHandler, times(1)).post(runnableCaptor.capture());
+      mockSystemClock.when(SystemClock::elapsedRealtimeNanos).thenReturn(5000L);
+      runnableCaptor.getValue().run();
+    }
+
+    verify(mockListener, times(1)).onFrameDelivered(4000L);
+  }
+
+  @Test
+  public void onImageAvailable_blockPolicyWaitsForReleasedFrame() throws InterruptedException {
+    imageStreamReader.setOptions(
+        new ImageStreamOptions()
+            .setDeliveryPolicy(ImageStreamDeliveryPolicy.block)
+            .setMaxFramesInFlight(1));
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+
+    Thread mainThread = new Thread(() -> runnableCaptor.getValue().run());
+    mainThread.start();
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    mainThread.join();
+
+    verify(mockHandler, times(2)).post(any());
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+  }
+
+  @Test
+  public void onImageAvailable_blockPolicyDropsFrameAfterTimeout() {
+    imageStreamReader.setOptions(
+        new ImageStreamOptions()
+            .setDeliveryPolicy(ImageStreamDeliveryPolicy.block)
+            .setMaxFramesInFlight(1));
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+
+    long start = System.nanoTime();
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    long waitedMs = (System.nanoTime() - start) / 1000000L;
+
+    assertTrue(waitedMs >= ImageStreamReader.MAX_BLOCKING_WAIT_MS - 1);
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+    verify(mockHandler, times(1)).post(any());
+  }
+
+  @Test
+  public void setOptions_resetsCountersAndResizesPool() {
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+
+    imageStreamReader.setOptions(new ImageStreamOptions().setMaxFramesInFlight(2));
+
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+    assertEquals(0, imageStreamReader.getFramesInFlightCount());
+    assertNull(framePool.acquire());
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+    assertEquals(2, imageStreamReader.getFramesInFlightCount());
+  }
+
+  @Test
+  public void onImageAvailable_runsFrameProcessorsBeforeClosingImage() {
+    FrameProcessor mockProcessor = mock(FrameProcessor.class);
+    ImageStreamReader.FrameProcessorResultListener mockListener =
+        mock(ImageStreamReader.FrameProcessorResultListener.class);
+    Image mockImage = createMockImage();
+    when(mockImage.getTimestamp()).thenReturn(42L);
+    when(mockProcessor.process(mockImage)).thenReturn("result");
+    imageStreamReader.setOptions(new ImageStreamOptions().addFrameProcessor("test", mockProcessor));
+    imageStreamReader.setFrameProcessorResultListener(mockListener);
+
+    imageStreamReader.onImageAvailable(mockImage, new CameraCaptureProperties(), mockEventSink);
+
+    InOrder inOrder = inOrder(mockProcessor, mockImage);
+    inOrder.verify(mockProcessor, times(1)).process(mockImage);
+    inOrder.verify(mockImage, times(1)).close();
+    verify(mockListener, times(1)).onFrameProcessorResult("test", 42L, "result");
+    verify(mockHandler, times(1)).post(any());
+  }
+
+  @Test
+  public void onImageAvailable_doesNotReportNullFrameProcessorResults() {
+    FrameProcessor mockProcessor = mock(FrameProcessor.class);
+    ImageStreamReader.FrameProcessorResultListener mockListener =
+        mock(ImageStreamReader.FrameProcessorResultListener.class);
+    imageStreamReader.setOptions(new ImageStreamOptions().addFrameProcessor("test", mockProcessor));
+    imageStreamReader.setFrameProcessorResultListener(mockListener);
+
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+
+    verify(mockListener, never()).onFrameProcessorResult(any(), any(Long.class), any());
+  }
+
+  @Test
+  public void onImageAvailable_continuesWhenFrameProcessorThrows() {
+    FrameProcessor failingProcessor = mock(FrameProcessor.class);
+    FrameProcessor mockProcessor = mock(FrameProcessor.class);
+    Image mockImage = createMockImage();
+    doThrow(new IllegalStateException()).when(failingProcessor).process(mockImage);
+    imageStreamReader.setOptions(
+        new ImageStreamOptions()
+            .addFrameProcessor("failing", failingProcessor)
+            .addFrameProcessor("test", mockProcessor));
+
+    imageStreamReader.onImageAvailable(mockImage, new CameraCaptureProperties(), mockEventSink);
+
+    verify(mockProcessor, times(1)).process(mockImage);
+    verify(mockImage, times(1)).close();
+    verify(mockHandler, times(1)).post(any());
+  }
+
+  @Test
+  public void onImageAvailable_skipsCopyWhenFramesAreNotDelivered() {
+    FrameProcessor mockProcessor = mock(FrameProcessor.class);
+    Image mockImage = createMockImage();
+    imageStreamReader.setOptions(
+        new ImageStreamOptions().addFrameProcessor("test", mockProcessor).setDeliverFrames(false));
+
+    imageStreamReader.onImageAvailable(mockImage, new CameraCaptureProperties(), mockEventSink);
+
+    verify(mockProcessor, times(1)).process(mockImage);
+    verify(mockImage, never()).getPlanes();
+    verify(mockImage, times(1)).close();
+    verify(mockHandler, never()).post(any());
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onImageAvailable_packsYuvFramesIntoSinglePlane() {
+    imageStreamReader.setOptions(
+        new ImageStreamOptions().setYuvPacker(new YuvPacker(YuvPackingFormat.nv21, 1)));
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    imageStreamReader.onImageAvailable(
+        createMockImage(), new CameraCaptureProperties(), mockEventSink);
+    verify(mockHandler, times(1)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockEventSink, times(1)).success(eventCaptor.capture());
+    Map<String, Object> event = (Map<String, Object>) eventCaptor.getValue();
+    assertEquals(4, event.get("width"));
+    assertEquals(2, event.get("height"));
+    assertEquals(ImageFormat.NV21, event.get("format"));
+    List<Map<String, Object>> planes = (List<Map<String, Object>>) event.get("planes");
+    assertEquals(1, planes.size());
+    assertEquals(12, ((byte[]) planes.get(0).get("bytes")).length);
+    assertEquals(4, planes.get(0).get("bytesPerRow"));
+    assertEquals(1, planes.get(0).get("bytesPerPixel"));
+  }
+
+  @Test
+  public void onImageAvailable_dropsFrameWhenCropRectIsOutsideFrame() {
+    imageStreamReader.setOptions(
+        new ImageStreamOptions()
+            .setYuvPacker(new YuvPacker(YuvPackingFormat.nv21, 1).setCropRect(8, 8, 2, 2)));
+    Image mockImage = createMockImage();
+
+    imageStreamReader.onImageAvailable(mockImage, new CameraCaptureProperties(), mockEventSink);
+
+    verify(mockHandler, never()).post(any());
+    verify(mockImage, times(1)).close();
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+    assertEquals(0, framePool.getInFlightCount());
+  }
+
+  @Test
+  public void onImageAvailable_closesImagesAboveTargetFrameRateWithoutCopying() {
+    FrameProcessor mockProcessor = mock(FrameProcessor.class);
+    imageStreamReader.setOptions(
+        new ImageStreamOptions()
+            .setTargetFrameRate(10)
+            .setMaxFramesInFlight(2)
+            .addFrameProcessor("test", mockProcessor));
+    Image firstImage = createMockImage();
+    Image skippedImage = createMockImage();
+    when(firstImage.getTimestamp()).thenReturn(0L);
+    when(skippedImage.getTimestamp()).thenReturn(33333333L);
+
+    imageStreamReader.onImageAvailable(firstImage, new CameraCaptureProperties(), mockEventSink);
+    imageStreamReader.onImageAvailable(skippedImage, new CameraCaptureProperties(), mockEventSink);
+
+    verify(skippedImage, times(1)).close();
+    verify(skippedImage, never()).getPlanes();
+    verify(mockProcessor, never()).process(skippedImage);
+    verify(mockHandler, times(1)).post(any());
+    assertEquals(1, imageStreamReader.getSkippedFrameCount());
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+  }
+
+  @Test
+  public void removeListener_clearsImageReaderListener() {
+    imageStreamReader.removeListener(mockHandler);
+
+    verify(mockImageReader, times(1)).setOnImageAvailableListener(null, mockHandler);
+  }
+
+  @Test
+  public void subscribeListener_setsImageReaderListener() {
+    imageStreamReader.subscribeListener(new CameraCaptureProperties(), mockEventSink, mockHandler);
+
+    verify(mockImageReader, times(1)).setOnImageAvailableListener(any(), eq(mockHandler));
+  }
+
+  @Test
+  public void subscribeListener_readsBlockingStreamOnItsOwnThread() {
+    imageStreamReader.setOptions(
+        new ImageStreamOptions().setDeliveryPolicy(ImageStreamDeliveryPolicy.block));
+
+    try (MockedConstruction<HandlerThread> mockThreads = mockConstruction(HandlerThread.class)) {
+      imageStreamReader.subscribeListener(
+          new CameraCaptureProperties(), mockEventSink, mockHandler);
+
+      assertEquals(1, mockThreads.constructed().size());
+      HandlerThread streamThread = mockThreads.constructed().get(0);
+      verify(streamThread, times(1)).start();
+      verify(mockImageReader, never()).setOnImageAvailableListener(any(), eq(mockHandler));
+      verify(mockImageReader, times(1)).setOnImageAvailableListener(any(), notNull());
+
+      imageStreamReader.removeListener(mockHandler);
+
+      verify(streamThread, times(1)).quitSafely();
+    }
+  }
+
+  private static Image createMockImage() {
+    Image mockImage = mock(Image.class);
+    Image.Plane[] planes = new Image.Plane[3];
+    for (int i = 0; i < planes.length; i++) {
+      Image.Plane mockPlane = mock(Image.Plane.class);
+      when(mockPlane.getBuffer()).thenReturn(ByteBuffer.allocate(i == 0 ? 8 : 3));
+      when(mockPlane.getRowStride()).thenReturn(4);
+      when(mockPlane.getPixelStride()).thenReturn(i == 0 ? 1 : 2);
+      planes[i] = mockPlane;
+    }
+    when(mockImage.getPlanes()).thenReturn(planes);
+    when(mockImage.getWidth()).thenReturn(4);
+    when(mockImage.getHeight()).thenReturn(2);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+    return mockImage;
+  }
+}
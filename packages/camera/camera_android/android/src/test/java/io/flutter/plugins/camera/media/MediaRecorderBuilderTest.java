@@ -10,6 +10,7 @@ import static org.mockito.Mockito.*;
 import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.MediaRecorder;
+import android.view.Surface;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.util.List;
@@ -210,6 +211,51 @@ public class MediaRecorderBuilderTest {
     inOrder.verify(recorder).prepare();
   }
 
+  @Config(minSdk = 23, maxSdk = 30)
+  @SuppressWarnings("deprecation")
+  @Test
+  public void build_shouldSetInputSurfaceBeforePrepare() throws IOException {
+    CamcorderProfile recorderProfile = getEmptyCamcorderProfile();
+    MediaRecorderBuilder.MediaRecorderFactory mockFactory =
+        mock(MediaRecorderBuilder.MediaRecorderFactory.class);
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    Surface mockSurface = mock(Surface.class);
+    MediaRecorderBuilder builder =
+        new MediaRecorderBuilder(recorderProfile, "mock_video_file_path", mockFactory)
+            .setInputSurface(mockSurface);
+
+    when(mockFactory.makeMediaRecorder()).thenReturn(mockMediaRecorder);
+
+    MediaRecorder recorder = builder.build();
+
+    InOrder inOrder = inOrder(recorder);
+    inOrder.verify(recorder).setVideoSource(MediaRecorder.VideoSource.SURFACE);
+    inOrder.verify(recorder).setInputSurface(mockSurface);
+    inOrder.verify(recorder).prepare();
+  }
+
+  @Config(maxSdk = 30)
+  @SuppressWarnings("deprecation")
+  @Test
+  public void build_shouldSetSegmentSizeBeforePrepare() throws IOException {
+    CamcorderProfile recorderProfile = getEmptyCamcorderProfile();
+    MediaRecorderBuilder.MediaRecorderFactory mockFactory =
+        mock(MediaRecorderBuilder.MediaRecorderFactory.class);
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    MediaRecorderBuilder builder =
+        new MediaRecorderBuilder(recorderProfile, "mock_video_file_path", mockFactory)
+            .setSegmentOptions(new RecordingSegmentOptions().setMaxSizeBytes(1000));
+
+    when(mockFactory.makeMediaRecorder()).thenReturn(mockMediaRecorder);
+
+    MediaRecorder recorder = builder.build();
+
+    InOrder inOrder = inOrder(recorder);
+    inOrder.verify(recorder).setOutputFile("mock_video_file_path");
+    inOrder.verify(recorder).setMaxFileSize(1000);
+    inOrder.verify(recorder).prepare();
+  }
+
   private CamcorderProfile getEmptyCamcorderProfile() {
     try {
       Constructor<CamcorderProfile> constructor =
@@ -0,0 +1,44 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class RecordingSegmentOptionsTest {
+  @Test
+  public void getSegmentSizeBytes_returnsZeroWithoutLimits() {
+    assertEquals(0, new RecordingSegmentOptions().getSegmentSizeBytes(8_000_000));
+  }
+
+  @Test
+  public void getSegmentSizeBytes_returnsSizeLimit() {
+    RecordingSegmentOptions options = new RecordingSegmentOptions().setMaxSizeBytes(1000);
+
+    assertEquals(1000, options.getSegmentSizeBytes(8_000_000));
+  }
+
+  @Test
+  public void getSegmentSizeBytes_convertsDurationLimitWithBitRate() {
+    RecordingSegmentOptions options = new RecordingSegmentOptions().setMaxDurationMs(60_000);
+
+    // 8 Mbps for 60 seconds is 60 MB.
+    assertEquals(60_000_000, options.getSegmentSizeBytes(8_000_000));
+  }
+
+  @Test
+  public void getSegmentSizeBytes_returnsSmallerOfBothLimits() {
+    RecordingSegmentOptions options =
+        new RecordingSegmentOptions().setMaxDurationMs(60_000).setMaxSizeBytes(1_000_000);
+
+    assertEquals(1_000_000, options.getSegmentSizeBytes(8_000_000));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setMaxDurationMs_throwsWhenNegative() {
+    new RecordingSegmentOptions().setMaxDurationMs(-1);
+  }
+}
@@ -0,0 +1,195 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class YuvPackerTest {
+  // A 4x4 frame. Luma samples are 10 * row + column, U samples 100 + 10 * row + column and V
+  // samples 200 + 10 * row + column, so every sample identifies its position.
+  private static final int WIDTH = 4;
+  private static final int HEIGHT = 4;
+
+  @Test
+  public void pack_i420_copiesPlanarFrameWithRowPadding() {
+    Planes planes = createPlanes(WIDTH, HEIGHT, 6, 1);
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.i420, 1);
+
+    assertTrue(packer.setImageSize(WIDTH, HEIGHT));
+    byte[] out = pack(packer, planes);
+
+    assertArrayEquals(
+        bytes(
+            0, 1, 2, 3, 10, 11, 12, 13, 20, 21, 22, 23, 30, 31, 32, 33, // Y
+            100, 101, 110, 111, // U
+            200, 201, 210, 211), // V
+        out);
+  }
+
+  @Test
+  public void pack_nv21_interleavesSemiPlanarChroma() {
+    Planes planes = createPlanes(WIDTH, HEIGHT, WIDTH, 2);
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.nv21, 1);
+
+    assertTrue(packer.setImageSize(WIDTH, HEIGHT));
+    byte[] out = pack(packer, planes);
+
+    assertArrayEquals(
+        bytes(
+            0, 1, 2, 3, 10, 11, 12, 13, 20, 21, 22, 23, 30, 31, 32, 33, // Y
+            200, 100, 201, 101, 210, 110, 211, 111), // VU
+        out);
+  }
+
+  @Test
+  public void pack_downscalesByPickingEveryNthSample() {
+    Planes planes = createPlanes(8, 8, 8, 1);
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.i420, 2);
+
+    assertTrue(packer.setImageSize(8, 8));
+    byte[] out = pack(packer, planes);
+
+    assertEquals(4, packer.getOutputWidth());
+    assertEquals(4, packer.getOutputHeight());
+    assertArrayEquals(
+        bytes(
+            0, 2, 4, 6, 20, 22, 24, 26, 40, 42, 44, 46, 60, 62, 64, 66, // Y
+            100, 102, 120, 122, // U
+            200, 202, 220, 222), // V
+        out);
+  }
+
+  @Test
+  public void pack_cropsToAlignedRegion() {
+    Planes planes = createPlanes(8, 8, 8, 1);
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.i420, 1).setCropRect(3, 2, 4, 2);
+
+    assertTrue(packer.setImageSize(8, 8));
+    byte[] out = pack(packer, planes);
+
+    // The crop origin is aligned to (2, 2) to line up with the chroma samples.
+    assertEquals(4, packer.getOutputWidth());
+    assertEquals(2, packer.getOutputHeight());
+    assertArrayEquals(
+        bytes(
+            22, 23, 24, 25, 32, 33, 34, 35, // Y
+            111, 112, // U
+            211, 212), // V
+        out);
+  }
+
+  @Test
+  public void pack_clipsCropRectToFrame() {
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.nv21, 1).setCropRect(4, 4, 100, 100);
+
+    assertTrue(packer.setImageSize(8, 6));
+
+    assertEquals(4, packer.getOutputWidth());
+    assertEquals(2, packer.getOutputHeight());
+    assertEquals(12, packer.getOutputSize());
+  }
+
+  @Test
+  public void setImageSize_returnsFalseWhenCropRectIsOutsideFrame() {
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.nv21, 1).setCropRect(10, 10, 4, 4);
+
+    assertFalse(packer.setImageSize(8, 8));
+  }
+
+  @Test
+  public void pack_leavesBufferPositionsUnchanged() {
+    Planes planes = createPlanes(WIDTH, HEIGHT, WIDTH, 1);
+    YuvPacker packer = new YuvPacker(YuvPackingFormat.i420, 1);
+
+    packer.setImageSize(WIDTH, HEIGHT);
+    pack(packer, planes);
+
+    assertEquals(0, planes.y.position());
+    assertEquals(0, planes.u.position());
+    assertEquals(0, planes.v.position());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_throwsForInvalidDownscaleFactor() {
+    new YuvPacker(YuvPackingFormat.nv21, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCropRect_throwsForEmptyRect() {
+    new YuvPacker(YuvPackingFormat.nv21, 1).setCropRect(0, 0, 0, 4);
+  }
+
+  private static byte[] pack(YuvPacker packer, Planes planes) {
+    byte[] out = new byte[packer.getOutputSize()];
+    packer.pack(
+        planes.y,
+        planes.yRowStride,
+        1,
+        planes.u,
+        planes.chromaRowStride,
+        planes.chromaPixelStride,
+        planes.v,
+        planes.chromaRowStride,
+        planes.chromaPixelStride,
+        out);
+    return out;
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  /**
+   * Creates planes laid out like an {@link android.media.Image}, where the last row of each plane
+   * is not padded to the row stride.
+   */
+  private static Planes createPlanes(int width, int height, int rowStride, int chromaPixelStride) {
+    Planes planes = new Planes();
+    planes.yRowStride = rowStride;
+    planes.chromaRowStride = chromaPixelStride == 2 ? rowStride : rowStride / 2;
+    planes.chromaPixelStride = chromaPixelStride;
+
+    planes.y = ByteBuffer.allocateDirect(rowStride * (height - 1) + width);
+    for (int row = 0; row < height; row++) {
+      for (int column = 0; column < width; column++) {
+        planes.y.put(row * rowStride + column, (byte) (10 * row + column));
+      }
+    }
+
+    int chromaWidth = width / 2;
+    int chromaHeight = height / 2;
+    int chromaLength =
+        planes.chromaRowStride * (chromaHeight - 1) + (chromaWidth - 1) * chromaPixelStride + 1;
+    planes.u = ByteBuffer.allocateDirect(chromaLength);
+    planes.v = ByteBuffer.allocateDirect(chromaLength);
+    for (int row = 0; row < chromaHeight; row++) {
+      for (int column = 0; column < chromaWidth; column++) {
+        int index = row * planes.chromaRowStride + column * chromaPixelStride;
+        planes.u.put(index, (byte) (100 + 10 * row + column));
+        planes.v.put(index, (byte) (200 + 10 * row + column));
+      }
+    }
+    return planes;
+  }
+
+  private static class Planes {
+    ByteBuffer y;
+    ByteBuffer u;
+    ByteBuffer v;
+    int yRowStride;
+    int chromaRowStride;
+    int chromaPixelStride;
+  }
+}
@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class YuvPackingFormatTest {
+
+  @Test
+  public void getValueForString_returnsCorrectValues() {
+    assertEquals(
+        "Returns YuvPackingFormat.nv21 for 'nv21'",
+        YuvPackingFormat.getValueForString("nv21"),
+        YuvPackingFormat.nv21);
+    assertEquals(
+        "Returns YuvPackingFormat.i420 for 'i420'",
+        YuvPackingFormat.getValueForString("i420"),
+        YuvPackingFormat.i420);
+  }
+
+  @Test
+  public void getValueForString_returnsNullForNonexistantValue() {
+    assertEquals(
+        "Returns null for 'nonexistant'", YuvPackingFormat.getValueForString("nonexistant"), null);
+  }
+
+  @Test
+  public void toString_returnsCorrectValue() {
+    assertEquals(
+        "Returns 'nv21' for YuvPackingFormat.nv21", YuvPackingFormat.nv21.toString(), "nv21");
+    assertEquals(
+        "Returns 'i420' for YuvPackingFormat.i420", YuvPackingFormat.i420.toString(), "i420");
+  }
+}
@@ -0,0 +1,50 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ZslOptionsTest {
+  @Test
+  public void defaults() {
+    ZslOptions options = new ZslOptions();
+
+    assertEquals(ZslOptions.DEFAULT_POOL_SIZE, options.getPoolSize());
+    assertEquals(ZslOptions.DEFAULT_MEMORY_BUDGET_BYTES, options.getMemoryBudgetBytes());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setPoolSize_throwsForZero() {
+    new ZslOptions().setPoolSize(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setMemoryBudgetBytes_throwsForZero() {
+    new ZslOptions().setMemoryBudgetBytes(0);
+  }
+
+  @Test
+  public void getCapacity_isLimitedByPoolSize() {
+    ZslOptions options = new ZslOptions().setPoolSize(3).setMemoryBudgetBytes(1000);
+
+    assertEquals(3, options.getCapacity(100));
+  }
+
+  @Test
+  public void getCapacity_isLimitedByMemoryBudget() {
+    ZslOptions options = new ZslOptions().setPoolSize(5).setMemoryBudgetBytes(250);
+
+    assertEquals(2, options.getCapacity(100));
+  }
+
+  @Test
+  public void getCapacity_isZeroWhenFrameExceedsBudget() {
+    ZslOptions options = new ZslOptions().setMemoryBudgetBytes(99);
+
+    assertEquals(0, options.getCapacity(100));
+  }
+}
@@ -0,0 +1,193 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import android.media.Image;
+import org.junit.Test;
+
+public class ZslRingBufferTest {
+  private static Image mockImage(long timestamp) {
+    Image image = mock(Image.class);
+    when(image.getTimestamp()).thenReturn(timestamp);
+    return image;
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_throwsForNegativeCapacity() {
+    new ZslRingBuffer(-1);
+  }
+
+  @Test
+  public void add_closesOldestFrameWhenFull() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(2);
+    Image first = mockImage(1);
+    Image second = mockImage(2);
+    Image third = mockImage(3);
+
+    ringBuffer.add(first);
+    ringBuffer.add(second);
+    ringBuffer.add(third);
+
+    assertEquals(2, ringBuffer.getSize());
+    verify(first, times(1)).close();
+    verify(second, never()).close();
+    verify(third, never()).close();
+  }
+
+  @Test
+  public void add_closesFrameRightAwayWithZeroCapacity() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(0);
+    Image image = mockImage(1);
+
+    ringBuffer.add(image);
+
+    assertEquals(0, ringBuffer.getSize());
+    verify(image, times(1)).close();
+  }
+
+  @Test
+  public void takeClosest_returnsNullWhenEmpty() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(3);
+
+    assertNull(ringBuffer.takeClosest(100));
+  }
+
+  @Test
+  public void takeClosest_returnsClosestFrameAndClosesOlderFrames() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(3);
+    Image first = mockImage(100);
+    Image second = mockImage(133);
+    Image third = mockImage(166);
+    ringBuffer.add(first);
+    ringBuffer.add(second);
+    ringBuffer.add(third);
+
+    Image taken = ringBuffer.takeClosest(140);
+
+    assertSame(second, taken);
+    verify(first, times(1)).close();
+    verify(second, never()).close();
+    verify(third, never()).close();
+    assertEquals(1, ringBuffer.getSize());
+  }
+
+  @Test
+  public void takeClosest_returnsLatestFrameForMaxTimestamp() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(3);
+    Image first = mockImage(100);
+    Image second = mockImage(133);
+    ringBuffer.add(first);
+    ringBuffer.add(second);
+
+    assertSame(second, ringBuffer.takeClosest(Long.MAX_VALUE));
+    assertEquals(0, ringBuffer.getSize());
+  }
+
+  @Test
+  public void trimTo_keepsMostRecentFrames() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(3);
+    Image first = mockImage(1);
+    Image second = mockImage(2);
+    Image third = mockImage(3);
+    ringBuffer.add(first);
+    ringBuffer.add(second);
+    ringBuffer.add(third);
+
+    ringBuffer.trimTo(1);
+
+    assertEquals(1, ringBuffer.getSize());
+    verify(first, times(1)).close();
+    verify(second, times(1)).close();
+    verify(third, never()).close();
+  }
+
+  @Test
+  public void evictAll_closesFramesAndSuspendsUntilResumed() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(3);
+    Runnable onEvicted = mock(Runnable.class);
+    ringBuffer.setOnEvictedListener(onEvicted);
+    Image image = mockImage(1);
+    ringBuffer.add(image);
+
+    ringBuffer.evictAll();
+
+    verify(image, times(1)).close();
+    verify(onEvicted, times(1)).run();
+    assertTrue(ringBuffer.isSuspended());
+
+    Image skipped = mockImage(2);
+    ringBuffer.add(skipped);
+    verify(skipped, times(1)).close();
+    assertEquals(0, ringBuffer.getSize());
+
+    ringBuffer.resume();
+    assertFalse(ringBuffer.isSuspended());
+    ringBuffer.add(mockImage(3));
+    assertEquals(1, ringBuffer.getSize());
+  }
+
+  @Test
+  public void onTrimMemory_halvesFramesWhenModerate() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(4);
+    for (int i = 0; i < 4; i++) {
+      ringBuffer.add(mockImage(i));
+    }
+
+    ringBuffer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+
+    assertEquals(2, ringBuffer.getSize());
+    assertFalse(ringBuffer.isSuspended());
+  }
+
+  @Test
+  public void onTrimMemory_evictsAllFramesWhenLow() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(4);
+    ringBuffer.add(mockImage(1));
+
+    ringBuffer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    assertEquals(0, ringBuffer.getSize());
+    assertTrue(ringBuffer.isSuspended());
+  }
+
+  @Test
+  public void onTrimMemory_evictsAllFramesWhenUiHidden() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(4);
+    ringBuffer.add(mockImage(1));
+
+    ringBuffer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+
+    assertEquals(0, ringBuffer.getSize());
+    assertTrue(ringBuffer.isSuspended());
+  }
+
+  @Test
+  public void close_closesFramesAndStopsKeepingFrames() {
+    ZslRingBuffer ringBuffer = new ZslRingBuffer(2);
+    Image image = mockImage(1);
+    ringBuffer.add(image);
+
+    ringBuffer.close();
+    ringBuffer.resume();
+    Image late = mockImage(2);
+    ringBuffer.add(late);
+
+    verify(image, times(1)).close();
+    verify(late, times(1)).close();
+    assertEquals(0, ringBuffer.getSize());
+  }
+}
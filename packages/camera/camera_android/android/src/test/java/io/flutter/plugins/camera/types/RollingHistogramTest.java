@@ -0,0 +1,71 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class RollingHistogramTest {
+  @Test
+  public void toMap_returnsOnlyCountWhenEmpty() {
+    RollingHistogram histogram = new RollingHistogram(4);
+
+    Map<String, Object> map = histogram.toMap(1);
+
+    assertEquals(0L, map.get("count"));
+    assertFalse(map.containsKey("p50"));
+  }
+
+  @Test
+  public void toMap_returnsDistributionOfSamples() {
+    RollingHistogram histogram = new RollingHistogram(100);
+    for (long i = 100; i >= 1; i--) {
+      histogram.record(i * 1000);
+    }
+
+    Map<String, Object> map = histogram.toMap(1000);
+
+    assertEquals(100L, map.get("count"));
+    assertEquals(1L, map.get("min"));
+    assertEquals(100L, map.get("max"));
+    assertEquals(50L, map.get("mean"));
+    assertEquals(50L, map.get("p50"));
+    assertEquals(90L, map.get("p90"));
+    assertEquals(99L, map.get("p99"));
+  }
+
+  @Test
+  public void record_replacesOldestSampleWhenFull() {
+    RollingHistogram histogram = new RollingHistogram(2);
+    histogram.record(100);
+    histogram.record(2);
+    histogram.record(4);
+
+    Map<String, Object> map = histogram.toMap(1);
+
+    assertEquals(3L, map.get("count"));
+    assertEquals(2L, map.get("min"));
+    assertEquals(4L, map.get("max"));
+  }
+
+  @Test
+  public void clear_removesAllSamples() {
+    RollingHistogram histogram = new RollingHistogram(2);
+    histogram.record(1);
+
+    histogram.clear();
+
+    assertEquals(0L, histogram.getCount());
+    assertFalse(histogram.toMap(1).containsKey("min"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_throwsWhenCapacityIsNotPositive() {
+    new RollingHistogram(0);
+  }
+}
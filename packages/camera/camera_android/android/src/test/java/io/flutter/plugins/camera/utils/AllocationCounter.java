@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.utils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Reports the number of bytes allocated by the current thread.
+ *
+ * <p>The JDK management classes are not part of the Android SDK the tests are compiled against, so
+ * they are looked up reflectively. {@link #isSupported()} returns false when the JVM running the
+ * tests does not support allocation counting.
+ */
+public class AllocationCounter {
+  private final Object threadBean;
+  private final Method getThreadAllocatedBytes;
+
+  public AllocationCounter() {
+    Object bean = null;
+    Method method = null;
+    try {
+      bean =
+          Class.forName("java.lang.management.ManagementFactory")
+              .getMethod("getThreadMXBean")
+              .invoke(null);
+      Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+      if (beanClass.isInstance(bean)
+          && (Boolean) beanClass.getMethod("isThreadAllocatedMemorySupported").invoke(bean)) {
+        beanClass.getMethod("setThreadAllocatedMemoryEnabled", boolean.class).invoke(bean, true);
+        method = beanClass.getMethod("getThreadAllocatedBytes", long.class);
+      }
+    } catch (Exception e) {
+      method = null;
+    }
+    threadBean = bean;
+    getThreadAllocatedBytes = method;
+  }
+
+  /** Returns whether the JVM running the tests supports allocation counting. */
+  public boolean isSupported() {
+    return getThreadAllocatedBytes != null;
+  }
+
+  /** Returns the total number of bytes allocated by the current thread so far. */
+  public long getAllocatedBytes() {
+    try {
+      return (Long) getThreadAllocatedBytes.invoke(threadBean, Thread.currentThread().getId());
+    } catch (Exception e) {
+      throw new IllegalStateException("Allocation counting is not supported.", e);
+    }
+  }
+}
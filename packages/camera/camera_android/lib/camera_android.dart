@@ -3,3 +3,11 @@
 // found in the LICENSE file.
 
 export 'src/android_camera.dart';
+export 'src/camera_metrics_snapshot.dart';
+export 'src/camera_settings.dart';
+export 'src/capture_session_statistics.dart';
+export 'src/frame_processor_result_event.dart';
+export 'src/image_save_statistics.dart';
+export 'src/image_stream_options.dart';
+export 'src/recording_segment_closed_event.dart';
+export 'src/zsl_options.dart';
@@ -11,8 +11,16 @@ import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'camera_metrics_snapshot.dart';
+import 'camera_settings.dart';
+import 'capture_session_statistics.dart';
+import 'frame_processor_result_event.dart';
+import 'image_save_statistics.dart';
+import 'image_stream_options.dart';
+import 'recording_segment_closed_event.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
+import 'zsl_options.dart';
 
 const MethodChannel _channel =
     MethodChannel('plugins.flutter.io/camera_android');
@@ -177,6 +185,18 @@ class AndroidCamera extends CameraPlatform {
     return _cameraEvents(cameraId).whereType<CameraInitializedEvent>();
   }
 
+  /// The results of the native frame processors enabled through
+  /// [AndroidCameraImageStreamOptions.frameProcessors].
+  Stream<FrameProcessorResultEvent> onFrameProcessorResult(int cameraId) {
+    return _cameraEvents(cameraId).whereType<FrameProcessorResultEvent>();
+  }
+
+  /// The segments closed by a recording started with
+  /// [startSegmentedVideoRecording].
+  Stream<RecordingSegmentClosedEvent> onRecordingSegmentClosed(int cameraId) {
+    return _cameraEvents(cameraId).whereType<RecordingSegmentClosedEvent>();
+  }
+
   @override
   Stream<CameraResolutionChangedEvent> onCameraResolutionChanged(int cameraId) {
     return _cameraEvents(cameraId).whereType<CameraResolutionChangedEvent>();
@@ -242,6 +262,96 @@ class AndroidCamera extends CameraPlatform {
     return XFile(path);
   }
 
+  /// Returns statistics about the pictures saved by the camera with the given
+  /// [cameraId].
+  Future<ImageSaveStatistics> getImageSaveStatistics(int cameraId) async {
+    final Map<dynamic, dynamic>? statistics =
+        await _channel.invokeMapMethod<dynamic, dynamic>(
+      'getImageSaveStatistics',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+    return ImageSaveStatistics.fromMap(
+        statistics ?? const <dynamic, dynamic>{});
+  }
+
+  /// Enables zero shutter lag capture with the given [options] for the camera
+  /// with the given [cameraId], or disables it when [options] is null.
+  ///
+  /// When the camera is already initialized its preview is restarted, which
+  /// also ends an active image stream.
+  Future<void> setZslOptions(int cameraId, ZslOptions? options) async {
+    await _channel.invokeMethod<void>(
+      'setZslOptions',
+      <String, dynamic>{
+        'cameraId': cameraId,
+        if (options != null) ...options.toMap() else 'enabled': false,
+      },
+    );
+  }
+
+  /// Enables or disables the persistent capture session of the camera with the
+  /// given [cameraId].
+  ///
+  /// With the persistent capture session enabled, the camera configures the
+  /// surfaces of the preview, the image stream and the recorder up front, so
+  /// that starting and stopping the image stream or a recording does not
+  /// interrupt the preview. Devices that cannot stream to all surfaces at once
+  /// fail to configure the session. Recordings keep the session alive on
+  /// Android API 23 and up only.
+  ///
+  /// When the camera is already initialized its preview is restarted, which
+  /// also ends an active image stream.
+  Future<void> setPersistentCaptureSession(int cameraId, bool enabled) async {
+    await _channel.invokeMethod<void>(
+      'setPersistentCaptureSession',
+      <String, dynamic>{'cameraId': cameraId, 'enabled': enabled},
+    );
+  }
+
+  /// Returns statistics about the capture sessions configured by the camera
+  /// with the given [cameraId].
+  Future<CaptureSessionStatistics> getCaptureSessionStatistics(
+      int cameraId) async {
+    final Map<dynamic, dynamic>? statistics =
+        await _channel.invokeMapMethod<dynamic, dynamic>(
+      'getCaptureSessionStatistics',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+    return CaptureSessionStatistics.fromMap(
+        statistics ?? const <dynamic, dynamic>{});
+  }
+
+  /// Enables or disables the metrics of the camera pipeline of the camera with
+  /// the given [cameraId].
+  ///
+  /// Enable the metrics after creating the camera and before initializing it
+  /// to time how long it takes to open. Snapshots of the metrics are sent to
+  /// [onMetrics] on every timed event and at most once per
+  /// [snapshotInterval] while frames arrive.
+  Future<void> setMetricsEnabled(
+    int cameraId,
+    bool enabled, {
+    Duration snapshotInterval = const Duration(seconds: 1),
+  }) async {
+    await _channel.invokeMethod<void>(
+      'setMetricsEnabled',
+      <String, dynamic>{
+        'cameraId': cameraId,
+        'enabled': enabled,
+        'snapshotIntervalMs': snapshotInterval.inMilliseconds,
+      },
+    );
+  }
+
+  /// The snapshots of the metrics of the camera pipeline, once they are
+  /// enabled with [setMetricsEnabled].
+  Stream<CameraMetricsSnapshot> onMetrics() {
+    const EventChannel metricsChannel =
+        EventChannel('plugins.flutter.io/camera_android/metrics');
+    return metricsChannel.receiveBroadcastStream().map((dynamic snapshot) =>
+        CameraMetricsSnapshot.fromMap(snapshot as Map<dynamic, dynamic>));
+  }
+
   @override
   Future<void> prepareForVideoRecording() =>
       _channel.invokeMethod<void>('prepareForVideoRecording');
@@ -270,6 +380,34 @@ class AndroidCamera extends CameraPlatform {
     }
   }
 
+  /// Starts a video recording that is split into segments, each written to its
+  /// own file.
+  ///
+  /// The recorder switches to the next file without dropping frames once a
+  /// segment reaches [segmentSizeBytes], or approximately [segmentDuration] at
+  /// the encoding bit rate, whichever comes first. Each closed segment is sent
+  /// to [onRecordingSegmentClosed], and [stopVideoRecording] returns the last
+  /// segment.
+  ///
+  /// Segmented recording requires Android API 26 and up.
+  Future<void> startSegmentedVideoRecording(
+    int cameraId, {
+    Duration? segmentDuration,
+    int? segmentSizeBytes,
+  }) async {
+    assert(segmentDuration != null || segmentSizeBytes != null);
+    await _channel.invokeMethod<void>(
+      'startVideoRecording',
+      <String, dynamic>{
+        'cameraId': cameraId,
+        'enableStream': false,
+        if (segmentDuration != null)
+          'segmentDurationMs': segmentDuration.inMilliseconds,
+        if (segmentSizeBytes != null) 'segmentSizeBytes': segmentSizeBytes,
+      },
+    );
+  }
+
   @override
   Future<XFile> stopVideoRecording(int cameraId) async {
     final String? path = await _channel.invokeMethod<String>(
@@ -303,7 +441,7 @@ class AndroidCamera extends CameraPlatform {
   @override
   Stream<CameraImageData> onStreamedFrameAvailable(int cameraId,
       {CameraImageStreamOptions? options}) {
-    _installStreamController(onListen: _onFrameStreamListen);
+    _installStreamController(onListen: () => _onFrameStreamListen(options));
     return _frameStreamController!.stream;
   }
 
@@ -318,15 +456,30 @@ class AndroidCamera extends CameraPlatform {
     return _frameStreamController!;
   }
 
-  void _onFrameStreamListen() {
-    _startPlatformStream();
+  void _onFrameStreamListen(CameraImageStreamOptions? options) {
+    _startPlatformStream(options);
   }
 
-  Future<void> _startPlatformStream() async {
-    await _channel.invokeMethod<void>('startImageStream');
+  Future<void> _startPlatformStream(CameraImageStreamOptions? options) async {
+    await _channel.invokeMethod<void>(
+      'startImageStream',
+      options is AndroidCameraImageStreamOptions ? options.toMap() : null,
+    );
     _startStreamListener();
   }
 
+  /// Returns statistics about the frames delivered by the image stream of the
+  /// camera with the given [cameraId].
+  Future<ImageStreamStatistics> getImageStreamStatistics(int cameraId) async {
+    final Map<dynamic, dynamic>? statistics =
+        await _channel.invokeMapMethod<dynamic, dynamic>(
+      'getImageStreamStatistics',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+    return ImageStreamStatistics.fromMap(
+        statistics ?? const <dynamic, dynamic>{});
+  }
+
   void _startStreamListener() {
     const EventChannel cameraEventChannel =
         EventChannel('plugins.flutter.io/camera_android/imageStream');
@@ -454,6 +607,56 @@ class AndroidCamera extends CameraPlatform {
     );
   }
 
+  /// Applies all given [settings] to the camera with the given [cameraId] at
+  /// once.
+  ///
+  /// This is faster than changing the settings one by one, as the camera
+  /// updates its preview request once for all of them. Nothing is changed when
+  /// the zoom level is out of bounds.
+  Future<void> applySettings(
+      int cameraId, AndroidCameraSettings settings) async {
+    final Point<double>? exposurePoint = settings.exposurePoint;
+    final Point<double>? focusPoint = settings.focusPoint;
+    assert(exposurePoint == null ||
+        exposurePoint.x >= 0 && exposurePoint.x <= 1);
+    assert(exposurePoint == null ||
+        exposurePoint.y >= 0 && exposurePoint.y <= 1);
+    assert(focusPoint == null || focusPoint.x >= 0 && focusPoint.x <= 1);
+    assert(focusPoint == null || focusPoint.y >= 0 && focusPoint.y <= 1);
+
+    try {
+      await _channel.invokeMethod<void>(
+        'applySettings',
+        <String, dynamic>{
+          'cameraId': cameraId,
+          if (settings.flashMode != null)
+            'flashMode': _serializeFlashMode(settings.flashMode!),
+          if (settings.exposureMode != null)
+            'exposureMode': serializeExposureMode(settings.exposureMode!),
+          if (exposurePoint != null || settings.resetExposurePoint)
+            'exposurePoint': <String, dynamic>{
+              'reset': exposurePoint == null,
+              'x': exposurePoint?.x,
+              'y': exposurePoint?.y,
+            },
+          if (settings.exposureOffset != null)
+            'exposureOffset': settings.exposureOffset,
+          if (settings.focusMode != null)
+            'focusMode': serializeFocusMode(settings.focusMode!),
+          if (focusPoint != null || settings.resetFocusPoint)
+            'focusPoint': <String, dynamic>{
+              'reset': focusPoint == null,
+              'x': focusPoint?.x,
+              'y': focusPoint?.y,
+            },
+          if (settings.zoomLevel != null) 'zoomLevel': settings.zoomLevel,
+        },
+      );
+    } on PlatformException catch (e) {
+      throw CameraException(e.code, e.message);
+    }
+  }
+
   @override
   Future<double> getMaxZoomLevel(int cameraId) async {
     final double? maxZoomLevel = await _channel.invokeMethod<double>(
@@ -474,6 +677,31 @@ class AndroidCamera extends CameraPlatform {
     return minZoomLevel!;
   }
 
+  /// Sets the size of the view the preview of the camera is shown in.
+  ///
+  /// The preview then uses the smallest size supported by the camera that
+  /// covers [size] with a matching aspect ratio, up to the preview size of the
+  /// resolution preset, which saves bandwidth and power when the preview is
+  /// shown in a small view. The sizes of captured pictures and recorded videos
+  /// are not affected. The [size] is in physical pixels, and null makes the
+  /// preview use the resolution preset again.
+  ///
+  /// Must be called after [createCamera] and before [initializeCamera].
+  Future<void> setTargetPreviewSize(int cameraId, Size? size) async {
+    try {
+      await _channel.invokeMethod<void>(
+        'setTargetPreviewSize',
+        <String, dynamic>{
+          'cameraId': cameraId,
+          if (size != null) 'width': size.width.round(),
+          if (size != null) 'height': size.height.round(),
+        },
+      );
+    } on PlatformException catch (e) {
+      throw CameraException(e.code, e.message);
+    }
+  }
+
   @override
   Future<void> setZoomLevel(int cameraId, double zoom) async {
     try {
@@ -611,6 +839,23 @@ class AndroidCamera extends CameraPlatform {
               : null,
         ));
         break;
+      case 'frame_processor_result':
+        final Map<String, Object?> arguments = _getArgumentDictionary(call);
+        cameraEventStreamController.add(FrameProcessorResultEvent(
+          cameraId,
+          arguments['processorName']! as String,
+          arguments['timestamp']! as int,
+          arguments['result'],
+        ));
+        break;
+      case 'recording_segment_closed':
+        final Map<String, Object?> arguments = _getArgumentDictionary(call);
+        cameraEventStreamController.add(RecordingSegmentClosedEvent(
+          cameraId,
+          arguments['path']! as String,
+          Duration(milliseconds: arguments['durationMs']! as int),
+        ));
+        break;
       case 'error':
         final Map<String, Object?> arguments = _getArgumentDictionary(call);
         cameraEventStreamController.add(CameraErrorEvent(
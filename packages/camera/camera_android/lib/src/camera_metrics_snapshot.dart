@@ -0,0 +1,191 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// The distribution of the most recent samples of a duration.
+class DurationDistribution {
+  /// Creates a new duration distribution.
+  const DurationDistribution({
+    required this.count,
+    this.min,
+    this.max,
+    this.mean,
+    this.p50,
+    this.p90,
+    this.p99,
+  });
+
+  /// Creates a duration distribution from the map sent by the platform, with
+  /// durations in microseconds.
+  factory DurationDistribution.fromMap(Map<dynamic, dynamic>? map) {
+    if (map == null) {
+      return const DurationDistribution(count: 0);
+    }
+    return DurationDistribution(
+      count: map['count'] as int? ?? 0,
+      min: _durationFromMicros(map['min']),
+      max: _durationFromMicros(map['max']),
+      mean: _durationFromMicros(map['mean']),
+      p50: _durationFromMicros(map['p50']),
+      p90: _durationFromMicros(map['p90']),
+      p99: _durationFromMicros(map['p99']),
+    );
+  }
+
+  /// The number of samples recorded.
+  final int count;
+
+  /// The shortest recent duration, or null when there are no samples.
+  final Duration? min;
+
+  /// The longest recent duration, or null when there are no samples.
+  final Duration? max;
+
+  /// The mean of the recent durations, or null when there are no samples.
+  final Duration? mean;
+
+  /// The median of the recent durations, or null when there are no samples.
+  final Duration? p50;
+
+  /// The 90th percentile of the recent durations, or null when there are no
+  /// samples.
+  final Duration? p90;
+
+  /// The 99th percentile of the recent durations, or null when there are no
+  /// samples.
+  final Duration? p99;
+}
+
+/// The stages of opening a camera and taking a picture that are timed by the
+/// camera metrics.
+enum CameraMetricsEvent {
+  /// The camera was requested to open.
+  openRequested,
+
+  /// The camera device was opened.
+  opened,
+
+  /// The capture session was configured.
+  sessionConfigured,
+
+  /// The first frame of the capture session started exposing.
+  firstFrame,
+
+  /// A picture was requested.
+  pictureRequested,
+
+  /// The precapture sequence was started.
+  precaptureStarted,
+
+  /// Focus and exposure converged before capturing a picture.
+  precaptureConverged,
+
+  /// The picture was captured.
+  captureCompleted,
+
+  /// The picture was saved to a file.
+  imageSaved,
+}
+
+/// A snapshot of the metrics of the camera pipeline.
+class CameraMetricsSnapshot {
+  /// Creates a new camera metrics snapshot.
+  const CameraMetricsSnapshot({
+    required this.timestamps,
+    required this.frameInterval,
+    required this.streamDeliveryLatency,
+  });
+
+  /// Creates a camera metrics snapshot from the map sent by the platform.
+  factory CameraMetricsSnapshot.fromMap(Map<dynamic, dynamic> map) {
+    final Map<dynamic, dynamic> timestamps =
+        map['timestamps'] as Map<dynamic, dynamic>? ??
+            const <dynamic, dynamic>{};
+    return CameraMetricsSnapshot(
+      timestamps: <CameraMetricsEvent, Duration>{
+        for (final CameraMetricsEvent event in CameraMetricsEvent.values)
+          if (timestamps[_eventKey(event)] != null)
+            event: Duration(microseconds: timestamps[_eventKey(event)] as int),
+      },
+      frameInterval: DurationDistribution.fromMap(
+          map['frameInterval'] as Map<dynamic, dynamic>?),
+      streamDeliveryLatency: DurationDistribution.fromMap(
+          map['streamDeliveryLatency'] as Map<dynamic, dynamic>?),
+    );
+  }
+
+  /// When each event last happened, measured on the monotonic clock of the
+  /// device.
+  ///
+  /// Opening the camera or requesting a picture clears the events that
+  /// follow it.
+  final Map<CameraMetricsEvent, Duration> timestamps;
+
+  /// The distribution of the time between the recent frames.
+  final DurationDistribution frameInterval;
+
+  /// The distribution of the time between reading the recent image stream
+  /// frames and delivering them to Dart.
+  final DurationDistribution streamDeliveryLatency;
+
+  /// The time from requesting the camera to open until the first frame, or
+  /// null when it has not happened yet.
+  Duration? get startupLatency =>
+      _between(CameraMetricsEvent.openRequested, CameraMetricsEvent.firstFrame);
+
+  /// The time from requesting the camera to open until it was opened, or
+  /// null when it has not happened yet.
+  Duration? get openLatency =>
+      _between(CameraMetricsEvent.openRequested, CameraMetricsEvent.opened);
+
+  /// The time from configuring the capture session until the first frame, or
+  /// null when it has not happened yet.
+  Duration? get firstFrameLatency => _between(
+      CameraMetricsEvent.sessionConfigured, CameraMetricsEvent.firstFrame);
+
+  /// The time from requesting a picture until it was captured, or null when
+  /// it has not happened yet.
+  Duration? get shutterLatency => _between(
+      CameraMetricsEvent.pictureRequested, CameraMetricsEvent.captureCompleted);
+
+  /// The time from capturing a picture until it was saved, or null when it
+  /// has not happened yet.
+  Duration? get saveLatency => _between(
+      CameraMetricsEvent.captureCompleted, CameraMetricsEvent.imageSaved);
+
+  Duration? _between(CameraMetricsEvent start, CameraMetricsEvent end) {
+    final Duration? startTime = timestamps[start];
+    final Duration? endTime = timestamps[end];
+    if (startTime == null || endTime == null) {
+      return null;
+    }
+    return endTime - startTime;
+  }
+
+  static String _eventKey(CameraMetricsEvent event) {
+    switch (event) {
+      case CameraMetricsEvent.openRequested:
+        return 'openRequested';
+      case CameraMetricsEvent.opened:
+        return 'opened';
+      case CameraMetricsEvent.sessionConfigured:
+        return 'sessionConfigured';
+      case CameraMetricsEvent.firstFrame:
+        return 'firstFrame';
+      case CameraMetricsEvent.pictureRequested:
+        return 'pictureRequested';
+      case CameraMetricsEvent.precaptureStarted:
+        return 'precaptureStarted';
+      case CameraMetricsEvent.precaptureConverged:
+        return 'precaptureConverged';
+      case CameraMetricsEvent.captureCompleted:
+        return 'captureCompleted';
+      case CameraMetricsEvent.imageSaved:
+        return 'imageSaved';
+    }
+  }
+}
+
+Duration? _durationFromMicros(Object? micros) {
+  return micros == null ? null : Duration(microseconds: micros as int);
+}
@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:math';
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// A set of camera setting changes that are applied together by
+/// `AndroidCamera.applySettings`.
+///
+/// Settings that are left null are not changed.
+class AndroidCameraSettings {
+  /// Creates a new set of camera setting changes.
+  const AndroidCameraSettings({
+    this.flashMode,
+    this.exposureMode,
+    this.exposurePoint,
+    this.resetExposurePoint = false,
+    this.exposureOffset,
+    this.focusMode,
+    this.focusPoint,
+    this.resetFocusPoint = false,
+    this.zoomLevel,
+  })  : assert(exposurePoint == null || !resetExposurePoint),
+        assert(focusPoint == null || !resetFocusPoint);
+
+  /// The new flash mode.
+  final FlashMode? flashMode;
+
+  /// The new exposure mode.
+  final ExposureMode? exposureMode;
+
+  /// The new exposure point, with coordinates between 0 and 1.
+  final Point<double>? exposurePoint;
+
+  /// Whether to reset the exposure point to its default.
+  final bool resetExposurePoint;
+
+  /// The new exposure offset.
+  final double? exposureOffset;
+
+  /// The new focus mode.
+  final FocusMode? focusMode;
+
+  /// The new focus point, with coordinates between 0 and 1.
+  final Point<double>? focusPoint;
+
+  /// Whether to reset the focus point to its default.
+  final bool resetFocusPoint;
+
+  /// The new zoom level.
+  final double? zoomLevel;
+}
@@ -0,0 +1,29 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// Statistics about the capture sessions configured by a camera.
+class CaptureSessionStatistics {
+  /// Creates a new set of capture session statistics.
+  const CaptureSessionStatistics({
+    required this.sessionConfigurations,
+    required this.repeatingRequestUpdates,
+  });
+
+  /// Creates capture session statistics from the map returned by the platform.
+  factory CaptureSessionStatistics.fromMap(Map<dynamic, dynamic> map) {
+    return CaptureSessionStatistics(
+      sessionConfigurations: map['sessionConfigurations'] as int? ?? 0,
+      repeatingRequestUpdates: map['repeatingRequestUpdates'] as int? ?? 0,
+    );
+  }
+
+  /// The number of capture sessions configured by the camera.
+  ///
+  /// Each configuration briefly interrupts the preview.
+  final int sessionConfigurations;
+
+  /// The number of times the camera switched between the preview, the image
+  /// stream and recording without configuring a new capture session.
+  final int repeatingRequestUpdates;
+}
@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// An event fired when a native frame processor returns a result for a
+/// streamed frame.
+class FrameProcessorResultEvent extends CameraEvent {
+  /// Build a FrameProcessorResult event triggered from the camera represented
+  /// by `cameraId`.
+  ///
+  /// The `processorName` is the name the frame processor was registered with.
+  /// The `timestamp` is the timestamp of the processed frame in nanoseconds.
+  /// The `result` is the value returned by the frame processor.
+  const FrameProcessorResultEvent(
+    int cameraId,
+    this.processorName,
+    this.timestamp,
+    this.result,
+  ) : super(cameraId);
+
+  /// The name the frame processor was registered with.
+  final String processorName;
+
+  /// The timestamp of the processed frame in nanoseconds.
+  final int timestamp;
+
+  /// The value returned by the frame processor.
+  final Object? result;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      super == other &&
+          other is FrameProcessorResultEvent &&
+          runtimeType == other.runtimeType &&
+          processorName == other.processorName &&
+          timestamp == other.timestamp &&
+          result == other.result;
+
+  @override
+  int get hashCode =>
+      Object.hash(super.hashCode, processorName, timestamp, result);
+}
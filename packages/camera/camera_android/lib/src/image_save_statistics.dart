@@ -0,0 +1,42 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// Statistics about the pictures saved by a camera.
+class ImageSaveStatistics {
+  /// Creates a new set of image save statistics.
+  const ImageSaveStatistics({
+    required this.savedImages,
+    required this.lastSaveLatency,
+    required this.averageSaveLatency,
+    required this.maxSaveLatency,
+  });
+
+  /// Creates image save statistics from the map returned by the platform.
+  factory ImageSaveStatistics.fromMap(Map<dynamic, dynamic> map) {
+    return ImageSaveStatistics(
+      savedImages: map['savedImages'] as int? ?? 0,
+      lastSaveLatency:
+          Duration(microseconds: map['lastSaveLatencyMicros'] as int? ?? 0),
+      averageSaveLatency:
+          Duration(microseconds: map['averageSaveLatencyMicros'] as int? ?? 0),
+      maxSaveLatency:
+          Duration(microseconds: map['maxSaveLatencyMicros'] as int? ?? 0),
+    );
+  }
+
+  /// The number of pictures saved successfully.
+  final int savedImages;
+
+  /// The time between the last picture being captured and it being written to
+  /// its file.
+  final Duration lastSaveLatency;
+
+  /// The average time between a picture being captured and it being written to
+  /// its file.
+  final Duration averageSaveLatency;
+
+  /// The longest time between a picture being captured and it being written to
+  /// its file.
+  final Duration maxSaveLatency;
+}
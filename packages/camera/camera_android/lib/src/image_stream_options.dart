@@ -0,0 +1,174 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:math';
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// Describes what happens to streamed frames that arrive while Dart is still
+/// processing earlier frames.
+// Mirrors ImageStreamDeliveryPolicy in ImageStreamDeliveryPolicy.java
+enum ImageStreamDeliveryPolicy {
+  /// Frames that arrive while
+  /// [AndroidCameraImageStreamOptions.maxFramesInFlight] frames are pending are
+  /// dropped, so the most recent frame is delivered once Dart catches up.
+  latestOnly,
+
+  /// The camera thread waits for a pending frame to be delivered before
+  /// reading the next one.
+  block,
+}
+
+/// The packed layouts YUV frames can be converted to before they are streamed.
+// Mirrors YuvPackingFormat in YuvPackingFormat.java
+enum YuvPackingFormat {
+  /// A full-resolution Y plane followed by interleaved V and U samples.
+  ///
+  /// Packed frames are reported with the raw format `17`
+  /// (`android.graphics.ImageFormat.NV21`).
+  nv21,
+
+  /// A full-resolution Y plane followed by a U plane and a V plane.
+  ///
+  /// Packed frames are reported with the raw format `35`
+  /// (`android.graphics.ImageFormat.YUV_420_888`) and a single plane.
+  i420,
+}
+
+/// Android specific options for configuring camera streaming.
+class AndroidCameraImageStreamOptions extends CameraImageStreamOptions {
+  /// Creates a new set of Android image stream options.
+  AndroidCameraImageStreamOptions({
+    this.deliveryPolicy = ImageStreamDeliveryPolicy.latestOnly,
+    this.maxFramesInFlight = 3,
+    this.frameProcessors = const <String>[],
+    this.deliverFrames = true,
+    this.yuvPacking,
+    this.cropRect,
+    this.downscaleFactor = 1,
+    this.targetFrameRate,
+  })  : assert(maxFramesInFlight > 0),
+        assert(downscaleFactor > 0),
+        assert(targetFrameRate == null || targetFrameRate > 0);
+
+  /// The policy applied to frames that arrive while Dart is behind.
+  final ImageStreamDeliveryPolicy deliveryPolicy;
+
+  /// The maximum number of frames that can be waiting to be sent to Dart.
+  final int maxFramesInFlight;
+
+  /// The names of the native frame processors to run on every frame.
+  ///
+  /// Frame processors are registered by the host app with
+  /// `FrameProcessorRegistry.register` on the Java side. Their results are
+  /// reported through `AndroidCamera.onFrameProcessorResult`.
+  final List<String> frameProcessors;
+
+  /// Whether the frames themselves are sent to Dart.
+  ///
+  /// Set this to false when only the results of the [frameProcessors] are
+  /// needed, to avoid copying every frame over the platform channel.
+  final bool deliverFrames;
+
+  /// The layout YUV frames are packed into before they are sent to Dart.
+  ///
+  /// When set, YUV frames are sent as a single plane holding the packed
+  /// buffer, instead of the three planes with their row and pixel strides.
+  /// Frames in other formats are not affected.
+  final YuvPackingFormat? yuvPacking;
+
+  /// The region of the frame, in pixels, that is packed.
+  ///
+  /// Only used together with [yuvPacking]. The origin and the size of the
+  /// packed region are rounded down to even values.
+  final Rectangle<int>? cropRect;
+
+  /// The factor the width and height of packed frames are divided by.
+  ///
+  /// Only used together with [yuvPacking].
+  final int downscaleFactor;
+
+  /// The maximum number of frames per second to stream, or null to stream
+  /// every frame.
+  ///
+  /// Frames above this rate are skipped on the platform side based on their
+  /// sensor timestamp, without being copied. The frame rate of the preview is
+  /// not affected.
+  final double? targetFrameRate;
+
+  /// Converts these options to the arguments of the `startImageStream` call.
+  Map<String, dynamic> toMap() {
+    return <String, dynamic>{
+      'deliveryPolicy': _serializeDeliveryPolicy(deliveryPolicy),
+      'maxFramesInFlight': maxFramesInFlight,
+      'frameProcessors': frameProcessors,
+      'deliverFrames': deliverFrames,
+      'yuvPacking':
+          yuvPacking == null ? null : _serializeYuvPackingFormat(yuvPacking!),
+      'cropRect': cropRect == null
+          ? null
+          : <String, int>{
+              'left': cropRect!.left,
+              'top': cropRect!.top,
+              'width': cropRect!.width,
+              'height': cropRect!.height,
+            },
+      'downscaleFactor': downscaleFactor,
+      'targetFrameRate': targetFrameRate,
+    };
+  }
+}
+
+String _serializeDeliveryPolicy(ImageStreamDeliveryPolicy policy) {
+  switch (policy) {
+    case ImageStreamDeliveryPolicy.latestOnly:
+      return 'latestOnly';
+    case ImageStreamDeliveryPolicy.block:
+      return 'block';
+  }
+}
+
+String _serializeYuvPackingFormat(YuvPackingFormat format) {
+  switch (format) {
+    case YuvPackingFormat.nv21:
+      return 'nv21';
+    case YuvPackingFormat.i420:
+      return 'i420';
+  }
+}
+
+/// Statistics about the frames delivered by the current image stream.
+class ImageStreamStatistics {
+  /// Creates a new set of image stream statistics.
+  const ImageStreamStatistics({
+    required this.deliveredFrames,
+    required this.droppedFrames,
+    required this.skippedFrames,
+    required this.framesInFlight,
+  });
+
+  /// Creates image stream statistics from the map returned by the platform.
+  factory ImageStreamStatistics.fromMap(Map<dynamic, dynamic> map) {
+    return ImageStreamStatistics(
+      deliveredFrames: map['deliveredFrames'] as int? ?? 0,
+      droppedFrames: map['droppedFrames'] as int? ?? 0,
+      skippedFrames: map['skippedFrames'] as int? ?? 0,
+      framesInFlight: map['framesInFlight'] as int? ?? 0,
+    );
+  }
+
+  /// The number of frames sent to Dart since the stream was started.
+  final int deliveredFrames;
+
+  /// The number of frames dropped since the stream was started.
+  final int droppedFrames;
+
+  /// The number of frames skipped to stay under
+  /// [AndroidCameraImageStreamOptions.targetFrameRate] since the stream was
+  /// started.
+  final int skippedFrames;
+
+  /// The number of frames that are waiting to be sent to Dart.
+  final int framesInFlight;
+}
@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// An event fired when a segment of a segmented recording is closed, and its
+/// file can be used while the recording continues.
+class RecordingSegmentClosedEvent extends CameraEvent {
+  /// Build a RecordingSegmentClosed event triggered from the camera
+  /// represented by `cameraId`.
+  ///
+  /// The `path` is the path of the file the segment was written to.
+  /// The `duration` is the duration of the segment.
+  const RecordingSegmentClosedEvent(
+    int cameraId,
+    this.path,
+    this.duration,
+  ) : super(cameraId);
+
+  /// The path of the file the segment was written to.
+  final String path;
+
+  /// The duration of the segment.
+  final Duration duration;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      super == other &&
+          other is RecordingSegmentClosedEvent &&
+          runtimeType == other.runtimeType &&
+          path == other.path &&
+          duration == other.duration;
+
+  @override
+  int get hashCode => Object.hash(super.hashCode, path, duration);
+}
@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// Options for zero shutter lag (ZSL) capture.
+///
+/// With ZSL enabled, the camera keeps its most recent full resolution frames
+/// in a ring buffer and `takePicture` encodes the frame closest to the moment
+/// the picture was requested, instead of running the focus and precapture
+/// sequences first. Pictures are still taken the regular way while the flash
+/// is set to fire, or when no frame is available.
+class ZslOptions {
+  /// Creates a new set of ZSL options.
+  const ZslOptions({
+    this.poolSize = 3,
+    this.memoryBudgetBytes = 64 * 1024 * 1024,
+  })  : assert(poolSize > 0),
+        assert(memoryBudgetBytes > 0);
+
+  /// The maximum number of frames kept in the ring buffer.
+  final int poolSize;
+
+  /// The maximum number of bytes the frames in the ring buffer may take up.
+  ///
+  /// Fewer than [poolSize] frames are kept when they would not fit in the
+  /// budget at the capture resolution. The frames are released when the system
+  /// asks the app to trim its memory.
+  final int memoryBudgetBytes;
+
+  /// Converts the options into a map to send to the platform.
+  Map<String, dynamic> toMap() {
+    return <String, dynamic>{
+      'enabled': true,
+      'poolSize': poolSize,
+      'memoryBudgetBytes': memoryBudgetBytes,
+    };
+  }
+}
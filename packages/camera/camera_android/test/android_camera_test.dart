@@ -7,7 +7,13 @@ import 'dart:math';
 
 import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
+import 'package:camera_android/src/camera_settings.dart';
+import 'package:camera_android/src/capture_session_statistics.dart';
+import 'package:camera_android/src/frame_processor_result_event.dart';
+import 'package:camera_android/src/image_save_statistics.dart';
+import 'package:camera_android/src/image_stream_options.dart';
 import 'package:camera_android/src/utils.dart';
+import 'package:camera_android/src/zsl_options.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -411,6 +417,55 @@ void main() {
       await streamQueue.cancel();
     });
 
+    test('Should receive frame processor result events', () async {
+      // Act
+      final Stream<FrameProcessorResultEvent> eventStream =
+          camera.onFrameProcessorResult(cameraId);
+      final StreamQueue<FrameProcessorResultEvent> streamQueue =
+          StreamQueue<FrameProcessorResultEvent>(eventStream);
+
+      // Emit test events
+      await camera.handleCameraMethodCall(
+          const MethodCall('frame_processor_result', <String, Object?>{
+            'processorName': 'barcodes',
+            'timestamp': 42,
+            'result': 'result',
+          }),
+          cameraId);
+
+      // Assert
+      expect(await streamQueue.next,
+          FrameProcessorResultEvent(cameraId, 'barcodes', 42, 'result'));
+
+      // Clean up
+      await streamQueue.cancel();
+    });
+
+    test('Should receive recording segment closed events', () async {
+      // Act
+      final Stream<RecordingSegmentClosedEvent> eventStream =
+          camera.onRecordingSegmentClosed(cameraId);
+      final StreamQueue<RecordingSegmentClosedEvent> streamQueue =
+          StreamQueue<RecordingSegmentClosedEvent>(eventStream);
+
+      // Emit test events
+      await camera.handleCameraMethodCall(
+          const MethodCall('recording_segment_closed', <String, Object?>{
+            'path': '/cache/REC1.mp4',
+            'durationMs': 60000,
+          }),
+          cameraId);
+
+      // Assert
+      expect(
+          await streamQueue.next,
+          RecordingSegmentClosedEvent(
+              cameraId, '/cache/REC1.mp4', const Duration(minutes: 1)));
+
+      // Clean up
+      await streamQueue.cancel();
+    });
+
     test('Should receive device orientation change events', () async {
       // Act
       final Stream<DeviceOrientationChangedEvent> eventStream =
@@ -730,6 +785,238 @@ void main() {
       ]);
     });
 
+    test('Should set the ZSL options', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'setZslOptions': null},
+      );
+
+      // Act
+      await camera.setZslOptions(
+        cameraId,
+        const ZslOptions(poolSize: 4, memoryBudgetBytes: 100000000),
+      );
+      await camera.setZslOptions(cameraId, null);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setZslOptions', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enabled': true,
+          'poolSize': 4,
+          'memoryBudgetBytes': 100000000,
+        }),
+        isMethodCall('setZslOptions', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enabled': false,
+        }),
+      ]);
+    });
+
+    test('Should set the persistent capture session', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'setPersistentCaptureSession': null},
+      );
+
+      // Act
+      await camera.setPersistentCaptureSession(cameraId, true);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setPersistentCaptureSession',
+            arguments: <String, Object?>{'cameraId': cameraId, 'enabled': true}),
+      ]);
+    });
+
+    test('Should get the capture session statistics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'getCaptureSessionStatistics': <String, dynamic>{
+            'sessionConfigurations': 1,
+            'repeatingRequestUpdates': 4,
+          },
+        },
+      );
+
+      // Act
+      final CaptureSessionStatistics statistics =
+          await camera.getCaptureSessionStatistics(cameraId);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('getCaptureSessionStatistics',
+            arguments: <String, Object?>{'cameraId': cameraId}),
+      ]);
+      expect(statistics.sessionConfigurations, 1);
+      expect(statistics.repeatingRequestUpdates, 4);
+    });
+
+    test('Should start segmented video recording', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'startVideoRecording': null},
+      );
+
+      // Act
+      await camera.startSegmentedVideoRecording(
+        cameraId,
+        segmentDuration: const Duration(minutes: 1),
+        segmentSizeBytes: 1000000,
+      );
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startVideoRecording', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enableStream': false,
+          'segmentDurationMs': 60000,
+          'segmentSizeBytes': 1000000,
+        }),
+      ]);
+    });
+
+    test('Should enable metrics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'setMetricsEnabled': null},
+      );
+
+      // Act
+      await camera.setMetricsEnabled(cameraId, true,
+          snapshotInterval: const Duration(milliseconds: 500));
+      await camera.setMetricsEnabled(cameraId, false);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setMetricsEnabled', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enabled': true,
+          'snapshotIntervalMs': 500,
+        }),
+        isMethodCall('setMetricsEnabled', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enabled': false,
+          'snapshotIntervalMs': 1000,
+        }),
+      ]);
+    });
+
+    test('Should parse metrics snapshots', () {
+      // Act
+      final CameraMetricsSnapshot snapshot =
+          CameraMetricsSnapshot.fromMap(<dynamic, dynamic>{
+        'timestamps': <dynamic, dynamic>{
+          'openRequested': 1000,
+          'opened': 51000,
+          'sessionConfigured': 81000,
+          'firstFrame': 121000,
+        },
+        'frameInterval': <dynamic, dynamic>{
+          'count': 10,
+          'min': 33000,
+          'max': 34000,
+          'mean': 33300,
+          'p50': 33000,
+          'p90': 34000,
+          'p99': 34000,
+        },
+        'streamDeliveryLatency': <dynamic, dynamic>{'count': 0},
+      });
+
+      // Assert
+      expect(snapshot.openLatency, const Duration(milliseconds: 50));
+      expect(snapshot.firstFrameLatency, const Duration(milliseconds: 40));
+      expect(snapshot.startupLatency, const Duration(milliseconds: 120));
+      expect(snapshot.shutterLatency, isNull);
+      expect(snapshot.frameInterval.count, 10);
+      expect(snapshot.frameInterval.p50, const Duration(milliseconds: 33));
+      expect(snapshot.streamDeliveryLatency.count, 0);
+      expect(snapshot.streamDeliveryLatency.p50, isNull);
+    });
+
+    test('Should apply all settings at once', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'applySettings': null},
+      );
+
+      // Act
+      await camera.applySettings(
+        cameraId,
+        const AndroidCameraSettings(
+          flashMode: FlashMode.torch,
+          exposureMode: ExposureMode.locked,
+          resetExposurePoint: true,
+          exposureOffset: 0.5,
+          focusMode: FocusMode.auto,
+          focusPoint: Point<double>(0.25, 0.75),
+          zoomLevel: 2.0,
+        ),
+      );
+      await camera.applySettings(
+        cameraId,
+        const AndroidCameraSettings(flashMode: FlashMode.off),
+      );
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('applySettings', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'flashMode': 'torch',
+          'exposureMode': 'locked',
+          'exposurePoint': <String, Object?>{
+            'reset': true,
+            'x': null,
+            'y': null,
+          },
+          'exposureOffset': 0.5,
+          'focusMode': 'auto',
+          'focusPoint': <String, Object?>{
+            'reset': false,
+            'x': 0.25,
+            'y': 0.75,
+          },
+          'zoomLevel': 2.0,
+        }),
+        isMethodCall('applySettings', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'flashMode': 'off',
+        }),
+      ]);
+    });
+
+    test(
+        'Should throw CameraException when applySettings throws a PlatformException',
+        () async {
+      // Arrange
+      MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'applySettings': PlatformException(
+            code: 'ZOOM_ERROR',
+            message: 'Illegal zoom error',
+          )
+        },
+      );
+
+      // Act & assert
+      expect(
+          () => camera.applySettings(
+              cameraId, const AndroidCameraSettings(zoomLevel: -1.0)),
+          throwsA(isA<CameraException>()
+              .having((CameraException e) => e.code, 'code', 'ZOOM_ERROR')
+              .having((CameraException e) => e.description, 'description',
+                  'Illegal zoom error')));
+    });
+
     test('Should set the exposure mode', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -966,6 +1253,29 @@ void main() {
       ]);
     });
 
+    test('Should set the target preview size', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'setTargetPreviewSize': null},
+      );
+
+      // Act
+      await camera.setTargetPreviewSize(cameraId, const Size(1080, 607.5));
+      await camera.setTargetPreviewSize(cameraId, null);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setTargetPreviewSize', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'width': 1080,
+          'height': 608,
+        }),
+        isMethodCall('setTargetPreviewSize',
+            arguments: <String, Object?>{'cameraId': cameraId}),
+      ]);
+    });
+
     test('Should set the zoom level', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -1099,6 +1409,111 @@ void main() {
       subscription.cancel();
     });
 
+    test('Should start streaming with Android options', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId,
+              options: AndroidCameraImageStreamOptions(
+                deliveryPolicy: ImageStreamDeliveryPolicy.block,
+                maxFramesInFlight: 2,
+                frameProcessors: <String>['barcodes'],
+                deliverFrames: false,
+                yuvPacking: YuvPackingFormat.nv21,
+                cropRect: const Rectangle<int>(10, 20, 320, 240),
+                downscaleFactor: 2,
+                targetFrameRate: 10,
+              ))
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startImageStream', arguments: <String, Object?>{
+          'deliveryPolicy': 'block',
+          'maxFramesInFlight': 2,
+          'frameProcessors': <String>['barcodes'],
+          'deliverFrames': false,
+          'yuvPacking': 'nv21',
+          'cropRect': <String, int>{
+            'left': 10,
+            'top': 20,
+            'width': 320,
+            'height': 240,
+          },
+          'downscaleFactor': 2,
+          'targetFrameRate': 10.0,
+        }),
+      ]);
+
+      subscription.cancel();
+    });
+
+    test('Should get the image save statistics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'getImageSaveStatistics': <String, dynamic>{
+            'savedImages': 3,
+            'lastSaveLatencyMicros': 20000,
+            'averageSaveLatencyMicros': 15000,
+            'maxSaveLatencyMicros': 25000,
+          },
+        },
+      );
+
+      // Act
+      final ImageSaveStatistics statistics =
+          await camera.getImageSaveStatistics(cameraId);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('getImageSaveStatistics',
+            arguments: <String, Object?>{'cameraId': cameraId}),
+      ]);
+      expect(statistics.savedImages, 3);
+      expect(statistics.lastSaveLatency, const Duration(milliseconds: 20));
+      expect(statistics.averageSaveLatency, const Duration(milliseconds: 15));
+      expect(statistics.maxSaveLatency, const Duration(milliseconds: 25));
+    });
+
+    test('Should get the image stream statistics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'getImageStreamStatistics': <String, dynamic>{
+            'deliveredFrames': 10,
+            'droppedFrames': 2,
+            'skippedFrames': 20,
+            'framesInFlight': 1,
+          },
+        },
+      );
+
+      // Act
+      final ImageStreamStatistics statistics =
+          await camera.getImageStreamStatistics(cameraId);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('getImageStreamStatistics',
+            arguments: <String, Object?>{'cameraId': cameraId}),
+      ]);
+      expect(statistics.deliveredFrames, 10);
+      expect(statistics.droppedFrames, 2);
+      expect(statistics.skippedFrames, 20);
+      expect(statistics.framesInFlight, 1);
+    });
+
     test('Should stop streaming', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -6,6 +6,7 @@ package io.flutter.plugins.camerax;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.lifecycle.LifecycleOwner;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
@@ -15,9 +16,14 @@ import io.flutter.view.TextureRegistry;
 
 /** Platform implementation of the camera_plugin implemented with the CameraX library. */
 public final class CameraAndroidCameraxPlugin implements FlutterPlugin, ActivityAware {
+  private static boolean eagerCameraProviderInitialization;
+  private final ProcessCameraProviderInitializer processCameraProviderInitializer =
+      new ProcessCameraProviderInitializer();
   private InstanceManager instanceManager;
   private FlutterPluginBinding pluginBinding;
   private ProcessCameraProviderHostApiImpl processCameraProviderHostApi;
+  private RecorderHostApiImpl recorderHostApi;
+  private CameraXExecutors cameraXExecutors;
   public SystemServicesHostApiImpl systemServicesHostApi;
 
   /**
@@ -27,35 +33,87 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
    */
   public CameraAndroidCameraxPlugin() {}
 
+  /**
+   * Sets whether the {@code ProcessCameraProvider} starts initializing as soon as the plugin is
+   * attached, instead of when Dart first requests it.
+   *
+   * <p>This should be called before the plugin is attached to the engine, such as in {@code
+   * Application#onCreate}, so that initializing CameraX overlaps the rest of the app startup. How
+   * much of it was overlapped is reported by {@code ProcessCameraProvider.getInitializationInfo}.
+   *
+   * @param enabled true to start initializing the provider eagerly.
+   */
+  public static void setEagerCameraProviderInitialization(boolean enabled) {
+    eagerCameraProviderInitialization = enabled;
+  }
+
   void setUp(BinaryMessenger binaryMessenger, Context context, TextureRegistry textureRegistry) {
-    // Set up instance manager.
+    // Set up the executors shared by CameraX callbacks, releasing those of a previous set up.
+    if (cameraXExecutors != null) {
+      cameraXExecutors.release();
+    }
+    cameraXExecutors = new CameraXExecutors();
+
+    // Set up instance manager, closing the one of a previous set up.
+    if (instanceManager != null) {
+      instanceManager.close();
+    }
     instanceManager =
         InstanceManager.open(
-            identifier -> {
+            identifiers -> {
               new GeneratedCameraXLibrary.JavaObjectFlutterApi(binaryMessenger)
-                  .dispose(identifier, reply -> {});
+                  .disposeAll(identifiers, reply -> {});
             });
 
     // Set up Host APIs.
     GeneratedCameraXLibrary.CameraInfoHostApi.setup(
         binaryMessenger, new CameraInfoHostApiImpl(instanceManager));
-    GeneratedCameraXLibrary.CameraSelectorHostApi.setup(
-        binaryMessenger, new CameraSelectorHostApiImpl(binaryMessenger, instanceManager));
+    final CameraSelectorHostApiImpl cameraSelectorHostApi =
+        new CameraSelectorHostApiImpl(binaryMessenger, instanceManager);
+    GeneratedCameraXLibrary.CameraSelectorHostApi.setup(binaryMessenger, cameraSelectorHostApi);
     GeneratedCameraXLibrary.JavaObjectHostApi.setup(
         binaryMessenger, new JavaObjectHostApiImpl(instanceManager));
     processCameraProviderHostApi =
-        new ProcessCameraProviderHostApiImpl(binaryMessenger, instanceManager, context);
+        new ProcessCameraProviderHostApiImpl(
+            binaryMessenger, instanceManager, context, processCameraProviderInitializer);
     GeneratedCameraXLibrary.ProcessCameraProviderHostApi.setup(
         binaryMessenger, processCameraProviderHostApi);
     systemServicesHostApi = new SystemServicesHostApiImpl(binaryMessenger, instanceManager);
     GeneratedCameraXLibrary.SystemServicesHostApi.setup(binaryMessenger, systemServicesHostApi);
-    GeneratedCameraXLibrary.PreviewHostApi.setup(
-        binaryMessenger, new PreviewHostApiImpl(binaryMessenger, instanceManager, textureRegistry));
+    final PreviewHostApiImpl previewHostApi =
+        new PreviewHostApiImpl(binaryMessenger, instanceManager, textureRegistry, cameraXExecutors);
+    GeneratedCameraXLibrary.PreviewHostApi.setup(binaryMessenger, previewHostApi);
+    final ImageAnalysisHostApiImpl imageAnalysisHostApi =
+        new ImageAnalysisHostApiImpl(binaryMessenger, instanceManager, cameraXExecutors);
+    GeneratedCameraXLibrary.ImageAnalysisHostApi.setup(binaryMessenger, imageAnalysisHostApi);
+    final ImageCaptureHostApiImpl imageCaptureHostApi =
+        new ImageCaptureHostApiImpl(instanceManager, cameraXExecutors);
+    GeneratedCameraXLibrary.ImageCaptureHostApi.setup(binaryMessenger, imageCaptureHostApi);
+    GeneratedCameraXLibrary.CameraUseCaseGraphHostApi.setup(
+        binaryMessenger,
+        new CameraUseCaseGraphHostApiImpl(
+            cameraSelectorHostApi,
+            previewHostApi,
+            imageCaptureHostApi,
+            imageAnalysisHostApi,
+            processCameraProviderHostApi));
+    GeneratedCameraXLibrary.QualitySelectorHostApi.setup(
+        binaryMessenger, new QualitySelectorHostApiImpl(instanceManager));
+    recorderHostApi =
+        new RecorderHostApiImpl(binaryMessenger, instanceManager, cameraXExecutors, context);
+    GeneratedCameraXLibrary.RecorderHostApi.setup(binaryMessenger, recorderHostApi);
+    GeneratedCameraXLibrary.RecordingHostApi.setup(
+        binaryMessenger, new RecordingHostApiImpl(instanceManager));
+    GeneratedCameraXLibrary.VideoCaptureHostApi.setup(
+        binaryMessenger, new VideoCaptureHostApiImpl(instanceManager));
   }
 
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding flutterPluginBinding) {
     pluginBinding = flutterPluginBinding;
+    if (eagerCameraProviderInitialization) {
+      processCameraProviderInitializer.startEagerly(flutterPluginBinding.getApplicationContext());
+    }
   }
 
   @Override
@@ -63,12 +121,19 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     if (instanceManager != null) {
       instanceManager.close();
     }
+    if (cameraXExecutors != null) {
+      cameraXExecutors.release();
+    }
   }
 
   // Activity Lifecycle methods:
 
   @Override
   public void onAttachedToActivity(@NonNull ActivityPluginBinding activityPluginBinding) {
+    // Covers eager initialization being enabled after the plugin was attached to the engine.
+    if (eagerCameraProviderInitialization) {
+      processCameraProviderInitializer.startEagerly(pluginBinding.getApplicationContext());
+    }
     setUp(
         pluginBinding.getBinaryMessenger(),
         pluginBinding.getApplicationContext(),
@@ -97,13 +162,22 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     updateContext(pluginBinding.getApplicationContext());
   }
 
+  /** Returns the executors shared by CameraX callbacks, if the plugin has been set up. */
+  @Nullable
+  public CameraXExecutors getCameraXExecutors() {
+    return cameraXExecutors;
+  }
+
   /**
    * Updates context that is used to fetch the corresponding instance of a {@code
-   * ProcessCameraProvider}.
+   * ProcessCameraProvider} and to prepare video recordings.
    */
   public void updateContext(Context context) {
     if (processCameraProviderHostApi != null) {
       processCameraProviderHostApi.setContext(context);
     }
+    if (recorderHostApi != null) {
+      recorderHostApi.setContext(context);
+    }
   }
 }
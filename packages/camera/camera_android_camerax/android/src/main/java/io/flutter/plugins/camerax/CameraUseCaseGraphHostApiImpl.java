@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraUseCaseGraphHostApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraUseCaseGraphRequest;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraUseCaseGraphResult;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.Result;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the {@code CameraSelector}, use cases and {@code ProcessCameraProvider} needed to show a
+ * camera preview, and optionally binds them, in response to a single message from Dart.
+ *
+ * <p>Each object is created by the host API that would create it if Dart sent a message for it, so
+ * objects created either way are configured the same.
+ */
+public class CameraUseCaseGraphHostApiImpl implements CameraUseCaseGraphHostApi {
+  private final CameraSelectorHostApiImpl cameraSelectorHostApi;
+  private final PreviewHostApiImpl previewHostApi;
+  private final ImageCaptureHostApiImpl imageCaptureHostApi;
+  private final ImageAnalysisHostApiImpl imageAnalysisHostApi;
+  private final ProcessCameraProviderHostApiImpl processCameraProviderHostApi;
+
+  public CameraUseCaseGraphHostApiImpl(
+      @NonNull CameraSelectorHostApiImpl cameraSelectorHostApi,
+      @NonNull PreviewHostApiImpl previewHostApi,
+      @NonNull ImageCaptureHostApiImpl imageCaptureHostApi,
+      @NonNull ImageAnalysisHostApiImpl imageAnalysisHostApi,
+      @NonNull ProcessCameraProviderHostApiImpl processCameraProviderHostApi) {
+    this.cameraSelectorHostApi = cameraSelectorHostApi;
+    this.previewHostApi = previewHostApi;
+    this.imageCaptureHostApi = imageCaptureHostApi;
+    this.imageAnalysisHostApi = imageAnalysisHostApi;
+    this.processCameraProviderHostApi = processCameraProviderHostApi;
+  }
+
+  /**
+   * Creates the objects described by {@code request}, sets the surface provider of its {@code
+   * Preview} and gets the {@code ProcessCameraProvider}, binding the use cases to its lifecycle if
+   * requested.
+   *
+   * <p>Returns the identifiers of the objects created on the Java side, along with the ID of the
+   * Flutter surface texture that the preview is drawn to.
+   */
+  @Override
+  public void createAndBind(
+      @NonNull CameraUseCaseGraphRequest request,
+      @NonNull Result<CameraUseCaseGraphResult> result) {
+    cameraSelectorHostApi.create(request.getCameraSelectorIdentifier(), request.getLensFacing());
+
+    final List<Long> useCaseIds = new ArrayList<>();
+    previewHostApi.create(
+        request.getPreviewIdentifier(),
+        request.getPreviewTargetRotation(),
+        request.getPreviewTargetResolution());
+    useCaseIds.add(request.getPreviewIdentifier());
+    if (request.getImageCaptureIdentifier() != null) {
+      imageCaptureHostApi.create(
+          request.getImageCaptureIdentifier(),
+          request.getImageCaptureMode(),
+          request.getImageCaptureTargetResolution());
+      useCaseIds.add(request.getImageCaptureIdentifier());
+    }
+    if (request.getImageAnalysisIdentifier() != null) {
+      imageAnalysisHostApi.create(
+          request.getImageAnalysisIdentifier(),
+          request.getImageAnalysisOutputImageFormat(),
+          request.getImageAnalysisTargetResolution());
+      useCaseIds.add(request.getImageAnalysisIdentifier());
+    }
+    final Long flutterSurfaceTextureId =
+        previewHostApi.setSurfaceProvider(request.getPreviewIdentifier());
+
+    processCameraProviderHostApi.getInstance(
+        new Result<Long>() {
+          @Override
+          public void success(Long processCameraProviderIdentifier) {
+            final CameraUseCaseGraphResult.Builder resultBuilder =
+                new CameraUseCaseGraphResult.Builder()
+                    .setProcessCameraProviderIdentifier(processCameraProviderIdentifier)
+                    .setFlutterSurfaceTextureId(flutterSurfaceTextureId);
+            if (request.getBindToLifecycle()) {
+              try {
+                resultBuilder.setCameraIdentifier(
+                    processCameraProviderHostApi.bindToLifecycle(
+                        processCameraProviderIdentifier,
+                        request.getCameraSelectorIdentifier(),
+                        useCaseIds));
+              } catch (RuntimeException e) {
+                result.error(e);
+                return;
+              }
+            }
+            result.success(resultBuilder.build());
+          }
+
+          @Override
+          public void error(Throwable error) {
+            result.error(error);
+          }
+        });
+  }
+}
@@ -0,0 +1,164 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.core.ImageAnalysis;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the threads that CameraX callbacks of this plugin run on.
+ *
+ * <p>A single instance is shared by all host API implementations. Executors are created on first
+ * use and are shut down by {@link #release()} when the plugin is detached from the engine.
+ */
+public class CameraXExecutors {
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  private final List<Thread> threads = new ArrayList<>();
+  @Nullable private ExecutorService backgroundExecutor;
+  @Nullable private ExecutorService imageAnalysisExecutor;
+  @Nullable private ExecutorService ioExecutor;
+  @Nullable private Executor mainThreadExecutor;
+
+  /**
+   * Returns the executor for short callbacks, such as the results of providing a {@code Surface} to
+   * a {@code Preview}.
+   *
+   * <p>The executor runs tasks in order on a single thread, which is stopped after being idle for
+   * {@value #KEEP_ALIVE_SECONDS} seconds.
+   */
+  @NonNull
+  public synchronized Executor getBackgroundExecutor() {
+    if (backgroundExecutor == null) {
+      backgroundExecutor = createSingleThreadExecutor("CameraXBackground");
+    }
+    return backgroundExecutor;
+  }
+
+  /**
+   * Returns the executor for reading and writing captured images.
+   *
+   * <p>The executor runs tasks in order on a single thread, which is stopped after being idle for
+   * {@value #KEEP_ALIVE_SECONDS} seconds.
+   */
+  @NonNull
+  public synchronized Executor getIoExecutor() {
+    if (ioExecutor == null) {
+      ioExecutor = createSingleThreadExecutor("CameraXIo");
+    }
+    return ioExecutor;
+  }
+
+  /** Returns an executor that runs tasks on the main thread, where results are sent to Dart. */
+  @NonNull
+  public synchronized Executor getMainThreadExecutor() {
+    if (mainThreadExecutor == null) {
+      Handler mainHandler = new Handler(Looper.getMainLooper());
+      mainThreadExecutor = mainHandler::post;
+    }
+    return mainThreadExecutor;
+  }
+
+  /**
+   * Returns the executor that runs {@link ImageAnalysis.Analyzer}s.
+   *
+   * <p>The executor has a single thread and room for a single pending image, which is all that
+   * {@link ImageAnalysis#STRATEGY_KEEP_ONLY_LATEST} ever submits. Images that do not fit are
+   * analyzed on the submitting thread instead of being discarded, as a discarded task would never
+   * close its image. Once the executor is released, images are rejected with a {@link
+   * RejectedExecutionException}, on which {@link ImageAnalysis} closes the image itself.
+   */
+  @NonNull
+  public synchronized Executor getImageAnalysisExecutor() {
+    if (imageAnalysisExecutor == null) {
+      imageAnalysisExecutor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(1),
+              createThreadFactory("CameraXImageAnalysis"),
+              (runnable, executor) -> {
+                if (executor.isShutdown()) {
+                  throw new RejectedExecutionException("The image analysis executor was released.");
+                }
+                runnable.run();
+              });
+    }
+    return imageAnalysisExecutor;
+  }
+
+  /**
+   * Shuts down the executors, letting already submitted tasks finish.
+   *
+   * <p>Executors requested after this call are created again.
+   */
+  public synchronized void release() {
+    if (backgroundExecutor != null) {
+      backgroundExecutor.shutdown();
+      backgroundExecutor = null;
+    }
+    if (imageAnalysisExecutor != null) {
+      imageAnalysisExecutor.shutdown();
+      imageAnalysisExecutor = null;
+    }
+    if (ioExecutor != null) {
+      ioExecutor.shutdown();
+      ioExecutor = null;
+    }
+  }
+
+  /** Returns the number of threads started by these executors that have not terminated yet. */
+  public synchronized int getLiveThreadCount() {
+    Iterator<Thread> iterator = threads.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().getState() == Thread.State.TERMINATED) {
+        iterator.remove();
+      }
+    }
+    return threads.size();
+  }
+
+  private ExecutorService createSingleThreadExecutor(@NonNull String name) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            createThreadFactory(name));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private ThreadFactory createThreadFactory(@NonNull String name) {
+    ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+    return runnable -> {
+      Thread thread = defaultThreadFactory.newThread(runnable);
+      thread.setName(name);
+      synchronized (CameraXExecutors.this) {
+        threads.add(thread);
+      }
+      return thread;
+    };
+  }
+}
@@ -6,11 +6,26 @@ package io.flutter.plugins.camerax;
 
 import android.app.Activity;
 import android.graphics.SurfaceTexture;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.camera.core.CameraSelector;
+import androidx.camera.core.ImageAnalysis;
+import androidx.camera.core.ImageCapture;
 import androidx.camera.core.Preview;
+import androidx.camera.video.FallbackStrategy;
+import androidx.camera.video.FileOutputOptions;
+import androidx.camera.video.Quality;
+import androidx.camera.video.QualitySelector;
+import androidx.camera.video.Recorder;
+import androidx.camera.video.VideoCapture;
 import io.flutter.plugin.common.BinaryMessenger;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.util.List;
 
 /** Utility class used to create CameraX-related objects primarily for testing purposes. */
 public class CameraXProxy {
@@ -34,6 +49,58 @@ public class CameraXProxy {
     return new Preview.Builder();
   }
 
+  public ImageAnalysis.Builder createImageAnalysisBuilder() {
+    return new ImageAnalysis.Builder();
+  }
+
+  public ImageAnalysisAnalyzer createImageAnalysisAnalyzer(
+      @NonNull Long identifier, @NonNull ImageAnalysisFlutterApiImpl imageAnalysisFlutterApi) {
+    return new ImageAnalysisAnalyzer(
+        identifier,
+        imageAnalysisFlutterApi,
+        new ImageAnalysisFramePool(),
+        new Handler(Looper.getMainLooper()));
+  }
+
+  public ImageAnalysisFlutterApiImpl createImageAnalysisFlutterApiImpl(
+      @NonNull BinaryMessenger binaryMessenger) {
+    return new ImageAnalysisFlutterApiImpl(binaryMessenger);
+  }
+
+  public ImageCapture.Builder createImageCaptureBuilder() {
+    return new ImageCapture.Builder();
+  }
+
+  public FileOutputStream createFileOutputStream(@NonNull String path)
+      throws FileNotFoundException {
+    return new FileOutputStream(path);
+  }
+
+  public QualitySelector createQualitySelector(
+      @NonNull List<Quality> qualities, @Nullable FallbackStrategy fallbackStrategy) {
+    if (fallbackStrategy == null) {
+      return QualitySelector.fromOrderedList(qualities);
+    }
+    return QualitySelector.fromOrderedList(qualities, fallbackStrategy);
+  }
+
+  public Recorder.Builder createRecorderBuilder() {
+    return new Recorder.Builder();
+  }
+
+  public FileOutputOptions createFileOutputOptions(@NonNull String path) {
+    return new FileOutputOptions.Builder(new File(path)).build();
+  }
+
+  public RecordingFlutterApiImpl createRecordingFlutterApiImpl(
+      @NonNull BinaryMessenger binaryMessenger) {
+    return new RecordingFlutterApiImpl(binaryMessenger);
+  }
+
+  public VideoCapture<Recorder> createVideoCapture(@NonNull Recorder recorder) {
+    return VideoCapture.withOutput(recorder);
+  }
+
   public Surface createSurface(@NonNull SurfaceTexture surfaceTexture) {
     return new Surface(surfaceTexture);
   }
@@ -173,35 +173,1571 @@ public class GeneratedCameraXLibrary {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class ImageFrameData {
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long rotationDegrees;
+
+    public @NonNull Long getRotationDegrees() {
+      return rotationDegrees;
+    }
+
+    public void setRotationDegrees(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rotationDegrees\" is null.");
+      }
+      this.rotationDegrees = setterArg;
+    }
+
+    private @NonNull Long timestamp;
+
+    public @NonNull Long getTimestamp() {
+      return timestamp;
+    }
+
+    public void setTimestamp(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"timestamp\" is null.");
+      }
+      this.timestamp = setterArg;
+    }
+
+    private @NonNull List<byte[]> planes;
+
+    public @NonNull List<byte[]> getPlanes() {
+      return planes;
+    }
+
+    public void setPlanes(@NonNull List<byte[]> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"planes\" is null.");
+      }
+      this.planes = setterArg;
+    }
+
+    private @NonNull List<Long> bytesPerRow;
+
+    public @NonNull List<Long> getBytesPerRow() {
+      return bytesPerRow;
+    }
+
+    public void setBytesPerRow(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesPerRow\" is null.");
+      }
+      this.bytesPerRow = setterArg;
+    }
+
+    private @NonNull List<Long> bytesPerPixel;
+
+    public @NonNull List<Long> getBytesPerPixel() {
+      return bytesPerPixel;
+    }
+
+    public void setBytesPerPixel(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesPerPixel\" is null.");
+      }
+      this.bytesPerPixel = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private ImageFrameData() {}
+
+    public static final class Builder {
+      private @Nullable Long width;
+
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rotationDegrees;
+
+      public @NonNull Builder setRotationDegrees(@NonNull Long setterArg) {
+        this.rotationDegrees = setterArg;
+        return this;
+      }
+
+      private @Nullable Long timestamp;
+
+      public @NonNull Builder setTimestamp(@NonNull Long setterArg) {
+        this.timestamp = setterArg;
+        return this;
+      }
+
+      private @Nullable List<byte[]> planes;
+
+      public @NonNull Builder setPlanes(@NonNull List<byte[]> setterArg) {
+        this.planes = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> bytesPerRow;
+
+      public @NonNull Builder setBytesPerRow(@NonNull List<Long> setterArg) {
+        this.bytesPerRow = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> bytesPerPixel;
+
+      public @NonNull Builder setBytesPerPixel(@NonNull List<Long> setterArg) {
+        this.bytesPerPixel = setterArg;
+        return this;
+      }
+
+      public @NonNull ImageFrameData build() {
+        ImageFrameData pigeonReturn = new ImageFrameData();
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setRotationDegrees(rotationDegrees);
+        pigeonReturn.setTimestamp(timestamp);
+        pigeonReturn.setPlanes(planes);
+        pigeonReturn.setBytesPerRow(bytesPerRow);
+        pigeonReturn.setBytesPerPixel(bytesPerPixel);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("width", width);
+      toMapResult.put("height", height);
+      toMapResult.put("format", format);
+      toMapResult.put("rotationDegrees", rotationDegrees);
+      toMapResult.put("timestamp", timestamp);
+      toMapResult.put("planes", planes);
+      toMapResult.put("bytesPerRow", bytesPerRow);
+      toMapResult.put("bytesPerPixel", bytesPerPixel);
+      return toMapResult;
+    }
+
+    static @NonNull ImageFrameData fromMap(@NonNull Map<String, Object> map) {
+      ImageFrameData pigeonResult = new ImageFrameData();
+      Object width = map.get("width");
+      pigeonResult.setWidth(
+          (width == null) ? null : ((width instanceof Integer) ? (Integer) width : (Long) width));
+      Object height = map.get("height");
+      pigeonResult.setHeight(
+          (height == null)
+              ? null
+              : ((height instanceof Integer) ? (Integer) height : (Long) height));
+      Object format = map.get("format");
+      pigeonResult.setFormat(
+          (format == null)
+              ? null
+              : ((format instanceof Integer) ? (Integer) format : (Long) format));
+      Object rotationDegrees = map.get("rotationDegrees");
+      pigeonResult.setRotationDegrees(
+          (rotationDegrees == null)
+              ? null
+              : ((rotationDegrees instanceof Integer)
+                  ? (Integer) rotationDegrees
+                  : (Long) rotationDegrees));
+      Object timestamp = map.get("timestamp");
+      pigeonResult.setTimestamp(
+          (timestamp == null)
+              ? null
+              : ((timestamp instanceof Integer) ? (Integer) timestamp : (Long) timestamp));
+      Object planes = map.get("planes");
+      pigeonResult.setPlanes((List<byte[]>) planes);
+      Object bytesPerRow = map.get("bytesPerRow");
+      pigeonResult.setBytesPerRow((List<Long>) bytesPerRow);
+      Object bytesPerPixel = map.get("bytesPerPixel");
+      pigeonResult.setBytesPerPixel((List<Long>) bytesPerPixel);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class ImageCaptureResultData {
+    private @Nullable byte[] bytes;
+
+    public @Nullable byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@Nullable byte[] setterArg) {
+      this.bytes = setterArg;
+    }
+
+    private @Nullable String path;
+
+    public @Nullable String getPath() {
+      return path;
+    }
+
+    public void setPath(@Nullable String setterArg) {
+      this.path = setterArg;
+    }
+
+    private @NonNull Long captureLatencyMillis;
+
+    public @NonNull Long getCaptureLatencyMillis() {
+      return captureLatencyMillis;
+    }
+
+    public void setCaptureLatencyMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"captureLatencyMillis\" is null.");
+      }
+      this.captureLatencyMillis = setterArg;
+    }
+
+    private @Nullable Long saveLatencyMillis;
+
+    public @Nullable Long getSaveLatencyMillis() {
+      return saveLatencyMillis;
+    }
+
+    public void setSaveLatencyMillis(@Nullable Long setterArg) {
+      this.saveLatencyMillis = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private ImageCaptureResultData() {}
+
+    public static final class Builder {
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@Nullable byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable String path;
+
+      public @NonNull Builder setPath(@Nullable String setterArg) {
+        this.path = setterArg;
+        return this;
+      }
+
+      private @Nullable Long captureLatencyMillis;
+
+      public @NonNull Builder setCaptureLatencyMillis(@NonNull Long setterArg) {
+        this.captureLatencyMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long saveLatencyMillis;
+
+      public @NonNull Builder setSaveLatencyMillis(@Nullable Long setterArg) {
+        this.saveLatencyMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull ImageCaptureResultData build() {
+        ImageCaptureResultData pigeonReturn = new ImageCaptureResultData();
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setPath(path);
+        pigeonReturn.setCaptureLatencyMillis(captureLatencyMillis);
+        pigeonReturn.setSaveLatencyMillis(saveLatencyMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("bytes", bytes);
+      toMapResult.put("path", path);
+      toMapResult.put("captureLatencyMillis", captureLatencyMillis);
+      toMapResult.put("saveLatencyMillis", saveLatencyMillis);
+      return toMapResult;
+    }
+
+    static @NonNull ImageCaptureResultData fromMap(@NonNull Map<String, Object> map) {
+      ImageCaptureResultData pigeonResult = new ImageCaptureResultData();
+      Object bytes = map.get("bytes");
+      pigeonResult.setBytes((byte[]) bytes);
+      Object path = map.get("path");
+      pigeonResult.setPath((String) path);
+      Object captureLatencyMillis = map.get("captureLatencyMillis");
+      pigeonResult.setCaptureLatencyMillis(
+          (captureLatencyMillis == null)
+              ? null
+              : ((captureLatencyMillis instanceof Integer)
+                  ? (Integer) captureLatencyMillis
+                  : (Long) captureLatencyMillis));
+      Object saveLatencyMillis = map.get("saveLatencyMillis");
+      pigeonResult.setSaveLatencyMillis(
+          (saveLatencyMillis == null)
+              ? null
+              : ((saveLatencyMillis instanceof Integer)
+                  ? (Integer) saveLatencyMillis
+                  : (Long) saveLatencyMillis));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class ProcessCameraProviderInitializationInfo {
+    private @NonNull Boolean startedEagerly;
+
+    public @NonNull Boolean getStartedEagerly() {
+      return startedEagerly;
+    }
+
+    public void setStartedEagerly(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"startedEagerly\" is null.");
+      }
+      this.startedEagerly = setterArg;
+    }
+
+    private @Nullable Long initializationMillis;
+
+    public @Nullable Long getInitializationMillis() {
+      return initializationMillis;
+    }
+
+    public void setInitializationMillis(@Nullable Long setterArg) {
+      this.initializationMillis = setterArg;
+    }
+
+    private @NonNull Long overlappedMillis;
+
+    public @NonNull Long getOverlappedMillis() {
+      return overlappedMillis;
+    }
+
+    public void setOverlappedMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"overlappedMillis\" is null.");
+      }
+      this.overlappedMillis = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private ProcessCameraProviderInitializationInfo() {}
+
+    public static final class Builder {
+      private @Nullable Boolean startedEagerly;
+
+      public @NonNull Builder setStartedEagerly(@NonNull Boolean setterArg) {
+        this.startedEagerly = setterArg;
+        return this;
+      }
+
+      private @Nullable Long initializationMillis;
+
+      public @NonNull Builder setInitializationMillis(@Nullable Long setterArg) {
+        this.initializationMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long overlappedMillis;
+
+      public @NonNull Builder setOverlappedMillis(@NonNull Long setterArg) {
+        this.overlappedMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull ProcessCameraProviderInitializationInfo build() {
+        ProcessCameraProviderInitializationInfo pigeonReturn =
+            new ProcessCameraProviderInitializationInfo();
+        pigeonReturn.setStartedEagerly(startedEagerly);
+        pigeonReturn.setInitializationMillis(initializationMillis);
+        pigeonReturn.setOverlappedMillis(overlappedMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("startedEagerly", startedEagerly);
+      toMapResult.put("initializationMillis", initializationMillis);
+      toMapResult.put("overlappedMillis", overlappedMillis);
+      return toMapResult;
+    }
+
+    static @NonNull ProcessCameraProviderInitializationInfo fromMap(
+        @NonNull Map<String, Object> map) {
+      ProcessCameraProviderInitializationInfo pigeonResult =
+          new ProcessCameraProviderInitializationInfo();
+      Object startedEagerly = map.get("startedEagerly");
+      pigeonResult.setStartedEagerly((Boolean) startedEagerly);
+      Object initializationMillis = map.get("initializationMillis");
+      pigeonResult.setInitializationMillis(
+          (initializationMillis == null)
+              ? null
+              : ((initializationMillis instanceof Integer)
+                  ? (Integer) initializationMillis
+                  : (Long) initializationMillis));
+      Object overlappedMillis = map.get("overlappedMillis");
+      pigeonResult.setOverlappedMillis(
+          (overlappedMillis == null)
+              ? null
+              : ((overlappedMillis instanceof Integer)
+                  ? (Integer) overlappedMillis
+                  : (Long) overlappedMillis));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CameraUseCaseGraphRequest {
+    private @NonNull Long cameraSelectorIdentifier;
+
+    public @NonNull Long getCameraSelectorIdentifier() {
+      return cameraSelectorIdentifier;
+    }
+
+    public void setCameraSelectorIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cameraSelectorIdentifier\" is null.");
+      }
+      this.cameraSelectorIdentifier = setterArg;
+    }
+
+    private @Nullable Long lensFacing;
+
+    public @Nullable Long getLensFacing() {
+      return lensFacing;
+    }
+
+    public void setLensFacing(@Nullable Long setterArg) {
+      this.lensFacing = setterArg;
+    }
+
+    private @NonNull Long previewIdentifier;
+
+    public @NonNull Long getPreviewIdentifier() {
+      return previewIdentifier;
+    }
+
+    public void setPreviewIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"previewIdentifier\" is null.");
+      }
+      this.previewIdentifier = setterArg;
+    }
+
+    private @Nullable Long previewTargetRotation;
+
+    public @Nullable Long getPreviewTargetRotation() {
+      return previewTargetRotation;
+    }
+
+    public void setPreviewTargetRotation(@Nullable Long setterArg) {
+      this.previewTargetRotation = setterArg;
+    }
+
+    private @Nullable ResolutionInfo previewTargetResolution;
+
+    public @Nullable ResolutionInfo getPreviewTargetResolution() {
+      return previewTargetResolution;
+    }
+
+    public void setPreviewTargetResolution(@Nullable ResolutionInfo setterArg) {
+      this.previewTargetResolution = setterArg;
+    }
+
+    private @Nullable Long imageCaptureIdentifier;
+
+    public @Nullable Long getImageCaptureIdentifier() {
+      return imageCaptureIdentifier;
+    }
+
+    public void setImageCaptureIdentifier(@Nullable Long setterArg) {
+      this.imageCaptureIdentifier = setterArg;
+    }
+
+    private @Nullable Long imageCaptureMode;
+
+    public @Nullable Long getImageCaptureMode() {
+      return imageCaptureMode;
+    }
+
+    public void setImageCaptureMode(@Nullable Long setterArg) {
+      this.imageCaptureMode = setterArg;
+    }
+
+    private @Nullable ResolutionInfo imageCaptureTargetResolution;
+
+    public @Nullable ResolutionInfo getImageCaptureTargetResolution() {
+      return imageCaptureTargetResolution;
+    }
+
+    public void setImageCaptureTargetResolution(@Nullable ResolutionInfo setterArg) {
+      this.imageCaptureTargetResolution = setterArg;
+    }
+
+    private @Nullable Long imageAnalysisIdentifier;
+
+    public @Nullable Long getImageAnalysisIdentifier() {
+      return imageAnalysisIdentifier;
+    }
+
+    public void setImageAnalysisIdentifier(@Nullable Long setterArg) {
+      this.imageAnalysisIdentifier = setterArg;
+    }
+
+    private @Nullable Long imageAnalysisOutputImageFormat;
+
+    public @Nullable Long getImageAnalysisOutputImageFormat() {
+      return imageAnalysisOutputImageFormat;
+    }
+
+    public void setImageAnalysisOutputImageFormat(@Nullable Long setterArg) {
+      this.imageAnalysisOutputImageFormat = setterArg;
+    }
+
+    private @Nullable ResolutionInfo imageAnalysisTargetResolution;
+
+    public @Nullable ResolutionInfo getImageAnalysisTargetResolution() {
+      return imageAnalysisTargetResolution;
+    }
+
+    public void setImageAnalysisTargetResolution(@Nullable ResolutionInfo setterArg) {
+      this.imageAnalysisTargetResolution = setterArg;
+    }
+
+    private @NonNull Boolean bindToLifecycle;
+
+    public @NonNull Boolean getBindToLifecycle() {
+      return bindToLifecycle;
+    }
+
+    public void setBindToLifecycle(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bindToLifecycle\" is null.");
+      }
+      this.bindToLifecycle = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CameraUseCaseGraphRequest() {}
+
+    public static final class Builder {
+      private @Nullable Long cameraSelectorIdentifier;
+
+      public @NonNull Builder setCameraSelectorIdentifier(@NonNull Long setterArg) {
+        this.cameraSelectorIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lensFacing;
+
+      public @NonNull Builder setLensFacing(@Nullable Long setterArg) {
+        this.lensFacing = setterArg;
+        return this;
+      }
+
+      private @Nullable Long previewIdentifier;
+
+      public @NonNull Builder setPreviewIdentifier(@NonNull Long setterArg) {
+        this.previewIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long previewTargetRotation;
+
+      public @NonNull Builder setPreviewTargetRotation(@Nullable Long setterArg) {
+        this.previewTargetRotation = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionInfo previewTargetResolution;
+
+      public @NonNull Builder setPreviewTargetResolution(@Nullable ResolutionInfo setterArg) {
+        this.previewTargetResolution = setterArg;
+        return this;
+      }
+
+      private @Nullable Long imageCaptureIdentifier;
+
+      public @NonNull Builder setImageCaptureIdentifier(@Nullable Long setterArg) {
+        this.imageCaptureIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long imageCaptureMode;
+
+      public @NonNull Builder setImageCaptureMode(@Nullable Long setterArg) {
+        this.imageCaptureMode = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionInfo imageCaptureTargetResolution;
+
+      public @NonNull Builder setImageCaptureTargetResolution(@Nullable ResolutionInfo setterArg) {
+        this.imageCaptureTargetResolution = setterArg;
+        return this;
+      }
+
+      private @Nullable Long imageAnalysisIdentifier;
+
+      public @NonNull Builder setImageAnalysisIdentifier(@Nullable Long setterArg) {
+        this.imageAnalysisIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long imageAnalysisOutputImageFormat;
+
+      public @NonNull Builder setImageAnalysisOutputImageFormat(@Nullable Long setterArg) {
+        this.imageAnalysisOutputImageFormat = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionInfo imageAnalysisTargetResolution;
+
+      public @NonNull Builder setImageAnalysisTargetResolution(@Nullable ResolutionInfo setterArg) {
+        this.imageAnalysisTargetResolution = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean bindToLifecycle;
+
+      public @NonNull Builder setBindToLifecycle(@NonNull Boolean setterArg) {
+        this.bindToLifecycle = setterArg;
+        return this;
+      }
+
+      public @NonNull CameraUseCaseGraphRequest build() {
+        CameraUseCaseGraphRequest pigeonReturn = new CameraUseCaseGraphRequest();
+        pigeonReturn.setCameraSelectorIdentifier(cameraSelectorIdentifier);
+        pigeonReturn.setLensFacing(lensFacing);
+        pigeonReturn.setPreviewIdentifier(previewIdentifier);
+        pigeonReturn.setPreviewTargetRotation(previewTargetRotation);
+        pigeonReturn.setPreviewTargetResolution(previewTargetResolution);
+        pigeonReturn.setImageCaptureIdentifier(imageCaptureIdentifier);
+        pigeonReturn.setImageCaptureMode(imageCaptureMode);
+        pigeonReturn.setImageCaptureTargetResolution(imageCaptureTargetResolution);
+        pigeonReturn.setImageAnalysisIdentifier(imageAnalysisIdentifier);
+        pigeonReturn.setImageAnalysisOutputImageFormat(imageAnalysisOutputImageFormat);
+        pigeonReturn.setImageAnalysisTargetResolution(imageAnalysisTargetResolution);
+        pigeonReturn.setBindToLifecycle(bindToLifecycle);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("cameraSelectorIdentifier", cameraSelectorIdentifier);
+      toMapResult.put("lensFacing", lensFacing);
+      toMapResult.put("previewIdentifier", previewIdentifier);
+      toMapResult.put("previewTargetRotation", previewTargetRotation);
+      toMapResult.put(
+          "previewTargetResolution",
+          (previewTargetResolution == null) ? null : previewTargetResolution.toMap());
+      toMapResult.put("imageCaptureIdentifier", imageCaptureIdentifier);
+      toMapResult.put("imageCaptureMode", imageCaptureMode);
+      toMapResult.put(
+          "imageCaptureTargetResolution",
+          (imageCaptureTargetResolution == null) ? null : imageCaptureTargetResolution.toMap());
+      toMapResult.put("imageAnalysisIdentifier", imageAnalysisIdentifier);
+      toMapResult.put("imageAnalysisOutputImageFormat", imageAnalysisOutputImageFormat);
+      toMapResult.put(
+          "imageAnalysisTargetResolution",
+          (imageAnalysisTargetResolution == null) ? null : imageAnalysisTargetResolution.toMap());
+      toMapResult.put("bindToLifecycle", bindToLifecycle);
+      return toMapResult;
+    }
+
+    static @NonNull CameraUseCaseGraphRequest fromMap(@NonNull Map<String, Object> map) {
+      CameraUseCaseGraphRequest pigeonResult = new CameraUseCaseGraphRequest();
+      Object cameraSelectorIdentifier = map.get("cameraSelectorIdentifier");
+      pigeonResult.setCameraSelectorIdentifier(
+          (cameraSelectorIdentifier == null)
+              ? null
+              : ((cameraSelectorIdentifier instanceof Integer)
+                  ? (Integer) cameraSelectorIdentifier
+                  : (Long) cameraSelectorIdentifier));
+      Object lensFacing = map.get("lensFacing");
+      pigeonResult.setLensFacing(
+          (lensFacing == null)
+              ? null
+              : ((lensFacing instanceof Integer) ? (Integer) lensFacing : (Long) lensFacing));
+      Object previewIdentifier = map.get("previewIdentifier");
+      pigeonResult.setPreviewIdentifier(
+          (previewIdentifier == null)
+              ? null
+              : ((previewIdentifier instanceof Integer)
+                  ? (Integer) previewIdentifier
+                  : (Long) previewIdentifier));
+      Object previewTargetRotation = map.get("previewTargetRotation");
+      pigeonResult.setPreviewTargetRotation(
+          (previewTargetRotation == null)
+              ? null
+              : ((previewTargetRotation instanceof Integer)
+                  ? (Integer) previewTargetRotation
+                  : (Long) previewTargetRotation));
+      Object previewTargetResolution = map.get("previewTargetResolution");
+      pigeonResult.setPreviewTargetResolution(
+          (previewTargetResolution == null)
+              ? null
+              : ResolutionInfo.fromMap((Map) previewTargetResolution));
+      Object imageCaptureIdentifier = map.get("imageCaptureIdentifier");
+      pigeonResult.setImageCaptureIdentifier(
+          (imageCaptureIdentifier == null)
+              ? null
+              : ((imageCaptureIdentifier instanceof Integer)
+                  ? (Integer) imageCaptureIdentifier
+                  : (Long) imageCaptureIdentifier));
+      Object imageCaptureMode = map.get("imageCaptureMode");
+      pigeonResult.setImageCaptureMode(
+          (imageCaptureMode == null)
+              ? null
+              : ((imageCaptureMode instanceof Integer)
+                  ? (Integer) imageCaptureMode
+                  : (Long) imageCaptureMode));
+      Object imageCaptureTargetResolution = map.get("imageCaptureTargetResolution");
+      pigeonResult.setImageCaptureTargetResolution(
+          (imageCaptureTargetResolution == null)
+              ? null
+              : ResolutionInfo.fromMap((Map) imageCaptureTargetResolution));
+      Object imageAnalysisIdentifier = map.get("imageAnalysisIdentifier");
+      pigeonResult.setImageAnalysisIdentifier(
+          (imageAnalysisIdentifier == null)
+              ? null
+              : ((imageAnalysisIdentifier instanceof Integer)
+                  ? (Integer) imageAnalysisIdentifier
+                  : (Long) imageAnalysisIdentifier));
+      Object imageAnalysisOutputImageFormat = map.get("imageAnalysisOutputImageFormat");
+      pigeonResult.setImageAnalysisOutputImageFormat(
+          (imageAnalysisOutputImageFormat == null)
+              ? null
+              : ((imageAnalysisOutputImageFormat instanceof Integer)
+                  ? (Integer) imageAnalysisOutputImageFormat
+                  : (Long) imageAnalysisOutputImageFormat));
+      Object imageAnalysisTargetResolution = map.get("imageAnalysisTargetResolution");
+      pigeonResult.setImageAnalysisTargetResolution(
+          (imageAnalysisTargetResolution == null)
+              ? null
+              : ResolutionInfo.fromMap((Map) imageAnalysisTargetResolution));
+      Object bindToLifecycle = map.get("bindToLifecycle");
+      pigeonResult.setBindToLifecycle((Boolean) bindToLifecycle);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CameraUseCaseGraphResult {
+    private @NonNull Long processCameraProviderIdentifier;
+
+    public @NonNull Long getProcessCameraProviderIdentifier() {
+      return processCameraProviderIdentifier;
+    }
+
+    public void setProcessCameraProviderIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException(
+            "Nonnull field \"processCameraProviderIdentifier\" is null.");
+      }
+      this.processCameraProviderIdentifier = setterArg;
+    }
+
+    private @NonNull Long flutterSurfaceTextureId;
+
+    public @NonNull Long getFlutterSurfaceTextureId() {
+      return flutterSurfaceTextureId;
+    }
+
+    public void setFlutterSurfaceTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"flutterSurfaceTextureId\" is null.");
+      }
+      this.flutterSurfaceTextureId = setterArg;
+    }
+
+    private @Nullable Long cameraIdentifier;
+
+    public @Nullable Long getCameraIdentifier() {
+      return cameraIdentifier;
+    }
+
+    public void setCameraIdentifier(@Nullable Long setterArg) {
+      this.cameraIdentifier = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CameraUseCaseGraphResult() {}
+
+    public static final class Builder {
+      private @Nullable Long processCameraProviderIdentifier;
+
+      public @NonNull Builder setProcessCameraProviderIdentifier(@NonNull Long setterArg) {
+        this.processCameraProviderIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long flutterSurfaceTextureId;
+
+      public @NonNull Builder setFlutterSurfaceTextureId(@NonNull Long setterArg) {
+        this.flutterSurfaceTextureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cameraIdentifier;
+
+      public @NonNull Builder setCameraIdentifier(@Nullable Long setterArg) {
+        this.cameraIdentifier = setterArg;
+        return this;
+      }
+
+      public @NonNull CameraUseCaseGraphResult build() {
+        CameraUseCaseGraphResult pigeonReturn = new CameraUseCaseGraphResult();
+        pigeonReturn.setProcessCameraProviderIdentifier(processCameraProviderIdentifier);
+        pigeonReturn.setFlutterSurfaceTextureId(flutterSurfaceTextureId);
+        pigeonReturn.setCameraIdentifier(cameraIdentifier);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("processCameraProviderIdentifier", processCameraProviderIdentifier);
+      toMapResult.put("flutterSurfaceTextureId", flutterSurfaceTextureId);
+      toMapResult.put("cameraIdentifier", cameraIdentifier);
+      return toMapResult;
+    }
+
+    static @NonNull CameraUseCaseGraphResult fromMap(@NonNull Map<String, Object> map) {
+      CameraUseCaseGraphResult pigeonResult = new CameraUseCaseGraphResult();
+      Object processCameraProviderIdentifier = map.get("processCameraProviderIdentifier");
+      pigeonResult.setProcessCameraProviderIdentifier(
+          (processCameraProviderIdentifier == null)
+              ? null
+              : ((processCameraProviderIdentifier instanceof Integer)
+                  ? (Integer) processCameraProviderIdentifier
+                  : (Long) processCameraProviderIdentifier));
+      Object flutterSurfaceTextureId = map.get("flutterSurfaceTextureId");
+      pigeonResult.setFlutterSurfaceTextureId(
+          (flutterSurfaceTextureId == null)
+              ? null
+              : ((flutterSurfaceTextureId instanceof Integer)
+                  ? (Integer) flutterSurfaceTextureId
+                  : (Long) flutterSurfaceTextureId));
+      Object cameraIdentifier = map.get("cameraIdentifier");
+      pigeonResult.setCameraIdentifier(
+          (cameraIdentifier == null)
+              ? null
+              : ((cameraIdentifier instanceof Integer)
+                  ? (Integer) cameraIdentifier
+                  : (Long) cameraIdentifier));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class VideoRecordEventData {
+    private @NonNull Long eventType;
+
+    public @NonNull Long getEventType() {
+      return eventType;
+    }
+
+    public void setEventType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"eventType\" is null.");
+      }
+      this.eventType = setterArg;
+    }
+
+    private @NonNull Long recordedDurationNanos;
+
+    public @NonNull Long getRecordedDurationNanos() {
+      return recordedDurationNanos;
+    }
+
+    public void setRecordedDurationNanos(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"recordedDurationNanos\" is null.");
+      }
+      this.recordedDurationNanos = setterArg;
+    }
+
+    private @NonNull Long numBytesRecorded;
+
+    public @NonNull Long getNumBytesRecorded() {
+      return numBytesRecorded;
+    }
+
+    public void setNumBytesRecorded(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"numBytesRecorded\" is null.");
+      }
+      this.numBytesRecorded = setterArg;
+    }
+
+    private @Nullable String outputUri;
+
+    public @Nullable String getOutputUri() {
+      return outputUri;
+    }
+
+    public void setOutputUri(@Nullable String setterArg) {
+      this.outputUri = setterArg;
+    }
+
+    private @Nullable Long error;
+
+    public @Nullable Long getError() {
+      return error;
+    }
+
+    public void setError(@Nullable Long setterArg) {
+      this.error = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private VideoRecordEventData() {}
+
+    public static final class Builder {
+      private @Nullable Long eventType;
+
+      public @NonNull Builder setEventType(@NonNull Long setterArg) {
+        this.eventType = setterArg;
+        return this;
+      }
+
+      private @Nullable Long recordedDurationNanos;
+
+      public @NonNull Builder setRecordedDurationNanos(@NonNull Long setterArg) {
+        this.recordedDurationNanos = setterArg;
+        return this;
+      }
+
+      private @Nullable Long numBytesRecorded;
+
+      public @NonNull Builder setNumBytesRecorded(@NonNull Long setterArg) {
+        this.numBytesRecorded = setterArg;
+        return this;
+      }
+
+      private @Nullable String outputUri;
+
+      public @NonNull Builder setOutputUri(@Nullable String setterArg) {
+        this.outputUri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long error;
+
+      public @NonNull Builder setError(@Nullable Long setterArg) {
+        this.error = setterArg;
+        return this;
+      }
+
+      public @NonNull VideoRecordEventData build() {
+        VideoRecordEventData pigeonReturn = new VideoRecordEventData();
+        pigeonReturn.setEventType(eventType);
+        pigeonReturn.setRecordedDurationNanos(recordedDurationNanos);
+        pigeonReturn.setNumBytesRecorded(numBytesRecorded);
+        pigeonReturn.setOutputUri(outputUri);
+        pigeonReturn.setError(error);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("eventType", eventType);
+      toMapResult.put("recordedDurationNanos", recordedDurationNanos);
+      toMapResult.put("numBytesRecorded", numBytesRecorded);
+      toMapResult.put("outputUri", outputUri);
+      toMapResult.put("error", error);
+      return toMapResult;
+    }
+
+    static @NonNull VideoRecordEventData fromMap(@NonNull Map<String, Object> map) {
+      VideoRecordEventData pigeonResult = new VideoRecordEventData();
+      Object eventType = map.get("eventType");
+      pigeonResult.setEventType(
+          (eventType == null)
+              ? null
+              : ((eventType instanceof Integer) ? (Integer) eventType : (Long) eventType));
+      Object recordedDurationNanos = map.get("recordedDurationNanos");
+      pigeonResult.setRecordedDurationNanos(
+          (recordedDurationNanos == null)
+              ? null
+              : ((recordedDurationNanos instanceof Integer)
+                  ? (Integer) recordedDurationNanos
+                  : (Long) recordedDurationNanos));
+      Object numBytesRecorded = map.get("numBytesRecorded");
+      pigeonResult.setNumBytesRecorded(
+          (numBytesRecorded == null)
+              ? null
+              : ((numBytesRecorded instanceof Integer)
+                  ? (Integer) numBytesRecorded
+                  : (Long) numBytesRecorded));
+      Object outputUri = map.get("outputUri");
+      pigeonResult.setOutputUri((String) outputUri);
+      Object error = map.get("error");
+      pigeonResult.setError(
+          (error == null) ? null : ((error instanceof Integer) ? (Integer) error : (Long) error));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     void success(T result);
 
-    void error(Throwable error);
+    void error(Throwable error);
+  }
+
+  private static class JavaObjectHostApiCodec extends StandardMessageCodec {
+    public static final JavaObjectHostApiCodec INSTANCE = new JavaObjectHostApiCodec();
+
+    private JavaObjectHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface JavaObjectHostApi {
+    void dispose(@NonNull Long identifier);
+
+    /** The codec used by JavaObjectHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return JavaObjectHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `JavaObjectHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, JavaObjectHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.JavaObjectHostApi.dispose", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  api.dispose((identifierArg == null) ? null : identifierArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class JavaObjectFlutterApiCodec extends StandardMessageCodec {
+    public static final JavaObjectFlutterApiCodec INSTANCE = new JavaObjectFlutterApiCodec();
+
+    private JavaObjectFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class JavaObjectFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public JavaObjectFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return JavaObjectFlutterApiCodec.INSTANCE;
+    }
+
+    public void dispose(@NonNull Long identifierArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.JavaObjectFlutterApi.dispose", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void disposeAll(@NonNull List<Long> identifiersArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.JavaObjectFlutterApi.disposeAll", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifiersArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class CameraInfoHostApiCodec extends StandardMessageCodec {
+    public static final CameraInfoHostApiCodec INSTANCE = new CameraInfoHostApiCodec();
+
+    private CameraInfoHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface CameraInfoHostApi {
+    @NonNull
+    Long getSensorRotationDegrees(@NonNull Long identifier);
+
+    /** The codec used by CameraInfoHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return CameraInfoHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `CameraInfoHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, CameraInfoHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.CameraInfoHostApi.getSensorRotationDegrees",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  Long output =
+                      api.getSensorRotationDegrees(
+                          (identifierArg == null) ? null : identifierArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class CameraInfoFlutterApiCodec extends StandardMessageCodec {
+    public static final CameraInfoFlutterApiCodec INSTANCE = new CameraInfoFlutterApiCodec();
+
+    private CameraInfoFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class CameraInfoFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public CameraInfoFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return CameraInfoFlutterApiCodec.INSTANCE;
+    }
+
+    public void create(@NonNull Long identifierArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.CameraInfoFlutterApi.create", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class CameraSelectorHostApiCodec extends StandardMessageCodec {
+    public static final CameraSelectorHostApiCodec INSTANCE = new CameraSelectorHostApiCodec();
+
+    private CameraSelectorHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface CameraSelectorHostApi {
+    void create(@NonNull Long identifier, @Nullable Long lensFacing);
+
+    @NonNull
+    List<Long> filter(@NonNull Long identifier, @NonNull List<Long> cameraInfoIds);
+
+    /** The codec used by CameraSelectorHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return CameraSelectorHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `CameraSelectorHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, CameraSelectorHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CameraSelectorHostApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  Number lensFacingArg = (Number) args.get(1);
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (lensFacingArg == null) ? null : lensFacingArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CameraSelectorHostApi.filter", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  List<Long> cameraInfoIdsArg = (List<Long>) args.get(1);
+                  if (cameraInfoIdsArg == null) {
+                    throw new NullPointerException("cameraInfoIdsArg unexpectedly null.");
+                  }
+                  List<Long> output =
+                      api.filter(
+                          (identifierArg == null) ? null : identifierArg.longValue(),
+                          cameraInfoIdsArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class CameraSelectorFlutterApiCodec extends StandardMessageCodec {
+    public static final CameraSelectorFlutterApiCodec INSTANCE =
+        new CameraSelectorFlutterApiCodec();
+
+    private CameraSelectorFlutterApiCodec() {}
   }
 
-  private static class JavaObjectHostApiCodec extends StandardMessageCodec {
-    public static final JavaObjectHostApiCodec INSTANCE = new JavaObjectHostApiCodec();
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class CameraSelectorFlutterApi {
+    private final BinaryMessenger binaryMessenger;
 
-    private JavaObjectHostApiCodec() {}
+    public CameraSelectorFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return CameraSelectorFlutterApiCodec.INSTANCE;
+    }
+
+    public void create(
+        @NonNull Long identifierArg, @Nullable Long lensFacingArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.CameraSelectorFlutterApi.create", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg, lensFacingArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+    public static final ProcessCameraProviderHostApiCodec INSTANCE =
+        new ProcessCameraProviderHostApiCodec();
+
+    private ProcessCameraProviderHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ProcessCameraProviderInitializationInfo.fromMap(
+              (Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ProcessCameraProviderInitializationInfo) {
+        stream.write(128);
+        writeValue(stream, ((ProcessCameraProviderInitializationInfo) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface JavaObjectHostApi {
-    void dispose(@NonNull Long identifier);
+  public interface ProcessCameraProviderHostApi {
+    void getInstance(Result<Long> result);
 
-    /** The codec used by JavaObjectHostApi. */
+    @NonNull
+    List<Long> getAvailableCameraInfos(@NonNull Long identifier);
+
+    @NonNull
+    Long bindToLifecycle(
+        @NonNull Long identifier,
+        @NonNull Long cameraSelectorIdentifier,
+        @NonNull List<Long> useCaseIds);
+
+    void unbind(@NonNull Long identifier, @NonNull List<Long> useCaseIds);
+
+    void unbindAll(@NonNull Long identifier);
+
+    @NonNull
+    ProcessCameraProviderInitializationInfo getInitializationInfo();
+
+    /** The codec used by ProcessCameraProviderHostApi. */
     static MessageCodec<Object> getCodec() {
-      return JavaObjectHostApiCodec.INSTANCE;
+      return ProcessCameraProviderHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `JavaObjectHostApi` to handle messages through the `binaryMessenger`.
+     * Sets up an instance of `ProcessCameraProviderHostApi` to handle messages through the
+     * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, JavaObjectHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, ProcessCameraProviderHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.getInstance",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Result<Long> resultCallback =
+                      new Result<Long>() {
+                        public void success(Long result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.getInstance(resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.getAvailableCameraInfos",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  List<Long> output =
+                      api.getAvailableCameraInfos(
+                          (identifierArg == null) ? null : identifierArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.bindToLifecycle",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  Number cameraSelectorIdentifierArg = (Number) args.get(1);
+                  if (cameraSelectorIdentifierArg == null) {
+                    throw new NullPointerException(
+                        "cameraSelectorIdentifierArg unexpectedly null.");
+                  }
+                  List<Long> useCaseIdsArg = (List<Long>) args.get(2);
+                  if (useCaseIdsArg == null) {
+                    throw new NullPointerException("useCaseIdsArg unexpectedly null.");
+                  }
+                  Long output =
+                      api.bindToLifecycle(
+                          (identifierArg == null) ? null : identifierArg.longValue(),
+                          (cameraSelectorIdentifierArg == null)
+                              ? null
+                              : cameraSelectorIdentifierArg.longValue(),
+                          useCaseIdsArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.unbind",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  List<Long> useCaseIdsArg = (List<Long>) args.get(1);
+                  if (useCaseIdsArg == null) {
+                    throw new NullPointerException("useCaseIdsArg unexpectedly null.");
+                  }
+                  api.unbind(
+                      (identifierArg == null) ? null : identifierArg.longValue(), useCaseIdsArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.JavaObjectHostApi.dispose", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.unbindAll",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -212,7 +1748,7 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  api.dispose((identifierArg == null) ? null : identifierArg.longValue());
+                  api.unbindAll((identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -223,20 +1759,43 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.getInitializationInfo",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ProcessCameraProviderInitializationInfo output = api.getInitializationInfo();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
-  private static class JavaObjectFlutterApiCodec extends StandardMessageCodec {
-    public static final JavaObjectFlutterApiCodec INSTANCE = new JavaObjectFlutterApiCodec();
+  private static class ProcessCameraProviderFlutterApiCodec extends StandardMessageCodec {
+    public static final ProcessCameraProviderFlutterApiCodec INSTANCE =
+        new ProcessCameraProviderFlutterApiCodec();
 
-    private JavaObjectFlutterApiCodec() {}
+    private ProcessCameraProviderFlutterApiCodec() {}
   }
 
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class JavaObjectFlutterApi {
+  public static class ProcessCameraProviderFlutterApi {
     private final BinaryMessenger binaryMessenger;
 
-    public JavaObjectFlutterApi(BinaryMessenger argBinaryMessenger) {
+    public ProcessCameraProviderFlutterApi(BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
     }
 
@@ -245,13 +1804,15 @@ public class GeneratedCameraXLibrary {
     }
 
     static MessageCodec<Object> getCodec() {
-      return JavaObjectFlutterApiCodec.INSTANCE;
+      return ProcessCameraProviderFlutterApiCodec.INSTANCE;
     }
 
-    public void dispose(@NonNull Long identifierArg, Reply<Void> callback) {
+    public void create(@NonNull Long identifierArg, Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.JavaObjectFlutterApi.dispose", getCodec());
+              binaryMessenger,
+              "dev.flutter.pigeon.ProcessCameraProviderFlutterApi.create",
+              getCodec());
       channel.send(
           new ArrayList<Object>(Arrays.asList(identifierArg)),
           channelReply -> {
@@ -260,31 +1821,92 @@ public class GeneratedCameraXLibrary {
     }
   }
 
-  private static class CameraInfoHostApiCodec extends StandardMessageCodec {
-    public static final CameraInfoHostApiCodec INSTANCE = new CameraInfoHostApiCodec();
+  private static class CameraFlutterApiCodec extends StandardMessageCodec {
+    public static final CameraFlutterApiCodec INSTANCE = new CameraFlutterApiCodec();
 
-    private CameraInfoHostApiCodec() {}
+    private CameraFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class CameraFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public CameraFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return CameraFlutterApiCodec.INSTANCE;
+    }
+
+    public void create(@NonNull Long identifierArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.CameraFlutterApi.create", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class SystemServicesHostApiCodec extends StandardMessageCodec {
+    public static final SystemServicesHostApiCodec INSTANCE = new SystemServicesHostApiCodec();
+
+    private SystemServicesHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return CameraPermissionsErrorData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CameraPermissionsErrorData) {
+        stream.write(128);
+        writeValue(stream, ((CameraPermissionsErrorData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface CameraInfoHostApi {
-    @NonNull
-    Long getSensorRotationDegrees(@NonNull Long identifier);
+  public interface SystemServicesHostApi {
+    void requestCameraPermissions(
+        @NonNull Boolean enableAudio, Result<CameraPermissionsErrorData> result);
 
-    /** The codec used by CameraInfoHostApi. */
+    void startListeningForDeviceOrientationChange(
+        @NonNull Boolean isFrontFacing, @NonNull Long sensorOrientation);
+
+    void stopListeningForDeviceOrientationChange();
+
+    /** The codec used by SystemServicesHostApi. */
     static MessageCodec<Object> getCodec() {
-      return CameraInfoHostApiCodec.INSTANCE;
+      return SystemServicesHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `CameraInfoHostApi` to handle messages through the `binaryMessenger`.
+     * Sets up an instance of `SystemServicesHostApi` to handle messages through the
+     * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, CameraInfoHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, SystemServicesHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.CameraInfoHostApi.getSensorRotationDegrees",
+                "dev.flutter.pigeon.SystemServicesHostApi.requestCameraPermissions",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -292,14 +1914,79 @@ public class GeneratedCameraXLibrary {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number identifierArg = (Number) args.get(0);
-                  if (identifierArg == null) {
-                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  Boolean enableAudioArg = (Boolean) args.get(0);
+                  if (enableAudioArg == null) {
+                    throw new NullPointerException("enableAudioArg unexpectedly null.");
                   }
-                  Long output =
-                      api.getSensorRotationDegrees(
-                          (identifierArg == null) ? null : identifierArg.longValue());
-                  wrapped.put("result", output);
+                  Result<CameraPermissionsErrorData> resultCallback =
+                      new Result<CameraPermissionsErrorData>() {
+                        public void success(CameraPermissionsErrorData result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.requestCameraPermissions(enableAudioArg, resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.SystemServicesHostApi.startListeningForDeviceOrientationChange",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Boolean isFrontFacingArg = (Boolean) args.get(0);
+                  if (isFrontFacingArg == null) {
+                    throw new NullPointerException("isFrontFacingArg unexpectedly null.");
+                  }
+                  Number sensorOrientationArg = (Number) args.get(1);
+                  if (sensorOrientationArg == null) {
+                    throw new NullPointerException("sensorOrientationArg unexpectedly null.");
+                  }
+                  api.startListeningForDeviceOrientationChange(
+                      isFrontFacingArg,
+                      (sensorOrientationArg == null) ? null : sensorOrientationArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.SystemServicesHostApi.stopListeningForDeviceOrientationChange",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.stopListeningForDeviceOrientationChange();
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -312,17 +1999,18 @@ public class GeneratedCameraXLibrary {
     }
   }
 
-  private static class CameraInfoFlutterApiCodec extends StandardMessageCodec {
-    public static final CameraInfoFlutterApiCodec INSTANCE = new CameraInfoFlutterApiCodec();
+  private static class SystemServicesFlutterApiCodec extends StandardMessageCodec {
+    public static final SystemServicesFlutterApiCodec INSTANCE =
+        new SystemServicesFlutterApiCodec();
 
-    private CameraInfoFlutterApiCodec() {}
+    private SystemServicesFlutterApiCodec() {}
   }
 
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class CameraInfoFlutterApi {
+  public static class SystemServicesFlutterApi {
     private final BinaryMessenger binaryMessenger;
 
-    public CameraInfoFlutterApi(BinaryMessenger argBinaryMessenger) {
+    public SystemServicesFlutterApi(BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
     }
 
@@ -331,48 +2019,95 @@ public class GeneratedCameraXLibrary {
     }
 
     static MessageCodec<Object> getCodec() {
-      return CameraInfoFlutterApiCodec.INSTANCE;
+      return SystemServicesFlutterApiCodec.INSTANCE;
     }
 
-    public void create(@NonNull Long identifierArg, Reply<Void> callback) {
+    public void onDeviceOrientationChanged(@NonNull String orientationArg, Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.CameraInfoFlutterApi.create", getCodec());
+              binaryMessenger,
+              "dev.flutter.pigeon.SystemServicesFlutterApi.onDeviceOrientationChanged",
+              getCodec());
       channel.send(
-          new ArrayList<Object>(Arrays.asList(identifierArg)),
+          new ArrayList<Object>(Arrays.asList(orientationArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onCameraError(@NonNull String errorDescriptionArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.SystemServicesFlutterApi.onCameraError",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(errorDescriptionArg)),
           channelReply -> {
             callback.reply(null);
           });
     }
   }
 
-  private static class CameraSelectorHostApiCodec extends StandardMessageCodec {
-    public static final CameraSelectorHostApiCodec INSTANCE = new CameraSelectorHostApiCodec();
+  private static class PreviewHostApiCodec extends StandardMessageCodec {
+    public static final PreviewHostApiCodec INSTANCE = new PreviewHostApiCodec();
 
-    private CameraSelectorHostApiCodec() {}
+    private PreviewHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 129:
+          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ResolutionInfo) {
+        stream.write(128);
+        writeValue(stream, ((ResolutionInfo) value).toMap());
+      } else if (value instanceof ResolutionInfo) {
+        stream.write(129);
+        writeValue(stream, ((ResolutionInfo) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface CameraSelectorHostApi {
-    void create(@NonNull Long identifier, @Nullable Long lensFacing);
+  public interface PreviewHostApi {
+    void create(
+        @NonNull Long identifier,
+        @Nullable Long rotation,
+        @Nullable ResolutionInfo targetResolution);
 
     @NonNull
-    List<Long> filter(@NonNull Long identifier, @NonNull List<Long> cameraInfoIds);
+    Long setSurfaceProvider(@NonNull Long identifier);
 
-    /** The codec used by CameraSelectorHostApi. */
+    void releaseFlutterSurfaceTexture();
+
+    @NonNull
+    ResolutionInfo getResolutionInfo(@NonNull Long identifier);
+
+    /** The codec used by PreviewHostApi. */
     static MessageCodec<Object> getCodec() {
-      return CameraSelectorHostApiCodec.INSTANCE;
+      return PreviewHostApiCodec.INSTANCE;
     }
 
-    /**
-     * Sets up an instance of `CameraSelectorHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, CameraSelectorHostApi api) {
+    /** Sets up an instance of `PreviewHostApi` to handle messages through the `binaryMessenger`. */
+    static void setup(BinaryMessenger binaryMessenger, PreviewHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.CameraSelectorHostApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.PreviewHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -383,10 +2118,12 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  Number lensFacingArg = (Number) args.get(1);
+                  Number rotationArg = (Number) args.get(1);
+                  ResolutionInfo targetResolutionArg = (ResolutionInfo) args.get(2);
                   api.create(
                       (identifierArg == null) ? null : identifierArg.longValue(),
-                      (lensFacingArg == null) ? null : lensFacingArg.longValue());
+                      (rotationArg == null) ? null : rotationArg.longValue(),
+                      targetResolutionArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -400,7 +2137,9 @@ public class GeneratedCameraXLibrary {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.CameraSelectorHostApi.filter", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.PreviewHostApi.setSurfaceProvider",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -411,14 +2150,9 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  List<Long> cameraInfoIdsArg = (List<Long>) args.get(1);
-                  if (cameraInfoIdsArg == null) {
-                    throw new NullPointerException("cameraInfoIdsArg unexpectedly null.");
-                  }
-                  List<Long> output =
-                      api.filter(
-                          (identifierArg == null) ? null : identifierArg.longValue(),
-                          cameraInfoIdsArg);
+                  Long output =
+                      api.setSurfaceProvider(
+                          (identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -429,108 +2163,23 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
-    }
-  }
-
-  private static class CameraSelectorFlutterApiCodec extends StandardMessageCodec {
-    public static final CameraSelectorFlutterApiCodec INSTANCE =
-        new CameraSelectorFlutterApiCodec();
-
-    private CameraSelectorFlutterApiCodec() {}
-  }
-
-  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class CameraSelectorFlutterApi {
-    private final BinaryMessenger binaryMessenger;
-
-    public CameraSelectorFlutterApi(BinaryMessenger argBinaryMessenger) {
-      this.binaryMessenger = argBinaryMessenger;
-    }
-
-    public interface Reply<T> {
-      void reply(T reply);
-    }
-
-    static MessageCodec<Object> getCodec() {
-      return CameraSelectorFlutterApiCodec.INSTANCE;
-    }
-
-    public void create(
-        @NonNull Long identifierArg, @Nullable Long lensFacingArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.CameraSelectorFlutterApi.create", getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(identifierArg, lensFacingArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
-  }
-
-  private static class ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
-    public static final ProcessCameraProviderHostApiCodec INSTANCE =
-        new ProcessCameraProviderHostApiCodec();
-
-    private ProcessCameraProviderHostApiCodec() {}
-  }
-
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface ProcessCameraProviderHostApi {
-    void getInstance(Result<Long> result);
-
-    @NonNull
-    List<Long> getAvailableCameraInfos(@NonNull Long identifier);
-
-    @NonNull
-    Long bindToLifecycle(
-        @NonNull Long identifier,
-        @NonNull Long cameraSelectorIdentifier,
-        @NonNull List<Long> useCaseIds);
-
-    void unbind(@NonNull Long identifier, @NonNull List<Long> useCaseIds);
-
-    void unbindAll(@NonNull Long identifier);
-
-    /** The codec used by ProcessCameraProviderHostApi. */
-    static MessageCodec<Object> getCodec() {
-      return ProcessCameraProviderHostApiCodec.INSTANCE;
-    }
-
-    /**
-     * Sets up an instance of `ProcessCameraProviderHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, ProcessCameraProviderHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.ProcessCameraProviderHostApi.getInstance",
+                "dev.flutter.pigeon.PreviewHostApi.releaseFlutterSurfaceTexture",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  Result<Long> resultCallback =
-                      new Result<Long>() {
-                        public void success(Long result) {
-                          wrapped.put("result", result);
-                          reply.reply(wrapped);
-                        }
-
-                        public void error(Throwable error) {
-                          wrapped.put("error", wrapError(error));
-                          reply.reply(wrapped);
-                        }
-                      };
-
-                  api.getInstance(resultCallback);
+                  api.releaseFlutterSurfaceTexture();
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
-                  reply.reply(wrapped);
                 }
+                reply.reply(wrapped);
               });
         } else {
           channel.setMessageHandler(null);
@@ -539,9 +2188,7 @@ public class GeneratedCameraXLibrary {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.ProcessCameraProviderHostApi.getAvailableCameraInfos",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.PreviewHostApi.getResolutionInfo", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -552,8 +2199,8 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  List<Long> output =
-                      api.getAvailableCameraInfos(
+                  ResolutionInfo output =
+                      api.getResolutionInfo(
                           (identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
@@ -565,12 +2212,61 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class ImageAnalysisHostApiCodec extends StandardMessageCodec {
+    public static final ImageAnalysisHostApiCodec INSTANCE = new ImageAnalysisHostApiCodec();
+
+    private ImageAnalysisHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ResolutionInfo) {
+        stream.write(128);
+        writeValue(stream, ((ResolutionInfo) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface ImageAnalysisHostApi {
+    void create(
+        @NonNull Long identifier,
+        @Nullable Long outputImageFormat,
+        @Nullable ResolutionInfo targetResolution);
+
+    void setAnalyzer(@NonNull Long identifier);
+
+    void clearAnalyzer(@NonNull Long identifier);
+
+    /** The codec used by ImageAnalysisHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return ImageAnalysisHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `ImageAnalysisHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, ImageAnalysisHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.ProcessCameraProviderHostApi.bindToLifecycle",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.ImageAnalysisHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -581,23 +2277,13 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  Number cameraSelectorIdentifierArg = (Number) args.get(1);
-                  if (cameraSelectorIdentifierArg == null) {
-                    throw new NullPointerException(
-                        "cameraSelectorIdentifierArg unexpectedly null.");
-                  }
-                  List<Long> useCaseIdsArg = (List<Long>) args.get(2);
-                  if (useCaseIdsArg == null) {
-                    throw new NullPointerException("useCaseIdsArg unexpectedly null.");
-                  }
-                  Long output =
-                      api.bindToLifecycle(
-                          (identifierArg == null) ? null : identifierArg.longValue(),
-                          (cameraSelectorIdentifierArg == null)
-                              ? null
-                              : cameraSelectorIdentifierArg.longValue(),
-                          useCaseIdsArg);
-                  wrapped.put("result", output);
+                  Number outputImageFormatArg = (Number) args.get(1);
+                  ResolutionInfo targetResolutionArg = (ResolutionInfo) args.get(2);
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (outputImageFormatArg == null) ? null : outputImageFormatArg.longValue(),
+                      targetResolutionArg);
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -610,9 +2296,7 @@ public class GeneratedCameraXLibrary {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.ProcessCameraProviderHostApi.unbind",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.ImageAnalysisHostApi.setAnalyzer", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -620,15 +2304,10 @@ public class GeneratedCameraXLibrary {
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
                   Number identifierArg = (Number) args.get(0);
-                  if (identifierArg == null) {
-                    throw new NullPointerException("identifierArg unexpectedly null.");
-                  }
-                  List<Long> useCaseIdsArg = (List<Long>) args.get(1);
-                  if (useCaseIdsArg == null) {
-                    throw new NullPointerException("useCaseIdsArg unexpectedly null.");
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  api.unbind(
-                      (identifierArg == null) ? null : identifierArg.longValue(), useCaseIdsArg);
+                  api.setAnalyzer((identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -643,7 +2322,7 @@ public class GeneratedCameraXLibrary {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.ProcessCameraProviderHostApi.unbindAll",
+                "dev.flutter.pigeon.ImageAnalysisHostApi.clearAnalyzer",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -655,7 +2334,7 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  api.unbindAll((identifierArg == null) ? null : identifierArg.longValue());
+                  api.clearAnalyzer((identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -669,18 +2348,38 @@ public class GeneratedCameraXLibrary {
     }
   }
 
-  private static class ProcessCameraProviderFlutterApiCodec extends StandardMessageCodec {
-    public static final ProcessCameraProviderFlutterApiCodec INSTANCE =
-        new ProcessCameraProviderFlutterApiCodec();
+  private static class ImageAnalysisFlutterApiCodec extends StandardMessageCodec {
+    public static final ImageAnalysisFlutterApiCodec INSTANCE = new ImageAnalysisFlutterApiCodec();
 
-    private ProcessCameraProviderFlutterApiCodec() {}
+    private ImageAnalysisFlutterApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ImageFrameData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ImageFrameData) {
+        stream.write(128);
+        writeValue(stream, ((ImageFrameData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
   }
 
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class ProcessCameraProviderFlutterApi {
+  public static class ImageAnalysisFlutterApi {
     private final BinaryMessenger binaryMessenger;
 
-    public ProcessCameraProviderFlutterApi(BinaryMessenger argBinaryMessenger) {
+    public ImageAnalysisFlutterApi(BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
     }
 
@@ -689,67 +2388,213 @@ public class GeneratedCameraXLibrary {
     }
 
     static MessageCodec<Object> getCodec() {
-      return ProcessCameraProviderFlutterApiCodec.INSTANCE;
+      return ImageAnalysisFlutterApiCodec.INSTANCE;
     }
 
-    public void create(@NonNull Long identifierArg, Reply<Void> callback) {
+    public void onImageAnalyzed(
+        @NonNull Long identifierArg, @NonNull ImageFrameData frameArg, Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(
               binaryMessenger,
-              "dev.flutter.pigeon.ProcessCameraProviderFlutterApi.create",
+              "dev.flutter.pigeon.ImageAnalysisFlutterApi.onImageAnalyzed",
               getCodec());
       channel.send(
-          new ArrayList<Object>(Arrays.asList(identifierArg)),
+          new ArrayList<Object>(Arrays.asList(identifierArg, frameArg)),
           channelReply -> {
             callback.reply(null);
           });
     }
   }
 
-  private static class CameraFlutterApiCodec extends StandardMessageCodec {
-    public static final CameraFlutterApiCodec INSTANCE = new CameraFlutterApiCodec();
+  private static class ImageCaptureHostApiCodec extends StandardMessageCodec {
+    public static final ImageCaptureHostApiCodec INSTANCE = new ImageCaptureHostApiCodec();
 
-    private CameraFlutterApiCodec() {}
-  }
+    private ImageCaptureHostApiCodec() {}
 
-  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class CameraFlutterApi {
-    private final BinaryMessenger binaryMessenger;
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ImageCaptureResultData.fromMap((Map<String, Object>) readValue(buffer));
 
-    public CameraFlutterApi(BinaryMessenger argBinaryMessenger) {
-      this.binaryMessenger = argBinaryMessenger;
+        case (byte) 129:
+          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
     }
 
-    public interface Reply<T> {
-      void reply(T reply);
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ImageCaptureResultData) {
+        stream.write(128);
+        writeValue(stream, ((ImageCaptureResultData) value).toMap());
+      } else if (value instanceof ResolutionInfo) {
+        stream.write(129);
+        writeValue(stream, ((ResolutionInfo) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
     }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface ImageCaptureHostApi {
+    void create(
+        @NonNull Long identifier,
+        @Nullable Long captureMode,
+        @Nullable ResolutionInfo targetResolution);
+
+    void takePicture(@NonNull Long identifier, Result<ImageCaptureResultData> result);
+
+    void takePictureToFile(
+        @NonNull Long identifier, @NonNull String path, Result<ImageCaptureResultData> result);
 
+    /** The codec used by ImageCaptureHostApi. */
     static MessageCodec<Object> getCodec() {
-      return CameraFlutterApiCodec.INSTANCE;
+      return ImageCaptureHostApiCodec.INSTANCE;
     }
 
-    public void create(@NonNull Long identifierArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.CameraFlutterApi.create", getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(identifierArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
+    /**
+     * Sets up an instance of `ImageCaptureHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, ImageCaptureHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ImageCaptureHostApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  Number captureModeArg = (Number) args.get(1);
+                  ResolutionInfo targetResolutionArg = (ResolutionInfo) args.get(2);
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (captureModeArg == null) ? null : captureModeArg.longValue(),
+                      targetResolutionArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ImageCaptureHostApi.takePicture", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  Result<ImageCaptureResultData> resultCallback =
+                      new Result<ImageCaptureResultData>() {
+                        public void success(ImageCaptureResultData result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.takePicture(
+                      (identifierArg == null) ? null : identifierArg.longValue(), resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ImageCaptureHostApi.takePictureToFile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  String pathArg = (String) args.get(1);
+                  if (pathArg == null) {
+                    throw new NullPointerException("pathArg unexpectedly null.");
+                  }
+                  Result<ImageCaptureResultData> resultCallback =
+                      new Result<ImageCaptureResultData>() {
+                        public void success(ImageCaptureResultData result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.takePictureToFile(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      pathArg,
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
-  private static class SystemServicesHostApiCodec extends StandardMessageCodec {
-    public static final SystemServicesHostApiCodec INSTANCE = new SystemServicesHostApiCodec();
+  private static class CameraUseCaseGraphHostApiCodec extends StandardMessageCodec {
+    public static final CameraUseCaseGraphHostApiCodec INSTANCE =
+        new CameraUseCaseGraphHostApiCodec();
 
-    private SystemServicesHostApiCodec() {}
+    private CameraUseCaseGraphHostApiCodec() {}
 
     @Override
     protected Object readValueOfType(byte type, ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CameraPermissionsErrorData.fromMap((Map<String, Object>) readValue(buffer));
+          return CameraUseCaseGraphRequest.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 129:
+          return CameraUseCaseGraphResult.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 130:
+          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
 
         default:
           return super.readValueOfType(type, buffer);
@@ -758,9 +2603,15 @@ public class GeneratedCameraXLibrary {
 
     @Override
     protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CameraPermissionsErrorData) {
+      if (value instanceof CameraUseCaseGraphRequest) {
         stream.write(128);
-        writeValue(stream, ((CameraPermissionsErrorData) value).toMap());
+        writeValue(stream, ((CameraUseCaseGraphRequest) value).toMap());
+      } else if (value instanceof CameraUseCaseGraphResult) {
+        stream.write(129);
+        writeValue(stream, ((CameraUseCaseGraphResult) value).toMap());
+      } else if (value instanceof ResolutionInfo) {
+        stream.write(130);
+        writeValue(stream, ((ResolutionInfo) value).toMap());
       } else {
         super.writeValue(stream, value);
       }
@@ -768,30 +2619,25 @@ public class GeneratedCameraXLibrary {
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface SystemServicesHostApi {
-    void requestCameraPermissions(
-        @NonNull Boolean enableAudio, Result<CameraPermissionsErrorData> result);
-
-    void startListeningForDeviceOrientationChange(
-        @NonNull Boolean isFrontFacing, @NonNull Long sensorOrientation);
-
-    void stopListeningForDeviceOrientationChange();
+  public interface CameraUseCaseGraphHostApi {
+    void createAndBind(
+        @NonNull CameraUseCaseGraphRequest request, Result<CameraUseCaseGraphResult> result);
 
-    /** The codec used by SystemServicesHostApi. */
+    /** The codec used by CameraUseCaseGraphHostApi. */
     static MessageCodec<Object> getCodec() {
-      return SystemServicesHostApiCodec.INSTANCE;
+      return CameraUseCaseGraphHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `SystemServicesHostApi` to handle messages through the
+     * Sets up an instance of `CameraUseCaseGraphHostApi` to handle messages through the
      * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, SystemServicesHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, CameraUseCaseGraphHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.SystemServicesHostApi.requestCameraPermissions",
+                "dev.flutter.pigeon.CameraUseCaseGraphHostApi.createAndBind",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -799,56 +2645,143 @@ public class GeneratedCameraXLibrary {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Boolean enableAudioArg = (Boolean) args.get(0);
-                  if (enableAudioArg == null) {
-                    throw new NullPointerException("enableAudioArg unexpectedly null.");
+                  CameraUseCaseGraphRequest requestArg = (CameraUseCaseGraphRequest) args.get(0);
+                  if (requestArg == null) {
+                    throw new NullPointerException("requestArg unexpectedly null.");
+                  }
+                  Result<CameraUseCaseGraphResult> resultCallback =
+                      new Result<CameraUseCaseGraphResult>() {
+                        public void success(CameraUseCaseGraphResult result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.createAndBind(requestArg, resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class QualitySelectorHostApiCodec extends StandardMessageCodec {
+    public static final QualitySelectorHostApiCodec INSTANCE = new QualitySelectorHostApiCodec();
+
+    private QualitySelectorHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface QualitySelectorHostApi {
+    void create(
+        @NonNull Long identifier,
+        @NonNull List<Long> qualities,
+        @Nullable Long fallbackRule,
+        @Nullable Long fallbackQuality);
+
+    /** The codec used by QualitySelectorHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return QualitySelectorHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `QualitySelectorHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, QualitySelectorHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.QualitySelectorHostApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  Result<CameraPermissionsErrorData> resultCallback =
-                      new Result<CameraPermissionsErrorData>() {
-                        public void success(CameraPermissionsErrorData result) {
-                          wrapped.put("result", result);
-                          reply.reply(wrapped);
-                        }
-
-                        public void error(Throwable error) {
-                          wrapped.put("error", wrapError(error));
-                          reply.reply(wrapped);
-                        }
-                      };
-
-                  api.requestCameraPermissions(enableAudioArg, resultCallback);
+                  List<Long> qualitiesArg = (List<Long>) args.get(1);
+                  if (qualitiesArg == null) {
+                    throw new NullPointerException("qualitiesArg unexpectedly null.");
+                  }
+                  Number fallbackRuleArg = (Number) args.get(2);
+                  Number fallbackQualityArg = (Number) args.get(3);
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      qualitiesArg,
+                      (fallbackRuleArg == null) ? null : fallbackRuleArg.longValue(),
+                      (fallbackQualityArg == null) ? null : fallbackQualityArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
-                  reply.reply(wrapped);
                 }
+                reply.reply(wrapped);
               });
         } else {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class RecorderHostApiCodec extends StandardMessageCodec {
+    public static final RecorderHostApiCodec INSTANCE = new RecorderHostApiCodec();
+
+    private RecorderHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface RecorderHostApi {
+    void create(@NonNull Long identifier, @Nullable Long qualitySelectorIdentifier);
+
+    void start(
+        @NonNull Long identifier,
+        @NonNull Long recordingIdentifier,
+        @NonNull String path,
+        @NonNull Long statusIntervalMillis);
+
+    /** The codec used by RecorderHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return RecorderHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `RecorderHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, RecorderHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.SystemServicesHostApi.startListeningForDeviceOrientationChange",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.RecorderHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Boolean isFrontFacingArg = (Boolean) args.get(0);
-                  if (isFrontFacingArg == null) {
-                    throw new NullPointerException("isFrontFacingArg unexpectedly null.");
-                  }
-                  Number sensorOrientationArg = (Number) args.get(1);
-                  if (sensorOrientationArg == null) {
-                    throw new NullPointerException("sensorOrientationArg unexpectedly null.");
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  api.startListeningForDeviceOrientationChange(
-                      isFrontFacingArg,
-                      (sensorOrientationArg == null) ? null : sensorOrientationArg.longValue());
+                  Number qualitySelectorIdentifierArg = (Number) args.get(1);
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (qualitySelectorIdentifierArg == null)
+                          ? null
+                          : qualitySelectorIdentifierArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -862,15 +2795,36 @@ public class GeneratedCameraXLibrary {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.SystemServicesHostApi.stopListeningForDeviceOrientationChange",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.RecorderHostApi.start", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  api.stopListeningForDeviceOrientationChange();
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  Number recordingIdentifierArg = (Number) args.get(1);
+                  if (recordingIdentifierArg == null) {
+                    throw new NullPointerException("recordingIdentifierArg unexpectedly null.");
+                  }
+                  String pathArg = (String) args.get(2);
+                  if (pathArg == null) {
+                    throw new NullPointerException("pathArg unexpectedly null.");
+                  }
+                  Number statusIntervalMillisArg = (Number) args.get(3);
+                  if (statusIntervalMillisArg == null) {
+                    throw new NullPointerException("statusIntervalMillisArg unexpectedly null.");
+                  }
+                  api.start(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (recordingIdentifierArg == null) ? null : recordingIdentifierArg.longValue(),
+                      pathArg,
+                      (statusIntervalMillisArg == null)
+                          ? null
+                          : statusIntervalMillisArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -884,115 +2838,33 @@ public class GeneratedCameraXLibrary {
     }
   }
 
-  private static class SystemServicesFlutterApiCodec extends StandardMessageCodec {
-    public static final SystemServicesFlutterApiCodec INSTANCE =
-        new SystemServicesFlutterApiCodec();
-
-    private SystemServicesFlutterApiCodec() {}
-  }
-
-  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class SystemServicesFlutterApi {
-    private final BinaryMessenger binaryMessenger;
-
-    public SystemServicesFlutterApi(BinaryMessenger argBinaryMessenger) {
-      this.binaryMessenger = argBinaryMessenger;
-    }
-
-    public interface Reply<T> {
-      void reply(T reply);
-    }
-
-    static MessageCodec<Object> getCodec() {
-      return SystemServicesFlutterApiCodec.INSTANCE;
-    }
-
-    public void onDeviceOrientationChanged(@NonNull String orientationArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.SystemServicesFlutterApi.onDeviceOrientationChanged",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(orientationArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
-
-    public void onCameraError(@NonNull String errorDescriptionArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.SystemServicesFlutterApi.onCameraError",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(errorDescriptionArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
-  }
-
-  private static class PreviewHostApiCodec extends StandardMessageCodec {
-    public static final PreviewHostApiCodec INSTANCE = new PreviewHostApiCodec();
-
-    private PreviewHostApiCodec() {}
-
-    @Override
-    protected Object readValueOfType(byte type, ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 128:
-          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
-
-        case (byte) 129:
-          return ResolutionInfo.fromMap((Map<String, Object>) readValue(buffer));
-
-        default:
-          return super.readValueOfType(type, buffer);
-      }
-    }
+  private static class RecordingHostApiCodec extends StandardMessageCodec {
+    public static final RecordingHostApiCodec INSTANCE = new RecordingHostApiCodec();
 
-    @Override
-    protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof ResolutionInfo) {
-        stream.write(128);
-        writeValue(stream, ((ResolutionInfo) value).toMap());
-      } else if (value instanceof ResolutionInfo) {
-        stream.write(129);
-        writeValue(stream, ((ResolutionInfo) value).toMap());
-      } else {
-        super.writeValue(stream, value);
-      }
-    }
+    private RecordingHostApiCodec() {}
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface PreviewHostApi {
-    void create(
-        @NonNull Long identifier,
-        @Nullable Long rotation,
-        @Nullable ResolutionInfo targetResolution);
+  public interface RecordingHostApi {
+    void pause(@NonNull Long identifier);
 
-    @NonNull
-    Long setSurfaceProvider(@NonNull Long identifier);
-
-    void releaseFlutterSurfaceTexture();
+    void resume(@NonNull Long identifier);
 
-    @NonNull
-    ResolutionInfo getResolutionInfo(@NonNull Long identifier);
+    void stop(@NonNull Long identifier);
 
-    /** The codec used by PreviewHostApi. */
+    /** The codec used by RecordingHostApi. */
     static MessageCodec<Object> getCodec() {
-      return PreviewHostApiCodec.INSTANCE;
+      return RecordingHostApiCodec.INSTANCE;
     }
 
-    /** Sets up an instance of `PreviewHostApi` to handle messages through the `binaryMessenger`. */
-    static void setup(BinaryMessenger binaryMessenger, PreviewHostApi api) {
+    /**
+     * Sets up an instance of `RecordingHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, RecordingHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.PreviewHostApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.RecordingHostApi.pause", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1003,12 +2875,7 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  Number rotationArg = (Number) args.get(1);
-                  ResolutionInfo targetResolutionArg = (ResolutionInfo) args.get(2);
-                  api.create(
-                      (identifierArg == null) ? null : identifierArg.longValue(),
-                      (rotationArg == null) ? null : rotationArg.longValue(),
-                      targetResolutionArg);
+                  api.pause((identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1022,9 +2889,7 @@ public class GeneratedCameraXLibrary {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.PreviewHostApi.setSurfaceProvider",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.RecordingHostApi.resume", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1035,10 +2900,8 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  Long output =
-                      api.setSurfaceProvider(
-                          (identifierArg == null) ? null : identifierArg.longValue());
-                  wrapped.put("result", output);
+                  api.resume((identifierArg == null) ? null : identifierArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -1051,15 +2914,18 @@ public class GeneratedCameraXLibrary {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.PreviewHostApi.releaseFlutterSurfaceTexture",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.RecordingHostApi.stop", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  api.releaseFlutterSurfaceTexture();
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number identifierArg = (Number) args.get(0);
+                  if (identifierArg == null) {
+                    throw new NullPointerException("identifierArg unexpectedly null.");
+                  }
+                  api.stop((identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1070,10 +2936,91 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class RecordingFlutterApiCodec extends StandardMessageCodec {
+    public static final RecordingFlutterApiCodec INSTANCE = new RecordingFlutterApiCodec();
+
+    private RecordingFlutterApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return VideoRecordEventData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof VideoRecordEventData) {
+        stream.write(128);
+        writeValue(stream, ((VideoRecordEventData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class RecordingFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public RecordingFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return RecordingFlutterApiCodec.INSTANCE;
+    }
+
+    public void onVideoRecordEvent(
+        @NonNull Long identifierArg, @NonNull VideoRecordEventData eventArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.RecordingFlutterApi.onVideoRecordEvent",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg, eventArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class VideoCaptureHostApiCodec extends StandardMessageCodec {
+    public static final VideoCaptureHostApiCodec INSTANCE = new VideoCaptureHostApiCodec();
+
+    private VideoCaptureHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface VideoCaptureHostApi {
+    void create(@NonNull Long identifier, @NonNull Long recorderIdentifier);
+
+    /** The codec used by VideoCaptureHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return VideoCaptureHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `VideoCaptureHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, VideoCaptureHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.PreviewHostApi.getResolutionInfo", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.VideoCaptureHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1084,10 +3031,14 @@ public class GeneratedCameraXLibrary {
                   if (identifierArg == null) {
                     throw new NullPointerException("identifierArg unexpectedly null.");
                   }
-                  ResolutionInfo output =
-                      api.getResolutionInfo(
-                          (identifierArg == null) ? null : identifierArg.longValue());
-                  wrapped.put("result", output);
+                  Number recorderIdentifierArg = (Number) args.get(1);
+                  if (recorderIdentifierArg == null) {
+                    throw new NullPointerException("recorderIdentifierArg unexpectedly null.");
+                  }
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (recorderIdentifierArg == null) ? null : recorderIdentifierArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
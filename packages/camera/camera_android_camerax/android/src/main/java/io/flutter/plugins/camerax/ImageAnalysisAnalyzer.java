@@ -0,0 +1,68 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.camera.core.ImageAnalysis;
+import androidx.camera.core.ImageProxy;
+
+/**
+ * An {@link ImageAnalysis.Analyzer} that sends the images of an {@link ImageAnalysis} to Dart.
+ *
+ * <p>Each image is copied into a frame from an {@link ImageAnalysisFramePool} and closed right
+ * away, so that CameraX can produce the next image while the copy is sent to Dart on the main
+ * thread. Images are dropped while all frames of the pool are waiting to be sent.
+ */
+public class ImageAnalysisAnalyzer implements ImageAnalysis.Analyzer {
+  private final Long identifier;
+  private final ImageAnalysisFlutterApiImpl imageAnalysisFlutterApi;
+  private final ImageAnalysisFramePool framePool;
+  private final Handler mainHandler;
+
+  /**
+   * Creates an analyzer for the {@link ImageAnalysis} paired with {@code identifier}.
+   *
+   * @param identifier the identifier of the {@code ImageAnalysis} in the {@link InstanceManager}.
+   * @param imageAnalysisFlutterApi the API used to send the images to Dart.
+   * @param framePool the pool of frames the images are copied into.
+   * @param mainHandler a handler on the main thread, on which the images are sent to Dart.
+   */
+  public ImageAnalysisAnalyzer(
+      @NonNull Long identifier,
+      @NonNull ImageAnalysisFlutterApiImpl imageAnalysisFlutterApi,
+      @NonNull ImageAnalysisFramePool framePool,
+      @NonNull Handler mainHandler) {
+    this.identifier = identifier;
+    this.imageAnalysisFlutterApi = imageAnalysisFlutterApi;
+    this.framePool = framePool;
+    this.mainHandler = mainHandler;
+  }
+
+  @Override
+  public void analyze(@NonNull ImageProxy image) {
+    ImageAnalysisFramePool.Frame frame = framePool.acquire();
+    if (frame == null) {
+      image.close();
+      return;
+    }
+    try {
+      frame.copyFrom(image);
+    } catch (RuntimeException e) {
+      // Otherwise the frame would never be returned to the pool.
+      framePool.release(frame);
+      throw e;
+    } finally {
+      image.close();
+    }
+    mainHandler.post(
+        () -> {
+          // The message codec encodes the frame before send returns, so the frame can be reused
+          // right after.
+          imageAnalysisFlutterApi.sendImageAnalyzedEvent(identifier, frame.getData(), reply -> {});
+          framePool.release(frame);
+        });
+  }
+}
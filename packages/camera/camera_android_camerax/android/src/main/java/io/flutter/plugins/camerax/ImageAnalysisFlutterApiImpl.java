@@ -0,0 +1,21 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageAnalysisFlutterApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageFrameData;
+
+public class ImageAnalysisFlutterApiImpl extends ImageAnalysisFlutterApi {
+  public ImageAnalysisFlutterApiImpl(@NonNull BinaryMessenger binaryMessenger) {
+    super(binaryMessenger);
+  }
+
+  public void sendImageAnalyzedEvent(
+      @NonNull Long identifier, @NonNull ImageFrameData frame, @NonNull Reply<Void> reply) {
+    super.onImageAnalyzed(identifier, frame, reply);
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.core.ImageProxy;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageFrameData;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded pool of {@link Frame}s used to send analyzed images to Dart.
+ *
+ * <p>Frames are acquired on the analyzer executor and released on the main thread once they have
+ * been sent to Dart, so all access is synchronized.
+ */
+public class ImageAnalysisFramePool {
+  /** The default number of frames that can be in flight at the same time. */
+  public static final int DEFAULT_CAPACITY = 2;
+
+  private final int capacity;
+  private final List<Frame> available;
+  private int created;
+
+  /** Creates a pool holding at most {@link #DEFAULT_CAPACITY} frames. */
+  public ImageAnalysisFramePool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a pool holding at most {@code capacity} frames.
+   *
+   * @param capacity the maximum number of frames that can be acquired at the same time.
+   */
+  public ImageAnalysisFramePool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1.");
+    }
+    this.capacity = capacity;
+    this.available = new ArrayList<>(capacity);
+  }
+
+  /**
+   * Acquires a frame from the pool.
+   *
+   * @return a free frame, or null when all frames are currently in flight.
+   */
+  @Nullable
+  public synchronized Frame acquire() {
+    if (!available.isEmpty()) {
+      return available.remove(available.size() - 1);
+    }
+    if (created < capacity) {
+      created++;
+      return new Frame();
+    }
+    return null;
+  }
+
+  /**
+   * Returns a frame to the pool so that its buffers can be reused.
+   *
+   * @param frame a frame previously returned by {@link #acquire()}.
+   */
+  public synchronized void release(@NonNull Frame frame) {
+    available.add(frame);
+  }
+
+  /** Returns the number of frames that are currently acquired and not yet released. */
+  public synchronized int getInFlightCount() {
+    return created - available.size();
+  }
+
+  /**
+   * A reusable holder for the data of a single analyzed image.
+   *
+   * <p>The plane buffers and the {@link ImageFrameData} handed to the message codec are kept
+   * between frames and are only reallocated when the layout of the incoming images changes.
+   */
+  public static class Frame {
+    private final List<byte[]> planes = new ArrayList<>();
+    private final List<Long> bytesPerRow = new ArrayList<>();
+    private final List<Long> bytesPerPixel = new ArrayList<>();
+    private final ImageFrameData data =
+        new ImageFrameData.Builder()
+            .setWidth(0L)
+            .setHeight(0L)
+            .setFormat(0L)
+            .setRotationDegrees(0L)
+            .setTimestamp(0L)
+            .setPlanes(planes)
+            .setBytesPerRow(bytesPerRow)
+            .setBytesPerPixel(bytesPerPixel)
+            .build();
+
+    Frame() {}
+
+    /**
+     * Copies the planes and metadata of {@code image} into this frame.
+     *
+     * <p>The positions of the plane buffers of {@code image} are left unchanged, and {@code image}
+     * is not closed.
+     */
+    public void copyFrom(@NonNull ImageProxy image) {
+      ImageProxy.PlaneProxy[] imagePlanes = image.getPlanes();
+      while (planes.size() > imagePlanes.length) {
+        planes.remove(planes.size() - 1);
+        bytesPerRow.remove(bytesPerRow.size() - 1);
+        bytesPerPixel.remove(bytesPerPixel.size() - 1);
+      }
+      for (int i = 0; i < imagePlanes.length; i++) {
+        ImageProxy.PlaneProxy plane = imagePlanes[i];
+        ByteBuffer buffer = plane.getBuffer();
+        byte[] bytes = i < planes.size() ? planes.get(i) : null;
+        if (bytes == null || bytes.length != buffer.remaining()) {
+          bytes = new byte[buffer.remaining()];
+        }
+        int position = buffer.position();
+        buffer.get(bytes);
+        buffer.position(position);
+
+        if (i < planes.size()) {
+          planes.set(i, bytes);
+          bytesPerRow.set(i, (long) plane.getRowStride());
+          bytesPerPixel.set(i, (long) plane.getPixelStride());
+        } else {
+          planes.add(bytes);
+          bytesPerRow.add((long) plane.getRowStride());
+          bytesPerPixel.add((long) plane.getPixelStride());
+        }
+      }
+
+      data.setWidth((long) image.getWidth());
+      data.setHeight((long) image.getHeight());
+      data.setFormat((long) image.getFormat());
+      data.setRotationDegrees((long) image.getImageInfo().getRotationDegrees());
+      data.setTimestamp(image.getImageInfo().getTimestamp());
+    }
+
+    /** Returns the data of the last image copied into this frame. */
+    @NonNull
+    public ImageFrameData getData() {
+      return data;
+    }
+  }
+}
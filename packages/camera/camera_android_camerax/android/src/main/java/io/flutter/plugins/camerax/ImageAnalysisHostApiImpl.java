@@ -0,0 +1,76 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.core.ImageAnalysis;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageAnalysisHostApi;
+import java.util.Objects;
+
+public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
+  private final BinaryMessenger binaryMessenger;
+  private final InstanceManager instanceManager;
+  private final CameraXExecutors cameraXExecutors;
+
+  @VisibleForTesting public CameraXProxy cameraXProxy = new CameraXProxy();
+
+  public ImageAnalysisHostApiImpl(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager,
+      @NonNull CameraXExecutors cameraXExecutors) {
+    this.binaryMessenger = binaryMessenger;
+    this.instanceManager = instanceManager;
+    this.cameraXExecutors = cameraXExecutors;
+  }
+
+  /**
+   * Creates an {@link ImageAnalysis} that only keeps the latest frame, with the output image format
+   * and target resolution if specified.
+   */
+  @Override
+  public void create(
+      @NonNull Long identifier,
+      @Nullable Long outputImageFormat,
+      @Nullable GeneratedCameraXLibrary.ResolutionInfo targetResolution) {
+    ImageAnalysis.Builder imageAnalysisBuilder = cameraXProxy.createImageAnalysisBuilder();
+    imageAnalysisBuilder.setBackpressureStrategy(ImageAnalysis.STRATEGY_KEEP_ONLY_LATEST);
+    if (outputImageFormat != null) {
+      imageAnalysisBuilder.setOutputImageFormat(outputImageFormat.intValue());
+    }
+    if (targetResolution != null) {
+      imageAnalysisBuilder.setTargetResolution(
+          new Size(
+              targetResolution.getWidth().intValue(), targetResolution.getHeight().intValue()));
+    }
+    ImageAnalysis imageAnalysis = imageAnalysisBuilder.build();
+    instanceManager.addDartCreatedInstance(imageAnalysis, identifier);
+  }
+
+  /**
+   * Sets an {@link ImageAnalysis.Analyzer} that sends the frames of the specified {@link
+   * ImageAnalysis} to Dart.
+   */
+  @Override
+  public void setAnalyzer(@NonNull Long identifier) {
+    ImageAnalysis imageAnalysis =
+        (ImageAnalysis) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    ImageAnalysisAnalyzer analyzer =
+        cameraXProxy.createImageAnalysisAnalyzer(
+            identifier, cameraXProxy.createImageAnalysisFlutterApiImpl(binaryMessenger));
+    imageAnalysis.setAnalyzer(cameraXExecutors.getImageAnalysisExecutor(), analyzer);
+  }
+
+  /** Removes the {@link ImageAnalysis.Analyzer} of the specified {@link ImageAnalysis}. */
+  @Override
+  public void clearAnalyzer(@NonNull Long identifier) {
+    ImageAnalysis imageAnalysis =
+        (ImageAnalysis) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    imageAnalysis.clearAnalyzer();
+  }
+}
@@ -0,0 +1,157 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.core.ImageCapture;
+import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageProxy;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageCaptureHostApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageCaptureResultData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.Result;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
+  private final InstanceManager instanceManager;
+  private final CameraXExecutors cameraXExecutors;
+
+  @VisibleForTesting public CameraXProxy cameraXProxy = new CameraXProxy();
+
+  public ImageCaptureHostApiImpl(
+      @NonNull InstanceManager instanceManager, @NonNull CameraXExecutors cameraXExecutors) {
+    this.instanceManager = instanceManager;
+    this.cameraXExecutors = cameraXExecutors;
+  }
+
+  /** Creates an {@link ImageCapture} with the capture mode and target resolution if specified. */
+  @Override
+  public void create(
+      @NonNull Long identifier,
+      @Nullable Long captureMode,
+      @Nullable GeneratedCameraXLibrary.ResolutionInfo targetResolution) {
+    ImageCapture.Builder imageCaptureBuilder = cameraXProxy.createImageCaptureBuilder();
+    if (captureMode != null) {
+      imageCaptureBuilder.setCaptureMode(captureMode.intValue());
+    }
+    if (targetResolution != null) {
+      imageCaptureBuilder.setTargetResolution(
+          new Size(
+              targetResolution.getWidth().intValue(), targetResolution.getHeight().intValue()));
+    }
+    ImageCapture imageCapture = imageCaptureBuilder.build();
+    instanceManager.addDartCreatedInstance(imageCapture, identifier);
+  }
+
+  /**
+   * Takes a picture with the specified {@link ImageCapture} and returns its JPEG data along with
+   * the time it took to capture.
+   */
+  @Override
+  public void takePicture(
+      @NonNull Long identifier, @NonNull Result<ImageCaptureResultData> result) {
+    ImageCapture imageCapture =
+        (ImageCapture) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    final long startTimeNanos = System.nanoTime();
+
+    imageCapture.takePicture(
+        cameraXExecutors.getIoExecutor(),
+        new ImageCapture.OnImageCapturedCallback() {
+          @Override
+          public void onCaptureSuccess(@NonNull ImageProxy image) {
+            final byte[] bytes = readJpegBytes(image);
+            final ImageCaptureResultData resultData =
+                new ImageCaptureResultData.Builder()
+                    .setBytes(bytes)
+                    .setCaptureLatencyMillis(getMillisSince(startTimeNanos))
+                    .build();
+            sendSuccess(result, resultData);
+          }
+
+          @Override
+          public void onError(@NonNull ImageCaptureException exception) {
+            sendError(result, exception);
+          }
+        });
+  }
+
+  /**
+   * Takes a picture with the specified {@link ImageCapture} and writes its JPEG data to {@code
+   * path} on the I/O executor.
+   *
+   * <p>The returned result holds both the time it took to capture and the time it took to write the
+   * file.
+   */
+  @Override
+  public void takePictureToFile(
+      @NonNull Long identifier,
+      @NonNull String path,
+      @NonNull Result<ImageCaptureResultData> result) {
+    ImageCapture imageCapture =
+        (ImageCapture) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    final long startTimeNanos = System.nanoTime();
+
+    // The callback runs on the I/O executor, so the file is written without an extra hop.
+    imageCapture.takePicture(
+        cameraXExecutors.getIoExecutor(),
+        new ImageCapture.OnImageCapturedCallback() {
+          @Override
+          public void onCaptureSuccess(@NonNull ImageProxy image) {
+            final byte[] bytes = readJpegBytes(image);
+            final long captureLatencyMillis = getMillisSince(startTimeNanos);
+            final long saveStartTimeNanos = System.nanoTime();
+            try (FileOutputStream outputStream = cameraXProxy.createFileOutputStream(path)) {
+              outputStream.write(bytes);
+            } catch (IOException e) {
+              sendError(result, e);
+              return;
+            }
+            final ImageCaptureResultData resultData =
+                new ImageCaptureResultData.Builder()
+                    .setPath(path)
+                    .setCaptureLatencyMillis(captureLatencyMillis)
+                    .setSaveLatencyMillis(getMillisSince(saveStartTimeNanos))
+                    .build();
+            sendSuccess(result, resultData);
+          }
+
+          @Override
+          public void onError(@NonNull ImageCaptureException exception) {
+            sendError(result, exception);
+          }
+        });
+  }
+
+  /** Copies the JPEG data of {@code image} and closes it. */
+  private static byte[] readJpegBytes(@NonNull ImageProxy image) {
+    try {
+      ByteBuffer buffer = image.getPlanes()[0].getBuffer();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    } finally {
+      image.close();
+    }
+  }
+
+  private static long getMillisSince(long startTimeNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+  }
+
+  private void sendSuccess(
+      @NonNull Result<ImageCaptureResultData> result, @NonNull ImageCaptureResultData resultData) {
+    cameraXExecutors.getMainThreadExecutor().execute(() -> result.success(resultData));
+  }
+
+  private void sendError(@NonNull Result<ImageCaptureResultData> result, @NonNull Throwable error) {
+    cameraXExecutors.getMainThreadExecutor().execute(() -> result.error(error));
+  }
+}
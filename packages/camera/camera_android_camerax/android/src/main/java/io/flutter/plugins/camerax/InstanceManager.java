@@ -6,11 +6,17 @@ package io.flutter.plugins.camerax;
 
 import android.os.Handler;
 import android.os.Looper;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.collection.LongSparseArray;
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Maintains instances used to communicate with the corresponding objects in Dart.
@@ -23,6 +29,10 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>The manager can be used from any thread. Deallocated weak references are released by a
+ * dedicated thread as soon as they are enqueued, and the identifiers released together are passed
+ * to the `finalizationListener` in a single call on the main thread.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -31,26 +41,39 @@ public class InstanceManager {
   // Host uses identifiers >= 2^16 and Dart is expected to use values n where,
   // 0 <= n < 2^16.
   private static final long MIN_HOST_CREATED_IDENTIFIER = 65536;
-  private static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL = 30000;
 
-  /** Interface for listening when a weak reference of an instance is removed from the manager. */
+  /** Interface for listening when weak references of instances are removed from the manager. */
   public interface FinalizationListener {
-    void onFinalize(long identifier);
+    /** Called with the identifiers of the instances whose weak references were removed together. */
+    void onFinalize(@NonNull List<Long> identifiers);
+  }
+
+  /** Weak reference that remembers the identifier of its instance. */
+  private static class IdentifiedWeakReference extends WeakReference<Object> {
+    final long identifier;
+
+    IdentifiedWeakReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+    }
   }
 
+  // Guards all of the tables below, which are accessed from the threads calling into the manager
+  // and from the finalizer thread.
+  private final Object lock = new Object();
   private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  private final LongSparseArray<IdentifiedWeakReference> weakInstances = new LongSparseArray<>();
+  private final LongSparseArray<Object> strongInstances = new LongSparseArray<>();
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
-
-  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Thread finalizerThread =
+      new Thread(this::releaseFinalizedInstances, "CameraXInstanceManagerFinalizer");
 
   private final FinalizationListener finalizationListener;
+  private final Executor finalizationListenerExecutor;
 
   private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean isClosed = false;
+  private volatile boolean isClosed = false;
 
   /**
    * Instantiate a new manager.
@@ -61,13 +84,27 @@ public class InstanceManager {
    * @return a new `InstanceManager`.
    */
   public static InstanceManager open(FinalizationListener finalizationListener) {
-    return new InstanceManager(finalizationListener);
+    final Handler mainHandler = new Handler(Looper.getMainLooper());
+    return open(finalizationListener, mainHandler::post);
   }
 
-  private InstanceManager(FinalizationListener finalizationListener) {
+  /**
+   * Instantiate a new manager that calls `finalizationListener` on `finalizationListenerExecutor`.
+   */
+  @VisibleForTesting
+  static InstanceManager open(
+      FinalizationListener finalizationListener, Executor finalizationListenerExecutor) {
+    final InstanceManager instanceManager =
+        new InstanceManager(finalizationListener, finalizationListenerExecutor);
+    instanceManager.finalizerThread.setDaemon(true);
+    instanceManager.finalizerThread.start();
+    return instanceManager;
+  }
+
+  private InstanceManager(
+      FinalizationListener finalizationListener, Executor finalizationListenerExecutor) {
     this.finalizationListener = finalizationListener;
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    this.finalizationListenerExecutor = finalizationListenerExecutor;
   }
 
   /**
@@ -81,7 +118,11 @@ public class InstanceManager {
   @Nullable
   public <T> T remove(long identifier) {
     assertManagerIsNotClosed();
-    return (T) strongInstances.remove(identifier);
+    synchronized (lock) {
+      final T instance = (T) strongInstances.get(identifier);
+      strongInstances.remove(identifier);
+      return instance;
+    }
   }
 
   /**
@@ -97,11 +138,13 @@ public class InstanceManager {
   @Nullable
   public Long getIdentifierForStrongReference(Object instance) {
     assertManagerIsNotClosed();
-    final Long identifier = identifiers.get(instance);
-    if (identifier != null) {
-      strongInstances.put(identifier, instance);
+    synchronized (lock) {
+      final Long identifier = identifiers.get(instance);
+      if (identifier != null) {
+        strongInstances.put(identifier, instance);
+      }
+      return identifier;
     }
-    return identifier;
   }
 
   /**
@@ -116,7 +159,9 @@ public class InstanceManager {
    */
   public void addDartCreatedInstance(Object instance, long identifier) {
     assertManagerIsNotClosed();
-    addInstance(instance, identifier);
+    synchronized (lock) {
+      addInstance(instance, identifier);
+    }
   }
 
   /**
@@ -130,10 +175,11 @@ public class InstanceManager {
    */
   public long addHostCreatedInstance(Object instance) {
     assertManagerIsNotClosed();
-
-    final long identifier = nextIdentifier++;
-    addInstance(instance, identifier);
-    return identifier;
+    synchronized (lock) {
+      final long identifier = nextIdentifier++;
+      addInstance(instance, identifier);
+      return identifier;
+    }
   }
 
   /**
@@ -147,11 +193,13 @@ public class InstanceManager {
   @Nullable
   public <T> T getInstance(long identifier) {
     assertManagerIsNotClosed();
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
-    if (instance != null) {
-      return instance.get();
+    synchronized (lock) {
+      final WeakReference<Object> instance = weakInstances.get(identifier);
+      if (instance != null) {
+        return (T) instance.get();
+      }
+      return (T) strongInstances.get(identifier);
     }
-    return (T) strongInstances.get(identifier);
   }
 
   /**
@@ -162,7 +210,9 @@ public class InstanceManager {
    */
   public boolean containsInstance(Object instance) {
     assertManagerIsNotClosed();
-    return identifiers.containsKey(instance);
+    synchronized (lock) {
+      return identifiers.containsKey(instance);
+    }
   }
 
   /**
@@ -172,32 +222,70 @@ public class InstanceManager {
    * excluded.
    */
   public void close() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
     isClosed = true;
+    finalizerThread.interrupt();
+    synchronized (lock) {
+      identifiers.clear();
+      weakInstances.clear();
+      strongInstances.clear();
+    }
   }
 
-  private void releaseAllFinalizedInstances() {
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+  /**
+   * Waits for deallocated weak references on the finalizer thread and releases their instances.
+   *
+   * <p>References enqueued together are released as one batch, so that the `finalizationListener`
+   * is called once for all of them.
+   */
+  private void releaseFinalizedInstances() {
+    while (!isClosed) {
+      Reference<?> reference;
+      try {
+        reference = referenceQueue.remove();
+      } catch (InterruptedException e) {
+        // The manager has been closed.
+        return;
       }
+
+      final List<Long> finalizedIdentifiers = new ArrayList<>();
+      synchronized (lock) {
+        while (reference != null) {
+          releaseFinalizedInstance((IdentifiedWeakReference) reference, finalizedIdentifiers);
+          reference = referenceQueue.poll();
+        }
+      }
+
+      if (!finalizedIdentifiers.isEmpty()) {
+        finalizationListenerExecutor.execute(
+            () -> {
+              if (!isClosed) {
+                finalizationListener.onFinalize(finalizedIdentifiers);
+              }
+            });
+      }
+    }
+  }
+
+  private void releaseFinalizedInstance(
+      IdentifiedWeakReference reference, List<Long> finalizedIdentifiers) {
+    final long identifier = reference.identifier;
+    // The identifier may have been paired with a new instance since this reference was added.
+    if (weakInstances.get(identifier) != reference) {
+      return;
     }
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    weakInstances.remove(identifier);
+    strongInstances.remove(identifier);
+    finalizedIdentifiers.add(identifier);
   }
 
   private void addInstance(Object instance, long identifier) {
     if (identifier < 0) {
       throw new IllegalArgumentException("Identifier must be >= 0.");
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
+    final IdentifiedWeakReference weakReference =
+        new IdentifiedWeakReference(instance, identifier, referenceQueue);
     identifiers.put(instance, identifier);
     weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
     strongInstances.put(identifier, instance);
   }
 
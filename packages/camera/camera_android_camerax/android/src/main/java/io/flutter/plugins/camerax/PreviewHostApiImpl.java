@@ -16,12 +16,12 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.PreviewHostApi;
 import io.flutter.view.TextureRegistry;
 import java.util.Objects;
-import java.util.concurrent.Executors;
 
 public class PreviewHostApiImpl implements PreviewHostApi {
   private final BinaryMessenger binaryMessenger;
   private final InstanceManager instanceManager;
   private final TextureRegistry textureRegistry;
+  private final CameraXExecutors cameraXExecutors;
 
   @VisibleForTesting public CameraXProxy cameraXProxy = new CameraXProxy();
   @VisibleForTesting public TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture;
@@ -29,10 +29,12 @@ public class PreviewHostApiImpl implements PreviewHostApi {
   public PreviewHostApiImpl(
       @NonNull BinaryMessenger binaryMessenger,
       @NonNull InstanceManager instanceManager,
-      @NonNull TextureRegistry textureRegistry) {
+      @NonNull TextureRegistry textureRegistry,
+      @NonNull CameraXExecutors cameraXExecutors) {
     this.binaryMessenger = binaryMessenger;
     this.instanceManager = instanceManager;
     this.textureRegistry = textureRegistry;
+    this.cameraXExecutors = cameraXExecutors;
   }
 
   /** Creates a {@link Preview} with the target rotation and resolution if specified. */
@@ -83,7 +85,7 @@ public class PreviewHostApiImpl implements PreviewHostApi {
         Surface flutterSurface = cameraXProxy.createSurface(surfaceTexture);
         request.provideSurface(
             flutterSurface,
-            Executors.newSingleThreadExecutor(),
+            cameraXExecutors.getBackgroundExecutor(),
             (result) -> {
               // See https://developer.android.com/reference/androidx/camera/core/SurfaceRequest.Result for documentation.
               // Always attempt a release.
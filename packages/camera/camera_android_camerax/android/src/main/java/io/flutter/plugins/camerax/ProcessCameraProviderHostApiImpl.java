@@ -16,6 +16,7 @@ import androidx.lifecycle.LifecycleOwner;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderHostApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderInitializationInfo;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -23,15 +24,30 @@ import java.util.Objects;
 public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHostApi {
   private final BinaryMessenger binaryMessenger;
   private final InstanceManager instanceManager;
+  private final ProcessCameraProviderInitializer processCameraProviderInitializer;
 
   private Context context;
   private LifecycleOwner lifecycleOwner;
 
   public ProcessCameraProviderHostApiImpl(
       BinaryMessenger binaryMessenger, InstanceManager instanceManager, Context context) {
+    this(binaryMessenger, instanceManager, context, new ProcessCameraProviderInitializer());
+  }
+
+  /**
+   * Constructs a {@link ProcessCameraProviderHostApiImpl} that gets the {@code
+   * ProcessCameraProvider} from {@code processCameraProviderInitializer}, which may have started
+   * initializing it already.
+   */
+  public ProcessCameraProviderHostApiImpl(
+      BinaryMessenger binaryMessenger,
+      InstanceManager instanceManager,
+      Context context,
+      ProcessCameraProviderInitializer processCameraProviderInitializer) {
     this.binaryMessenger = binaryMessenger;
     this.instanceManager = instanceManager;
     this.context = context;
+    this.processCameraProviderInitializer = processCameraProviderInitializer;
   }
 
   public void setLifecycleOwner(LifecycleOwner lifecycleOwner) {
@@ -56,7 +72,7 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
   @Override
   public void getInstance(GeneratedCameraXLibrary.Result<Long> result) {
     ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
-        ProcessCameraProvider.getInstance(context);
+        processCameraProviderInitializer.getProcessCameraProviderFuture(context);
 
     processCameraProviderFuture.addListener(
         () -> {
@@ -153,4 +169,14 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
         (ProcessCameraProvider) Objects.requireNonNull(instanceManager.getInstance(identifier));
     processCameraProvider.unbindAll();
   }
+
+  /**
+   * Returns how long the initialization of the {@code ProcessCameraProvider} took and how much of
+   * it ran before it was requested by {@link #getInstance}.
+   */
+  @Override
+  @NonNull
+  public ProcessCameraProviderInitializationInfo getInitializationInfo() {
+    return processCameraProviderInitializer.getInitializationInfo();
+  }
 }
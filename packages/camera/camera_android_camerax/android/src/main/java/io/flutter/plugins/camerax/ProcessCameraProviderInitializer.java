@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.lifecycle.ProcessCameraProvider;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderInitializationInfo;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the future of the {@link ProcessCameraProvider} so that its initialization can be started
+ * before Dart requests the provider.
+ *
+ * <p>Initializing CameraX takes long enough to delay the first preview frame, so starting it while
+ * the app is still starting up hides part or all of that time. {@link #getInitializationInfo()}
+ * reports how much of it was hidden.
+ */
+public class ProcessCameraProviderInitializer {
+  private static final long NOT_RECORDED = -1;
+
+  @Nullable private ListenableFuture<ProcessCameraProvider> processCameraProviderFuture;
+  private boolean startedEagerly;
+  private long startTimeNanos = NOT_RECORDED;
+  private long requestTimeNanos = NOT_RECORDED;
+  private long initializedTimeNanos = NOT_RECORDED;
+
+  /**
+   * Starts initializing the {@link ProcessCameraProvider} ahead of a request from Dart.
+   *
+   * <p>Does nothing if the initialization has already started.
+   */
+  public synchronized void startEagerly(@NonNull Context context) {
+    if (processCameraProviderFuture != null) {
+      return;
+    }
+    startedEagerly = true;
+    start(context);
+  }
+
+  /**
+   * Returns the future of the {@link ProcessCameraProvider}, starting its initialization if it has
+   * not been started yet.
+   */
+  @NonNull
+  public synchronized ListenableFuture<ProcessCameraProvider> getProcessCameraProviderFuture(
+      @NonNull Context context) {
+    // The request is recorded first so that a lazy start does not count as overlapped.
+    if (requestTimeNanos == NOT_RECORDED) {
+      requestTimeNanos = System.nanoTime();
+    }
+    if (processCameraProviderFuture == null) {
+      start(context);
+    }
+    return processCameraProviderFuture;
+  }
+
+  /**
+   * Returns how long the initialization of the {@link ProcessCameraProvider} took and how much of
+   * it ran before the provider was first requested.
+   *
+   * <p>The initialization time is null while the initialization has not completed. Time that has
+   * not passed yet is not counted as overlapped, so the overlap keeps growing until either the
+   * initialization completes or the provider is requested.
+   */
+  @NonNull
+  public synchronized ProcessCameraProviderInitializationInfo getInitializationInfo() {
+    final ProcessCameraProviderInitializationInfo.Builder builder =
+        new ProcessCameraProviderInitializationInfo.Builder().setStartedEagerly(startedEagerly);
+    if (startTimeNanos == NOT_RECORDED) {
+      return builder.setOverlappedMillis(0L).build();
+    }
+
+    final long nowNanos = System.nanoTime();
+    final long initializedOrNowNanos =
+        initializedTimeNanos == NOT_RECORDED ? nowNanos : initializedTimeNanos;
+    final long requestedOrNowNanos = requestTimeNanos == NOT_RECORDED ? nowNanos : requestTimeNanos;
+    if (initializedTimeNanos != NOT_RECORDED) {
+      builder.setInitializationMillis(toMillis(initializedTimeNanos - startTimeNanos));
+    }
+    return builder
+        .setOverlappedMillis(
+            toMillis(Math.min(initializedOrNowNanos, requestedOrNowNanos) - startTimeNanos))
+        .build();
+  }
+
+  private void start(@NonNull Context context) {
+    startTimeNanos = System.nanoTime();
+    processCameraProviderFuture = ProcessCameraProvider.getInstance(context);
+    processCameraProviderFuture.addListener(this::onInitialized, MoreExecutors.directExecutor());
+  }
+
+  private synchronized void onInitialized() {
+    initializedTimeNanos = System.nanoTime();
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(Math.max(nanos, 0));
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.video.FallbackStrategy;
+import androidx.camera.video.Quality;
+import androidx.camera.video.QualitySelector;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.QualitySelectorHostApi;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class QualitySelectorHostApiImpl implements QualitySelectorHostApi {
+  // Values of the qualities and fallback rules sent from Dart. These must match the constants of
+  // the Dart QualitySelector.
+  static final long QUALITY_SD = 0;
+  static final long QUALITY_HD = 1;
+  static final long QUALITY_FHD = 2;
+  static final long QUALITY_UHD = 3;
+  static final long QUALITY_LOWEST = 4;
+  static final long QUALITY_HIGHEST = 5;
+
+  static final long FALLBACK_RULE_HIGHER_QUALITY_OR_LOWER_THAN = 0;
+  static final long FALLBACK_RULE_HIGHER_QUALITY_THAN = 1;
+  static final long FALLBACK_RULE_LOWER_QUALITY_OR_HIGHER_THAN = 2;
+  static final long FALLBACK_RULE_LOWER_QUALITY_THAN = 3;
+
+  private final InstanceManager instanceManager;
+
+  @VisibleForTesting public CameraXProxy cameraXProxy = new CameraXProxy();
+
+  public QualitySelectorHostApiImpl(@NonNull InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  /**
+   * Creates a {@link QualitySelector} that selects the first supported quality of {@code
+   * qualities}, in order.
+   *
+   * <p>If none of them is supported and {@code fallbackRule} is specified, the quality closest to
+   * {@code fallbackQuality} allowed by the rule is selected instead.
+   */
+  @Override
+  public void create(
+      @NonNull Long identifier,
+      @NonNull List<Long> qualities,
+      @Nullable Long fallbackRule,
+      @Nullable Long fallbackQuality) {
+    List<Quality> qualityList = new ArrayList<>(qualities.size());
+    for (int i = 0; i < qualities.size(); i++) {
+      qualityList.add(getQuality(((Number) qualities.get(i)).longValue()));
+    }
+
+    FallbackStrategy fallbackStrategy = null;
+    if (fallbackRule != null) {
+      fallbackStrategy =
+          getFallbackStrategy(fallbackRule, getQuality(Objects.requireNonNull(fallbackQuality)));
+    }
+
+    QualitySelector qualitySelector =
+        cameraXProxy.createQualitySelector(qualityList, fallbackStrategy);
+    instanceManager.addDartCreatedInstance(qualitySelector, identifier);
+  }
+
+  @NonNull
+  static Quality getQuality(long quality) {
+    if (quality == QUALITY_SD) {
+      return Quality.SD;
+    } else if (quality == QUALITY_HD) {
+      return Quality.HD;
+    } else if (quality == QUALITY_FHD) {
+      return Quality.FHD;
+    } else if (quality == QUALITY_UHD) {
+      return Quality.UHD;
+    } else if (quality == QUALITY_LOWEST) {
+      return Quality.LOWEST;
+    } else if (quality == QUALITY_HIGHEST) {
+      return Quality.HIGHEST;
+    }
+    throw new IllegalArgumentException("Unknown video quality: " + quality);
+  }
+
+  @NonNull
+  static FallbackStrategy getFallbackStrategy(long fallbackRule, @NonNull Quality quality) {
+    if (fallbackRule == FALLBACK_RULE_HIGHER_QUALITY_OR_LOWER_THAN) {
+      return FallbackStrategy.higherQualityOrLowerThan(quality);
+    } else if (fallbackRule == FALLBACK_RULE_HIGHER_QUALITY_THAN) {
+      return FallbackStrategy.higherQualityThan(quality);
+    } else if (fallbackRule == FALLBACK_RULE_LOWER_QUALITY_OR_HIGHER_THAN) {
+      return FallbackStrategy.lowerQualityOrHigherThan(quality);
+    } else if (fallbackRule == FALLBACK_RULE_LOWER_QUALITY_THAN) {
+      return FallbackStrategy.lowerQualityThan(quality);
+    }
+    throw new IllegalArgumentException("Unknown quality fallback rule: " + fallbackRule);
+  }
+}
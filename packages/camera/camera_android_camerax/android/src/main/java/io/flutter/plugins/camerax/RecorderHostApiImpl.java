@@ -0,0 +1,83 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.video.PendingRecording;
+import androidx.camera.video.QualitySelector;
+import androidx.camera.video.Recorder;
+import androidx.camera.video.Recording;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.RecorderHostApi;
+import java.util.Objects;
+
+public class RecorderHostApiImpl implements RecorderHostApi {
+  private final BinaryMessenger binaryMessenger;
+  private final InstanceManager instanceManager;
+  private final CameraXExecutors cameraXExecutors;
+  private Context context;
+
+  @VisibleForTesting public CameraXProxy cameraXProxy = new CameraXProxy();
+
+  public RecorderHostApiImpl(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager,
+      @NonNull CameraXExecutors cameraXExecutors,
+      @NonNull Context context) {
+    this.binaryMessenger = binaryMessenger;
+    this.instanceManager = instanceManager;
+    this.cameraXExecutors = cameraXExecutors;
+    this.context = context;
+  }
+
+  /** Sets the context that recordings are prepared with. */
+  public void setContext(@NonNull Context context) {
+    this.context = context;
+  }
+
+  /** Creates a {@link Recorder} with the {@link QualitySelector} if specified. */
+  @Override
+  public void create(@NonNull Long identifier, @Nullable Long qualitySelectorIdentifier) {
+    Recorder.Builder recorderBuilder = cameraXProxy.createRecorderBuilder();
+    if (qualitySelectorIdentifier != null) {
+      recorderBuilder.setQualitySelector(
+          (QualitySelector)
+              Objects.requireNonNull(instanceManager.getInstance(qualitySelectorIdentifier)));
+    }
+    Recorder recorder = recorderBuilder.build();
+    instanceManager.addDartCreatedInstance(recorder, identifier);
+  }
+
+  /**
+   * Starts a {@link Recording} to the file at {@code path} with the specified {@link Recorder}.
+   *
+   * <p>The events of the recording are sent to Dart on the main thread, with at most one status
+   * event per {@code statusIntervalMillis}.
+   */
+  @Override
+  public void start(
+      @NonNull Long identifier,
+      @NonNull Long recordingIdentifier,
+      @NonNull String path,
+      @NonNull Long statusIntervalMillis) {
+    Recorder recorder = (Recorder) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    PendingRecording pendingRecording =
+        recorder.prepareRecording(context, cameraXProxy.createFileOutputOptions(path));
+    VideoRecordEventListener eventListener =
+        new VideoRecordEventListener(
+            recordingIdentifier,
+            cameraXProxy.createRecordingFlutterApiImpl(binaryMessenger),
+            statusIntervalMillis);
+
+    // Events are posted to the main thread, so the recording is added to the instance manager
+    // before its first event is sent to Dart.
+    Recording recording =
+        pendingRecording.start(cameraXExecutors.getMainThreadExecutor(), eventListener);
+    instanceManager.addDartCreatedInstance(recording, recordingIdentifier);
+  }
+}
@@ -0,0 +1,21 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.RecordingFlutterApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoRecordEventData;
+
+public class RecordingFlutterApiImpl extends RecordingFlutterApi {
+  public RecordingFlutterApiImpl(@NonNull BinaryMessenger binaryMessenger) {
+    super(binaryMessenger);
+  }
+
+  public void sendVideoRecordEvent(
+      @NonNull Long identifier, @NonNull VideoRecordEventData event, @NonNull Reply<Void> reply) {
+    super.onVideoRecordEvent(identifier, event, reply);
+  }
+}
@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.camera.video.Recording;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.RecordingHostApi;
+import java.util.Objects;
+
+public class RecordingHostApiImpl implements RecordingHostApi {
+  private final InstanceManager instanceManager;
+
+  public RecordingHostApiImpl(@NonNull InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  /** Pauses the specified {@link Recording}. */
+  @Override
+  public void pause(@NonNull Long identifier) {
+    getRecording(identifier).pause();
+  }
+
+  /** Resumes the specified {@link Recording} if it is paused. */
+  @Override
+  public void resume(@NonNull Long identifier) {
+    getRecording(identifier).resume();
+  }
+
+  /**
+   * Stops the specified {@link Recording}.
+   *
+   * <p>The output file is finalized asynchronously, and a finalize event is sent to Dart once it
+   * is.
+   */
+  @Override
+  public void stop(@NonNull Long identifier) {
+    getRecording(identifier).stop();
+  }
+
+  private Recording getRecording(@NonNull Long identifier) {
+    return (Recording) Objects.requireNonNull(instanceManager.getInstance(identifier));
+  }
+}
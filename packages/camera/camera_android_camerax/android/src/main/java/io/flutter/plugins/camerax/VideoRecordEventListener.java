@@ -0,0 +1,90 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.camera.video.Recording;
+import androidx.camera.video.RecordingStats;
+import androidx.camera.video.VideoRecordEvent;
+import androidx.core.util.Consumer;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoRecordEventData;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener for the {@link VideoRecordEvent}s of a {@link Recording} that sends them to Dart.
+ *
+ * <p>CameraX sends a {@link VideoRecordEvent.Status} event for about every frame it writes, so
+ * status events are only sent to Dart once per status interval. All other events are sent right
+ * away.
+ */
+public class VideoRecordEventListener implements Consumer<VideoRecordEvent> {
+  // Types of the events sent to Dart. These must match the constants of the Dart Recording.
+  static final long EVENT_TYPE_START = 0;
+  static final long EVENT_TYPE_STATUS = 1;
+  static final long EVENT_TYPE_PAUSE = 2;
+  static final long EVENT_TYPE_RESUME = 3;
+  static final long EVENT_TYPE_FINALIZE = 4;
+
+  private final Long identifier;
+  private final RecordingFlutterApiImpl recordingFlutterApi;
+  private final long statusIntervalNanos;
+  private long lastSentEventTimestampNanos;
+
+  /**
+   * Creates a listener for the {@link Recording} paired with {@code identifier}.
+   *
+   * @param identifier the identifier of the {@code Recording} in the {@link InstanceManager}.
+   * @param recordingFlutterApi the API used to send the events to Dart.
+   * @param statusIntervalMillis the minimum time between two status events sent to Dart.
+   */
+  public VideoRecordEventListener(
+      @NonNull Long identifier,
+      @NonNull RecordingFlutterApiImpl recordingFlutterApi,
+      long statusIntervalMillis) {
+    this.identifier = identifier;
+    this.recordingFlutterApi = recordingFlutterApi;
+    this.statusIntervalNanos = TimeUnit.MILLISECONDS.toNanos(statusIntervalMillis);
+  }
+
+  @Override
+  public void accept(@NonNull VideoRecordEvent event) {
+    final long eventType;
+    if (event instanceof VideoRecordEvent.Status) {
+      if (event.getTimestampNanos() - lastSentEventTimestampNanos < statusIntervalNanos) {
+        return;
+      }
+      eventType = EVENT_TYPE_STATUS;
+    } else if (event instanceof VideoRecordEvent.Start) {
+      eventType = EVENT_TYPE_START;
+    } else if (event instanceof VideoRecordEvent.Pause) {
+      eventType = EVENT_TYPE_PAUSE;
+    } else if (event instanceof VideoRecordEvent.Resume) {
+      eventType = EVENT_TYPE_RESUME;
+    } else if (event instanceof VideoRecordEvent.Finalize) {
+      eventType = EVENT_TYPE_FINALIZE;
+    } else {
+      return;
+    }
+    lastSentEventTimestampNanos = event.getTimestampNanos();
+
+    final RecordingStats recordingStats = event.getRecordingStats();
+    final VideoRecordEventData.Builder eventDataBuilder =
+        new VideoRecordEventData.Builder()
+            .setEventType(eventType)
+            .setRecordedDurationNanos(recordingStats.getRecordedDurationNanos())
+            .setNumBytesRecorded(recordingStats.getNumBytesRecorded());
+    if (event instanceof VideoRecordEvent.Finalize) {
+      final VideoRecordEvent.Finalize finalizeEvent = (VideoRecordEvent.Finalize) event;
+      final Uri outputUri = finalizeEvent.getOutputResults().getOutputUri();
+      eventDataBuilder.setOutputUri(outputUri.toString());
+      if (finalizeEvent.hasError()) {
+        eventDataBuilder.setError((long) finalizeEvent.getError());
+      }
+    }
+
+    recordingFlutterApi.sendVideoRecordEvent(identifier, eventDataBuilder.build(), reply -> {});
+  }
+}
@@ -0,0 +1,152 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraUseCaseGraphRequest;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraUseCaseGraphResult;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionInfo;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.Result;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CameraUseCaseGraphTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public CameraSelectorHostApiImpl mockCameraSelectorHostApi;
+  @Mock public PreviewHostApiImpl mockPreviewHostApi;
+  @Mock public ImageCaptureHostApiImpl mockImageCaptureHostApi;
+  @Mock public ImageAnalysisHostApiImpl mockImageAnalysisHostApi;
+  @Mock public ProcessCameraProviderHostApiImpl mockProcessCameraProviderHostApi;
+  @Mock public Result<CameraUseCaseGraphResult> mockResult;
+
+  CameraUseCaseGraphHostApiImpl cameraUseCaseGraphHostApi;
+
+  @Before
+  public void setUp() {
+    cameraUseCaseGraphHostApi =
+        new CameraUseCaseGraphHostApiImpl(
+            mockCameraSelectorHostApi,
+            mockPreviewHostApi,
+            mockImageCaptureHostApi,
+            mockImageAnalysisHostApi,
+            mockProcessCameraProviderHostApi);
+  }
+
+  @Test
+  public void createAndBind_createsAllUseCasesAndBindsThem() {
+    final ResolutionInfo previewResolution =
+        new ResolutionInfo.Builder().setWidth(640L).setHeight(480L).build();
+    final ResolutionInfo imageCaptureResolution =
+        new ResolutionInfo.Builder().setWidth(1920L).setHeight(1080L).build();
+    final CameraUseCaseGraphRequest request =
+        new CameraUseCaseGraphRequest.Builder()
+            .setCameraSelectorIdentifier(0L)
+            .setLensFacing(1L)
+            .setPreviewIdentifier(1L)
+            .setPreviewTargetRotation(90L)
+            .setPreviewTargetResolution(previewResolution)
+            .setImageCaptureIdentifier(2L)
+            .setImageCaptureMode(1L)
+            .setImageCaptureTargetResolution(imageCaptureResolution)
+            .setImageAnalysisIdentifier(3L)
+            .setImageAnalysisOutputImageFormat(2L)
+            .setBindToLifecycle(true)
+            .build();
+
+    when(mockPreviewHostApi.setSurfaceProvider(1L)).thenReturn(7L);
+    when(mockProcessCameraProviderHostApi.bindToLifecycle(65536L, 0L, Arrays.asList(1L, 2L, 3L)))
+        .thenReturn(65537L);
+
+    cameraUseCaseGraphHostApi.createAndBind(request, mockResult);
+
+    verify(mockCameraSelectorHostApi).create(0L, 1L);
+    verify(mockPreviewHostApi).create(1L, 90L, previewResolution);
+    verify(mockImageCaptureHostApi).create(2L, 1L, imageCaptureResolution);
+    verify(mockImageAnalysisHostApi).create(3L, 2L, null);
+
+    final ArgumentCaptor<Result<Long>> getInstanceResultCaptor =
+        ArgumentCaptor.forClass(Result.class);
+    verify(mockProcessCameraProviderHostApi).getInstance(getInstanceResultCaptor.capture());
+    getInstanceResultCaptor.getValue().success(65536L);
+
+    final ArgumentCaptor<CameraUseCaseGraphResult> resultCaptor =
+        ArgumentCaptor.forClass(CameraUseCaseGraphResult.class);
+    verify(mockResult).success(resultCaptor.capture());
+    assertEquals(
+        Long.valueOf(65536L), resultCaptor.getValue().getProcessCameraProviderIdentifier());
+    assertEquals(Long.valueOf(7L), resultCaptor.getValue().getFlutterSurfaceTextureId());
+    assertEquals(Long.valueOf(65537L), resultCaptor.getValue().getCameraIdentifier());
+  }
+
+  @Test
+  public void createAndBind_onlyCreatesPreviewAndDoesNotBindWhenNotRequested() {
+    final CameraUseCaseGraphRequest request =
+        new CameraUseCaseGraphRequest.Builder()
+            .setCameraSelectorIdentifier(0L)
+            .setPreviewIdentifier(1L)
+            .setBindToLifecycle(false)
+            .build();
+
+    when(mockPreviewHostApi.setSurfaceProvider(1L)).thenReturn(7L);
+
+    cameraUseCaseGraphHostApi.createAndBind(request, mockResult);
+
+    verify(mockImageCaptureHostApi, never()).create(anyLong(), any(), any());
+    verify(mockImageAnalysisHostApi, never()).create(anyLong(), any(), any());
+
+    final ArgumentCaptor<Result<Long>> getInstanceResultCaptor =
+        ArgumentCaptor.forClass(Result.class);
+    verify(mockProcessCameraProviderHostApi).getInstance(getInstanceResultCaptor.capture());
+    getInstanceResultCaptor.getValue().success(65536L);
+
+    verify(mockProcessCameraProviderHostApi, never())
+        .bindToLifecycle(anyLong(), anyLong(), anyList());
+    final ArgumentCaptor<CameraUseCaseGraphResult> resultCaptor =
+        ArgumentCaptor.forClass(CameraUseCaseGraphResult.class);
+    verify(mockResult).success(resultCaptor.capture());
+    assertNull(resultCaptor.getValue().getCameraIdentifier());
+  }
+
+  @Test
+  public void createAndBind_sendsErrorOfBinding() {
+    final CameraUseCaseGraphRequest request =
+        new CameraUseCaseGraphRequest.Builder()
+            .setCameraSelectorIdentifier(0L)
+            .setPreviewIdentifier(1L)
+            .setBindToLifecycle(true)
+            .build();
+    final IllegalArgumentException bindException =
+        new IllegalArgumentException("No available camera can be found.");
+
+    when(mockPreviewHostApi.setSurfaceProvider(1L)).thenReturn(7L);
+    when(mockProcessCameraProviderHostApi.bindToLifecycle(65536L, 0L, Arrays.asList(1L)))
+        .thenThrow(bindException);
+
+    cameraUseCaseGraphHostApi.createAndBind(request, mockResult);
+
+    final ArgumentCaptor<Result<Long>> getInstanceResultCaptor =
+        ArgumentCaptor.forClass(Result.class);
+    verify(mockProcessCameraProviderHostApi).getInstance(getInstanceResultCaptor.capture());
+    getInstanceResultCaptor.getValue().success(65536L);
+
+    verify(mockResult).error(bindException);
+    verify(mockResult, never()).success(any());
+  }
+}
@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraXExecutorsTest {
+  CameraXExecutors cameraXExecutors;
+
+  @Before
+  public void setUp() {
+    cameraXExecutors = new CameraXExecutors();
+  }
+
+  @After
+  public void tearDown() {
+    cameraXExecutors.release();
+  }
+
+  @Test
+  public void getBackgroundExecutor_reusesSingleThreadAcrossCalls() throws InterruptedException {
+    final Executor executor = cameraXExecutors.getBackgroundExecutor();
+
+    runAndWait(executor);
+    runAndWait(cameraXExecutors.getBackgroundExecutor());
+    runAndWait(cameraXExecutors.getBackgroundExecutor());
+
+    assertSame(executor, cameraXExecutors.getBackgroundExecutor());
+    assertEquals(1, cameraXExecutors.getLiveThreadCount());
+  }
+
+  @Test
+  public void getImageAnalysisExecutor_runsTasksThatDoNotFitOnCallingThread()
+      throws InterruptedException {
+    final Executor executor = cameraXExecutors.getImageAnalysisExecutor();
+    final CountDownLatch blockAnalyzer = new CountDownLatch(1);
+    final CountDownLatch analyzerStarted = new CountDownLatch(1);
+    final Thread[] overflowThread = new Thread[1];
+
+    executor.execute(
+        () -> {
+          analyzerStarted.countDown();
+          try {
+            blockAnalyzer.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    assertTrue(analyzerStarted.await(5, TimeUnit.SECONDS));
+    executor.execute(() -> {});
+    executor.execute(() -> overflowThread[0] = Thread.currentThread());
+    blockAnalyzer.countDown();
+
+    assertSame(Thread.currentThread(), overflowThread[0]);
+    assertEquals(1, cameraXExecutors.getLiveThreadCount());
+  }
+
+  @Test
+  public void getImageAnalysisExecutor_rejectsTasksAfterRelease() {
+    final Executor executor = cameraXExecutors.getImageAnalysisExecutor();
+    final boolean[] ran = new boolean[1];
+
+    cameraXExecutors.release();
+
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran[0] = true));
+    assertFalse(ran[0]);
+  }
+
+  @Test
+  public void release_stopsAllThreads() throws InterruptedException {
+    final Executor backgroundExecutor = cameraXExecutors.getBackgroundExecutor();
+    runAndWait(backgroundExecutor);
+    runAndWait(cameraXExecutors.getImageAnalysisExecutor());
+    assertEquals(2, cameraXExecutors.getLiveThreadCount());
+
+    cameraXExecutors.release();
+
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (cameraXExecutors.getLiveThreadCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, cameraXExecutors.getLiveThreadCount());
+    assertNotSame(backgroundExecutor, cameraXExecutors.getBackgroundExecutor());
+  }
+
+  private static void runAndWait(Executor executor) throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(latch::countDown);
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+  }
+}
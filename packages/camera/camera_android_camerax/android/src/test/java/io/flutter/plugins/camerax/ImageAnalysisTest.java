@@ -0,0 +1,240 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import android.util.Size;
+import androidx.camera.core.ImageAnalysis;
+import androidx.camera.core.ImageInfo;
+import androidx.camera.core.ImageProxy;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageFrameData;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ImageAnalysisTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public ImageAnalysis mockImageAnalysis;
+  @Mock public BinaryMessenger mockBinaryMessenger;
+  @Mock public CameraXProxy mockCameraXProxy;
+  @Mock public CameraXExecutors mockCameraXExecutors;
+  @Mock public ImageAnalysisFlutterApiImpl mockImageAnalysisFlutterApi;
+  @Mock public Handler mockHandler;
+
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = spy(InstanceManager.open(identifier -> {}));
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.close();
+  }
+
+  @Test
+  public void create_createsImageAnalysisWithCorrectConfiguration() {
+    final ImageAnalysisHostApiImpl imageAnalysisHostApi =
+        new ImageAnalysisHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors);
+    final ImageAnalysis.Builder mockImageAnalysisBuilder = mock(ImageAnalysis.Builder.class);
+    final int targetResolutionWidth = 10;
+    final int targetResolutionHeight = 50;
+    final Long imageAnalysisIdentifier = 3L;
+    final GeneratedCameraXLibrary.ResolutionInfo resolutionInfo =
+        new GeneratedCameraXLibrary.ResolutionInfo.Builder()
+            .setWidth(Long.valueOf(targetResolutionWidth))
+            .setHeight(Long.valueOf(targetResolutionHeight))
+            .build();
+
+    imageAnalysisHostApi.cameraXProxy = mockCameraXProxy;
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+
+    final ArgumentCaptor<Size> sizeCaptor = ArgumentCaptor.forClass(Size.class);
+
+    imageAnalysisHostApi.create(
+        imageAnalysisIdentifier,
+        Long.valueOf(ImageAnalysis.OUTPUT_IMAGE_FORMAT_RGBA_8888),
+        resolutionInfo);
+
+    verify(mockImageAnalysisBuilder)
+        .setBackpressureStrategy(ImageAnalysis.STRATEGY_KEEP_ONLY_LATEST);
+    verify(mockImageAnalysisBuilder)
+        .setOutputImageFormat(ImageAnalysis.OUTPUT_IMAGE_FORMAT_RGBA_8888);
+    verify(mockImageAnalysisBuilder).setTargetResolution(sizeCaptor.capture());
+    assertEquals(sizeCaptor.getValue().getWidth(), targetResolutionWidth);
+    assertEquals(sizeCaptor.getValue().getHeight(), targetResolutionHeight);
+    verify(testInstanceManager).addDartCreatedInstance(mockImageAnalysis, imageAnalysisIdentifier);
+  }
+
+  @Test
+  public void setAnalyzer_setsAnalyzerOnImageAnalysisExecutor() {
+    final ImageAnalysisHostApiImpl imageAnalysisHostApi =
+        new ImageAnalysisHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors);
+    final ImageAnalysisAnalyzer mockAnalyzer = mock(ImageAnalysisAnalyzer.class);
+    final Executor mockExecutor = mock(Executor.class);
+    final Long imageAnalysisIdentifier = 7L;
+
+    imageAnalysisHostApi.cameraXProxy = mockCameraXProxy;
+    testInstanceManager.addDartCreatedInstance(mockImageAnalysis, imageAnalysisIdentifier);
+    when(mockCameraXProxy.createImageAnalysisFlutterApiImpl(mockBinaryMessenger))
+        .thenReturn(mockImageAnalysisFlutterApi);
+    when(mockCameraXProxy.createImageAnalysisAnalyzer(
+            imageAnalysisIdentifier, mockImageAnalysisFlutterApi))
+        .thenReturn(mockAnalyzer);
+    when(mockCameraXExecutors.getImageAnalysisExecutor()).thenReturn(mockExecutor);
+
+    imageAnalysisHostApi.setAnalyzer(imageAnalysisIdentifier);
+
+    verify(mockImageAnalysis).setAnalyzer(mockExecutor, mockAnalyzer);
+  }
+
+  @Test
+  public void clearAnalyzer_clearsAnalyzer() {
+    final ImageAnalysisHostApiImpl imageAnalysisHostApi =
+        new ImageAnalysisHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors);
+    final Long imageAnalysisIdentifier = 9L;
+
+    testInstanceManager.addDartCreatedInstance(mockImageAnalysis, imageAnalysisIdentifier);
+
+    imageAnalysisHostApi.clearAnalyzer(imageAnalysisIdentifier);
+
+    verify(mockImageAnalysis).clearAnalyzer();
+  }
+
+  @Test
+  public void analyze_copiesImageClosesItAndSendsCopyToDart() {
+    final Long imageAnalysisIdentifier = 11L;
+    final ImageAnalysisFramePool framePool = new ImageAnalysisFramePool();
+    final ImageAnalysisAnalyzer analyzer =
+        new ImageAnalysisAnalyzer(
+            imageAnalysisIdentifier, mockImageAnalysisFlutterApi, framePool, mockHandler);
+    final byte[] planeBytes = new byte[] {1, 2, 3, 4};
+    final ImageProxy mockImage = createMockImage(planeBytes);
+
+    analyzer.analyze(mockImage);
+
+    verify(mockImage).close();
+    assertEquals(1, framePool.getInFlightCount());
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    final ArgumentCaptor<ImageFrameData> frameCaptor =
+        ArgumentCaptor.forClass(ImageFrameData.class);
+    verify(mockImageAnalysisFlutterApi)
+        .sendImageAnalyzedEvent(eq(imageAnalysisIdentifier), frameCaptor.capture(), any());
+    final ImageFrameData frame = frameCaptor.getValue();
+    assertEquals(Long.valueOf(640), frame.getWidth());
+    assertEquals(Long.valueOf(480), frame.getHeight());
+    assertEquals(Long.valueOf(90), frame.getRotationDegrees());
+    assertEquals(Long.valueOf(1234), frame.getTimestamp());
+    assertArrayEquals(planeBytes, frame.getPlanes().get(0));
+    assertEquals(Long.valueOf(2), frame.getBytesPerRow().get(0));
+    assertEquals(Long.valueOf(1), frame.getBytesPerPixel().get(0));
+    assertEquals(0, framePool.getInFlightCount());
+  }
+
+  @Test
+  public void analyze_dropsImagesWhileAllFramesAreInFlight() {
+    final ImageAnalysisFramePool framePool = new ImageAnalysisFramePool(1);
+    final ImageAnalysisAnalyzer analyzer =
+        new ImageAnalysisAnalyzer(13L, mockImageAnalysisFlutterApi, framePool, mockHandler);
+    final ImageProxy firstImage = createMockImage(new byte[] {1});
+    final ImageProxy secondImage = mock(ImageProxy.class);
+
+    analyzer.analyze(firstImage);
+    analyzer.analyze(secondImage);
+
+    verify(firstImage).close();
+    verify(secondImage).close();
+    verify(secondImage, never()).getPlanes();
+    verify(mockHandler, times(1)).post(any(Runnable.class));
+  }
+
+  @Test
+  public void analyze_releasesFrameWhenCopyFails() {
+    final ImageAnalysisFramePool framePool = new ImageAnalysisFramePool(1);
+    final ImageAnalysisAnalyzer analyzer =
+        new ImageAnalysisAnalyzer(13L, mockImageAnalysisFlutterApi, framePool, mockHandler);
+    final ImageProxy brokenImage = mock(ImageProxy.class);
+    when(brokenImage.getPlanes()).thenThrow(new IllegalStateException("Image is already closed"));
+
+    try {
+      analyzer.analyze(brokenImage);
+    } catch (IllegalStateException e) {
+      // Expected.
+    }
+
+    verify(brokenImage).close();
+    verify(mockHandler, never()).post(any(Runnable.class));
+    assertEquals(0, framePool.getInFlightCount());
+  }
+
+  @Test
+  public void framePool_reusesPlaneBuffersOfReleasedFrames() {
+    final ImageAnalysisFramePool framePool = new ImageAnalysisFramePool(1);
+
+    final ImageAnalysisFramePool.Frame frame = framePool.acquire();
+    frame.copyFrom(createMockImage(new byte[] {1, 2}));
+    final byte[] planeBuffer = frame.getData().getPlanes().get(0);
+    assertNull(framePool.acquire());
+    framePool.release(frame);
+
+    final ImageAnalysisFramePool.Frame reusedFrame = framePool.acquire();
+    reusedFrame.copyFrom(createMockImage(new byte[] {3, 4}));
+
+    assertSame(frame, reusedFrame);
+    assertSame(planeBuffer, reusedFrame.getData().getPlanes().get(0));
+    assertArrayEquals(new byte[] {3, 4}, planeBuffer);
+  }
+
+  private static ImageProxy createMockImage(byte[] planeBytes) {
+    final ImageProxy mockImage = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.wrap(planeBytes));
+    when(mockPlane.getRowStride()).thenReturn(2);
+    when(mockPlane.getPixelStride()).thenReturn(1);
+    when(mockImageInfo.getRotationDegrees()).thenReturn(90);
+    when(mockImageInfo.getTimestamp()).thenReturn(1234L);
+    when(mockImage.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    when(mockImage.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockImage.getWidth()).thenReturn(640);
+    when(mockImage.getHeight()).thenReturn(480);
+    return mockImage;
+  }
+}
@@ -0,0 +1,217 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.util.Size;
+import androidx.camera.core.ImageCapture;
+import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageProxy;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageCaptureResultData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.Result;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ImageCaptureTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public ImageCapture mockImageCapture;
+  @Mock public CameraXProxy mockCameraXProxy;
+  @Mock public CameraXExecutors mockCameraXExecutors;
+  @Mock public Result<ImageCaptureResultData> mockResult;
+
+  InstanceManager testInstanceManager;
+
+  private final Executor ioExecutor = Runnable::run;
+  private final Executor mainThreadExecutor = Runnable::run;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = spy(InstanceManager.open(identifier -> {}));
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.close();
+  }
+
+  @Test
+  public void create_createsImageCaptureWithCorrectConfiguration() {
+    final ImageCaptureHostApiImpl imageCaptureHostApi =
+        new ImageCaptureHostApiImpl(testInstanceManager, mockCameraXExecutors);
+    final ImageCapture.Builder mockImageCaptureBuilder = mock(ImageCapture.Builder.class);
+    final int targetResolutionWidth = 10;
+    final int targetResolutionHeight = 50;
+    final Long imageCaptureIdentifier = 3L;
+    final GeneratedCameraXLibrary.ResolutionInfo resolutionInfo =
+        new GeneratedCameraXLibrary.ResolutionInfo.Builder()
+            .setWidth(Long.valueOf(targetResolutionWidth))
+            .setHeight(Long.valueOf(targetResolutionHeight))
+            .build();
+
+    imageCaptureHostApi.cameraXProxy = mockCameraXProxy;
+    when(mockCameraXProxy.createImageCaptureBuilder()).thenReturn(mockImageCaptureBuilder);
+    when(mockImageCaptureBuilder.build()).thenReturn(mockImageCapture);
+
+    final ArgumentCaptor<Size> sizeCaptor = ArgumentCaptor.forClass(Size.class);
+
+    imageCaptureHostApi.create(
+        imageCaptureIdentifier,
+        Long.valueOf(ImageCapture.CAPTURE_MODE_MINIMIZE_LATENCY),
+        resolutionInfo);
+
+    verify(mockImageCaptureBuilder).setCaptureMode(ImageCapture.CAPTURE_MODE_MINIMIZE_LATENCY);
+    verify(mockImageCaptureBuilder).setTargetResolution(sizeCaptor.capture());
+    assertEquals(sizeCaptor.getValue().getWidth(), targetResolutionWidth);
+    assertEquals(sizeCaptor.getValue().getHeight(), targetResolutionHeight);
+    verify(testInstanceManager).addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+  }
+
+  @Test
+  public void takePicture_sendsJpegBytesAndClosesImage() {
+    final ImageCaptureHostApiImpl imageCaptureHostApi =
+        new ImageCaptureHostApiImpl(testInstanceManager, mockCameraXExecutors);
+    final Long imageCaptureIdentifier = 5L;
+    final byte[] jpegBytes = new byte[] {1, 2, 3};
+    final ImageProxy mockImage = createMockImage(jpegBytes);
+
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+    when(mockCameraXExecutors.getIoExecutor()).thenReturn(ioExecutor);
+    when(mockCameraXExecutors.getMainThreadExecutor()).thenReturn(mainThreadExecutor);
+
+    imageCaptureHostApi.takePicture(imageCaptureIdentifier, mockResult);
+
+    final ArgumentCaptor<ImageCapture.OnImageCapturedCallback> callbackCaptor =
+        ArgumentCaptor.forClass(ImageCapture.OnImageCapturedCallback.class);
+    verify(mockImageCapture).takePicture(eq(ioExecutor), callbackCaptor.capture());
+    callbackCaptor.getValue().onCaptureSuccess(mockImage);
+
+    verify(mockImage).close();
+    final ArgumentCaptor<ImageCaptureResultData> resultCaptor =
+        ArgumentCaptor.forClass(ImageCaptureResultData.class);
+    verify(mockResult).success(resultCaptor.capture());
+    final ImageCaptureResultData resultData = resultCaptor.getValue();
+    assertArrayEquals(jpegBytes, resultData.getBytes());
+    assertNull(resultData.getPath());
+    assertNotNull(resultData.getCaptureLatencyMillis());
+  }
+
+  @Test
+  public void takePicture_sendsCaptureError() {
+    final ImageCaptureHostApiImpl imageCaptureHostApi =
+        new ImageCaptureHostApiImpl(testInstanceManager, mockCameraXExecutors);
+    final Long imageCaptureIdentifier = 7L;
+    final ImageCaptureException mockException = mock(ImageCaptureException.class);
+
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+    when(mockCameraXExecutors.getIoExecutor()).thenReturn(ioExecutor);
+    when(mockCameraXExecutors.getMainThreadExecutor()).thenReturn(mainThreadExecutor);
+
+    imageCaptureHostApi.takePicture(imageCaptureIdentifier, mockResult);
+
+    final ArgumentCaptor<ImageCapture.OnImageCapturedCallback> callbackCaptor =
+        ArgumentCaptor.forClass(ImageCapture.OnImageCapturedCallback.class);
+    verify(mockImageCapture).takePicture(eq(ioExecutor), callbackCaptor.capture());
+    callbackCaptor.getValue().onError(mockException);
+
+    verify(mockResult).error(mockException);
+    verify(mockResult, never()).success(any());
+  }
+
+  @Test
+  public void takePictureToFile_writesJpegBytesToFile() throws IOException {
+    final ImageCaptureHostApiImpl imageCaptureHostApi =
+        new ImageCaptureHostApiImpl(testInstanceManager, mockCameraXExecutors);
+    final Long imageCaptureIdentifier = 9L;
+    final String path = "picture.jpg";
+    final byte[] jpegBytes = new byte[] {4, 5, 6};
+    final ImageProxy mockImage = createMockImage(jpegBytes);
+    final FileOutputStream mockOutputStream = mock(FileOutputStream.class);
+
+    imageCaptureHostApi.cameraXProxy = mockCameraXProxy;
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+    when(mockCameraXExecutors.getIoExecutor()).thenReturn(ioExecutor);
+    when(mockCameraXExecutors.getMainThreadExecutor()).thenReturn(mainThreadExecutor);
+    when(mockCameraXProxy.createFileOutputStream(path)).thenReturn(mockOutputStream);
+
+    imageCaptureHostApi.takePictureToFile(imageCaptureIdentifier, path, mockResult);
+
+    final ArgumentCaptor<ImageCapture.OnImageCapturedCallback> callbackCaptor =
+        ArgumentCaptor.forClass(ImageCapture.OnImageCapturedCallback.class);
+    verify(mockImageCapture).takePicture(eq(ioExecutor), callbackCaptor.capture());
+    callbackCaptor.getValue().onCaptureSuccess(mockImage);
+
+    verify(mockImage).close();
+    verify(mockOutputStream).write(jpegBytes);
+    verify(mockOutputStream).close();
+    final ArgumentCaptor<ImageCaptureResultData> resultCaptor =
+        ArgumentCaptor.forClass(ImageCaptureResultData.class);
+    verify(mockResult).success(resultCaptor.capture());
+    final ImageCaptureResultData resultData = resultCaptor.getValue();
+    assertSame(path, resultData.getPath());
+    assertNull(resultData.getBytes());
+    assertNotNull(resultData.getSaveLatencyMillis());
+  }
+
+  @Test
+  public void takePictureToFile_sendsWriteError() throws IOException {
+    final ImageCaptureHostApiImpl imageCaptureHostApi =
+        new ImageCaptureHostApiImpl(testInstanceManager, mockCameraXExecutors);
+    final Long imageCaptureIdentifier = 11L;
+    final String path = "picture.jpg";
+    final FileNotFoundException writeException = new FileNotFoundException(path);
+
+    imageCaptureHostApi.cameraXProxy = mockCameraXProxy;
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+    when(mockCameraXExecutors.getIoExecutor()).thenReturn(ioExecutor);
+    when(mockCameraXExecutors.getMainThreadExecutor()).thenReturn(mainThreadExecutor);
+    when(mockCameraXProxy.createFileOutputStream(path)).thenThrow(writeException);
+
+    imageCaptureHostApi.takePictureToFile(imageCaptureIdentifier, path, mockResult);
+
+    final ArgumentCaptor<ImageCapture.OnImageCapturedCallback> callbackCaptor =
+        ArgumentCaptor.forClass(ImageCapture.OnImageCapturedCallback.class);
+    verify(mockImageCapture).takePicture(eq(ioExecutor), callbackCaptor.capture());
+    callbackCaptor.getValue().onCaptureSuccess(createMockImage(new byte[] {7}));
+
+    verify(mockResult).error(writeException);
+    verify(mockResult, never()).success(any());
+  }
+
+  private static ImageProxy createMockImage(byte[] jpegBytes) {
+    final ImageProxy mockImage = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.wrap(jpegBytes));
+    when(mockImage.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    return mockImage;
+  }
+}
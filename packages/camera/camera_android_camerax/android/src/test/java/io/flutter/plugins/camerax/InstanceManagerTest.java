@@ -5,11 +5,21 @@
 package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -74,4 +84,137 @@ public class InstanceManagerTest {
 
     instanceManager.close();
   }
+
+  @Test
+  public void close_releasesStrongReferences() {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+
+    Object object = new Object();
+    final WeakReference<Object> weakReference = new WeakReference<>(object);
+    instanceManager.addDartCreatedInstance(object, 0);
+
+    // To allow for object to be garbage collected.
+    //noinspection UnusedAssignment
+    object = null;
+
+    instanceManager.close();
+    Runtime.getRuntime().gc();
+
+    assertNull(weakReference.get());
+  }
+
+  @Test
+  public void addHostCreatedInstance_fromSeveralThreadsReturnsUniqueIdentifiers()
+      throws InterruptedException {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final int threadCount = 4;
+    final int instancesPerThread = 500;
+    final List<Object> instances = new ArrayList<>();
+    final long[][] addedIdentifiers = new long[threadCount][instancesPerThread];
+    final Thread[] threads = new Thread[threadCount];
+
+    for (int i = 0; i < threadCount * instancesPerThread; i++) {
+      instances.add(new Object());
+    }
+    for (int t = 0; t < threadCount; t++) {
+      final int threadIndex = t;
+      threads[t] =
+          new Thread(
+              () -> {
+                for (int i = 0; i < instancesPerThread; i++) {
+                  addedIdentifiers[threadIndex][i] =
+                      instanceManager.addHostCreatedInstance(
+                          instances.get(threadIndex * instancesPerThread + i));
+                }
+              });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    final Set<Long> uniqueIdentifiers = new HashSet<>();
+    for (int t = 0; t < threadCount; t++) {
+      for (int i = 0; i < instancesPerThread; i++) {
+        final long identifier = addedIdentifiers[t][i];
+        uniqueIdentifiers.add(identifier);
+        assertSame(
+            instances.get(t * instancesPerThread + i), instanceManager.getInstance(identifier));
+      }
+    }
+    assertEquals(threadCount * instancesPerThread, uniqueIdentifiers.size());
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void finalizedInstancesAreReportedToListener() throws InterruptedException {
+    final BlockingQueue<List<Long>> finalizedBatches = new LinkedBlockingQueue<>();
+    final InstanceManager instanceManager =
+        InstanceManager.open(finalizedBatches::add, Runnable::run);
+
+    Object firstObject = new Object();
+    Object secondObject = new Object();
+    instanceManager.addDartCreatedInstance(firstObject, 0);
+    instanceManager.addDartCreatedInstance(secondObject, 1);
+    instanceManager.remove(0);
+    instanceManager.remove(1);
+
+    // To allow for the objects to be garbage collected.
+    //noinspection UnusedAssignment
+    firstObject = null;
+    //noinspection UnusedAssignment
+    secondObject = null;
+
+    final Set<Long> finalizedIdentifiers = waitForFinalizedIdentifiers(finalizedBatches, 2);
+
+    assertEquals(2, finalizedIdentifiers.size());
+    assertTrue(finalizedIdentifiers.contains(0L));
+    assertTrue(finalizedIdentifiers.contains(1L));
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void finalizedInstanceDoesNotReleaseInstanceAddedWithSameIdentifier()
+      throws InterruptedException {
+    final BlockingQueue<List<Long>> finalizedBatches = new LinkedBlockingQueue<>();
+    final InstanceManager instanceManager =
+        InstanceManager.open(finalizedBatches::add, Runnable::run);
+
+    Object replacedObject = new Object();
+    final Object replacingObject = new Object();
+    Object otherObject = new Object();
+    instanceManager.addDartCreatedInstance(replacedObject, 0);
+    instanceManager.addDartCreatedInstance(replacingObject, 0);
+    instanceManager.addDartCreatedInstance(otherObject, 1);
+    instanceManager.remove(1);
+
+    // To allow for the replaced and other objects to be garbage collected.
+    //noinspection UnusedAssignment
+    replacedObject = null;
+    //noinspection UnusedAssignment
+    otherObject = null;
+
+    final Set<Long> finalizedIdentifiers = waitForFinalizedIdentifiers(finalizedBatches, 1);
+
+    assertTrue(finalizedIdentifiers.contains(1L));
+    assertFalse(finalizedIdentifiers.contains(0L));
+    assertSame(replacingObject, instanceManager.getInstance(0));
+
+    instanceManager.close();
+  }
+
+  private static Set<Long> waitForFinalizedIdentifiers(
+      BlockingQueue<List<Long>> finalizedBatches, int count) throws InterruptedException {
+    final Set<Long> finalizedIdentifiers = new HashSet<>();
+    for (int attempt = 0; attempt < 50 && finalizedIdentifiers.size() < count; attempt++) {
+      Runtime.getRuntime().gc();
+      final List<Long> batch = finalizedBatches.poll(100, TimeUnit.MILLISECONDS);
+      if (batch != null) {
+        finalizedIdentifiers.addAll(batch);
+      }
+    }
+    return finalizedIdentifiers;
+  }
 }
@@ -6,6 +6,7 @@ package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -43,6 +44,7 @@ public class PreviewTest {
   @Mock public BinaryMessenger mockBinaryMessenger;
   @Mock public TextureRegistry mockTextureRegistry;
   @Mock public CameraXProxy mockCameraXProxy;
+  @Mock public CameraXExecutors mockCameraXExecutors;
 
   InstanceManager testInstanceManager;
 
@@ -59,7 +61,8 @@ public class PreviewTest {
   @Test
   public void create_createsPreviewWithCorrectConfiguration() {
     final PreviewHostApiImpl previewHostApi =
-        new PreviewHostApiImpl(mockBinaryMessenger, testInstanceManager, mockTextureRegistry);
+        new PreviewHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockTextureRegistry, mockCameraXExecutors);
     final Preview.Builder mockPreviewBuilder = mock(Preview.Builder.class);
     final int targetRotation = 90;
     final int targetResolutionWidth = 10;
@@ -90,7 +93,12 @@ public class PreviewTest {
   @Test
   public void setSurfaceProviderTest_createsSurfaceProviderAndReturnsTextureEntryId() {
     final PreviewHostApiImpl previewHostApi =
-        spy(new PreviewHostApiImpl(mockBinaryMessenger, testInstanceManager, mockTextureRegistry));
+        spy(
+            new PreviewHostApiImpl(
+                mockBinaryMessenger,
+                testInstanceManager,
+                mockTextureRegistry,
+                mockCameraXExecutors));
     final TextureRegistry.SurfaceTextureEntry mockSurfaceTextureEntry =
         mock(TextureRegistry.SurfaceTextureEntry.class);
     final SurfaceTexture mockSurfaceTexture = mock(SurfaceTexture.class);
@@ -118,11 +126,13 @@ public class PreviewTest {
   @Test
   public void createSurfaceProvider_createsExpectedPreviewSurfaceProvider() {
     final PreviewHostApiImpl previewHostApi =
-        new PreviewHostApiImpl(mockBinaryMessenger, testInstanceManager, mockTextureRegistry);
+        new PreviewHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockTextureRegistry, mockCameraXExecutors);
     final SurfaceTexture mockSurfaceTexture = mock(SurfaceTexture.class);
     final Surface mockSurface = mock(Surface.class);
     final SurfaceRequest mockSurfaceRequest = mock(SurfaceRequest.class);
     final SurfaceRequest.Result mockSurfaceRequestResult = mock(SurfaceRequest.Result.class);
+    final Executor mockBackgroundExecutor = mock(Executor.class);
     final SystemServicesFlutterApiImpl mockSystemServicesFlutterApi =
         mock(SystemServicesFlutterApiImpl.class);
     final int resolutionWidth = 200;
@@ -130,6 +140,7 @@ public class PreviewTest {
 
     previewHostApi.cameraXProxy = mockCameraXProxy;
     when(mockCameraXProxy.createSurface(mockSurfaceTexture)).thenReturn(mockSurface);
+    when(mockCameraXExecutors.getBackgroundExecutor()).thenReturn(mockBackgroundExecutor);
     when(mockSurfaceRequest.getResolution())
         .thenReturn(new Size(resolutionWidth, resolutionHeight));
     when(mockCameraXProxy.createSystemServicesFlutterApiImpl(mockBinaryMessenger))
@@ -144,7 +155,8 @@ public class PreviewTest {
 
     verify(mockSurfaceTexture).setDefaultBufferSize(resolutionWidth, resolutionHeight);
     verify(mockSurfaceRequest)
-        .provideSurface(surfaceCaptor.capture(), any(Executor.class), consumerCaptor.capture());
+        .provideSurface(
+            surfaceCaptor.capture(), eq(mockBackgroundExecutor), consumerCaptor.capture());
 
     // Test that the surface derived from the surface texture entry will be provided to the surface request.
     assertEquals(surfaceCaptor.getValue(), mockSurface);
@@ -189,7 +201,8 @@ public class PreviewTest {
   @Test
   public void releaseFlutterSurfaceTexture_makesCallToReleaseFlutterSurfaceTexture() {
     final PreviewHostApiImpl previewHostApi =
-        new PreviewHostApiImpl(mockBinaryMessenger, testInstanceManager, mockTextureRegistry);
+        new PreviewHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockTextureRegistry, mockCameraXExecutors);
     final TextureRegistry.SurfaceTextureEntry mockSurfaceTextureEntry =
         mock(TextureRegistry.SurfaceTextureEntry.class);
 
@@ -202,7 +215,8 @@ public class PreviewTest {
   @Test
   public void getResolutionInfo_makesCallToRetrievePreviewResolutionInfo() {
     final PreviewHostApiImpl previewHostApi =
-        new PreviewHostApiImpl(mockBinaryMessenger, testInstanceManager, mockTextureRegistry);
+        new PreviewHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockTextureRegistry, mockCameraXExecutors);
     final androidx.camera.core.ResolutionInfo mockResolutionInfo =
         mock(androidx.camera.core.ResolutionInfo.class);
     final Long previewIdentifier = 23L;
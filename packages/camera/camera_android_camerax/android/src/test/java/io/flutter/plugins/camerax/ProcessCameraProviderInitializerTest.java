@@ -0,0 +1,119 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import android.content.Context;
+import androidx.camera.lifecycle.ProcessCameraProvider;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderInitializationInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class ProcessCameraProviderInitializerTest {
+  private final Context mockContext = mock(Context.class);
+  private final SettableFuture<ProcessCameraProvider> processCameraProviderFuture =
+      SettableFuture.create();
+  private MockedStatic<ProcessCameraProvider> mockedProcessCameraProvider;
+
+  @Before
+  public void setUp() {
+    mockedProcessCameraProvider = Mockito.mockStatic(ProcessCameraProvider.class);
+    mockedProcessCameraProvider
+        .when(() -> ProcessCameraProvider.getInstance(mockContext))
+        .thenReturn(processCameraProviderFuture);
+  }
+
+  @After
+  public void tearDown() {
+    mockedProcessCameraProvider.close();
+  }
+
+  @Test
+  public void getProcessCameraProviderFuture_reusesEagerlyStartedFuture() {
+    final ProcessCameraProviderInitializer initializer = new ProcessCameraProviderInitializer();
+
+    initializer.startEagerly(mockContext);
+    initializer.startEagerly(mockContext);
+    final ListenableFuture<ProcessCameraProvider> future =
+        initializer.getProcessCameraProviderFuture(mockContext);
+
+    assertSame(processCameraProviderFuture, future);
+    mockedProcessCameraProvider.verify(
+        () -> ProcessCameraProvider.getInstance(mockContext), times(1));
+  }
+
+  @Test
+  public void getInitializationInfo_reportsNothingBeforeInitializationStarts() {
+    final ProcessCameraProviderInitializer initializer = new ProcessCameraProviderInitializer();
+
+    final ProcessCameraProviderInitializationInfo info = initializer.getInitializationInfo();
+
+    assertFalse(info.getStartedEagerly());
+    assertNull(info.getInitializationMillis());
+    assertEquals(Long.valueOf(0), info.getOverlappedMillis());
+  }
+
+  @Test
+  public void getInitializationInfo_reportsWholeInitializationAsOverlappedWhenDoneBeforeRequest()
+      throws InterruptedException {
+    final ProcessCameraProviderInitializer initializer = new ProcessCameraProviderInitializer();
+
+    initializer.startEagerly(mockContext);
+    assertNull(initializer.getInitializationInfo().getInitializationMillis());
+
+    Thread.sleep(5);
+    processCameraProviderFuture.set(mock(ProcessCameraProvider.class));
+    Thread.sleep(5);
+    initializer.getProcessCameraProviderFuture(mockContext);
+
+    final ProcessCameraProviderInitializationInfo info = initializer.getInitializationInfo();
+    assertTrue(info.getStartedEagerly());
+    assertNotNull(info.getInitializationMillis());
+    assertTrue(info.getInitializationMillis() >= 5);
+    assertEquals(info.getInitializationMillis(), info.getOverlappedMillis());
+  }
+
+  @Test
+  public void getInitializationInfo_reportsTimeBeforeRequestAsOverlapped()
+      throws InterruptedException {
+    final ProcessCameraProviderInitializer initializer = new ProcessCameraProviderInitializer();
+
+    initializer.startEagerly(mockContext);
+    Thread.sleep(5);
+    initializer.getProcessCameraProviderFuture(mockContext);
+    Thread.sleep(5);
+    processCameraProviderFuture.set(mock(ProcessCameraProvider.class));
+
+    final ProcessCameraProviderInitializationInfo info = initializer.getInitializationInfo();
+    assertTrue(info.getOverlappedMillis() >= 5);
+    assertTrue(info.getOverlappedMillis() < info.getInitializationMillis());
+  }
+
+  @Test
+  public void getInitializationInfo_reportsNoOverlapWhenNotStartedEagerly() {
+    final ProcessCameraProviderInitializer initializer = new ProcessCameraProviderInitializer();
+
+    initializer.getProcessCameraProviderFuture(mockContext);
+    processCameraProviderFuture.set(mock(ProcessCameraProvider.class));
+
+    final ProcessCameraProviderInitializationInfo info = initializer.getInitializationInfo();
+    assertFalse(info.getStartedEagerly());
+    assertNotNull(info.getInitializationMillis());
+    assertEquals(Long.valueOf(0), info.getOverlappedMillis());
+  }
+}
@@ -23,6 +23,7 @@ import androidx.test.core.app.ApplicationProvider;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderInitializationInfo;
 import java.util.Arrays;
 import java.util.Objects;
 import org.junit.After;
@@ -32,11 +33,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
-import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
 
 @RunWith(RobolectricTestRunner.class)
@@ -45,6 +43,7 @@ public class ProcessCameraProviderTest {
 
   @Mock public ProcessCameraProvider processCameraProvider;
   @Mock public BinaryMessenger mockBinaryMessenger;
+  @Mock public ProcessCameraProviderInitializer mockProcessCameraProviderInitializer;
 
   InstanceManager testInstanceManager;
   private Context context;
@@ -63,7 +62,11 @@ public class ProcessCameraProviderTest {
   @Test
   public void getInstanceTest() {
     final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
-        new ProcessCameraProviderHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+        new ProcessCameraProviderHostApiImpl(
+            mockBinaryMessenger,
+            testInstanceManager,
+            context,
+            mockProcessCameraProviderInitializer);
     final ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
         spy(Futures.immediateFuture(processCameraProvider));
     final GeneratedCameraXLibrary.Result<Long> mockResult =
@@ -71,21 +74,36 @@ public class ProcessCameraProviderTest {
 
     testInstanceManager.addDartCreatedInstance(processCameraProvider, 0);
 
-    try (MockedStatic<ProcessCameraProvider> mockedProcessCameraProvider =
-        Mockito.mockStatic(ProcessCameraProvider.class)) {
-      mockedProcessCameraProvider
-          .when(() -> ProcessCameraProvider.getInstance(context))
-          .thenAnswer(
-              (Answer<ListenableFuture<ProcessCameraProvider>>)
-                  invocation -> processCameraProviderFuture);
-
-      final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
-
-      processCameraProviderHostApi.getInstance(mockResult);
-      verify(processCameraProviderFuture).addListener(runnableCaptor.capture(), any());
-      runnableCaptor.getValue().run();
-      verify(mockResult).success(0L);
-    }
+    when(mockProcessCameraProviderInitializer.getProcessCameraProviderFuture(context))
+        .thenReturn(processCameraProviderFuture);
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    processCameraProviderHostApi.getInstance(mockResult);
+    verify(processCameraProviderFuture).addListener(runnableCaptor.capture(), any());
+    runnableCaptor.getValue().run();
+    verify(mockResult).success(0L);
+  }
+
+  @Test
+  public void getInitializationInfoTest() {
+    final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
+        new ProcessCameraProviderHostApiImpl(
+            mockBinaryMessenger,
+            testInstanceManager,
+            context,
+            mockProcessCameraProviderInitializer);
+    final ProcessCameraProviderInitializationInfo initializationInfo =
+        new ProcessCameraProviderInitializationInfo.Builder()
+            .setStartedEagerly(true)
+            .setInitializationMillis(200L)
+            .setOverlappedMillis(150L)
+            .build();
+
+    when(mockProcessCameraProviderInitializer.getInitializationInfo())
+        .thenReturn(initializationInfo);
+
+    assertEquals(processCameraProviderHostApi.getInitializationInfo(), initializationInfo);
   }
 
   @Test
@@ -0,0 +1,82 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.when;
+
+import androidx.camera.video.FallbackStrategy;
+import androidx.camera.video.Quality;
+import androidx.camera.video.QualitySelector;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class QualitySelectorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public QualitySelector mockQualitySelector;
+  @Mock public CameraXProxy mockCameraXProxy;
+
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.open(identifier -> {});
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.close();
+  }
+
+  @Test
+  public void create_createsQualitySelectorWithOrderedQualities() {
+    final QualitySelectorHostApiImpl qualitySelectorHostApi =
+        new QualitySelectorHostApiImpl(testInstanceManager);
+    qualitySelectorHostApi.cameraXProxy = mockCameraXProxy;
+
+    when(mockCameraXProxy.createQualitySelector(Arrays.asList(Quality.UHD, Quality.FHD), null))
+        .thenReturn(mockQualitySelector);
+
+    qualitySelectorHostApi.create(
+        4L,
+        Arrays.asList(
+            QualitySelectorHostApiImpl.QUALITY_UHD, QualitySelectorHostApiImpl.QUALITY_FHD),
+        null,
+        null);
+    assertEquals(testInstanceManager.getInstance(4L), mockQualitySelector);
+  }
+
+  @Test
+  public void create_createsQualitySelectorWithFallbackStrategy() {
+    final QualitySelectorHostApiImpl qualitySelectorHostApi =
+        new QualitySelectorHostApiImpl(testInstanceManager);
+    qualitySelectorHostApi.cameraXProxy = mockCameraXProxy;
+    final FallbackStrategy fallbackStrategy = FallbackStrategy.lowerQualityOrHigherThan(Quality.HD);
+
+    when(mockCameraXProxy.createQualitySelector(Arrays.asList(Quality.FHD), fallbackStrategy))
+        .thenReturn(mockQualitySelector);
+
+    qualitySelectorHostApi.create(
+        5L,
+        Arrays.asList(QualitySelectorHostApiImpl.QUALITY_FHD),
+        QualitySelectorHostApiImpl.FALLBACK_RULE_LOWER_QUALITY_OR_HIGHER_THAN,
+        QualitySelectorHostApiImpl.QUALITY_HD);
+
+    assertEquals(testInstanceManager.getInstance(5L), mockQualitySelector);
+  }
+
+  @Test
+  public void getQuality_throwsForUnknownQuality() {
+    assertThrows(IllegalArgumentException.class, () -> QualitySelectorHostApiImpl.getQuality(6L));
+  }
+}
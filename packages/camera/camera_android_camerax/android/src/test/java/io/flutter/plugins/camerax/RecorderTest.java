@@ -0,0 +1,140 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import androidx.camera.video.FileOutputOptions;
+import androidx.camera.video.PendingRecording;
+import androidx.camera.video.QualitySelector;
+import androidx.camera.video.Recorder;
+import androidx.camera.video.Recording;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.util.concurrent.Executor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class RecorderTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Recorder mockRecorder;
+  @Mock public Recorder.Builder mockRecorderBuilder;
+  @Mock public BinaryMessenger mockBinaryMessenger;
+  @Mock public CameraXProxy mockCameraXProxy;
+  @Mock public CameraXExecutors mockCameraXExecutors;
+  @Mock public Context mockContext;
+
+  InstanceManager testInstanceManager;
+
+  private final Executor mainThreadExecutor = Runnable::run;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.open(identifier -> {});
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.close();
+  }
+
+  @Test
+  public void create_createsRecorderWithQualitySelector() {
+    final RecorderHostApiImpl recorderHostApi =
+        new RecorderHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors, mockContext);
+    final QualitySelector mockQualitySelector = mock(QualitySelector.class);
+    recorderHostApi.cameraXProxy = mockCameraXProxy;
+
+    testInstanceManager.addDartCreatedInstance(mockQualitySelector, 1);
+    when(mockCameraXProxy.createRecorderBuilder()).thenReturn(mockRecorderBuilder);
+    when(mockRecorderBuilder.build()).thenReturn(mockRecorder);
+
+    recorderHostApi.create(2L, 1L);
+
+    verify(mockRecorderBuilder).setQualitySelector(mockQualitySelector);
+    assertEquals(testInstanceManager.getInstance(2L), mockRecorder);
+  }
+
+  @Test
+  public void create_createsRecorderWithDefaultQualitySelector() {
+    final RecorderHostApiImpl recorderHostApi =
+        new RecorderHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors, mockContext);
+    recorderHostApi.cameraXProxy = mockCameraXProxy;
+
+    when(mockCameraXProxy.createRecorderBuilder()).thenReturn(mockRecorderBuilder);
+    when(mockRecorderBuilder.build()).thenReturn(mockRecorder);
+
+    recorderHostApi.create(2L, null);
+
+    verify(mockRecorderBuilder, never()).setQualitySelector(any());
+    assertEquals(testInstanceManager.getInstance(2L), mockRecorder);
+  }
+
+  @Test
+  public void start_startsRecordingToFileOnMainThread() {
+    final RecorderHostApiImpl recorderHostApi =
+        new RecorderHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors, mockContext);
+    final FileOutputOptions mockFileOutputOptions = mock(FileOutputOptions.class);
+    final PendingRecording mockPendingRecording = mock(PendingRecording.class);
+    final Recording mockRecording = mock(Recording.class);
+    final RecordingFlutterApiImpl mockRecordingFlutterApi = mock(RecordingFlutterApiImpl.class);
+    final String path = "/test/video.mp4";
+    recorderHostApi.cameraXProxy = mockCameraXProxy;
+
+    testInstanceManager.addDartCreatedInstance(mockRecorder, 2);
+    when(mockCameraXProxy.createFileOutputOptions(path)).thenReturn(mockFileOutputOptions);
+    when(mockCameraXProxy.createRecordingFlutterApiImpl(mockBinaryMessenger))
+        .thenReturn(mockRecordingFlutterApi);
+    when(mockRecorder.prepareRecording(mockContext, mockFileOutputOptions))
+        .thenReturn(mockPendingRecording);
+    when(mockCameraXExecutors.getMainThreadExecutor()).thenReturn(mainThreadExecutor);
+    when(mockPendingRecording.start(eq(mainThreadExecutor), any())).thenReturn(mockRecording);
+
+    recorderHostApi.start(2L, 3L, path, 500L);
+
+    final ArgumentCaptor<VideoRecordEventListener> listenerCaptor =
+        ArgumentCaptor.forClass(VideoRecordEventListener.class);
+    verify(mockPendingRecording).start(eq(mainThreadExecutor), listenerCaptor.capture());
+    assertEquals(testInstanceManager.getInstance(3L), mockRecording);
+  }
+
+  @Test
+  public void setContext_preparesRecordingsWithNewContext() {
+    final RecorderHostApiImpl recorderHostApi =
+        new RecorderHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockCameraXExecutors, mockContext);
+    final Context mockNewContext = mock(Context.class);
+    final FileOutputOptions mockFileOutputOptions = mock(FileOutputOptions.class);
+    final PendingRecording mockPendingRecording = mock(PendingRecording.class);
+    recorderHostApi.cameraXProxy = mockCameraXProxy;
+
+    testInstanceManager.addDartCreatedInstance(mockRecorder, 2);
+    when(mockCameraXProxy.createFileOutputOptions(any())).thenReturn(mockFileOutputOptions);
+    when(mockRecorder.prepareRecording(mockNewContext, mockFileOutputOptions))
+        .thenReturn(mockPendingRecording);
+    when(mockPendingRecording.start(any(), any())).thenReturn(mock(Recording.class));
+
+    recorderHostApi.setContext(mockNewContext);
+    recorderHostApi.start(2L, 3L, "/test/video.mp4", 500L);
+
+    verify(mockRecorder).prepareRecording(mockNewContext, mockFileOutputOptions);
+  }
+}
@@ -0,0 +1,129 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import androidx.camera.video.OutputResults;
+import androidx.camera.video.Recording;
+import androidx.camera.video.RecordingStats;
+import androidx.camera.video.VideoRecordEvent;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoRecordEventData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class RecordingTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Recording mockRecording;
+  @Mock public RecordingFlutterApiImpl mockRecordingFlutterApi;
+  @Mock public RecordingStats mockRecordingStats;
+
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.open(identifier -> {});
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.close();
+  }
+
+  @Test
+  public void pauseResumeAndStop_callsRecording() {
+    final RecordingHostApiImpl recordingHostApi = new RecordingHostApiImpl(testInstanceManager);
+    testInstanceManager.addDartCreatedInstance(mockRecording, 3);
+
+    recordingHostApi.pause(3L);
+    verify(mockRecording).pause();
+
+    recordingHostApi.resume(3L);
+    verify(mockRecording).resume();
+
+    recordingHostApi.stop(3L);
+    verify(mockRecording).stop();
+  }
+
+  @Test
+  public void eventListener_throttlesStatusEvents() {
+    final VideoRecordEventListener eventListener =
+        new VideoRecordEventListener(3L, mockRecordingFlutterApi, 1000L);
+
+    eventListener.accept(createEvent(VideoRecordEvent.Start.class, 0L));
+    eventListener.accept(createEvent(VideoRecordEvent.Status.class, 30L));
+    eventListener.accept(createEvent(VideoRecordEvent.Status.class, 999L));
+    eventListener.accept(createEvent(VideoRecordEvent.Status.class, 1000L));
+    eventListener.accept(createEvent(VideoRecordEvent.Status.class, 1500L));
+    eventListener.accept(createEvent(VideoRecordEvent.Pause.class, 1600L));
+    eventListener.accept(createEvent(VideoRecordEvent.Resume.class, 1700L));
+    eventListener.accept(createEvent(VideoRecordEvent.Status.class, 1800L));
+    eventListener.accept(createEvent(VideoRecordEvent.Status.class, 2700L));
+
+    final ArgumentCaptor<VideoRecordEventData> eventCaptor =
+        ArgumentCaptor.forClass(VideoRecordEventData.class);
+    verify(mockRecordingFlutterApi, times(5))
+        .sendVideoRecordEvent(eq(3L), eventCaptor.capture(), any());
+    final List<VideoRecordEventData> events = eventCaptor.getAllValues();
+    assertEquals(events.get(0).getEventType(), (Long) VideoRecordEventListener.EVENT_TYPE_START);
+    assertEquals(events.get(1).getEventType(), (Long) VideoRecordEventListener.EVENT_TYPE_STATUS);
+    assertEquals(events.get(2).getEventType(), (Long) VideoRecordEventListener.EVENT_TYPE_PAUSE);
+    assertEquals(events.get(3).getEventType(), (Long) VideoRecordEventListener.EVENT_TYPE_RESUME);
+    assertEquals(events.get(4).getEventType(), (Long) VideoRecordEventListener.EVENT_TYPE_STATUS);
+  }
+
+  @Test
+  public void eventListener_sendsRecordingStatsAndOutputOfFinalizeEvent() {
+    final VideoRecordEventListener eventListener =
+        new VideoRecordEventListener(3L, mockRecordingFlutterApi, 1000L);
+    final VideoRecordEvent.Finalize mockFinalizeEvent =
+        createEvent(VideoRecordEvent.Finalize.class, 5000L);
+    final OutputResults mockOutputResults = mock(OutputResults.class);
+    final Uri mockUri = mock(Uri.class);
+
+    when(mockRecordingStats.getRecordedDurationNanos()).thenReturn(4000000000L);
+    when(mockRecordingStats.getNumBytesRecorded()).thenReturn(1024L);
+    when(mockFinalizeEvent.getOutputResults()).thenReturn(mockOutputResults);
+    when(mockOutputResults.getOutputUri()).thenReturn(mockUri);
+    when(mockUri.toString()).thenReturn("file:///test/video.mp4");
+    when(mockFinalizeEvent.hasError()).thenReturn(false);
+
+    eventListener.accept(mockFinalizeEvent);
+
+    final ArgumentCaptor<VideoRecordEventData> eventCaptor =
+        ArgumentCaptor.forClass(VideoRecordEventData.class);
+    verify(mockRecordingFlutterApi).sendVideoRecordEvent(eq(3L), eventCaptor.capture(), any());
+    final VideoRecordEventData event = eventCaptor.getValue();
+    assertEquals(event.getEventType(), (Long) VideoRecordEventListener.EVENT_TYPE_FINALIZE);
+    assertEquals(event.getRecordedDurationNanos(), (Long) 4000000000L);
+    assertEquals(event.getNumBytesRecorded(), (Long) 1024L);
+    assertEquals(event.getOutputUri(), "file:///test/video.mp4");
+    assertNull(event.getError());
+  }
+
+  private <T extends VideoRecordEvent> T createEvent(Class<T> eventClass, long timestampMillis) {
+    final T mockEvent = mock(eventClass);
+    when(mockEvent.getTimestampNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(timestampMillis));
+    when(mockEvent.getRecordingStats()).thenReturn(mockRecordingStats);
+    return mockEvent;
+  }
+}
@@ -0,0 +1,52 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+import androidx.camera.video.Recorder;
+import androidx.camera.video.VideoCapture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class VideoCaptureTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Recorder mockRecorder;
+  @Mock public VideoCapture<Recorder> mockVideoCapture;
+  @Mock public CameraXProxy mockCameraXProxy;
+
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.open(identifier -> {});
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.close();
+  }
+
+  @Test
+  public void create_createsVideoCaptureWithRecorderOutput() {
+    final VideoCaptureHostApiImpl videoCaptureHostApi =
+        new VideoCaptureHostApiImpl(testInstanceManager);
+    videoCaptureHostApi.cameraXProxy = mockCameraXProxy;
+
+    testInstanceManager.addDartCreatedInstance(mockRecorder, 2);
+    when(mockCameraXProxy.createVideoCapture(mockRecorder)).thenReturn(mockVideoCapture);
+
+    videoCaptureHostApi.create(5L, 2L);
+
+    assertEquals(testInstanceManager.getInstance(5L), mockVideoCapture);
+  }
+}
@@ -11,6 +11,7 @@ import 'package:stream_transform/stream_transform.dart';
 import 'camera.dart';
 import 'camera_info.dart';
 import 'camera_selector.dart';
+import 'camera_use_case_graph.dart';
 import 'camerax_library.g.dart';
 import 'preview.dart';
 import 'process_camera_provider.dart';
@@ -118,6 +119,9 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// To return the camera ID, which is equivalent to the ID of the surface texture
   /// that a camera preview can be drawn to, a [Preview] instance is configured
   /// and bound to the [ProcessCameraProvider] instance.
+  ///
+  /// The [CameraSelector] and [Preview] are created, the surface provider is
+  /// set and the [Preview] is bound in a single [CameraUseCaseGraph] message.
   @override
   Future<int> createCamera(
     CameraDescription cameraDescription,
@@ -127,30 +131,33 @@ class AndroidCameraCameraX extends CameraPlatform {
     // Must obtain proper permissions before attempting to access a camera.
     await requestCameraPermissions(enableAudio);
 
-    // Save CameraSelector that matches cameraDescription.
     final int cameraSelectorLensDirection =
         _getCameraSelectorLensDirection(cameraDescription.lensDirection);
     final bool cameraIsFrontFacing =
         cameraSelectorLensDirection == CameraSelector.lensFacingFront;
-    cameraSelector = createCameraSelector(cameraSelectorLensDirection);
     // Start listening for device orientation changes preceding camera creation.
     startListeningForDeviceOrientationChange(
         cameraIsFrontFacing, cameraDescription.sensorOrientation);
 
-    // Retrieve a ProcessCameraProvider instance.
-    processCameraProvider ??= await ProcessCameraProvider.getInstance();
-
-    // Configure Preview instance and bind to ProcessCameraProvider.
+    // Configure the CameraSelector that matches cameraDescription and the
+    // Preview instance, and bind them to the ProcessCameraProvider.
     final int targetRotation =
         _getTargetRotation(cameraDescription.sensorOrientation);
     final ResolutionInfo? targetResolution =
         _getTargetResolutionForPreview(resolutionPreset);
-    preview = createPreview(targetRotation, targetResolution);
-    previewIsBound = false;
+    final CameraUseCaseGraph useCaseGraph = createCameraUseCaseGraph(
+        cameraSelectorLensDirection, targetRotation, targetResolution);
+    final CameraUseCaseGraphBinding binding =
+        await useCaseGraph.createAndBind();
+
+    cameraSelector = useCaseGraph.cameraSelector;
+    preview = useCaseGraph.preview;
+    processCameraProvider = binding.processCameraProvider;
+    camera = binding.camera;
+    previewIsBound = true;
     _previewIsPaused = false;
-    final int flutterSurfaceTextureId = await preview!.setSurfaceProvider();
 
-    return flutterSurfaceTextureId;
+    return binding.flutterSurfaceTextureId;
   }
 
   /// Initializes the camera on the device.
@@ -372,11 +379,17 @@ class AndroidCameraCameraX extends CameraPlatform {
     }
   }
 
-  /// Returns a [Preview] configured with the specified target rotation and
-  /// resolution.
+  /// Returns a [CameraUseCaseGraph] of a [CameraSelector] for the specified
+  /// camera lens direction and a [Preview] configured with the specified
+  /// target rotation and resolution.
   @visibleForTesting
-  Preview createPreview(int targetRotation, ResolutionInfo? targetResolution) {
-    return Preview(
-        targetRotation: targetRotation, targetResolution: targetResolution);
+  CameraUseCaseGraph createCameraUseCaseGraph(int cameraSelectorLensDirection,
+      int targetRotation, ResolutionInfo? targetResolution) {
+    return CameraUseCaseGraph(
+        cameraSelector:
+            CameraSelector.detached(lensFacing: cameraSelectorLensDirection),
+        preview: Preview.detached(
+            targetRotation: targetRotation,
+            targetResolution: targetResolution));
   }
 }
@@ -6,8 +6,10 @@ import 'camera.dart';
 import 'camera_info.dart';
 import 'camera_selector.dart';
 import 'camerax_library.g.dart';
+import 'image_analysis.dart';
 import 'java_object.dart';
 import 'process_camera_provider.dart';
+import 'recording.dart';
 import 'system_services.dart';
 
 /// Handles initialization of Flutter APIs for the Android CameraX library.
@@ -20,6 +22,8 @@ class AndroidCameraXCameraFlutterApis {
     CameraSelectorFlutterApiImpl? cameraSelectorFlutterApi,
     ProcessCameraProviderFlutterApiImpl? processCameraProviderFlutterApi,
     SystemServicesFlutterApiImpl? systemServicesFlutterApi,
+    ImageAnalysisFlutterApiImpl? imageAnalysisFlutterApi,
+    RecordingFlutterApiImpl? recordingFlutterApi,
   }) {
     this.javaObjectFlutterApi =
         javaObjectFlutterApi ?? JavaObjectFlutterApiImpl();
@@ -32,6 +36,9 @@ class AndroidCameraXCameraFlutterApis {
     this.cameraFlutterApi = cameraFlutterApi ?? CameraFlutterApiImpl();
     this.systemServicesFlutterApi =
         systemServicesFlutterApi ?? SystemServicesFlutterApiImpl();
+    this.imageAnalysisFlutterApi =
+        imageAnalysisFlutterApi ?? ImageAnalysisFlutterApiImpl();
+    this.recordingFlutterApi = recordingFlutterApi ?? RecordingFlutterApiImpl();
   }
 
   static bool _haveBeenSetUp = false;
@@ -61,6 +68,12 @@ class AndroidCameraXCameraFlutterApis {
   /// Flutter Api for [SystemServices].
   late final SystemServicesFlutterApiImpl systemServicesFlutterApi;
 
+  /// Flutter Api for [ImageAnalysis].
+  late final ImageAnalysisFlutterApiImpl imageAnalysisFlutterApi;
+
+  /// Flutter Api for [Recording].
+  late final RecordingFlutterApiImpl recordingFlutterApi;
+
   /// Ensures all the Flutter APIs have been setup to receive calls from native code.
   void ensureSetUp() {
     if (!_haveBeenSetUp) {
@@ -70,6 +83,8 @@ class AndroidCameraXCameraFlutterApis {
       ProcessCameraProviderFlutterApi.setup(processCameraProviderFlutterApi);
       CameraFlutterApi.setup(cameraFlutterApi);
       SystemServicesFlutterApi.setup(systemServicesFlutterApi);
+      ImageAnalysisFlutterApi.setup(imageAnalysisFlutterApi);
+      RecordingFlutterApi.setup(recordingFlutterApi);
       _haveBeenSetUp = true;
     }
   }
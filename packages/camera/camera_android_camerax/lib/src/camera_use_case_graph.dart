@@ -0,0 +1,174 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camera.dart';
+import 'camera_selector.dart';
+import 'camerax_library.g.dart';
+import 'image_analysis.dart';
+import 'image_capture.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+import 'preview.dart';
+import 'process_camera_provider.dart';
+
+/// The camera selector and use cases that make up a camera session.
+///
+/// Unlike creating each of these objects and binding them separately, which
+/// takes one message to the Java side per object, [createAndBind] creates all
+/// of them and binds them to the lifecycle in a single message.
+class CameraUseCaseGraph {
+  /// Creates a [CameraUseCaseGraph] from detached instances that have not yet
+  /// been created on the Java side.
+  CameraUseCaseGraph(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      required this.cameraSelector,
+      required this.preview,
+      this.imageCapture,
+      this.imageAnalysis}) {
+    _api = CameraUseCaseGraphHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  late final CameraUseCaseGraphHostApiImpl _api;
+
+  /// Selects the camera the use cases are bound to.
+  final CameraSelector cameraSelector;
+
+  /// Use case providing the camera preview stream.
+  final Preview preview;
+
+  /// Use case for taking pictures, if any.
+  final ImageCapture? imageCapture;
+
+  /// Use case for analyzing images, if any.
+  final ImageAnalysis? imageAnalysis;
+
+  /// Creates the camera selector and use cases on the Java side, sets the
+  /// surface provider of [preview], and binds the use cases to the lifecycle
+  /// if [bindToLifecycle] is true.
+  Future<CameraUseCaseGraphBinding> createAndBind(
+      {bool bindToLifecycle = true}) {
+    return _api.createAndBindFromInstances(this, bindToLifecycle);
+  }
+}
+
+/// The objects created by [CameraUseCaseGraph.createAndBind].
+class CameraUseCaseGraphBinding {
+  /// Constructs a [CameraUseCaseGraphBinding].
+  CameraUseCaseGraphBinding(
+      {required this.processCameraProvider,
+      required this.flutterSurfaceTextureId,
+      this.camera});
+
+  /// The [ProcessCameraProvider] the use cases were bound with.
+  final ProcessCameraProvider processCameraProvider;
+
+  /// ID of the Flutter texture the preview stream is rendered to.
+  final int flutterSurfaceTextureId;
+
+  /// The [Camera] the use cases were bound to, or null if they were not
+  /// bound to the lifecycle.
+  final Camera? camera;
+}
+
+/// Host API implementation of [CameraUseCaseGraph].
+class CameraUseCaseGraphHostApiImpl extends CameraUseCaseGraphHostApi {
+  /// Constructs a [CameraUseCaseGraphHostApiImpl].
+  CameraUseCaseGraphHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager})
+      : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Creates the objects of the specified [CameraUseCaseGraph] on the Java
+  /// side and binds them to the lifecycle if [bindToLifecycle] is true.
+  Future<CameraUseCaseGraphBinding> createAndBindFromInstances(
+      CameraUseCaseGraph instance, bool bindToLifecycle) async {
+    final CameraSelector cameraSelector = instance.cameraSelector;
+    final Preview preview = instance.preview;
+    final ImageCapture? imageCapture = instance.imageCapture;
+    final ImageAnalysis? imageAnalysis = instance.imageAnalysis;
+
+    final int cameraSelectorIdentifier = instanceManager
+        .addDartCreatedInstance(cameraSelector,
+            onCopy: (CameraSelector original) {
+      return CameraSelector.detached(
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+          lensFacing: original.lensFacing);
+    });
+    final int previewIdentifier =
+        instanceManager.addDartCreatedInstance(preview,
+            onCopy: (Preview original) {
+      return Preview.detached(
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+          targetRotation: original.targetRotation,
+          targetResolution: original.targetResolution);
+    });
+    final CameraUseCaseGraphRequest request = CameraUseCaseGraphRequest(
+      cameraSelectorIdentifier: cameraSelectorIdentifier,
+      lensFacing: cameraSelector.lensFacing,
+      previewIdentifier: previewIdentifier,
+      previewTargetRotation: preview.targetRotation,
+      previewTargetResolution: preview.targetResolution,
+      bindToLifecycle: bindToLifecycle,
+    );
+
+    if (imageCapture != null) {
+      request.imageCaptureIdentifier =
+          instanceManager.addDartCreatedInstance(imageCapture,
+              onCopy: (ImageCapture original) {
+        return ImageCapture.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager,
+            captureMode: original.captureMode,
+            targetResolution: original.targetResolution);
+      });
+      request.imageCaptureMode = imageCapture.captureMode;
+      request.imageCaptureTargetResolution = imageCapture.targetResolution;
+    }
+
+    if (imageAnalysis != null) {
+      request.imageAnalysisIdentifier =
+          instanceManager.addDartCreatedInstance(imageAnalysis,
+              onCopy: (ImageAnalysis original) {
+        return ImageAnalysis.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager,
+            outputImageFormat: original.outputImageFormat,
+            targetResolution: original.targetResolution);
+      });
+      request.imageAnalysisOutputImageFormat = imageAnalysis.outputImageFormat;
+      request.imageAnalysisTargetResolution = imageAnalysis.targetResolution;
+    }
+
+    final CameraUseCaseGraphResult result = await createAndBind(request);
+    final int? cameraIdentifier = result.cameraIdentifier;
+
+    return CameraUseCaseGraphBinding(
+      processCameraProvider: instanceManager.getInstanceWithWeakReference(
+          result.processCameraProviderIdentifier)! as ProcessCameraProvider,
+      flutterSurfaceTextureId: result.flutterSurfaceTextureId,
+      camera: cameraIdentifier == null
+          ? null
+          : instanceManager.getInstanceWithWeakReference(cameraIdentifier)!
+              as Camera,
+    );
+  }
+}
@@ -60,6 +60,265 @@ class CameraPermissionsErrorData {
   }
 }
 
+class ImageFrameData {
+  ImageFrameData({
+    required this.width,
+    required this.height,
+    required this.format,
+    required this.rotationDegrees,
+    required this.timestamp,
+    required this.planes,
+    required this.bytesPerRow,
+    required this.bytesPerPixel,
+  });
+
+  int width;
+  int height;
+  int format;
+  int rotationDegrees;
+  int timestamp;
+  List<Uint8List?> planes;
+  List<int?> bytesPerRow;
+  List<int?> bytesPerPixel;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['width'] = width;
+    pigeonMap['height'] = height;
+    pigeonMap['format'] = format;
+    pigeonMap['rotationDegrees'] = rotationDegrees;
+    pigeonMap['timestamp'] = timestamp;
+    pigeonMap['planes'] = planes;
+    pigeonMap['bytesPerRow'] = bytesPerRow;
+    pigeonMap['bytesPerPixel'] = bytesPerPixel;
+    return pigeonMap;
+  }
+
+  static ImageFrameData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return ImageFrameData(
+      width: pigeonMap['width']! as int,
+      height: pigeonMap['height']! as int,
+      format: pigeonMap['format']! as int,
+      rotationDegrees: pigeonMap['rotationDegrees']! as int,
+      timestamp: pigeonMap['timestamp']! as int,
+      planes: (pigeonMap['planes'] as List<Object?>?)!.cast<Uint8List?>(),
+      bytesPerRow: (pigeonMap['bytesPerRow'] as List<Object?>?)!.cast<int?>(),
+      bytesPerPixel:
+          (pigeonMap['bytesPerPixel'] as List<Object?>?)!.cast<int?>(),
+    );
+  }
+}
+
+class ImageCaptureResultData {
+  ImageCaptureResultData({
+    this.bytes,
+    this.path,
+    required this.captureLatencyMillis,
+    this.saveLatencyMillis,
+  });
+
+  Uint8List? bytes;
+  String? path;
+  int captureLatencyMillis;
+  int? saveLatencyMillis;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['bytes'] = bytes;
+    pigeonMap['path'] = path;
+    pigeonMap['captureLatencyMillis'] = captureLatencyMillis;
+    pigeonMap['saveLatencyMillis'] = saveLatencyMillis;
+    return pigeonMap;
+  }
+
+  static ImageCaptureResultData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return ImageCaptureResultData(
+      bytes: pigeonMap['bytes'] as Uint8List?,
+      path: pigeonMap['path'] as String?,
+      captureLatencyMillis: pigeonMap['captureLatencyMillis']! as int,
+      saveLatencyMillis: pigeonMap['saveLatencyMillis'] as int?,
+    );
+  }
+}
+
+class ProcessCameraProviderInitializationInfo {
+  ProcessCameraProviderInitializationInfo({
+    required this.startedEagerly,
+    this.initializationMillis,
+    required this.overlappedMillis,
+  });
+
+  bool startedEagerly;
+  int? initializationMillis;
+  int overlappedMillis;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['startedEagerly'] = startedEagerly;
+    pigeonMap['initializationMillis'] = initializationMillis;
+    pigeonMap['overlappedMillis'] = overlappedMillis;
+    return pigeonMap;
+  }
+
+  static ProcessCameraProviderInitializationInfo decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return ProcessCameraProviderInitializationInfo(
+      startedEagerly: pigeonMap['startedEagerly']! as bool,
+      initializationMillis: pigeonMap['initializationMillis'] as int?,
+      overlappedMillis: pigeonMap['overlappedMillis']! as int,
+    );
+  }
+}
+
+class CameraUseCaseGraphRequest {
+  CameraUseCaseGraphRequest({
+    required this.cameraSelectorIdentifier,
+    this.lensFacing,
+    required this.previewIdentifier,
+    this.previewTargetRotation,
+    this.previewTargetResolution,
+    this.imageCaptureIdentifier,
+    this.imageCaptureMode,
+    this.imageCaptureTargetResolution,
+    this.imageAnalysisIdentifier,
+    this.imageAnalysisOutputImageFormat,
+    this.imageAnalysisTargetResolution,
+    required this.bindToLifecycle,
+  });
+
+  int cameraSelectorIdentifier;
+  int? lensFacing;
+  int previewIdentifier;
+  int? previewTargetRotation;
+  ResolutionInfo? previewTargetResolution;
+  int? imageCaptureIdentifier;
+  int? imageCaptureMode;
+  ResolutionInfo? imageCaptureTargetResolution;
+  int? imageAnalysisIdentifier;
+  int? imageAnalysisOutputImageFormat;
+  ResolutionInfo? imageAnalysisTargetResolution;
+  bool bindToLifecycle;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['cameraSelectorIdentifier'] = cameraSelectorIdentifier;
+    pigeonMap['lensFacing'] = lensFacing;
+    pigeonMap['previewIdentifier'] = previewIdentifier;
+    pigeonMap['previewTargetRotation'] = previewTargetRotation;
+    pigeonMap['previewTargetResolution'] = previewTargetResolution?.encode();
+    pigeonMap['imageCaptureIdentifier'] = imageCaptureIdentifier;
+    pigeonMap['imageCaptureMode'] = imageCaptureMode;
+    pigeonMap['imageCaptureTargetResolution'] =
+        imageCaptureTargetResolution?.encode();
+    pigeonMap['imageAnalysisIdentifier'] = imageAnalysisIdentifier;
+    pigeonMap['imageAnalysisOutputImageFormat'] =
+        imageAnalysisOutputImageFormat;
+    pigeonMap['imageAnalysisTargetResolution'] =
+        imageAnalysisTargetResolution?.encode();
+    pigeonMap['bindToLifecycle'] = bindToLifecycle;
+    return pigeonMap;
+  }
+
+  static CameraUseCaseGraphRequest decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CameraUseCaseGraphRequest(
+      cameraSelectorIdentifier: pigeonMap['cameraSelectorIdentifier']! as int,
+      lensFacing: pigeonMap['lensFacing'] as int?,
+      previewIdentifier: pigeonMap['previewIdentifier']! as int,
+      previewTargetRotation: pigeonMap['previewTargetRotation'] as int?,
+      previewTargetResolution: pigeonMap['previewTargetResolution'] != null
+          ? ResolutionInfo.decode(pigeonMap['previewTargetResolution']!)
+          : null,
+      imageCaptureIdentifier: pigeonMap['imageCaptureIdentifier'] as int?,
+      imageCaptureMode: pigeonMap['imageCaptureMode'] as int?,
+      imageCaptureTargetResolution:
+          pigeonMap['imageCaptureTargetResolution'] != null
+              ? ResolutionInfo.decode(
+                  pigeonMap['imageCaptureTargetResolution']!)
+              : null,
+      imageAnalysisIdentifier: pigeonMap['imageAnalysisIdentifier'] as int?,
+      imageAnalysisOutputImageFormat:
+          pigeonMap['imageAnalysisOutputImageFormat'] as int?,
+      imageAnalysisTargetResolution:
+          pigeonMap['imageAnalysisTargetResolution'] != null
+              ? ResolutionInfo.decode(
+                  pigeonMap['imageAnalysisTargetResolution']!)
+              : null,
+      bindToLifecycle: pigeonMap['bindToLifecycle']! as bool,
+    );
+  }
+}
+
+class CameraUseCaseGraphResult {
+  CameraUseCaseGraphResult({
+    required this.processCameraProviderIdentifier,
+    required this.flutterSurfaceTextureId,
+    this.cameraIdentifier,
+  });
+
+  int processCameraProviderIdentifier;
+  int flutterSurfaceTextureId;
+  int? cameraIdentifier;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['processCameraProviderIdentifier'] =
+        processCameraProviderIdentifier;
+    pigeonMap['flutterSurfaceTextureId'] = flutterSurfaceTextureId;
+    pigeonMap['cameraIdentifier'] = cameraIdentifier;
+    return pigeonMap;
+  }
+
+  static CameraUseCaseGraphResult decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CameraUseCaseGraphResult(
+      processCameraProviderIdentifier:
+          pigeonMap['processCameraProviderIdentifier']! as int,
+      flutterSurfaceTextureId: pigeonMap['flutterSurfaceTextureId']! as int,
+      cameraIdentifier: pigeonMap['cameraIdentifier'] as int?,
+    );
+  }
+}
+
+class VideoRecordEventData {
+  VideoRecordEventData({
+    required this.eventType,
+    required this.recordedDurationNanos,
+    required this.numBytesRecorded,
+    this.outputUri,
+    this.error,
+  });
+
+  int eventType;
+  int recordedDurationNanos;
+  int numBytesRecorded;
+  String? outputUri;
+  int? error;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['eventType'] = eventType;
+    pigeonMap['recordedDurationNanos'] = recordedDurationNanos;
+    pigeonMap['numBytesRecorded'] = numBytesRecorded;
+    pigeonMap['outputUri'] = outputUri;
+    pigeonMap['error'] = error;
+    return pigeonMap;
+  }
+
+  static VideoRecordEventData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return VideoRecordEventData(
+      eventType: pigeonMap['eventType']! as int,
+      recordedDurationNanos: pigeonMap['recordedDurationNanos']! as int,
+      numBytesRecorded: pigeonMap['numBytesRecorded']! as int,
+      outputUri: pigeonMap['outputUri'] as String?,
+      error: pigeonMap['error'] as int?,
+    );
+  }
+}
+
 class _JavaObjectHostApiCodec extends StandardMessageCodec {
   const _JavaObjectHostApiCodec();
 }
@@ -108,6 +367,7 @@ abstract class JavaObjectFlutterApi {
   static const MessageCodec<Object?> codec = _JavaObjectFlutterApiCodec();
 
   void dispose(int identifier);
+  void disposeAll(List<int?> identifiers);
   static void setup(JavaObjectFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -129,6 +389,26 @@ abstract class JavaObjectFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaObjectFlutterApi.disposeAll', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaObjectFlutterApi.disposeAll was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<int?>? arg_identifiers =
+              (args[0] as List<Object?>?)?.cast<int?>();
+          assert(arg_identifiers != null,
+              'Argument for dev.flutter.pigeon.JavaObjectFlutterApi.disposeAll was null, expected non-null List<int?>.');
+          api.disposeAll(arg_identifiers!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -316,6 +596,27 @@ abstract class CameraSelectorFlutterApi {
 
 class _ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
   const _ProcessCameraProviderHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ProcessCameraProviderInitializationInfo) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ProcessCameraProviderInitializationInfo.decode(
+            readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 class ProcessCameraProviderHostApi {
@@ -471,6 +772,37 @@ class ProcessCameraProviderHostApi {
       return;
     }
   }
+
+  Future<ProcessCameraProviderInitializationInfo>
+      getInitializationInfo() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ProcessCameraProviderHostApi.getInitializationInfo',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as ProcessCameraProviderInitializationInfo?)!;
+    }
+  }
 }
 
 class _ProcessCameraProviderFlutterApiCodec extends StandardMessageCodec {
@@ -853,3 +1185,679 @@ class PreviewHostApi {
     }
   }
 }
+
+class _ImageAnalysisHostApiCodec extends StandardMessageCodec {
+  const _ImageAnalysisHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ResolutionInfo) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ResolutionInfo.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class ImageAnalysisHostApi {
+  /// Constructor for [ImageAnalysisHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  ImageAnalysisHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _ImageAnalysisHostApiCodec();
+
+  Future<void> create(int arg_identifier, int? arg_outputImageFormat,
+      ResolutionInfo? arg_targetResolution) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageAnalysisHostApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object?>[
+      arg_identifier,
+      arg_outputImageFormat,
+      arg_targetResolution
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setAnalyzer(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageAnalysisHostApi.setAnalyzer', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> clearAnalyzer(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageAnalysisHostApi.clearAnalyzer', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _ImageAnalysisFlutterApiCodec extends StandardMessageCodec {
+  const _ImageAnalysisFlutterApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ImageFrameData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ImageFrameData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class ImageAnalysisFlutterApi {
+  static const MessageCodec<Object?> codec = _ImageAnalysisFlutterApiCodec();
+
+  void onImageAnalyzed(int identifier, ImageFrameData frame);
+  static void setup(ImageAnalysisFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageAnalysisFlutterApi.onImageAnalyzed', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisFlutterApi.onImageAnalyzed was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisFlutterApi.onImageAnalyzed was null, expected non-null int.');
+          final ImageFrameData? arg_frame = (args[1] as ImageFrameData?);
+          assert(arg_frame != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisFlutterApi.onImageAnalyzed was null, expected non-null ImageFrameData.');
+          api.onImageAnalyzed(arg_identifier!, arg_frame!);
+          return;
+        });
+      }
+    }
+  }
+}
+
+class _ImageCaptureHostApiCodec extends StandardMessageCodec {
+  const _ImageCaptureHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ImageCaptureResultData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ImageCaptureResultData.decode(readValue(buffer)!);
+
+      case 129:
+        return ResolutionInfo.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class ImageCaptureHostApi {
+  /// Constructor for [ImageCaptureHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  ImageCaptureHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _ImageCaptureHostApiCodec();
+
+  Future<void> create(int arg_identifier, int? arg_captureMode,
+      ResolutionInfo? arg_targetResolution) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageCaptureHostApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object?>[
+      arg_identifier,
+      arg_captureMode,
+      arg_targetResolution
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<ImageCaptureResultData> takePicture(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageCaptureHostApi.takePicture', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as ImageCaptureResultData?)!;
+    }
+  }
+
+  Future<ImageCaptureResultData> takePictureToFile(
+      int arg_identifier, String arg_path) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageCaptureHostApi.takePictureToFile', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier, arg_path])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as ImageCaptureResultData?)!;
+    }
+  }
+}
+
+class _CameraUseCaseGraphHostApiCodec extends StandardMessageCodec {
+  const _CameraUseCaseGraphHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraUseCaseGraphRequest) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is CameraUseCaseGraphResult) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraUseCaseGraphRequest.decode(readValue(buffer)!);
+
+      case 129:
+        return CameraUseCaseGraphResult.decode(readValue(buffer)!);
+
+      case 130:
+        return ResolutionInfo.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class CameraUseCaseGraphHostApi {
+  /// Constructor for [CameraUseCaseGraphHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  CameraUseCaseGraphHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _CameraUseCaseGraphHostApiCodec();
+
+  Future<CameraUseCaseGraphResult> createAndBind(
+      CameraUseCaseGraphRequest arg_request) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.CameraUseCaseGraphHostApi.createAndBind', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_request]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as CameraUseCaseGraphResult?)!;
+    }
+  }
+}
+
+class _QualitySelectorHostApiCodec extends StandardMessageCodec {
+  const _QualitySelectorHostApiCodec();
+}
+
+class QualitySelectorHostApi {
+  /// Constructor for [QualitySelectorHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  QualitySelectorHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _QualitySelectorHostApiCodec();
+
+  Future<void> create(int arg_identifier, List<int?> arg_qualities,
+      int? arg_fallbackRule, int? arg_fallbackQuality) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.QualitySelectorHostApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object?>[
+      arg_identifier,
+      arg_qualities,
+      arg_fallbackRule,
+      arg_fallbackQuality
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _RecorderHostApiCodec extends StandardMessageCodec {
+  const _RecorderHostApiCodec();
+}
+
+class RecorderHostApi {
+  /// Constructor for [RecorderHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  RecorderHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _RecorderHostApiCodec();
+
+  Future<void> create(
+      int arg_identifier, int? arg_qualitySelectorIdentifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.RecorderHostApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel
+        .send(<Object?>[arg_identifier, arg_qualitySelectorIdentifier])
+        as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> start(int arg_identifier, int arg_recordingIdentifier,
+      String arg_path, int arg_statusIntervalMillis) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.RecorderHostApi.start', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object?>[
+      arg_identifier,
+      arg_recordingIdentifier,
+      arg_path,
+      arg_statusIntervalMillis
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _RecordingHostApiCodec extends StandardMessageCodec {
+  const _RecordingHostApiCodec();
+}
+
+class RecordingHostApi {
+  /// Constructor for [RecordingHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  RecordingHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _RecordingHostApiCodec();
+
+  Future<void> pause(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.RecordingHostApi.pause', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> resume(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.RecordingHostApi.resume', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> stop(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.RecordingHostApi.stop', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _RecordingFlutterApiCodec extends StandardMessageCodec {
+  const _RecordingFlutterApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is VideoRecordEventData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return VideoRecordEventData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class RecordingFlutterApi {
+  static const MessageCodec<Object?> codec = _RecordingFlutterApiCodec();
+
+  void onVideoRecordEvent(int identifier, VideoRecordEventData event);
+  static void setup(RecordingFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.RecordingFlutterApi.onVideoRecordEvent', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.RecordingFlutterApi.onVideoRecordEvent was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.RecordingFlutterApi.onVideoRecordEvent was null, expected non-null int.');
+          final VideoRecordEventData? arg_event =
+              (args[1] as VideoRecordEventData?);
+          assert(arg_event != null,
+              'Argument for dev.flutter.pigeon.RecordingFlutterApi.onVideoRecordEvent was null, expected non-null VideoRecordEventData.');
+          api.onVideoRecordEvent(arg_identifier!, arg_event!);
+          return;
+        });
+      }
+    }
+  }
+}
+
+class _VideoCaptureHostApiCodec extends StandardMessageCodec {
+  const _VideoCaptureHostApiCodec();
+}
+
+class VideoCaptureHostApi {
+  /// Constructor for [VideoCaptureHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  VideoCaptureHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _VideoCaptureHostApiCodec();
+
+  Future<void> create(int arg_identifier, int arg_recorderIdentifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoCaptureHostApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_identifier, arg_recorderIdentifier])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
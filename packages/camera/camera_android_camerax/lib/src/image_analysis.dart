@@ -0,0 +1,169 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:async';
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camerax_library.g.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+import 'use_case.dart';
+
+/// Use case that provides CPU accessible images for analysis.
+///
+/// Only the latest image is kept while an image is being analyzed, so images
+/// are dropped instead of queued when the analysis falls behind the camera.
+///
+/// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis.
+class ImageAnalysis extends UseCase {
+  /// Creates an [ImageAnalysis].
+  ImageAnalysis(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      this.outputImageFormat,
+      this.targetResolution})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = ImageAnalysisHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    _api.createFromInstance(this, outputImageFormat, targetResolution);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Constructs an [ImageAnalysis] that is not automatically attached to a
+  /// native object.
+  ImageAnalysis.detached(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      this.outputImageFormat,
+      this.targetResolution})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = ImageAnalysisHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Output image format for images in the YUV_420_888 format.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#OUTPUT_IMAGE_FORMAT_YUV_420_888().
+  static const int outputImageFormatYuv420888 = 1;
+
+  /// Output image format for images in the RGBA_8888 format.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#OUTPUT_IMAGE_FORMAT_RGBA_8888().
+  static const int outputImageFormatRgba8888 = 2;
+
+  late final ImageAnalysisHostApiImpl _api;
+
+  final StreamController<ImageFrameData> _imageFrameStreamController =
+      StreamController<ImageFrameData>.broadcast();
+
+  /// Format of the images produced for analysis.
+  ///
+  /// Either [outputImageFormatYuv420888] or [outputImageFormatRgba8888]. If
+  /// null, images are produced in the YUV_420_888 format.
+  final int? outputImageFormat;
+
+  /// Target resolution of the images produced for analysis.
+  final ResolutionInfo? targetResolution;
+
+  /// Stream of the images analyzed while an analyzer is set with
+  /// [setAnalyzer].
+  Stream<ImageFrameData> get onImageAnalyzed =>
+      _imageFrameStreamController.stream;
+
+  /// Starts sending the images of this [ImageAnalysis] to [onImageAnalyzed].
+  Future<void> setAnalyzer() {
+    return _api.setAnalyzerFromInstance(this);
+  }
+
+  /// Stops sending the images of this [ImageAnalysis] to [onImageAnalyzed].
+  Future<void> clearAnalyzer() {
+    return _api.clearAnalyzerFromInstance(this);
+  }
+}
+
+/// Host API implementation of [ImageAnalysis].
+class ImageAnalysisHostApiImpl extends ImageAnalysisHostApi {
+  /// Constructs an [ImageAnalysisHostApiImpl].
+  ImageAnalysisHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager}) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Creates an [ImageAnalysis] with the output image format and target
+  /// resolution provided if specified.
+  void createFromInstance(ImageAnalysis instance, int? outputImageFormat,
+      ResolutionInfo? targetResolution) {
+    final int identifier = instanceManager.addDartCreatedInstance(instance,
+        onCopy: (ImageAnalysis original) {
+      return ImageAnalysis.detached(
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+          outputImageFormat: original.outputImageFormat,
+          targetResolution: original.targetResolution);
+    });
+    create(identifier, outputImageFormat, targetResolution);
+  }
+
+  /// Sets an analyzer on the specified [ImageAnalysis] instance that sends
+  /// its images to Dart.
+  Future<void> setAnalyzerFromInstance(ImageAnalysis instance) {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No ImageAnalysis has the identifer of that requested to set the analyzer on.');
+
+    return setAnalyzer(identifier!);
+  }
+
+  /// Clears the analyzer of the specified [ImageAnalysis] instance.
+  Future<void> clearAnalyzerFromInstance(ImageAnalysis instance) {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No ImageAnalysis has the identifer of that requested to clear the analyzer of.');
+
+    return clearAnalyzer(identifier!);
+  }
+}
+
+/// Flutter API implementation of [ImageAnalysis].
+class ImageAnalysisFlutterApiImpl implements ImageAnalysisFlutterApi {
+  /// Constructs an [ImageAnalysisFlutterApiImpl].
+  ImageAnalysisFlutterApiImpl({
+    this.binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  final InstanceManager instanceManager;
+
+  /// Callback method for each image analyzed by an [ImageAnalysis] with an
+  /// analyzer set.
+  @override
+  void onImageAnalyzed(int identifier, ImageFrameData frame) {
+    final ImageAnalysis? instance =
+        instanceManager.getInstanceWithWeakReference(identifier);
+    instance?._imageFrameStreamController.add(frame);
+  }
+}
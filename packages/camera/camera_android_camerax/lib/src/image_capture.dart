@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camerax_library.g.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+import 'use_case.dart';
+
+/// Use case for taking pictures.
+///
+/// See https://developer.android.com/reference/androidx/camera/core/ImageCapture.
+class ImageCapture extends UseCase {
+  /// Creates an [ImageCapture].
+  ImageCapture(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      this.captureMode,
+      this.targetResolution})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = ImageCaptureHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    _api.createFromInstance(this, captureMode, targetResolution);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Constructs an [ImageCapture] that is not automatically attached to a
+  /// native object.
+  ImageCapture.detached(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      this.captureMode,
+      this.targetResolution})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = ImageCaptureHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Capture mode that favors image quality over latency.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#CAPTURE_MODE_MAXIMIZE_QUALITY().
+  static const int captureModeMaximizeQuality = 0;
+
+  /// Capture mode that favors latency over image quality.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#CAPTURE_MODE_MINIMIZE_LATENCY().
+  static const int captureModeMinimizeLatency = 1;
+
+  late final ImageCaptureHostApiImpl _api;
+
+  /// Capture mode of the pictures taken.
+  ///
+  /// Either [captureModeMaximizeQuality] or [captureModeMinimizeLatency]. If
+  /// null, the CameraX default of [captureModeMinimizeLatency] is used.
+  final int? captureMode;
+
+  /// Target resolution of the pictures taken.
+  final ResolutionInfo? targetResolution;
+
+  /// Takes a picture and returns its JPEG data in
+  /// [ImageCaptureResultData.bytes].
+  Future<ImageCaptureResultData> takePicture() {
+    return _api.takePictureFromInstance(this);
+  }
+
+  /// Takes a picture and writes its JPEG data to the file at [path].
+  ///
+  /// The file is written on a background thread on the Java side, and the
+  /// time it took is returned in [ImageCaptureResultData.saveLatencyMillis].
+  Future<ImageCaptureResultData> takePictureToFile(String path) {
+    return _api.takePictureToFileFromInstance(this, path);
+  }
+}
+
+/// Host API implementation of [ImageCapture].
+class ImageCaptureHostApiImpl extends ImageCaptureHostApi {
+  /// Constructs an [ImageCaptureHostApiImpl].
+  ImageCaptureHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager}) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Creates an [ImageCapture] with the capture mode and target resolution
+  /// provided if specified.
+  void createFromInstance(ImageCapture instance, int? captureMode,
+      ResolutionInfo? targetResolution) {
+    final int identifier = instanceManager.addDartCreatedInstance(instance,
+        onCopy: (ImageCapture original) {
+      return ImageCapture.detached(
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+          captureMode: original.captureMode,
+          targetResolution: original.targetResolution);
+    });
+    create(identifier, captureMode, targetResolution);
+  }
+
+  /// Takes a picture with the specified [ImageCapture] instance.
+  Future<ImageCaptureResultData> takePictureFromInstance(
+      ImageCapture instance) {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No ImageCapture has the identifer of that requested to take a picture with.');
+
+    return takePicture(identifier!);
+  }
+
+  /// Takes a picture with the specified [ImageCapture] instance and writes it
+  /// to [path].
+  Future<ImageCaptureResultData> takePictureToFileFromInstance(
+      ImageCapture instance, String path) {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No ImageCapture has the identifer of that requested to take a picture with.');
+
+    return takePictureToFile(identifier!, path);
+  }
+}
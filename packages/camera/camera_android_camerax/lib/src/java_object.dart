@@ -73,4 +73,11 @@ class JavaObjectFlutterApiImpl implements JavaObjectFlutterApi {
   void dispose(int identifier) {
     instanceManager.remove(identifier);
   }
+
+  @override
+  void disposeAll(List<int?> identifiers) {
+    for (final int? identifier in identifiers) {
+      instanceManager.remove(identifier!);
+    }
+  }
 }
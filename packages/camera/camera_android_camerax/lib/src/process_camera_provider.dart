@@ -41,6 +41,20 @@ class ProcessCameraProvider extends JavaObject {
     return api.getInstancefromInstances();
   }
 
+  /// Gets how long the initialization of the [ProcessCameraProvider] took and
+  /// how much of it ran before [getInstance] was first called.
+  ///
+  /// The initialization only overlaps app startup when it is started eagerly
+  /// with `CameraAndroidCameraxPlugin.setEagerCameraProviderInitialization`
+  /// on the Java side.
+  static Future<ProcessCameraProviderInitializationInfo> getInitializationInfo(
+      {BinaryMessenger? binaryMessenger}) {
+    final ProcessCameraProviderHostApiImpl api =
+        ProcessCameraProviderHostApiImpl(binaryMessenger: binaryMessenger);
+
+    return api.getInitializationInfo();
+  }
+
   /// Retrieves the cameras available to the device.
   Future<List<CameraInfo>> getAvailableCameraInfos() {
     return _api.getAvailableCameraInfosFromInstances(this);
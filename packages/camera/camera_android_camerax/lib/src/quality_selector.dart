@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camerax_library.g.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+
+/// Selects the quality of the videos recorded by a [Recorder].
+///
+/// The first of [qualities] supported by the camera is selected. If none of
+/// them is supported and a [fallbackRule] is set, the supported quality
+/// closest to [fallbackQuality] that the rule allows is selected instead.
+///
+/// See https://developer.android.com/reference/androidx/camera/video/QualitySelector.
+class QualitySelector extends JavaObject {
+  /// Creates a [QualitySelector].
+  QualitySelector(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      required this.qualities,
+      this.fallbackRule,
+      this.fallbackQuality})
+      : assert(fallbackRule == null || fallbackQuality != null),
+        super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = QualitySelectorHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    _api.createFromInstance(this, qualities, fallbackRule, fallbackQuality);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Constructs a [QualitySelector] that is not automatically attached to a
+  /// native object.
+  QualitySelector.detached(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      required this.qualities,
+      this.fallbackRule,
+      this.fallbackQuality})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = QualitySelectorHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Standard definition (SD) 480p video quality.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/Quality#SD().
+  static const int qualitySd = 0;
+
+  /// High definition (HD) 720p video quality.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/Quality#HD().
+  static const int qualityHd = 1;
+
+  /// Full high definition (FHD) 1080p video quality.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/Quality#FHD().
+  static const int qualityFhd = 2;
+
+  /// Ultra high definition (UHD) 2160p video quality.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/Quality#UHD().
+  static const int qualityUhd = 3;
+
+  /// The lowest video quality supported by the camera.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/Quality#LOWEST().
+  static const int qualityLowest = 4;
+
+  /// The highest video quality supported by the camera.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/Quality#HIGHEST().
+  static const int qualityHighest = 5;
+
+  /// Falls back to the closest higher quality, or to the closest lower
+  /// quality if there is no higher one.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/FallbackStrategy#higherQualityOrLowerThan(androidx.camera.video.Quality).
+  static const int fallbackRuleHigherQualityOrLowerThan = 0;
+
+  /// Falls back to the closest higher quality only.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/FallbackStrategy#higherQualityThan(androidx.camera.video.Quality).
+  static const int fallbackRuleHigherQualityThan = 1;
+
+  /// Falls back to the closest lower quality, or to the closest higher
+  /// quality if there is no lower one.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/FallbackStrategy#lowerQualityOrHigherThan(androidx.camera.video.Quality).
+  static const int fallbackRuleLowerQualityOrHigherThan = 2;
+
+  /// Falls back to the closest lower quality only.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/FallbackStrategy#lowerQualityThan(androidx.camera.video.Quality).
+  static const int fallbackRuleLowerQualityThan = 3;
+
+  late final QualitySelectorHostApiImpl _api;
+
+  /// Qualities to select from, in order of preference.
+  final List<int> qualities;
+
+  /// Rule used to fall back to another quality if none of [qualities] is
+  /// supported, or null to not fall back.
+  final int? fallbackRule;
+
+  /// Quality that [fallbackRule] falls back relative to.
+  final int? fallbackQuality;
+}
+
+/// Host API implementation of [QualitySelector].
+class QualitySelectorHostApiImpl extends QualitySelectorHostApi {
+  /// Constructs a [QualitySelectorHostApiImpl].
+  QualitySelectorHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager})
+      : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Creates a [QualitySelector] with the qualities and fallback provided.
+  void createFromInstance(QualitySelector instance, List<int> qualities,
+      int? fallbackRule, int? fallbackQuality) {
+    final int identifier = instanceManager.addDartCreatedInstance(instance,
+        onCopy: (QualitySelector original) {
+      return QualitySelector.detached(
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+          qualities: original.qualities,
+          fallbackRule: original.fallbackRule,
+          fallbackQuality: original.fallbackQuality);
+    });
+    create(identifier, qualities, fallbackRule, fallbackQuality);
+  }
+}
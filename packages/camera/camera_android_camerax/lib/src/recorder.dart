@@ -0,0 +1,122 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camerax_library.g.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+import 'quality_selector.dart';
+import 'recording.dart';
+
+/// Records the video output of a [VideoCapture] to files.
+///
+/// See https://developer.android.com/reference/androidx/camera/video/Recorder.
+class Recorder extends JavaObject {
+  /// Creates a [Recorder].
+  Recorder(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      this.qualitySelector})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = RecorderHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    _api.createFromInstance(this, qualitySelector);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Constructs a [Recorder] that is not automatically attached to a native
+  /// object.
+  Recorder.detached(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      this.qualitySelector})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = RecorderHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Default of the minimum time between two status events of a [Recording].
+  static const Duration defaultStatusInterval = Duration(seconds: 1);
+
+  late final RecorderHostApiImpl _api;
+
+  /// Selects the quality of the recorded videos.
+  ///
+  /// If null, the CameraX default quality selector is used, which selects
+  /// the highest quality supported by the camera.
+  final QualitySelector? qualitySelector;
+
+  /// Starts recording a video to the file at [path].
+  ///
+  /// The returned [Recording] sends its events to
+  /// [Recording.onVideoRecordEvent]. Status events, which report the
+  /// duration and size of the recording so far, are sent at most once per
+  /// [statusInterval], so that long recordings do not flood the platform
+  /// channel.
+  Future<Recording> start(String path,
+      {Duration statusInterval = defaultStatusInterval}) {
+    return _api.startFromInstance(this, path, statusInterval);
+  }
+}
+
+/// Host API implementation of [Recorder].
+class RecorderHostApiImpl extends RecorderHostApi {
+  /// Constructs a [RecorderHostApiImpl].
+  RecorderHostApiImpl({this.binaryMessenger, InstanceManager? instanceManager})
+      : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Creates a [Recorder] with the [QualitySelector] provided if specified.
+  void createFromInstance(Recorder instance, QualitySelector? qualitySelector) {
+    final int identifier = instanceManager.addDartCreatedInstance(instance,
+        onCopy: (Recorder original) {
+      return Recorder.detached(
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+          qualitySelector: original.qualitySelector);
+    });
+    create(
+        identifier,
+        qualitySelector == null
+            ? null
+            : instanceManager.getIdentifier(qualitySelector));
+  }
+
+  /// Starts a [Recording] to the file at [path] with the specified [Recorder]
+  /// instance.
+  Future<Recording> startFromInstance(
+      Recorder instance, String path, Duration statusInterval) async {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No Recorder has the identifer of that requested to start a recording with.');
+
+    final Recording recording = Recording.detached(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    final int recordingIdentifier = instanceManager
+        .addDartCreatedInstance(recording, onCopy: (Recording original) {
+      return Recording.detached(
+          binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    });
+    await start(identifier!, recordingIdentifier, path,
+        statusInterval.inMilliseconds);
+    return recording;
+  }
+}
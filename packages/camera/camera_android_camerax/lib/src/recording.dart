@@ -0,0 +1,153 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:async';
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camerax_library.g.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+
+/// A video recording started with [Recorder.start].
+///
+/// See https://developer.android.com/reference/androidx/camera/video/Recording.
+class Recording extends JavaObject {
+  /// Constructs a [Recording] that is not automatically attached to a native
+  /// object.
+  Recording.detached(
+      {BinaryMessenger? binaryMessenger, InstanceManager? instanceManager})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager) {
+    _api = RecordingHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+  }
+
+  /// Event sent when the recording starts.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/VideoRecordEvent.Start.
+  static const int eventTypeStart = 0;
+
+  /// Event reporting the duration and size of the recording so far.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/VideoRecordEvent.Status.
+  static const int eventTypeStatus = 1;
+
+  /// Event sent when the recording is paused.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/VideoRecordEvent.Pause.
+  static const int eventTypePause = 2;
+
+  /// Event sent when the recording is resumed.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/VideoRecordEvent.Resume.
+  static const int eventTypeResume = 3;
+
+  /// Event sent when the recording is finalized, with the URI of the output
+  /// file and the error that stopped the recording, if any.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/video/VideoRecordEvent.Finalize.
+  static const int eventTypeFinalize = 4;
+
+  late final RecordingHostApiImpl _api;
+
+  final StreamController<VideoRecordEventData> _eventStreamController =
+      StreamController<VideoRecordEventData>.broadcast();
+
+  /// Stream of the events of this recording.
+  ///
+  /// The type of each event is one of [eventTypeStart], [eventTypeStatus],
+  /// [eventTypePause], [eventTypeResume], or [eventTypeFinalize].
+  Stream<VideoRecordEventData> get onVideoRecordEvent =>
+      _eventStreamController.stream;
+
+  /// Pauses this recording.
+  Future<void> pause() {
+    return _api.pauseFromInstance(this);
+  }
+
+  /// Resumes this recording if it is paused.
+  Future<void> resume() {
+    return _api.resumeFromInstance(this);
+  }
+
+  /// Stops this recording.
+  ///
+  /// The output file is finalized asynchronously, and an event of type
+  /// [eventTypeFinalize] is sent to [onVideoRecordEvent] once it is.
+  Future<void> stop() {
+    return _api.stopFromInstance(this);
+  }
+}
+
+/// Host API implementation of [Recording].
+class RecordingHostApiImpl extends RecordingHostApi {
+  /// Constructs a [RecordingHostApiImpl].
+  RecordingHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager})
+      : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Pauses the specified [Recording] instance.
+  Future<void> pauseFromInstance(Recording instance) {
+    return pause(_getIdentifier(instance));
+  }
+
+  /// Resumes the specified [Recording] instance.
+  Future<void> resumeFromInstance(Recording instance) {
+    return resume(_getIdentifier(instance));
+  }
+
+  /// Stops the specified [Recording] instance.
+  Future<void> stopFromInstance(Recording instance) {
+    return stop(_getIdentifier(instance));
+  }
+
+  int _getIdentifier(Recording instance) {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No Recording has the identifer of that requested to be controlled.');
+
+    return identifier!;
+  }
+}
+
+/// Flutter API implementation of [Recording].
+class RecordingFlutterApiImpl implements RecordingFlutterApi {
+  /// Constructs a [RecordingFlutterApiImpl].
+  RecordingFlutterApiImpl({
+    this.binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  final InstanceManager instanceManager;
+
+  /// Callback method for the events of a [Recording].
+  @override
+  void onVideoRecordEvent(int identifier, VideoRecordEventData event) {
+    final Recording? instance =
+        instanceManager.getInstanceWithWeakReference(identifier);
+    instance?._eventStreamController.add(event);
+  }
+}
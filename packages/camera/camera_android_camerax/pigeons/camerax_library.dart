@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:pigeon/pigeon.dart';
 
 @ConfigurePigeon(
@@ -46,6 +48,112 @@ class CameraPermissionsErrorData {
   String description;
 }
 
+class ImageFrameData {
+  ImageFrameData({
+    required this.width,
+    required this.height,
+    required this.format,
+    required this.rotationDegrees,
+    required this.timestamp,
+    required this.planes,
+    required this.bytesPerRow,
+    required this.bytesPerPixel,
+  });
+
+  int width;
+  int height;
+  int format;
+  int rotationDegrees;
+  int timestamp;
+  List<Uint8List?> planes;
+  List<int?> bytesPerRow;
+  List<int?> bytesPerPixel;
+}
+
+class ImageCaptureResultData {
+  ImageCaptureResultData({
+    this.bytes,
+    this.path,
+    required this.captureLatencyMillis,
+    this.saveLatencyMillis,
+  });
+
+  Uint8List? bytes;
+  String? path;
+  int captureLatencyMillis;
+  int? saveLatencyMillis;
+}
+
+class ProcessCameraProviderInitializationInfo {
+  ProcessCameraProviderInitializationInfo({
+    required this.startedEagerly,
+    this.initializationMillis,
+    required this.overlappedMillis,
+  });
+
+  bool startedEagerly;
+  int? initializationMillis;
+  int overlappedMillis;
+}
+
+class CameraUseCaseGraphRequest {
+  CameraUseCaseGraphRequest({
+    required this.cameraSelectorIdentifier,
+    this.lensFacing,
+    required this.previewIdentifier,
+    this.previewTargetRotation,
+    this.previewTargetResolution,
+    this.imageCaptureIdentifier,
+    this.imageCaptureMode,
+    this.imageCaptureTargetResolution,
+    this.imageAnalysisIdentifier,
+    this.imageAnalysisOutputImageFormat,
+    this.imageAnalysisTargetResolution,
+    required this.bindToLifecycle,
+  });
+
+  int cameraSelectorIdentifier;
+  int? lensFacing;
+  int previewIdentifier;
+  int? previewTargetRotation;
+  ResolutionInfo? previewTargetResolution;
+  int? imageCaptureIdentifier;
+  int? imageCaptureMode;
+  ResolutionInfo? imageCaptureTargetResolution;
+  int? imageAnalysisIdentifier;
+  int? imageAnalysisOutputImageFormat;
+  ResolutionInfo? imageAnalysisTargetResolution;
+  bool bindToLifecycle;
+}
+
+class CameraUseCaseGraphResult {
+  CameraUseCaseGraphResult({
+    required this.processCameraProviderIdentifier,
+    required this.flutterSurfaceTextureId,
+    this.cameraIdentifier,
+  });
+
+  int processCameraProviderIdentifier;
+  int flutterSurfaceTextureId;
+  int? cameraIdentifier;
+}
+
+class VideoRecordEventData {
+  VideoRecordEventData({
+    required this.eventType,
+    required this.recordedDurationNanos,
+    required this.numBytesRecorded,
+    this.outputUri,
+    this.error,
+  });
+
+  int eventType;
+  int recordedDurationNanos;
+  int numBytesRecorded;
+  String? outputUri;
+  int? error;
+}
+
 @HostApi(dartHostTestHandler: 'TestJavaObjectHostApi')
 abstract class JavaObjectHostApi {
   void dispose(int identifier);
@@ -54,6 +162,8 @@ abstract class JavaObjectHostApi {
 @FlutterApi()
 abstract class JavaObjectFlutterApi {
   void dispose(int identifier);
+
+  void disposeAll(List<int> identifiers);
 }
 
 @HostApi(dartHostTestHandler: 'TestCameraInfoHostApi')
@@ -91,6 +201,8 @@ abstract class ProcessCameraProviderHostApi {
   void unbind(int identifier, List<int> useCaseIds);
 
   void unbindAll(int identifier);
+
+  ProcessCameraProviderInitializationInfo getInitializationInfo();
 }
 
 @FlutterApi()
@@ -131,3 +243,69 @@ abstract class PreviewHostApi {
 
   ResolutionInfo getResolutionInfo(int identifier);
 }
+
+@HostApi(dartHostTestHandler: 'TestImageAnalysisHostApi')
+abstract class ImageAnalysisHostApi {
+  void create(int identifier, int? outputImageFormat,
+      ResolutionInfo? targetResolution);
+
+  void setAnalyzer(int identifier);
+
+  void clearAnalyzer(int identifier);
+}
+
+@FlutterApi()
+abstract class ImageAnalysisFlutterApi {
+  void onImageAnalyzed(int identifier, ImageFrameData frame);
+}
+
+@HostApi(dartHostTestHandler: 'TestImageCaptureHostApi')
+abstract class ImageCaptureHostApi {
+  void create(
+      int identifier, int? captureMode, ResolutionInfo? targetResolution);
+
+  @async
+  ImageCaptureResultData takePicture(int identifier);
+
+  @async
+  ImageCaptureResultData takePictureToFile(int identifier, String path);
+}
+
+@HostApi(dartHostTestHandler: 'TestCameraUseCaseGraphHostApi')
+abstract class CameraUseCaseGraphHostApi {
+  @async
+  CameraUseCaseGraphResult createAndBind(CameraUseCaseGraphRequest request);
+}
+
+@HostApi(dartHostTestHandler: 'TestQualitySelectorHostApi')
+abstract class QualitySelectorHostApi {
+  void create(int identifier, List<int> qualities, int? fallbackRule,
+      int? fallbackQuality);
+}
+
+@HostApi(dartHostTestHandler: 'TestRecorderHostApi')
+abstract class RecorderHostApi {
+  void create(int identifier, int? qualitySelectorIdentifier);
+
+  void start(int identifier, int recordingIdentifier, String path,
+      int statusIntervalMillis);
+}
+
+@HostApi(dartHostTestHandler: 'TestRecordingHostApi')
+abstract class RecordingHostApi {
+  void pause(int identifier);
+
+  void resume(int identifier);
+
+  void stop(int identifier);
+}
+
+@FlutterApi()
+abstract class RecordingFlutterApi {
+  void onVideoRecordEvent(int identifier, VideoRecordEventData event);
+}
+
+@HostApi(dartHostTestHandler: 'TestVideoCaptureHostApi')
+abstract class VideoCaptureHostApi {
+  void create(int identifier, int recorderIdentifier);
+}
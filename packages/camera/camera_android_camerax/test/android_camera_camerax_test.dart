@@ -9,9 +9,11 @@ import 'package:camera_android_camerax/camera_android_camerax.dart';
 import 'package:camera_android_camerax/src/camera.dart';
 import 'package:camera_android_camerax/src/camera_info.dart';
 import 'package:camera_android_camerax/src/camera_selector.dart';
+import 'package:camera_android_camerax/src/camera_use_case_graph.dart';
 import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/preview.dart';
 import 'package:camera_android_camerax/src/process_camera_provider.dart';
+import 'package:camera_android_camerax/src/surface.dart';
 import 'package:camera_android_camerax/src/system_services.dart';
 import 'package:camera_android_camerax/src/use_case.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
@@ -27,6 +29,7 @@ import 'android_camera_camerax_test.mocks.dart';
   MockSpec<Camera>(),
   MockSpec<CameraInfo>(),
   MockSpec<CameraSelector>(),
+  MockSpec<CameraUseCaseGraph>(),
   MockSpec<Preview>(),
   MockSpec<ProcessCameraProvider>(),
 ])
@@ -98,7 +101,6 @@ void main() {
       'createCamera requests permissions, starts listening for device orientation changes, and returns flutter surface texture ID',
       () async {
     final MockAndroidCameraCamerax camera = MockAndroidCameraCamerax();
-    camera.processCameraProvider = MockProcessCameraProvider();
     const CameraLensDirection testLensDirection = CameraLensDirection.back;
     const int testSensorOrientation = 90;
     const CameraDescription testCameraDescription = CameraDescription(
@@ -109,8 +111,7 @@ void main() {
     const bool enableAudio = true;
     const int testSurfaceTextureId = 6;
 
-    when(camera.testPreview.setSurfaceProvider())
-        .thenAnswer((_) async => testSurfaceTextureId);
+    camera.stubUseCaseGraph(testSurfaceTextureId, MockCamera());
 
     expect(
         await camera.createCamera(testCameraDescription, testResolutionPreset,
@@ -120,15 +121,38 @@ void main() {
     // Verify permissions are requested and the camera starts listening for device orientation changes.
     expect(camera.cameraPermissionsRequested, isTrue);
     expect(camera.startedListeningForDeviceOrientationChanges, isTrue);
+  });
 
-    // Verify CameraSelector is set with appropriate lens direction.
-    expect(camera.cameraSelector, equals(camera.mockBackCameraSelector));
+  test(
+      'createCamera creates and binds the camera selector and preview with a single use case graph',
+      () async {
+    final MockAndroidCameraCamerax camera = MockAndroidCameraCamerax();
+    const CameraDescription testCameraDescription = CameraDescription(
+        name: 'cameraName',
+        lensDirection: CameraLensDirection.back,
+        sensorOrientation: 90);
+    const int testSurfaceTextureId = 6;
+    final MockCamera mockCamera = MockCamera();
 
-    // Verify the camera's Preview instance is instantiated properly.
-    expect(camera.preview, equals(camera.testPreview));
+    camera.stubUseCaseGraph(testSurfaceTextureId, mockCamera);
+
+    await camera.createCamera(testCameraDescription, ResolutionPreset.veryHigh);
 
-    // Verify the camera's Preview instance has its surface provider set.
-    verify(camera.preview!.setSurfaceProvider());
+    // Verify the use case graph is configured for the camera description.
+    expect(camera.useCaseGraphLensDirection, CameraSelector.lensFacingBack);
+    expect(camera.useCaseGraphTargetRotation, Surface.ROTATION_90);
+    verify(camera.testUseCaseGraph.createAndBind());
+
+    // Verify the objects of the use case graph are kept, and that the preview
+    // is bound without any calls per object.
+    expect(camera.cameraSelector, equals(camera.mockBackCameraSelector));
+    expect(camera.preview, equals(camera.testPreview));
+    expect(camera.processCameraProvider,
+        equals(camera.mockProcessCameraProvider));
+    expect(camera.camera, equals(mockCamera));
+    expect(camera.previewIsBound, isTrue);
+    verifyNever(camera.testPreview.setSurfaceProvider());
+    verifyNever(camera.mockProcessCameraProvider.bindToLifecycle(any, any));
   });
 
   test(
@@ -140,7 +164,6 @@ void main() {
 
   test('initializeCamera sends expected CameraInitializedEvent', () async {
     final MockAndroidCameraCamerax camera = MockAndroidCameraCamerax();
-    camera.processCameraProvider = MockProcessCameraProvider();
     const int cameraId = 10;
     const CameraLensDirection testLensDirection = CameraLensDirection.back;
     const int testSensorOrientation = 90;
@@ -171,14 +194,10 @@ void main() {
             false);
 
     // Call createCamera.
-    when(camera.testPreview.setSurfaceProvider())
-        .thenAnswer((_) async => cameraId);
+    camera.stubUseCaseGraph(cameraId, mockCamera);
     await camera.createCamera(testCameraDescription, testResolutionPreset,
         enableAudio: enableAudio);
 
-    when(camera.processCameraProvider!.bindToLifecycle(
-            camera.cameraSelector!, <UseCase>[camera.testPreview]))
-        .thenAnswer((_) async => mockCamera);
     when(camera.testPreview.getResolutionInfo())
         .thenAnswer((_) async => testResolutionInfo);
 
@@ -190,8 +209,9 @@ void main() {
 
     await camera.initializeCamera(cameraId);
 
-    // Verify preview was bound and unbound to get preview resolution information.
-    verify(camera.processCameraProvider!.bindToLifecycle(
+    // Verify preview, already bound by createCamera, was unbound after getting
+    // preview resolution information.
+    verifyNever(camera.processCameraProvider!.bindToLifecycle(
         camera.cameraSelector!, <UseCase>[camera.testPreview]));
     verify(camera.processCameraProvider!.unbind(<UseCase>[camera.testPreview]));
 
@@ -374,6 +394,23 @@ class MockAndroidCameraCamerax extends AndroidCameraCameraX {
   final MockPreview testPreview = MockPreview();
   final MockCameraSelector mockBackCameraSelector = MockCameraSelector();
   final MockCameraSelector mockFrontCameraSelector = MockCameraSelector();
+  final MockCameraUseCaseGraph testUseCaseGraph = MockCameraUseCaseGraph();
+  final MockProcessCameraProvider mockProcessCameraProvider =
+      MockProcessCameraProvider();
+  int? useCaseGraphLensDirection;
+  int? useCaseGraphTargetRotation;
+
+  /// Stubs [testUseCaseGraph] to be bound to [mockProcessCameraProvider] and
+  /// [camera], rendering to the texture with [flutterSurfaceTextureId].
+  void stubUseCaseGraph(int flutterSurfaceTextureId, Camera camera) {
+    when(testUseCaseGraph.cameraSelector).thenReturn(mockBackCameraSelector);
+    when(testUseCaseGraph.preview).thenReturn(testPreview);
+    when(testUseCaseGraph.createAndBind()).thenAnswer((_) async =>
+        CameraUseCaseGraphBinding(
+            processCameraProvider: mockProcessCameraProvider,
+            flutterSurfaceTextureId: flutterSurfaceTextureId,
+            camera: camera));
+  }
 
   @override
   Future<void> requestCameraPermissions(bool enableAudio) async {
@@ -399,7 +436,10 @@ class MockAndroidCameraCamerax extends AndroidCameraCameraX {
   }
 
   @override
-  Preview createPreview(int targetRotation, ResolutionInfo? targetResolution) {
-    return testPreview;
+  CameraUseCaseGraph createCameraUseCaseGraph(int cameraSelectorLensDirection,
+      int targetRotation, ResolutionInfo? targetResolution) {
+    useCaseGraphLensDirection = cameraSelectorLensDirection;
+    useCaseGraphTargetRotation = targetRotation;
+    return testUseCaseGraph;
   }
 }
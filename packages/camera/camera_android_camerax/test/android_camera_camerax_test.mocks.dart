@@ -8,6 +8,7 @@ import 'dart:async' as _i8;
 import 'package:camera_android_camerax/src/camera.dart' as _i3;
 import 'package:camera_android_camerax/src/camera_info.dart' as _i7;
 import 'package:camera_android_camerax/src/camera_selector.dart' as _i9;
+import 'package:camera_android_camerax/src/camera_use_case_graph.dart' as _i14;
 import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
 import 'package:camera_android_camerax/src/preview.dart' as _i10;
 import 'package:camera_android_camerax/src/process_camera_provider.dart'
@@ -98,6 +99,38 @@ class _FakeDiagnosticsNode_4 extends _i1.SmartFake
       super.toString();
 }
 
+class _FakeCameraSelector_5 extends _i1.SmartFake
+    implements _i9.CameraSelector {
+  _FakeCameraSelector_5(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakePreview_6 extends _i1.SmartFake implements _i10.Preview {
+  _FakePreview_6(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeCameraUseCaseGraphBinding_7 extends _i1.SmartFake
+    implements _i14.CameraUseCaseGraphBinding {
+  _FakeCameraUseCaseGraphBinding_7(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [Camera].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -135,6 +168,66 @@ class MockCameraSelector extends _i1.Mock implements _i9.CameraSelector {
       ) as _i8.Future<List<_i7.CameraInfo>>);
 }
 
+/// A class which mocks [CameraUseCaseGraph].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockCameraUseCaseGraph extends _i1.Mock
+    implements _i14.CameraUseCaseGraph {
+  @override
+  _i9.CameraSelector get cameraSelector => (super.noSuchMethod(
+        Invocation.getter(#cameraSelector),
+        returnValue: _FakeCameraSelector_5(
+          this,
+          Invocation.getter(#cameraSelector),
+        ),
+        returnValueForMissingStub: _FakeCameraSelector_5(
+          this,
+          Invocation.getter(#cameraSelector),
+        ),
+      ) as _i9.CameraSelector);
+  @override
+  _i10.Preview get preview => (super.noSuchMethod(
+        Invocation.getter(#preview),
+        returnValue: _FakePreview_6(
+          this,
+          Invocation.getter(#preview),
+        ),
+        returnValueForMissingStub: _FakePreview_6(
+          this,
+          Invocation.getter(#preview),
+        ),
+      ) as _i10.Preview);
+  @override
+  _i8.Future<_i14.CameraUseCaseGraphBinding> createAndBind(
+          {bool? bindToLifecycle = true}) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #createAndBind,
+          [],
+          {#bindToLifecycle: bindToLifecycle},
+        ),
+        returnValue: _i8.Future<_i14.CameraUseCaseGraphBinding>.value(
+            _FakeCameraUseCaseGraphBinding_7(
+          this,
+          Invocation.method(
+            #createAndBind,
+            [],
+            {#bindToLifecycle: bindToLifecycle},
+          ),
+        )),
+        returnValueForMissingStub:
+            _i8.Future<_i14.CameraUseCaseGraphBinding>.value(
+                _FakeCameraUseCaseGraphBinding_7(
+          this,
+          Invocation.method(
+            #createAndBind,
+            [],
+            {#bindToLifecycle: bindToLifecycle},
+          ),
+        )),
+      ) as _i8.Future<_i14.CameraUseCaseGraphBinding>);
+}
+
 /// A class which mocks [Preview].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_android_camerax/src/camera.dart';
+import 'package:camera_android_camerax/src/camera_selector.dart';
+import 'package:camera_android_camerax/src/camera_use_case_graph.dart';
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
+import 'package:camera_android_camerax/src/image_capture.dart';
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/preview.dart';
+import 'package:camera_android_camerax/src/process_camera_provider.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'camera_use_case_graph_test.mocks.dart';
+import 'test_camerax_library.g.dart';
+
+@GenerateMocks(<Type>[TestCameraUseCaseGraphHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('CameraUseCaseGraph', () {
+    tearDown(() => TestCameraUseCaseGraphHostApi.setup(null));
+
+    test('createAndBind creates and binds all objects in one call', () async {
+      final MockTestCameraUseCaseGraphHostApi mockApi =
+          MockTestCameraUseCaseGraphHostApi();
+      TestCameraUseCaseGraphHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ProcessCameraProvider processCameraProvider =
+          ProcessCameraProvider.detached(instanceManager: instanceManager);
+      final Camera camera = Camera.detached(instanceManager: instanceManager);
+      instanceManager.addHostCreatedInstance(
+        processCameraProvider,
+        0,
+        onCopy: (_) => ProcessCameraProvider.detached(),
+      );
+      instanceManager.addHostCreatedInstance(
+        camera,
+        1,
+        onCopy: (_) => Camera.detached(),
+      );
+
+      final CameraSelector cameraSelector = CameraSelector.detached(
+          instanceManager: instanceManager,
+          lensFacing: CameraSelector.lensFacingBack);
+      final Preview preview = Preview.detached(
+          instanceManager: instanceManager,
+          targetRotation: 90,
+          targetResolution: ResolutionInfo(width: 640, height: 480));
+      final ImageCapture imageCapture = ImageCapture.detached(
+          instanceManager: instanceManager,
+          captureMode: ImageCapture.captureModeMaximizeQuality);
+      final CameraUseCaseGraph graph = CameraUseCaseGraph(
+          instanceManager: instanceManager,
+          cameraSelector: cameraSelector,
+          preview: preview,
+          imageCapture: imageCapture);
+
+      when(mockApi.createAndBind(any)).thenAnswer((_) async =>
+          CameraUseCaseGraphResult(
+              processCameraProviderIdentifier: 0,
+              flutterSurfaceTextureId: 7,
+              cameraIdentifier: 1));
+
+      final CameraUseCaseGraphBinding binding = await graph.createAndBind();
+
+      final CameraUseCaseGraphRequest request =
+          verify(mockApi.createAndBind(captureAny)).captured.single
+              as CameraUseCaseGraphRequest;
+      expect(request.cameraSelectorIdentifier,
+          instanceManager.getIdentifier(cameraSelector));
+      expect(request.lensFacing, CameraSelector.lensFacingBack);
+      expect(request.previewIdentifier, instanceManager.getIdentifier(preview));
+      expect(request.previewTargetRotation, 90);
+      expect(request.previewTargetResolution?.width, 640);
+      expect(request.previewTargetResolution?.height, 480);
+      expect(request.imageCaptureIdentifier,
+          instanceManager.getIdentifier(imageCapture));
+      expect(request.imageCaptureMode, ImageCapture.captureModeMaximizeQuality);
+      expect(request.imageAnalysisIdentifier, isNull);
+      expect(request.bindToLifecycle, isTrue);
+
+      expect(binding.processCameraProvider, processCameraProvider);
+      expect(binding.flutterSurfaceTextureId, 7);
+      expect(binding.camera, camera);
+    });
+
+    test('createAndBind does not return a camera when not bound', () async {
+      final MockTestCameraUseCaseGraphHostApi mockApi =
+          MockTestCameraUseCaseGraphHostApi();
+      TestCameraUseCaseGraphHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ProcessCameraProvider processCameraProvider =
+          ProcessCameraProvider.detached(instanceManager: instanceManager);
+      instanceManager.addHostCreatedInstance(
+        processCameraProvider,
+        0,
+        onCopy: (_) => ProcessCameraProvider.detached(),
+      );
+
+      final CameraUseCaseGraph graph = CameraUseCaseGraph(
+          instanceManager: instanceManager,
+          cameraSelector:
+              CameraSelector.detached(instanceManager: instanceManager),
+          preview: Preview.detached(instanceManager: instanceManager));
+
+      when(mockApi.createAndBind(any)).thenAnswer((_) async =>
+          CameraUseCaseGraphResult(
+              processCameraProviderIdentifier: 0, flutterSurfaceTextureId: 7));
+
+      final CameraUseCaseGraphBinding binding =
+          await graph.createAndBind(bindToLifecycle: false);
+
+      final CameraUseCaseGraphRequest request =
+          verify(mockApi.createAndBind(captureAny)).captured.single
+              as CameraUseCaseGraphRequest;
+      expect(request.imageCaptureIdentifier, isNull);
+      expect(request.bindToLifecycle, isFalse);
+      expect(binding.processCameraProvider, processCameraProvider);
+      expect(binding.camera, isNull);
+    });
+  });
+}
@@ -0,0 +1,127 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
+import 'package:camera_android_camerax/src/image_analysis.dart';
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'image_analysis_test.mocks.dart';
+import 'test_camerax_library.g.dart';
+
+@GenerateMocks(<Type>[TestImageAnalysisHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('ImageAnalysis', () {
+    tearDown(() => TestImageAnalysisHostApi.setup(null));
+
+    test('detached create does not call create on the Java side', () async {
+      final MockTestImageAnalysisHostApi mockApi =
+          MockTestImageAnalysisHostApi();
+      TestImageAnalysisHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      ImageAnalysis.detached(
+        instanceManager: instanceManager,
+        outputImageFormat: ImageAnalysis.outputImageFormatRgba8888,
+        targetResolution: ResolutionInfo(width: 50, height: 10),
+      );
+
+      verifyNever(mockApi.create(argThat(isA<int>()), argThat(isA<int>()),
+          argThat(isA<ResolutionInfo>())));
+    });
+
+    test('create calls create on the Java side', () async {
+      final MockTestImageAnalysisHostApi mockApi =
+          MockTestImageAnalysisHostApi();
+      TestImageAnalysisHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      const int targetResolutionWidth = 10;
+      const int targetResolutionHeight = 50;
+      ImageAnalysis(
+        instanceManager: instanceManager,
+        outputImageFormat: ImageAnalysis.outputImageFormatRgba8888,
+        targetResolution: ResolutionInfo(
+            width: targetResolutionWidth, height: targetResolutionHeight),
+      );
+
+      final VerificationResult createVerification = verify(mockApi.create(
+          argThat(isA<int>()),
+          argThat(equals(ImageAnalysis.outputImageFormatRgba8888)),
+          captureAny));
+      final ResolutionInfo capturedResolutionInfo =
+          createVerification.captured.single as ResolutionInfo;
+      expect(capturedResolutionInfo.width, equals(targetResolutionWidth));
+      expect(capturedResolutionInfo.height, equals(targetResolutionHeight));
+    });
+
+    test('setAnalyzer and clearAnalyzer make calls for the instance', () async {
+      final MockTestImageAnalysisHostApi mockApi =
+          MockTestImageAnalysisHostApi();
+      TestImageAnalysisHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageAnalysis imageAnalysis = ImageAnalysis.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageAnalysis,
+        0,
+        onCopy: (_) => ImageAnalysis.detached(),
+      );
+
+      await imageAnalysis.setAnalyzer();
+      await imageAnalysis.clearAnalyzer();
+
+      verifyInOrder(<Object?>[
+        mockApi.setAnalyzer(0),
+        mockApi.clearAnalyzer(0),
+      ]);
+    });
+
+    test('onImageAnalyzed adds frame to the stream of the instance', () async {
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageAnalysisFlutterApiImpl flutterApi =
+          ImageAnalysisFlutterApiImpl(instanceManager: instanceManager);
+      final ImageAnalysis imageAnalysis = ImageAnalysis.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageAnalysis,
+        0,
+        onCopy: (_) => ImageAnalysis.detached(),
+      );
+      final ImageFrameData frame = ImageFrameData(
+        width: 640,
+        height: 480,
+        format: 35,
+        rotationDegrees: 90,
+        timestamp: 1234,
+        planes: <Uint8List?>[Uint8List.fromList(<int>[1, 2, 3])],
+        bytesPerRow: <int?>[640],
+        bytesPerPixel: <int?>[1],
+      );
+
+      final Future<ImageFrameData> analyzedFrame =
+          imageAnalysis.onImageAnalyzed.first;
+      flutterApi.onImageAnalyzed(0, frame);
+
+      expect(await analyzedFrame, same(frame));
+    });
+  });
+}
@@ -0,0 +1,122 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
+import 'package:camera_android_camerax/src/image_capture.dart';
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'image_capture_test.mocks.dart';
+import 'test_camerax_library.g.dart';
+
+@GenerateMocks(<Type>[TestImageCaptureHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('ImageCapture', () {
+    tearDown(() => TestImageCaptureHostApi.setup(null));
+
+    test('detached create does not call create on the Java side', () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      ImageCapture.detached(
+        instanceManager: instanceManager,
+        captureMode: ImageCapture.captureModeMinimizeLatency,
+        targetResolution: ResolutionInfo(width: 50, height: 10),
+      );
+
+      verifyNever(mockApi.create(argThat(isA<int>()), argThat(isA<int>()),
+          argThat(isA<ResolutionInfo>())));
+    });
+
+    test('create calls create on the Java side', () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      const int targetResolutionWidth = 10;
+      const int targetResolutionHeight = 50;
+      ImageCapture(
+        instanceManager: instanceManager,
+        captureMode: ImageCapture.captureModeMinimizeLatency,
+        targetResolution: ResolutionInfo(
+            width: targetResolutionWidth, height: targetResolutionHeight),
+      );
+
+      final VerificationResult createVerification = verify(mockApi.create(
+          argThat(isA<int>()),
+          argThat(equals(ImageCapture.captureModeMinimizeLatency)),
+          captureAny));
+      final ResolutionInfo capturedResolutionInfo =
+          createVerification.captured.single as ResolutionInfo;
+      expect(capturedResolutionInfo.width, equals(targetResolutionWidth));
+      expect(capturedResolutionInfo.height, equals(targetResolutionHeight));
+    });
+
+    test('takePicture returns the result of the Java side', () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageCapture imageCapture = ImageCapture.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageCapture,
+        0,
+        onCopy: (_) => ImageCapture.detached(),
+      );
+      final Uint8List bytes = Uint8List.fromList(<int>[1, 2, 3]);
+      when(mockApi.takePicture(0)).thenAnswer((_) async =>
+          ImageCaptureResultData(bytes: bytes, captureLatencyMillis: 40));
+
+      final ImageCaptureResultData result = await imageCapture.takePicture();
+
+      expect(result.bytes, equals(bytes));
+      expect(result.captureLatencyMillis, equals(40));
+      verify(mockApi.takePicture(0));
+    });
+
+    test('takePictureToFile returns the result of the Java side', () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageCapture imageCapture = ImageCapture.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageCapture,
+        0,
+        onCopy: (_) => ImageCapture.detached(),
+      );
+      const String path = 'test/picture.jpg';
+      when(mockApi.takePictureToFile(0, path)).thenAnswer((_) async =>
+          ImageCaptureResultData(
+              path: path, captureLatencyMillis: 40, saveLatencyMillis: 5));
+
+      final ImageCaptureResultData result =
+          await imageCapture.takePictureToFile(path);
+
+      expect(result.path, equals(path));
+      expect(result.captureLatencyMillis, equals(40));
+      expect(result.saveLatencyMillis, equals(5));
+      verify(mockApi.takePictureToFile(0, path));
+    });
+  });
+}
@@ -5,6 +5,7 @@
 import 'package:camera_android_camerax/src/camera.dart';
 import 'package:camera_android_camerax/src/camera_info.dart';
 import 'package:camera_android_camerax/src/camera_selector.dart';
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:camera_android_camerax/src/process_camera_provider.dart';
 import 'package:camera_android_camerax/src/use_case.dart';
@@ -49,6 +50,25 @@ void main() {
       verify(mockApi.getInstance());
     });
 
+    test('getInitializationInfoTest', () async {
+      final MockTestProcessCameraProviderHostApi mockApi =
+          MockTestProcessCameraProviderHostApi();
+      TestProcessCameraProviderHostApi.setup(mockApi);
+
+      when(mockApi.getInitializationInfo()).thenReturn(
+          ProcessCameraProviderInitializationInfo(
+              startedEagerly: true,
+              initializationMillis: 200,
+              overlappedMillis: 150));
+
+      final ProcessCameraProviderInitializationInfo initializationInfo =
+          await ProcessCameraProvider.getInitializationInfo();
+      expect(initializationInfo.startedEagerly, isTrue);
+      expect(initializationInfo.initializationMillis, equals(200));
+      expect(initializationInfo.overlappedMillis, equals(150));
+      verify(mockApi.getInitializationInfo());
+    });
+
     test('getAvailableCameraInfosTest', () async {
       final MockTestProcessCameraProviderHostApi mockApi =
           MockTestProcessCameraProviderHostApi();
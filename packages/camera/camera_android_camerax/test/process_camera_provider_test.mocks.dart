@@ -3,11 +3,12 @@
 // Do not manually edit this file.
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i3;
+import 'dart:async' as _i4;
 
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i2;
+import 'test_camerax_library.g.dart' as _i3;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -20,23 +21,34 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeProcessCameraProviderInitializationInfo_0 extends _i1.SmartFake
+    implements _i2.ProcessCameraProviderInitializationInfo {
+  _FakeProcessCameraProviderInitializationInfo_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestProcessCameraProviderHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestProcessCameraProviderHostApi extends _i1.Mock
-    implements _i2.TestProcessCameraProviderHostApi {
+    implements _i3.TestProcessCameraProviderHostApi {
   MockTestProcessCameraProviderHostApi() {
     _i1.throwOnMissingStub(this);
   }
 
   @override
-  _i3.Future<int> getInstance() => (super.noSuchMethod(
+  _i4.Future<int> getInstance() => (super.noSuchMethod(
         Invocation.method(
           #getInstance,
           [],
         ),
-        returnValue: _i3.Future<int>.value(0),
-      ) as _i3.Future<int>);
+        returnValue: _i4.Future<int>.value(0),
+      ) as _i4.Future<int>);
   @override
   List<int?> getAvailableCameraInfos(int? identifier) => (super.noSuchMethod(
         Invocation.method(
@@ -85,4 +97,19 @@ class MockTestProcessCameraProviderHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.ProcessCameraProviderInitializationInfo getInitializationInfo() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getInitializationInfo,
+          [],
+        ),
+        returnValue: _FakeProcessCameraProviderInitializationInfo_0(
+          this,
+          Invocation.method(
+            #getInitializationInfo,
+            [],
+          ),
+        ),
+      ) as _i2.ProcessCameraProviderInitializationInfo);
 }
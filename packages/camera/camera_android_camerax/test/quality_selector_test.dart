@@ -0,0 +1,62 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/quality_selector.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'quality_selector_test.mocks.dart';
+import 'test_camerax_library.g.dart';
+
+@GenerateMocks(<Type>[TestQualitySelectorHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('QualitySelector', () {
+    tearDown(() => TestQualitySelectorHostApi.setup(null));
+
+    test('detached create does not call create on the Java side', () async {
+      final MockTestQualitySelectorHostApi mockApi =
+          MockTestQualitySelectorHostApi();
+      TestQualitySelectorHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      QualitySelector.detached(
+        instanceManager: instanceManager,
+        qualities: <int>[QualitySelector.qualityFhd],
+      );
+
+      verifyNever(mockApi.create(argThat(isA<int>()), any, any, any));
+    });
+
+    test('create calls create on the Java side', () async {
+      final MockTestQualitySelectorHostApi mockApi =
+          MockTestQualitySelectorHostApi();
+      TestQualitySelectorHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final QualitySelector qualitySelector = QualitySelector(
+        instanceManager: instanceManager,
+        qualities: <int>[
+          QualitySelector.qualityUhd,
+          QualitySelector.qualityFhd,
+        ],
+        fallbackRule: QualitySelector.fallbackRuleLowerQualityOrHigherThan,
+        fallbackQuality: QualitySelector.qualityHd,
+      );
+
+      verify(mockApi.create(
+          instanceManager.getIdentifier(qualitySelector),
+          <int>[QualitySelector.qualityUhd, QualitySelector.qualityFhd],
+          QualitySelector.fallbackRuleLowerQualityOrHigherThan,
+          QualitySelector.qualityHd));
+    });
+  });
+}
@@ -0,0 +1,83 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/quality_selector.dart';
+import 'package:camera_android_camerax/src/recorder.dart';
+import 'package:camera_android_camerax/src/recording.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'recorder_test.mocks.dart';
+import 'test_camerax_library.g.dart';
+
+@GenerateMocks(<Type>[TestRecorderHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('Recorder', () {
+    tearDown(() => TestRecorderHostApi.setup(null));
+
+    test('detached create does not call create on the Java side', () async {
+      final MockTestRecorderHostApi mockApi = MockTestRecorderHostApi();
+      TestRecorderHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      Recorder.detached(instanceManager: instanceManager);
+
+      verifyNever(mockApi.create(argThat(isA<int>()), any));
+    });
+
+    test('create calls create on the Java side', () async {
+      final MockTestRecorderHostApi mockApi = MockTestRecorderHostApi();
+      TestRecorderHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final QualitySelector qualitySelector = QualitySelector.detached(
+        instanceManager: instanceManager,
+        qualities: <int>[QualitySelector.qualityHd],
+      );
+      instanceManager.addHostCreatedInstance(
+        qualitySelector,
+        0,
+        onCopy: (_) => QualitySelector.detached(qualities: <int>[]),
+      );
+
+      final Recorder recorder = Recorder(
+        instanceManager: instanceManager,
+        qualitySelector: qualitySelector,
+      );
+
+      verify(mockApi.create(instanceManager.getIdentifier(recorder), 0));
+    });
+
+    test('start starts a recording on the Java side', () async {
+      final MockTestRecorderHostApi mockApi = MockTestRecorderHostApi();
+      TestRecorderHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final Recorder recorder = Recorder.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        recorder,
+        0,
+        onCopy: (_) => Recorder.detached(),
+      );
+
+      final Recording recording = await recorder.start('/test/video.mp4',
+          statusInterval: const Duration(milliseconds: 500));
+
+      verify(mockApi.start(0, instanceManager.getIdentifier(recording),
+          '/test/video.mp4', 500));
+    });
+  });
+}
@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/recording.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'recording_test.mocks.dart';
+import 'test_camerax_library.g.dart';
+
+@GenerateMocks(<Type>[TestRecordingHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('Recording', () {
+    tearDown(() => TestRecordingHostApi.setup(null));
+
+    test('pause, resume, and stop make calls for the instance', () async {
+      final MockTestRecordingHostApi mockApi = MockTestRecordingHostApi();
+      TestRecordingHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final Recording recording = Recording.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        recording,
+        0,
+        onCopy: (_) => Recording.detached(),
+      );
+
+      await recording.pause();
+      await recording.resume();
+      await recording.stop();
+
+      verifyInOrder(<Object?>[
+        mockApi.pause(0),
+        mockApi.resume(0),
+        mockApi.stop(0),
+      ]);
+    });
+
+    test('onVideoRecordEvent adds event to the stream of the instance',
+        () async {
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final RecordingFlutterApiImpl flutterApi =
+          RecordingFlutterApiImpl(instanceManager: instanceManager);
+      final Recording recording = Recording.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        recording,
+        0,
+        onCopy: (_) => Recording.detached(),
+      );
+      final VideoRecordEventData event = VideoRecordEventData(
+        eventType: Recording.eventTypeStatus,
+        recordedDurationNanos: 2000000000,
+        numBytesRecorded: 4096,
+      );
+
+      final Future<VideoRecordEventData> receivedEvent =
+          recording.onVideoRecordEvent.first;
+      flutterApi.onVideoRecordEvent(0, event);
+
+      expect(await receivedEvent, same(event));
+    });
+  });
+}
@@ -138,6 +138,27 @@ abstract class TestCameraSelectorHostApi {
 
 class _TestProcessCameraProviderHostApiCodec extends StandardMessageCodec {
   const _TestProcessCameraProviderHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ProcessCameraProviderInitializationInfo) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ProcessCameraProviderInitializationInfo.decode(
+            readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 abstract class TestProcessCameraProviderHostApi {
@@ -150,6 +171,7 @@ abstract class TestProcessCameraProviderHostApi {
       int identifier, int cameraSelectorIdentifier, List<int?> useCaseIds);
   void unbind(int identifier, List<int?> useCaseIds);
   void unbindAll(int identifier);
+  ProcessCameraProviderInitializationInfo getInitializationInfo();
   static void setup(TestProcessCameraProviderHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -257,6 +279,22 @@ abstract class TestProcessCameraProviderHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ProcessCameraProviderHostApi.getInitializationInfo',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final ProcessCameraProviderInitializationInfo output =
+              api.getInitializationInfo();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
   }
 }
 
@@ -473,3 +511,487 @@ abstract class TestPreviewHostApi {
     }
   }
 }
+
+class _TestImageAnalysisHostApiCodec extends StandardMessageCodec {
+  const _TestImageAnalysisHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ResolutionInfo) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ResolutionInfo.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestImageAnalysisHostApi {
+  static const MessageCodec<Object?> codec = _TestImageAnalysisHostApiCodec();
+
+  void create(
+      int identifier, int? outputImageFormat, ResolutionInfo? targetResolution);
+  void setAnalyzer(int identifier);
+  void clearAnalyzer(int identifier);
+  static void setup(TestImageAnalysisHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageAnalysisHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.create was null, expected non-null int.');
+          final int? arg_outputImageFormat = (args[1] as int?);
+          final ResolutionInfo? arg_targetResolution =
+              (args[2] as ResolutionInfo?);
+          api.create(
+              arg_identifier!, arg_outputImageFormat, arg_targetResolution);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageAnalysisHostApi.setAnalyzer', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.setAnalyzer was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.setAnalyzer was null, expected non-null int.');
+          api.setAnalyzer(arg_identifier!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageAnalysisHostApi.clearAnalyzer', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.clearAnalyzer was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.clearAnalyzer was null, expected non-null int.');
+          api.clearAnalyzer(arg_identifier!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestImageCaptureHostApiCodec extends StandardMessageCodec {
+  const _TestImageCaptureHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ImageCaptureResultData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ImageCaptureResultData.decode(readValue(buffer)!);
+
+      case 129:
+        return ResolutionInfo.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestImageCaptureHostApi {
+  static const MessageCodec<Object?> codec = _TestImageCaptureHostApiCodec();
+
+  void create(
+      int identifier, int? captureMode, ResolutionInfo? targetResolution);
+  Future<ImageCaptureResultData> takePicture(int identifier);
+  Future<ImageCaptureResultData> takePictureToFile(
+      int identifier, String path);
+  static void setup(TestImageCaptureHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageCaptureHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.create was null, expected non-null int.');
+          final int? arg_captureMode = (args[1] as int?);
+          final ResolutionInfo? arg_targetResolution =
+              (args[2] as ResolutionInfo?);
+          api.create(arg_identifier!, arg_captureMode, arg_targetResolution);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageCaptureHostApi.takePicture', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePicture was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePicture was null, expected non-null int.');
+          final ImageCaptureResultData output =
+              await api.takePicture(arg_identifier!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageCaptureHostApi.takePictureToFile', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToFile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToFile was null, expected non-null int.');
+          final String? arg_path = (args[1] as String?);
+          assert(arg_path != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToFile was null, expected non-null String.');
+          final ImageCaptureResultData output =
+              await api.takePictureToFile(arg_identifier!, arg_path!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+  }
+}
+
+class _TestCameraUseCaseGraphHostApiCodec extends StandardMessageCodec {
+  const _TestCameraUseCaseGraphHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraUseCaseGraphRequest) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is CameraUseCaseGraphResult) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraUseCaseGraphRequest.decode(readValue(buffer)!);
+
+      case 129:
+        return CameraUseCaseGraphResult.decode(readValue(buffer)!);
+
+      case 130:
+        return ResolutionInfo.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestCameraUseCaseGraphHostApi {
+  static const MessageCodec<Object?> codec =
+      _TestCameraUseCaseGraphHostApiCodec();
+
+  Future<CameraUseCaseGraphResult> createAndBind(
+      CameraUseCaseGraphRequest request);
+  static void setup(TestCameraUseCaseGraphHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.CameraUseCaseGraphHostApi.createAndBind', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.CameraUseCaseGraphHostApi.createAndBind was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final CameraUseCaseGraphRequest? arg_request =
+              (args[0] as CameraUseCaseGraphRequest?);
+          assert(arg_request != null,
+              'Argument for dev.flutter.pigeon.CameraUseCaseGraphHostApi.createAndBind was null, expected non-null CameraUseCaseGraphRequest.');
+          final CameraUseCaseGraphResult output =
+              await api.createAndBind(arg_request!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+  }
+}
+
+class _TestQualitySelectorHostApiCodec extends StandardMessageCodec {
+  const _TestQualitySelectorHostApiCodec();
+}
+
+abstract class TestQualitySelectorHostApi {
+  static const MessageCodec<Object?> codec = _TestQualitySelectorHostApiCodec();
+
+  void create(int identifier, List<int?> qualities, int? fallbackRule,
+      int? fallbackQuality);
+  static void setup(TestQualitySelectorHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.QualitySelectorHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.QualitySelectorHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.QualitySelectorHostApi.create was null, expected non-null int.');
+          final List<int?>? arg_qualities =
+              (args[1] as List<Object?>?)?.cast<int?>();
+          assert(arg_qualities != null,
+              'Argument for dev.flutter.pigeon.QualitySelectorHostApi.create was null, expected non-null List<int?>.');
+          final int? arg_fallbackRule = (args[2] as int?);
+          final int? arg_fallbackQuality = (args[3] as int?);
+          api.create(arg_identifier!, arg_qualities!, arg_fallbackRule,
+              arg_fallbackQuality);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestRecorderHostApiCodec extends StandardMessageCodec {
+  const _TestRecorderHostApiCodec();
+}
+
+abstract class TestRecorderHostApi {
+  static const MessageCodec<Object?> codec = _TestRecorderHostApiCodec();
+
+  void create(int identifier, int? qualitySelectorIdentifier);
+  void start(int identifier, int recordingIdentifier, String path,
+      int statusIntervalMillis);
+  static void setup(TestRecorderHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.RecorderHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.create was null, expected non-null int.');
+          final int? arg_qualitySelectorIdentifier = (args[1] as int?);
+          api.create(arg_identifier!, arg_qualitySelectorIdentifier);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.RecorderHostApi.start', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.start was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.start was null, expected non-null int.');
+          final int? arg_recordingIdentifier = (args[1] as int?);
+          assert(arg_recordingIdentifier != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.start was null, expected non-null int.');
+          final String? arg_path = (args[2] as String?);
+          assert(arg_path != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.start was null, expected non-null String.');
+          final int? arg_statusIntervalMillis = (args[3] as int?);
+          assert(arg_statusIntervalMillis != null,
+              'Argument for dev.flutter.pigeon.RecorderHostApi.start was null, expected non-null int.');
+          api.start(arg_identifier!, arg_recordingIdentifier!, arg_path!,
+              arg_statusIntervalMillis!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestRecordingHostApiCodec extends StandardMessageCodec {
+  const _TestRecordingHostApiCodec();
+}
+
+abstract class TestRecordingHostApi {
+  static const MessageCodec<Object?> codec = _TestRecordingHostApiCodec();
+
+  void pause(int identifier);
+  void resume(int identifier);
+  void stop(int identifier);
+  static void setup(TestRecordingHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.RecordingHostApi.pause', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.RecordingHostApi.pause was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.RecordingHostApi.pause was null, expected non-null int.');
+          api.pause(arg_identifier!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.RecordingHostApi.resume', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.RecordingHostApi.resume was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.RecordingHostApi.resume was null, expected non-null int.');
+          api.resume(arg_identifier!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.RecordingHostApi.stop', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.RecordingHostApi.stop was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.RecordingHostApi.stop was null, expected non-null int.');
+          api.stop(arg_identifier!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestVideoCaptureHostApiCodec extends StandardMessageCodec {
+  const _TestVideoCaptureHostApiCodec();
+}
+
+abstract class TestVideoCaptureHostApi {
+  static const MessageCodec<Object?> codec = _TestVideoCaptureHostApiCodec();
+
+  void create(int identifier, int recorderIdentifier);
+  static void setup(TestVideoCaptureHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoCaptureHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoCaptureHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.VideoCaptureHostApi.create was null, expected non-null int.');
+          final int? arg_recorderIdentifier = (args[1] as int?);
+          assert(arg_recorderIdentifier != null,
+              'Argument for dev.flutter.pigeon.VideoCaptureHostApi.create was null, expected non-null int.');
+          api.create(arg_identifier!, arg_recorderIdentifier!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
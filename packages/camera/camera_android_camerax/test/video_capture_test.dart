@@ -0,0 +1,61 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/recorder.dart';
+import 'package:camera_android_camerax/src/video_capture.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'test_camerax_library.g.dart';
+import 'video_capture_test.mocks.dart';
+
+@GenerateMocks(<Type>[TestVideoCaptureHostApi])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('VideoCapture', () {
+    tearDown(() => TestVideoCaptureHostApi.setup(null));
+
+    test('detached create does not call create on the Java side', () async {
+      final MockTestVideoCaptureHostApi mockApi = MockTestVideoCaptureHostApi();
+      TestVideoCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      VideoCapture.detached(
+        instanceManager: instanceManager,
+        recorder: Recorder.detached(instanceManager: instanceManager),
+      );
+
+      verifyNever(mockApi.create(argThat(isA<int>()), argThat(isA<int>())));
+    });
+
+    test('create calls create on the Java side', () async {
+      final MockTestVideoCaptureHostApi mockApi = MockTestVideoCaptureHostApi();
+      TestVideoCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final Recorder recorder = Recorder.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        recorder,
+        0,
+        onCopy: (_) => Recorder.detached(),
+      );
+
+      final VideoCapture videoCapture = VideoCapture(
+        instanceManager: instanceManager,
+        recorder: recorder,
+      );
+
+      verify(mockApi.create(instanceManager.getIdentifier(videoCapture), 0));
+    });
+  });
+}
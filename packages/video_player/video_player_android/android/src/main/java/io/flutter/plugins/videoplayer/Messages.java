@@ -557,6 +557,398 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheOptionsMessage {
+    private @NonNull Boolean enabled;
+
+    public @NonNull Boolean getEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"enabled\" is null.");
+      }
+      this.enabled = setterArg;
+    }
+
+    private @NonNull Long maxSizeBytes;
+
+    public @NonNull Long getMaxSizeBytes() {
+      return maxSizeBytes;
+    }
+
+    public void setMaxSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSizeBytes\" is null.");
+      }
+      this.maxSizeBytes = setterArg;
+    }
+
+    private @NonNull Long evictionPolicy;
+
+    public @NonNull Long getEvictionPolicy() {
+      return evictionPolicy;
+    }
+
+    public void setEvictionPolicy(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"evictionPolicy\" is null.");
+      }
+      this.evictionPolicy = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheOptionsMessage() {}
+
+    public static class Builder {
+      private @Nullable Boolean enabled;
+
+      public @NonNull Builder setEnabled(@NonNull Boolean setterArg) {
+        this.enabled = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxSizeBytes;
+
+      public @NonNull Builder setMaxSizeBytes(@NonNull Long setterArg) {
+        this.maxSizeBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long evictionPolicy;
+
+      public @NonNull Builder setEvictionPolicy(@NonNull Long setterArg) {
+        this.evictionPolicy = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheOptionsMessage build() {
+        CacheOptionsMessage pigeonReturn = new CacheOptionsMessage();
+        pigeonReturn.setEnabled(enabled);
+        pigeonReturn.setMaxSizeBytes(maxSizeBytes);
+        pigeonReturn.setEvictionPolicy(evictionPolicy);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("enabled", enabled);
+      toMapResult.put("maxSizeBytes", maxSizeBytes);
+      toMapResult.put("evictionPolicy", evictionPolicy);
+      return toMapResult;
+    }
+
+    static @NonNull CacheOptionsMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheOptionsMessage pigeonResult = new CacheOptionsMessage();
+      Object enabled = map.get("enabled");
+      pigeonResult.setEnabled((Boolean) enabled);
+      Object maxSizeBytes = map.get("maxSizeBytes");
+      pigeonResult.setMaxSizeBytes(
+          (maxSizeBytes == null)
+              ? null
+              : ((maxSizeBytes instanceof Integer) ? (Integer) maxSizeBytes : (Long) maxSizeBytes));
+      Object evictionPolicy = map.get("evictionPolicy");
+      pigeonResult.setEvictionPolicy(
+          (evictionPolicy == null)
+              ? null
+              : ((evictionPolicy instanceof Integer)
+                  ? (Integer) evictionPolicy
+                  : (Long) evictionPolicy));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheStatisticsMessage {
+    private @NonNull Long hitCount;
+
+    public @NonNull Long getHitCount() {
+      return hitCount;
+    }
+
+    public void setHitCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitCount\" is null.");
+      }
+      this.hitCount = setterArg;
+    }
+
+    private @NonNull Long missCount;
+
+    public @NonNull Long getMissCount() {
+      return missCount;
+    }
+
+    public void setMissCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"missCount\" is null.");
+      }
+      this.missCount = setterArg;
+    }
+
+    private @NonNull Long bytesSaved;
+
+    public @NonNull Long getBytesSaved() {
+      return bytesSaved;
+    }
+
+    public void setBytesSaved(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesSaved\" is null.");
+      }
+      this.bytesSaved = setterArg;
+    }
+
+    private @NonNull Long bytesDownloaded;
+
+    public @NonNull Long getBytesDownloaded() {
+      return bytesDownloaded;
+    }
+
+    public void setBytesDownloaded(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesDownloaded\" is null.");
+      }
+      this.bytesDownloaded = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheStatisticsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long hitCount;
+
+      public @NonNull Builder setHitCount(@NonNull Long setterArg) {
+        this.hitCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long missCount;
+
+      public @NonNull Builder setMissCount(@NonNull Long setterArg) {
+        this.missCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytesSaved;
+
+      public @NonNull Builder setBytesSaved(@NonNull Long setterArg) {
+        this.bytesSaved = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytesDownloaded;
+
+      public @NonNull Builder setBytesDownloaded(@NonNull Long setterArg) {
+        this.bytesDownloaded = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatisticsMessage build() {
+        CacheStatisticsMessage pigeonReturn = new CacheStatisticsMessage();
+        pigeonReturn.setHitCount(hitCount);
+        pigeonReturn.setMissCount(missCount);
+        pigeonReturn.setBytesSaved(bytesSaved);
+        pigeonReturn.setBytesDownloaded(bytesDownloaded);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("hitCount", hitCount);
+      toMapResult.put("missCount", missCount);
+      toMapResult.put("bytesSaved", bytesSaved);
+      toMapResult.put("bytesDownloaded", bytesDownloaded);
+      return toMapResult;
+    }
+
+    static @NonNull CacheStatisticsMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheStatisticsMessage pigeonResult = new CacheStatisticsMessage();
+      Object hitCount = map.get("hitCount");
+      pigeonResult.setHitCount(
+          (hitCount == null)
+              ? null
+              : ((hitCount instanceof Integer) ? (Integer) hitCount : (Long) hitCount));
+      Object missCount = map.get("missCount");
+      pigeonResult.setMissCount(
+          (missCount == null)
+              ? null
+              : ((missCount instanceof Integer) ? (Integer) missCount : (Long) missCount));
+      Object bytesSaved = map.get("bytesSaved");
+      pigeonResult.setBytesSaved(
+          (bytesSaved == null)
+              ? null
+              : ((bytesSaved instanceof Integer) ? (Integer) bytesSaved : (Long) bytesSaved));
+      Object bytesDownloaded = map.get("bytesDownloaded");
+      pigeonResult.setBytesDownloaded(
+          (bytesDownloaded == null)
+              ? null
+              : ((bytesDownloaded instanceof Integer)
+                  ? (Integer) bytesDownloaded
+                  : (Long) bytesDownloaded));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PreloadMessage {
+    private @NonNull CreateMessage source;
+
+    public @NonNull CreateMessage getSource() {
+      return source;
+    }
+
+    public void setSource(@NonNull CreateMessage setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"source\" is null.");
+      }
+      this.source = setterArg;
+    }
+
+    private @Nullable Long bufferDurationMs;
+
+    public @Nullable Long getBufferDurationMs() {
+      return bufferDurationMs;
+    }
+
+    public void setBufferDurationMs(@Nullable Long setterArg) {
+      this.bufferDurationMs = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PreloadMessage() {}
+
+    public static class Builder {
+      private @Nullable CreateMessage source;
+
+      public @NonNull Builder setSource(@NonNull CreateMessage setterArg) {
+        this.source = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferDurationMs;
+
+      public @NonNull Builder setBufferDurationMs(@Nullable Long setterArg) {
+        this.bufferDurationMs = setterArg;
+        return this;
+      }
+
+      public @NonNull PreloadMessage build() {
+        PreloadMessage pigeonReturn = new PreloadMessage();
+        pigeonReturn.setSource(source);
+        pigeonReturn.setBufferDurationMs(bufferDurationMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("source", (source == null) ? null : source.toMap());
+      toMapResult.put("bufferDurationMs", bufferDurationMs);
+      return toMapResult;
+    }
+
+    static @NonNull PreloadMessage fromMap(@NonNull Map<String, Object> map) {
+      PreloadMessage pigeonResult = new PreloadMessage();
+      Object source = map.get("source");
+      pigeonResult.setSource((source == null) ? null : CreateMessage.fromMap((Map) source));
+      Object bufferDurationMs = map.get("bufferDurationMs");
+      pigeonResult.setBufferDurationMs(
+          (bufferDurationMs == null)
+              ? null
+              : ((bufferDurationMs instanceof Integer)
+                  ? (Integer) bufferDurationMs
+                  : (Long) bufferDurationMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PreloadPoolOptionsMessage {
+    private @NonNull Long maxPlayers;
+
+    public @NonNull Long getMaxPlayers() {
+      return maxPlayers;
+    }
+
+    public void setMaxPlayers(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxPlayers\" is null.");
+      }
+      this.maxPlayers = setterArg;
+    }
+
+    private @NonNull Long maxBufferBytes;
+
+    public @NonNull Long getMaxBufferBytes() {
+      return maxBufferBytes;
+    }
+
+    public void setMaxBufferBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxBufferBytes\" is null.");
+      }
+      this.maxBufferBytes = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PreloadPoolOptionsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long maxPlayers;
+
+      public @NonNull Builder setMaxPlayers(@NonNull Long setterArg) {
+        this.maxPlayers = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBufferBytes;
+
+      public @NonNull Builder setMaxBufferBytes(@NonNull Long setterArg) {
+        this.maxBufferBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull PreloadPoolOptionsMessage build() {
+        PreloadPoolOptionsMessage pigeonReturn = new PreloadPoolOptionsMessage();
+        pigeonReturn.setMaxPlayers(maxPlayers);
+        pigeonReturn.setMaxBufferBytes(maxBufferBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxPlayers", maxPlayers);
+      toMapResult.put("maxBufferBytes", maxBufferBytes);
+      return toMapResult;
+    }
+
+    static @NonNull PreloadPoolOptionsMessage fromMap(@NonNull Map<String, Object> map) {
+      PreloadPoolOptionsMessage pigeonResult = new PreloadPoolOptionsMessage();
+      Object maxPlayers = map.get("maxPlayers");
+      pigeonResult.setMaxPlayers(
+          (maxPlayers == null)
+              ? null
+              : ((maxPlayers instanceof Integer) ? (Integer) maxPlayers : (Long) maxPlayers));
+      Object maxBufferBytes = map.get("maxBufferBytes");
+      pigeonResult.setMaxBufferBytes(
+          (maxBufferBytes == null)
+              ? null
+              : ((maxBufferBytes instanceof Integer)
+                  ? (Integer) maxBufferBytes
+                  : (Long) maxBufferBytes));
+      return pigeonResult;
+    }
+  }
+
   private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
     public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
 
@@ -566,24 +958,36 @@ public class Messages {
     protected Object readValueOfType(byte type, ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CacheOptionsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 129:
-          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CacheStatisticsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 130:
-          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 131:
-          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 132:
-          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 133:
-          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 134:
+          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 135:
+          return PreloadMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 136:
+          return PreloadPoolOptionsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 137:
+          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 138:
           return VolumeMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         default:
@@ -593,26 +997,38 @@ public class Messages {
 
     @Override
     protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
+      if (value instanceof CacheOptionsMessage) {
         stream.write(128);
+        writeValue(stream, ((CacheOptionsMessage) value).toMap());
+      } else if (value instanceof CacheStatisticsMessage) {
+        stream.write(129);
+        writeValue(stream, ((CacheStatisticsMessage) value).toMap());
+      } else if (value instanceof CreateMessage) {
+        stream.write(130);
         writeValue(stream, ((CreateMessage) value).toMap());
       } else if (value instanceof LoopingMessage) {
-        stream.write(129);
+        stream.write(131);
         writeValue(stream, ((LoopingMessage) value).toMap());
       } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
+        stream.write(132);
         writeValue(stream, ((MixWithOthersMessage) value).toMap());
       } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
+        stream.write(133);
         writeValue(stream, ((PlaybackSpeedMessage) value).toMap());
       } else if (value instanceof PositionMessage) {
-        stream.write(132);
+        stream.write(134);
         writeValue(stream, ((PositionMessage) value).toMap());
+      } else if (value instanceof PreloadMessage) {
+        stream.write(135);
+        writeValue(stream, ((PreloadMessage) value).toMap());
+      } else if (value instanceof PreloadPoolOptionsMessage) {
+        stream.write(136);
+        writeValue(stream, ((PreloadPoolOptionsMessage) value).toMap());
       } else if (value instanceof TextureMessage) {
-        stream.write(133);
+        stream.write(137);
         writeValue(stream, ((TextureMessage) value).toMap());
       } else if (value instanceof VolumeMessage) {
-        stream.write(134);
+        stream.write(138);
         writeValue(stream, ((VolumeMessage) value).toMap());
       } else {
         super.writeValue(stream, value);
@@ -646,6 +1062,15 @@ public class Messages {
 
     void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
+    void setCacheOptions(@NonNull CacheOptionsMessage msg);
+
+    @NonNull
+    CacheStatisticsMessage cacheStatistics();
+
+    void setPreloadPoolOptions(@NonNull PreloadPoolOptionsMessage msg);
+
+    void preload(@NonNull PreloadMessage msg);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static MessageCodec<Object> getCodec() {
       return AndroidVideoPlayerApiCodec.INSTANCE;
@@ -930,6 +1355,107 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  CacheOptionsMessage msgArg = (CacheOptionsMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setCacheOptions(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.cacheStatistics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  CacheStatisticsMessage output = api.cacheStatistics();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPreloadPoolOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PreloadPoolOptionsMessage msgArg = (PreloadPoolOptionsMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setPreloadPoolOptions(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.preload", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PreloadMessage msgArg = (PreloadMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.preload(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
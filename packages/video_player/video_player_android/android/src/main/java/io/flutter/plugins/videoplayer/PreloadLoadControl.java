@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.Renderer;
+import com.google.android.exoplayer2.source.TrackGroupArray;
+import com.google.android.exoplayer2.trackselection.ExoTrackSelection;
+import com.google.android.exoplayer2.upstream.Allocator;
+
+/**
+ * A {@link LoadControl} that limits how much an idle, preloaded player buffers.
+ *
+ * <p>Until {@link #stopPreloading()} is called, loading stops once either the buffered duration or
+ * the allocated buffer memory reaches its preload limit, and the player is allowed to become ready
+ * at that point. Afterwards every call is forwarded unchanged to the wrapped {@link LoadControl}.
+ *
+ * <p>{@link #stopPreloading()} may be called from any thread; the other methods are called by
+ * ExoPlayer on its playback thread.
+ */
+final class PreloadLoadControl implements LoadControl {
+  private final LoadControl delegate;
+  private final long preloadDurationUs;
+  private final long preloadBytes;
+  private volatile boolean preloading = true;
+
+  /**
+   * @param preloadDurationUs the duration to buffer while preloading, or {@link C#TIME_UNSET} to
+   *     only limit the buffer by size.
+   * @param preloadBytes the maximum number of bytes to allocate while preloading.
+   */
+  PreloadLoadControl(@NonNull LoadControl delegate, long preloadDurationUs, long preloadBytes) {
+    this.delegate = delegate;
+    this.preloadDurationUs = preloadDurationUs;
+    this.preloadBytes = preloadBytes;
+  }
+
+  /** Lifts the preload limits, typically because the player is about to be played. */
+  void stopPreloading() {
+    preloading = false;
+  }
+
+  private boolean hasReachedPreloadLimit(long bufferedDurationUs) {
+    return (preloadDurationUs != C.TIME_UNSET && bufferedDurationUs >= preloadDurationUs)
+        || delegate.getAllocator().getTotalBytesAllocated() >= preloadBytes;
+  }
+
+  @Override
+  public boolean shouldContinueLoading(
+      long playbackPositionUs, long bufferedDurationUs, float playbackSpeed) {
+    if (preloading && hasReachedPreloadLimit(bufferedDurationUs)) {
+      return false;
+    }
+    return delegate.shouldContinueLoading(playbackPositionUs, bufferedDurationUs, playbackSpeed);
+  }
+
+  @Override
+  public boolean shouldStartPlayback(
+      long bufferedDurationUs, float playbackSpeed, boolean rebuffering, long targetLiveOffsetUs) {
+    // Without this, a player that stopped loading at its preload limit would stay buffering, which
+    // ExoPlayer eventually reports as being stuck.
+    if (preloading && hasReachedPreloadLimit(bufferedDurationUs)) {
+      return true;
+    }
+    return delegate.shouldStartPlayback(
+        bufferedDurationUs, playbackSpeed, rebuffering, targetLiveOffsetUs);
+  }
+
+  @Override
+  public void onPrepared() {
+    delegate.onPrepared();
+  }
+
+  @Override
+  public void onTracksSelected(
+      @NonNull Renderer[] renderers,
+      @NonNull TrackGroupArray trackGroups,
+      @NonNull ExoTrackSelection[] trackSelections) {
+    delegate.onTracksSelected(renderers, trackGroups, trackSelections);
+  }
+
+  @Override
+  public void onStopped() {
+    delegate.onStopped();
+  }
+
+  @Override
+  public void onReleased() {
+    delegate.onReleased();
+  }
+
+  @NonNull
+  @Override
+  public Allocator getAllocator() {
+    return delegate.getAllocator();
+  }
+
+  @Override
+  public long getBackBufferDurationUs() {
+    return delegate.getBackBufferDurationUs();
+  }
+
+  @Override
+  public boolean retainBackBufferFromKeyframe() {
+    return delegate.retainBackBufferFromKeyframe();
+  }
+}
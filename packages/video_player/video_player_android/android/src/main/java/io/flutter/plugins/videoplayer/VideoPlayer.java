@@ -11,6 +11,7 @@ import android.content.Context;
 import android.net.Uri;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
@@ -67,31 +68,15 @@ final class VideoPlayer {
       String dataSource,
       String formatHint,
       @NonNull Map<String, String> httpHeaders,
-      VideoPlayerOptions options) {
+      VideoPlayerOptions options,
+      @Nullable VideoPlayerCache cache) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
 
     ExoPlayer exoPlayer = new ExoPlayer.Builder(context).build();
 
-    Uri uri = Uri.parse(dataSource);
-    DataSource.Factory dataSourceFactory;
-
-    if (isHTTP(uri)) {
-      DefaultHttpDataSource.Factory httpDataSourceFactory =
-          new DefaultHttpDataSource.Factory()
-              .setUserAgent("ExoPlayer")
-              .setAllowCrossProtocolRedirects(true);
-
-      if (httpHeaders != null && !httpHeaders.isEmpty()) {
-        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
-      }
-      dataSourceFactory = httpDataSourceFactory;
-    } else {
-      dataSourceFactory = new DefaultDataSource.Factory(context);
-    }
-
-    MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint, context);
+    MediaSource mediaSource = buildMediaSource(context, dataSource, formatHint, httpHeaders, cache);
 
     exoPlayer.setMediaSource(mediaSource);
     exoPlayer.prepare();
@@ -99,8 +84,8 @@ final class VideoPlayer {
     setUpVideoPlayer(exoPlayer, new QueuingEventSink());
   }
 
-  // Constructor used to directly test members of this class.
-  @VisibleForTesting
+  // Constructor used to wrap a player that was already prepared, either by the preload pool or
+  // directly by tests.
   VideoPlayer(
       ExoPlayer exoPlayer,
       EventChannel eventChannel,
@@ -114,6 +99,35 @@ final class VideoPlayer {
     setUpVideoPlayer(exoPlayer, eventSink);
   }
 
+  static MediaSource buildMediaSource(
+      Context context,
+      String dataSource,
+      String formatHint,
+      Map<String, String> httpHeaders,
+      @Nullable VideoPlayerCache cache) {
+    Uri uri = Uri.parse(dataSource);
+    DataSource.Factory dataSourceFactory;
+
+    if (isHTTP(uri)) {
+      DefaultHttpDataSource.Factory httpDataSourceFactory =
+          new DefaultHttpDataSource.Factory()
+              .setUserAgent("ExoPlayer")
+              .setAllowCrossProtocolRedirects(true);
+
+      if (httpHeaders != null && !httpHeaders.isEmpty()) {
+        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+      }
+      dataSourceFactory =
+          cache != null
+              ? cache.createDataSourceFactory(httpDataSourceFactory)
+              : httpDataSourceFactory;
+    } else {
+      dataSourceFactory = new DefaultDataSource.Factory(context);
+    }
+
+    return buildMediaSource(uri, dataSourceFactory, formatHint, context);
+  }
+
   private static boolean isHTTP(Uri uri) {
     if (uri == null || uri.getScheme() == null) {
       return false;
@@ -122,7 +136,7 @@ final class VideoPlayer {
     return scheme.equals("http") || scheme.equals("https");
   }
 
-  private MediaSource buildMediaSource(
+  private static MediaSource buildMediaSource(
       Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint, Context context) {
     int type;
     if (formatHint == null) {
@@ -233,6 +247,12 @@ final class VideoPlayer {
             }
           }
         });
+
+    // A preloaded player may already be ready, in which case the listener is never told about it.
+    if (exoPlayer.getPlaybackState() == Player.STATE_READY) {
+      isInitialized = true;
+      sendInitialized();
+    }
   }
 
   void sendBufferingUpdate() {
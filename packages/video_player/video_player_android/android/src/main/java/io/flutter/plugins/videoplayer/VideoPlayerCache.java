@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.NoOpCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import io.flutter.Log;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A disk cache for network media that is shared by every {@link VideoPlayer} created by the plugin.
+ *
+ * <p>Network reads go through a {@link CacheDataSource}, so ranges that an earlier player already
+ * downloaded are served from disk. The hit, miss and byte counters are updated from ExoPlayer's
+ * loading threads and may be read from any thread.
+ */
+final class VideoPlayerCache implements CacheDataSource.EventListener, TransferListener {
+  private static final String TAG = "VideoPlayerCache";
+  private static final String CACHE_DIRECTORY = "video_player";
+
+  static final long DEFAULT_MAX_CACHE_SIZE_BYTES = 100 * 1024 * 1024;
+
+  /** Evicts the least recently used content once the cache grows past its maximum size. */
+  static final int EVICTION_POLICY_LEAST_RECENTLY_USED = 0;
+  /** Never evicts content; the maximum size is ignored. */
+  static final int EVICTION_POLICY_NONE = 1;
+
+  private final Cache cache;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong bytesSaved = new AtomicLong();
+  private final AtomicLong bytesDownloaded = new AtomicLong();
+
+  @VisibleForTesting
+  VideoPlayerCache(@NonNull Cache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Opens the cache in the application's cache directory.
+   *
+   * <p>Returns null if the directory is already in use, which happens when another Flutter engine
+   * in the same process has opened the cache first.
+   */
+  @Nullable
+  static VideoPlayerCache create(@NonNull Context context, @NonNull VideoPlayerOptions options) {
+    File directory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+    try {
+      return new VideoPlayerCache(
+          new SimpleCache(
+              directory, createEvictor(options), new StandaloneDatabaseProvider(context)));
+    } catch (IllegalStateException e) {
+      Log.w(TAG, "Unable to open the video cache, network media will not be cached.", e);
+      return null;
+    }
+  }
+
+  static boolean isValidEvictionPolicy(int evictionPolicy) {
+    return evictionPolicy == EVICTION_POLICY_LEAST_RECENTLY_USED
+        || evictionPolicy == EVICTION_POLICY_NONE;
+  }
+
+  @VisibleForTesting
+  static CacheEvictor createEvictor(@NonNull VideoPlayerOptions options) {
+    switch (options.cacheEvictionPolicy) {
+      case EVICTION_POLICY_LEAST_RECENTLY_USED:
+        return new LeastRecentlyUsedCacheEvictor(options.maxCacheSizeBytes);
+      case EVICTION_POLICY_NONE:
+        return new NoOpCacheEvictor();
+      default:
+        throw new IllegalArgumentException(
+            "Unknown cache eviction policy: " + options.cacheEvictionPolicy);
+    }
+  }
+
+  /** Wraps {@code upstreamFactory} so that its reads are served from, and written to, the cache. */
+  @NonNull
+  DataSource.Factory createDataSourceFactory(
+      @NonNull DefaultHttpDataSource.Factory upstreamFactory) {
+    upstreamFactory.setTransferListener(this);
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(upstreamFactory)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(this);
+  }
+
+  /** The number of reads that were served, at least in part, from the cache. */
+  long getHitCount() {
+    return hitCount.get();
+  }
+
+  /** The number of requests that had to go to the network. */
+  long getMissCount() {
+    return missCount.get();
+  }
+
+  /** The number of bytes read from the cache instead of the network. */
+  long getBytesSaved() {
+    return bytesSaved.get();
+  }
+
+  /** The number of bytes read from the network through the cache. */
+  long getBytesDownloaded() {
+    return bytesDownloaded.get();
+  }
+
+  /** Releases the cache. Every player using it must have been disposed first. */
+  void release() {
+    cache.release();
+  }
+
+  @Override
+  public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+    hitCount.incrementAndGet();
+    bytesSaved.addAndGet(cachedBytesRead);
+  }
+
+  @Override
+  public void onCacheIgnored(int reason) {}
+
+  @Override
+  public void onTransferInitializing(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onTransferStart(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {
+    if (isNetwork) {
+      missCount.incrementAndGet();
+    }
+  }
+
+  @Override
+  public void onBytesTransferred(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork, int bytes) {
+    if (isNetwork) {
+      bytesDownloaded.addAndGet(bytes);
+    }
+  }
+
+  @Override
+  public void onTransferEnd(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+}
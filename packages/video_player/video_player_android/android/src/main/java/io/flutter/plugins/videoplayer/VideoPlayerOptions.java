@@ -6,4 +6,11 @@ package io.flutter.plugins.videoplayer;
 
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** Whether network media is read through the shared {@link VideoPlayerCache}. */
+  public boolean cacheEnabled;
+
+  public long maxCacheSizeBytes = VideoPlayerCache.DEFAULT_MAX_CACHE_SIZE_BYTES;
+
+  public int cacheEvictionPolicy = VideoPlayerCache.EVICTION_POLICY_LEAST_RECENTLY_USED;
 }
@@ -7,17 +7,24 @@ package io.flutter.plugins.videoplayer;
 import android.content.Context;
 import android.os.Build;
 import android.util.LongSparseArray;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.LoadControl;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.CacheOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatisticsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PreloadMessage;
+import io.flutter.plugins.videoplayer.Messages.PreloadPoolOptionsMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
@@ -32,6 +39,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private VideoPlayerOptions options = new VideoPlayerOptions();
+  private VideoPlayerCache cache;
+  private final VideoPlayerPreloadPool preloadPool =
+      new VideoPlayerPreloadPool(this::createPreloadedPlayer);
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -100,6 +110,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
       videoPlayers.valueAt(i).dispose();
     }
     videoPlayers.clear();
+    preloadPool.clear();
   }
 
   private void onDestroy() {
@@ -109,10 +120,31 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     // be replaced with just asserting that videoPlayers.isEmpty().
     // https://github.com/flutter/flutter/issues/20989 tracks this.
     disposeAllPlayers();
+    releaseCache();
+  }
+
+  private void releaseCache() {
+    if (cache != null) {
+      cache.release();
+      cache = null;
+    }
+  }
+
+  /** Returns the shared cache, opening it on first use, or null if caching is disabled. */
+  @Nullable
+  private VideoPlayerCache getCache() {
+    if (!options.cacheEnabled) {
+      return null;
+    }
+    if (cache == null) {
+      cache = VideoPlayerCache.create(flutterState.applicationContext, options);
+    }
+    return cache;
   }
 
   public void initialize() {
     disposeAllPlayers();
+    releaseCache();
   }
 
   public TextureMessage create(CreateMessage arg) {
@@ -122,36 +154,37 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
         new EventChannel(
             flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
 
+    String dataSource = getDataSource(arg);
+    @SuppressWarnings("unchecked")
+    Map<String, String> httpHeaders = arg.getHttpHeaders();
+    ExoPlayer preloadedPlayer = preloadPool.claim(dataSource, arg.getFormatHint(), httpHeaders);
+
     VideoPlayer player;
-    if (arg.getAsset() != null) {
-      String assetLookupKey;
-      if (arg.getPackageName() != null) {
-        assetLookupKey =
-            flutterState.keyForAssetAndPackageName.get(arg.getAsset(), arg.getPackageName());
-      } else {
-        assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
-      }
+    if (preloadedPlayer != null) {
+      player =
+          new VideoPlayer(preloadedPlayer, eventChannel, handle, options, new QueuingEventSink());
+    } else if (arg.getAsset() != null) {
       player =
           new VideoPlayer(
               flutterState.applicationContext,
               eventChannel,
               handle,
-              "asset:///" + assetLookupKey,
+              dataSource,
               null,
               null,
-              options);
+              options,
+              null);
     } else {
-      @SuppressWarnings("unchecked")
-      Map<String, String> httpHeaders = arg.getHttpHeaders();
       player =
           new VideoPlayer(
               flutterState.applicationContext,
               eventChannel,
               handle,
-              arg.getUri(),
+              dataSource,
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              options,
+              getCache());
     }
     videoPlayers.put(handle.id(), player);
 
@@ -159,6 +192,33 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     return result;
   }
 
+  private String getDataSource(CreateMessage arg) {
+    if (arg.getAsset() == null) {
+      return arg.getUri();
+    }
+    String assetLookupKey;
+    if (arg.getPackageName() != null) {
+      assetLookupKey =
+          flutterState.keyForAssetAndPackageName.get(arg.getAsset(), arg.getPackageName());
+    } else {
+      assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
+    }
+    return "asset:///" + assetLookupKey;
+  }
+
+  private ExoPlayer createPreloadedPlayer(
+      String dataSource,
+      String formatHint,
+      Map<String, String> httpHeaders,
+      LoadControl loadControl) {
+    Context context = flutterState.applicationContext;
+    ExoPlayer exoPlayer = new ExoPlayer.Builder(context).setLoadControl(loadControl).build();
+    exoPlayer.setMediaSource(
+        VideoPlayer.buildMediaSource(context, dataSource, formatHint, httpHeaders, getCache()));
+    exoPlayer.prepare();
+    return exoPlayer;
+  }
+
   public void dispose(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.dispose();
@@ -211,6 +271,71 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setCacheOptions(CacheOptionsMessage arg) {
+    if (arg.getMaxSizeBytes() <= 0) {
+      throw new IllegalArgumentException("maxSizeBytes must be greater than 0.");
+    }
+    int evictionPolicy = arg.getEvictionPolicy().intValue();
+    if (!VideoPlayerCache.isValidEvictionPolicy(evictionPolicy)) {
+      throw new IllegalArgumentException("Unknown cache eviction policy: " + evictionPolicy);
+    }
+    if (cache != null) {
+      // The cache is only reopened with the new settings once no player is reading from it.
+      if (videoPlayers.size() > 0) {
+        throw new IllegalStateException(
+            "Cache options cannot be changed while video players are using the cache.");
+      }
+      preloadPool.clear();
+      releaseCache();
+    }
+    options.cacheEnabled = arg.getEnabled();
+    options.maxCacheSizeBytes = arg.getMaxSizeBytes();
+    options.cacheEvictionPolicy = evictionPolicy;
+  }
+
+  @Override
+  public void setPreloadPoolOptions(PreloadPoolOptionsMessage arg) {
+    if (arg.getMaxPlayers() < 0) {
+      throw new IllegalArgumentException("maxPlayers must not be negative.");
+    }
+    if (arg.getMaxBufferBytes() <= 0) {
+      throw new IllegalArgumentException("maxBufferBytes must be greater than 0.");
+    }
+    preloadPool.setLimits(arg.getMaxPlayers().intValue(), arg.getMaxBufferBytes());
+  }
+
+  @Override
+  public void preload(PreloadMessage arg) {
+    Long bufferDurationMs = arg.getBufferDurationMs();
+    if (bufferDurationMs != null && bufferDurationMs <= 0) {
+      throw new IllegalArgumentException("bufferDurationMs must be greater than 0.");
+    }
+    CreateMessage source = arg.getSource();
+    @SuppressWarnings("unchecked")
+    Map<String, String> httpHeaders = source.getHttpHeaders();
+    preloadPool.preload(
+        getDataSource(source), source.getFormatHint(), httpHeaders, bufferDurationMs);
+  }
+
+  @Override
+  public CacheStatisticsMessage cacheStatistics() {
+    CacheStatisticsMessage.Builder result =
+        new CacheStatisticsMessage.Builder()
+            .setHitCount(0L)
+            .setMissCount(0L)
+            .setBytesSaved(0L)
+            .setBytesDownloaded(0L);
+    if (cache != null) {
+      result
+          .setHitCount(cache.getHitCount())
+          .setMissCount(cache.getMissCount())
+          .setBytesSaved(cache.getBytesSaved())
+          .setBytesDownloaded(cache.getBytesDownloaded());
+    }
+    return result.build();
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -0,0 +1,167 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.Player;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded pool of idle, prepared players for videos that are expected to be played soon.
+ *
+ * <p>Players are keyed by their data source and evicted in least recently used order once the pool
+ * is full. The buffer of each idle player is capped to an equal share of the pool's memory budget,
+ * and the cap is lifted when the player is claimed.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the platform thread.
+ */
+final class VideoPlayerPreloadPool {
+  static final int DEFAULT_MAX_PLAYERS = 3;
+  static final long DEFAULT_MAX_BUFFER_BYTES = 24 * 1024 * 1024;
+
+  /** Creates a player that has started preparing {@code dataSource}. */
+  interface PlayerFactory {
+    @NonNull
+    ExoPlayer createPreparedPlayer(
+        @NonNull String dataSource,
+        @Nullable String formatHint,
+        @Nullable Map<String, String> httpHeaders,
+        @NonNull LoadControl loadControl);
+  }
+
+  private static final class Entry {
+    final ExoPlayer exoPlayer;
+    final PreloadLoadControl loadControl;
+    @Nullable final String formatHint;
+    @Nullable final Map<String, String> httpHeaders;
+
+    Entry(
+        ExoPlayer exoPlayer,
+        PreloadLoadControl loadControl,
+        @Nullable String formatHint,
+        @Nullable Map<String, String> httpHeaders) {
+      this.exoPlayer = exoPlayer;
+      this.loadControl = loadControl;
+      this.formatHint = formatHint;
+      this.httpHeaders = httpHeaders;
+    }
+
+    boolean matches(@Nullable String formatHint, @Nullable Map<String, String> httpHeaders) {
+      return (this.formatHint == null ? formatHint == null : this.formatHint.equals(formatHint))
+          && (this.httpHeaders == null
+              ? httpHeaders == null
+              : this.httpHeaders.equals(httpHeaders));
+    }
+  }
+
+  private final PlayerFactory playerFactory;
+  // Iterates from the least to the most recently used entry.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private int maxPlayers = DEFAULT_MAX_PLAYERS;
+  private long maxBufferBytes = DEFAULT_MAX_BUFFER_BYTES;
+
+  VideoPlayerPreloadPool(@NonNull PlayerFactory playerFactory) {
+    this.playerFactory = playerFactory;
+  }
+
+  /**
+   * Sets how many idle players the pool may hold, evicting the least recently used ones if needed.
+   *
+   * <p>The memory budget only applies to players preloaded afterwards. A {@code maxPlayers} of 0
+   * disables preloading.
+   */
+  void setLimits(int maxPlayers, long maxBufferBytes) {
+    this.maxPlayers = maxPlayers;
+    this.maxBufferBytes = maxBufferBytes;
+    trimToSize(maxPlayers);
+  }
+
+  /**
+   * Starts preparing {@code dataSource} in an idle player.
+   *
+   * <p>Does nothing but mark the entry as recently used if the same request is already in the pool.
+   *
+   * @param bufferDurationMs how much media to buffer before the player is claimed, or null to
+   *     buffer up to the player's share of the memory budget.
+   */
+  void preload(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @Nullable Map<String, String> httpHeaders,
+      @Nullable Long bufferDurationMs) {
+    if (maxPlayers == 0) {
+      return;
+    }
+    Entry existing = entries.get(dataSource);
+    if (existing != null) {
+      if (existing.matches(formatHint, httpHeaders)) {
+        return;
+      }
+      entries.remove(dataSource);
+      existing.exoPlayer.release();
+    }
+    trimToSize(maxPlayers - 1);
+
+    PreloadLoadControl loadControl =
+        new PreloadLoadControl(
+            new DefaultLoadControl(),
+            bufferDurationMs == null ? C.TIME_UNSET : bufferDurationMs * 1000,
+            maxBufferBytes / maxPlayers);
+    ExoPlayer exoPlayer =
+        playerFactory.createPreparedPlayer(dataSource, formatHint, httpHeaders, loadControl);
+    entries.put(dataSource, new Entry(exoPlayer, loadControl, formatHint, httpHeaders));
+  }
+
+  /**
+   * Removes and returns the preloaded player for {@code dataSource}, or null if there is none.
+   *
+   * <p>A player that failed while preloading, or that was preloaded with a different format hint or
+   * headers, is released instead of returned.
+   */
+  @Nullable
+  ExoPlayer claim(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @Nullable Map<String, String> httpHeaders) {
+    Entry entry = entries.remove(dataSource);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.matches(formatHint, httpHeaders)
+        || entry.exoPlayer.getPlaybackState() == Player.STATE_IDLE) {
+      entry.exoPlayer.release();
+      return null;
+    }
+    entry.loadControl.stopPreloading();
+    return entry.exoPlayer;
+  }
+
+  /** Releases every idle player. */
+  void clear() {
+    trimToSize(0);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  private void trimToSize(int size) {
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (entries.size() > size && iterator.hasNext()) {
+      Entry entry = iterator.next();
+      iterator.remove();
+      entry.exoPlayer.release();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.upstream.Allocator;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PreloadLoadControlTest {
+  private LoadControl fakeDelegate;
+  private Allocator fakeAllocator;
+
+  @Before
+  public void before() {
+    fakeDelegate = mock(LoadControl.class);
+    fakeAllocator = mock(Allocator.class);
+    when(fakeDelegate.getAllocator()).thenReturn(fakeAllocator);
+    when(fakeDelegate.shouldContinueLoading(0L, 2_000_000L, 1f)).thenReturn(true);
+  }
+
+  @Test
+  public void stopsLoadingOnceThePreloadDurationIsBuffered() {
+    PreloadLoadControl loadControl = new PreloadLoadControl(fakeDelegate, 1_000_000L, 1024L);
+
+    assertFalse(loadControl.shouldContinueLoading(0L, 2_000_000L, 1f));
+    assertTrue(loadControl.shouldStartPlayback(2_000_000L, 1f, false, C.TIME_UNSET));
+  }
+
+  @Test
+  public void stopsLoadingOnceThePreloadBytesAreAllocated() {
+    PreloadLoadControl loadControl = new PreloadLoadControl(fakeDelegate, C.TIME_UNSET, 1024L);
+    when(fakeAllocator.getTotalBytesAllocated()).thenReturn(2048);
+
+    assertFalse(loadControl.shouldContinueLoading(0L, 2_000_000L, 1f));
+    assertTrue(loadControl.shouldStartPlayback(2_000_000L, 1f, false, C.TIME_UNSET));
+  }
+
+  @Test
+  public void defersToDelegateBelowThePreloadLimits() {
+    PreloadLoadControl loadControl = new PreloadLoadControl(fakeDelegate, 5_000_000L, 4096L);
+    when(fakeAllocator.getTotalBytesAllocated()).thenReturn(2048);
+
+    assertTrue(loadControl.shouldContinueLoading(0L, 2_000_000L, 1f));
+    assertFalse(loadControl.shouldStartPlayback(2_000_000L, 1f, false, C.TIME_UNSET));
+    verify(fakeDelegate).shouldStartPlayback(2_000_000L, 1f, false, C.TIME_UNSET);
+  }
+
+  @Test
+  public void defersToDelegateAfterPreloadingStops() {
+    PreloadLoadControl loadControl = new PreloadLoadControl(fakeDelegate, 1_000_000L, 1024L);
+
+    loadControl.stopPreloading();
+
+    assertTrue(loadControl.shouldContinueLoading(0L, 2_000_000L, 1f));
+    verify(fakeDelegate).shouldContinueLoading(0L, 2_000_000L, 1f);
+  }
+}
@@ -0,0 +1,98 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.NoOpCacheEvictor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VideoPlayerCacheTest {
+  private Cache fakeCache;
+  private VideoPlayerCache videoPlayerCache;
+
+  @Before
+  public void before() {
+    fakeCache = mock(Cache.class);
+    videoPlayerCache = new VideoPlayerCache(fakeCache);
+  }
+
+  @Test
+  public void createEvictor_usesLeastRecentlyUsedEvictorByDefault() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+
+    assertTrue(VideoPlayerCache.createEvictor(options) instanceof LeastRecentlyUsedCacheEvictor);
+  }
+
+  @Test
+  public void createEvictor_usesNoOpEvictorWhenEvictionIsDisabled() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.cacheEvictionPolicy = VideoPlayerCache.EVICTION_POLICY_NONE;
+
+    assertTrue(VideoPlayerCache.createEvictor(options) instanceof NoOpCacheEvictor);
+  }
+
+  @Test
+  public void createEvictor_throwsForUnknownPolicy() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.cacheEvictionPolicy = 42;
+
+    assertThrows(IllegalArgumentException.class, () -> VideoPlayerCache.createEvictor(options));
+  }
+
+  @Test
+  public void createDataSourceFactory_listensToUpstreamTransfers() {
+    DefaultHttpDataSource.Factory fakeUpstreamFactory = mock(DefaultHttpDataSource.Factory.class);
+
+    DataSource.Factory factory = videoPlayerCache.createDataSourceFactory(fakeUpstreamFactory);
+
+    assertTrue(factory instanceof CacheDataSource.Factory);
+    verify(fakeUpstreamFactory).setTransferListener(videoPlayerCache);
+  }
+
+  @Test
+  public void statistics_countCacheReadsAsHits() {
+    videoPlayerCache.onCachedBytesRead(1000L, 100L);
+    videoPlayerCache.onCachedBytesRead(1000L, 50L);
+
+    assertEquals(2L, videoPlayerCache.getHitCount());
+    assertEquals(150L, videoPlayerCache.getBytesSaved());
+    assertEquals(0L, videoPlayerCache.getMissCount());
+  }
+
+  @Test
+  public void statistics_countNetworkTransfersAsMisses() {
+    DataSource fakeDataSource = mock(DataSource.class);
+    DataSpec fakeDataSpec = mock(DataSpec.class);
+
+    videoPlayerCache.onTransferStart(fakeDataSource, fakeDataSpec, true);
+    videoPlayerCache.onBytesTransferred(fakeDataSource, fakeDataSpec, true, 64);
+    videoPlayerCache.onBytesTransferred(fakeDataSource, fakeDataSpec, true, 36);
+    videoPlayerCache.onTransferStart(fakeDataSource, fakeDataSpec, false);
+    videoPlayerCache.onBytesTransferred(fakeDataSource, fakeDataSpec, false, 500);
+
+    assertEquals(1L, videoPlayerCache.getMissCount());
+    assertEquals(100L, videoPlayerCache.getBytesDownloaded());
+    assertEquals(0L, videoPlayerCache.getHitCount());
+  }
+
+  @Test
+  public void release_releasesCache() {
+    videoPlayerCache.release();
+
+    verify(fakeCache).release();
+  }
+}
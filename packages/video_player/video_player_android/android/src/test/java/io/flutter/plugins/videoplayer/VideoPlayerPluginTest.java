@@ -4,6 +4,12 @@
 
 package io.flutter.plugins.videoplayer;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import io.flutter.plugins.videoplayer.Messages.CacheOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatisticsMessage;
+import io.flutter.plugins.videoplayer.Messages.PreloadPoolOptionsMessage;
 import org.junit.Test;
 
 public class VideoPlayerPluginTest {
@@ -12,4 +18,66 @@ public class VideoPlayerPluginTest {
   public void initPluginDoesNotThrow() {
     final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
   }
+
+  @Test
+  public void setCacheOptions_throwsForNonPositiveMaxSize() {
+    final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
+    final CacheOptionsMessage options =
+        new CacheOptionsMessage.Builder()
+            .setEnabled(true)
+            .setMaxSizeBytes(0L)
+            .setEvictionPolicy((long) VideoPlayerCache.EVICTION_POLICY_LEAST_RECENTLY_USED)
+            .build();
+
+    assertThrows(IllegalArgumentException.class, () -> plugin.setCacheOptions(options));
+  }
+
+  @Test
+  public void setCacheOptions_throwsForUnknownEvictionPolicy() {
+    final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
+    final CacheOptionsMessage options =
+        new CacheOptionsMessage.Builder()
+            .setEnabled(true)
+            .setMaxSizeBytes(1024L)
+            .setEvictionPolicy(42L)
+            .build();
+
+    assertThrows(IllegalArgumentException.class, () -> plugin.setCacheOptions(options));
+  }
+
+  @Test
+  public void cacheStatistics_isEmptyBeforeTheCacheIsOpened() {
+    final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
+    plugin.setCacheOptions(
+        new CacheOptionsMessage.Builder()
+            .setEnabled(true)
+            .setMaxSizeBytes(1024L)
+            .setEvictionPolicy((long) VideoPlayerCache.EVICTION_POLICY_NONE)
+            .build());
+
+    final CacheStatisticsMessage statistics = plugin.cacheStatistics();
+
+    assertEquals(0L, statistics.getHitCount().longValue());
+    assertEquals(0L, statistics.getMissCount().longValue());
+    assertEquals(0L, statistics.getBytesSaved().longValue());
+    assertEquals(0L, statistics.getBytesDownloaded().longValue());
+  }
+
+  @Test
+  public void setPreloadPoolOptions_throwsForNegativeMaxPlayers() {
+    final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
+    final PreloadPoolOptionsMessage options =
+        new PreloadPoolOptionsMessage.Builder().setMaxPlayers(-1L).setMaxBufferBytes(1024L).build();
+
+    assertThrows(IllegalArgumentException.class, () -> plugin.setPreloadPoolOptions(options));
+  }
+
+  @Test
+  public void setPreloadPoolOptions_throwsForNonPositiveMaxBufferBytes() {
+    final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
+    final PreloadPoolOptionsMessage options =
+        new PreloadPoolOptionsMessage.Builder().setMaxPlayers(2L).setMaxBufferBytes(0L).build();
+
+    assertThrows(IllegalArgumentException.class, () -> plugin.setPreloadPoolOptions(options));
+  }
 }
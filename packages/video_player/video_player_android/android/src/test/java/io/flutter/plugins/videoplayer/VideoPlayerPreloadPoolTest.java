@@ -0,0 +1,139 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.Player;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VideoPlayerPreloadPoolTest {
+  private final Map<String, ExoPlayer> fakePlayers = new HashMap<>();
+  private VideoPlayerPreloadPool pool;
+
+  @Before
+  public void before() {
+    fakePlayers.clear();
+    pool =
+        new VideoPlayerPreloadPool(
+            (dataSource, formatHint, httpHeaders, loadControl) -> {
+              ExoPlayer fakePlayer = mock(ExoPlayer.class);
+              when(fakePlayer.getPlaybackState()).thenReturn(Player.STATE_BUFFERING);
+              fakePlayers.put(dataSource, fakePlayer);
+              return fakePlayer;
+            });
+  }
+
+  @Test
+  public void claim_returnsPreloadedPlayer() {
+    pool.preload("https://a", null, Collections.emptyMap(), 1000L);
+
+    assertSame(fakePlayers.get("https://a"), pool.claim("https://a", null, Collections.emptyMap()));
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void claim_returnsNullForUnknownDataSource() {
+    assertNull(pool.claim("https://a", null, Collections.emptyMap()));
+  }
+
+  @Test
+  public void claim_releasesPlayerPreloadedWithDifferentHeaders() {
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+
+    assertNull(pool.claim("https://a", null, Collections.singletonMap("key", "value")));
+    verify(fakePlayers.get("https://a")).release();
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void claim_releasesPlayerThatFailedToPreload() {
+    pool.preload("https://a", "hls", Collections.emptyMap(), null);
+    when(fakePlayers.get("https://a").getPlaybackState()).thenReturn(Player.STATE_IDLE);
+
+    assertNull(pool.claim("https://a", "hls", Collections.emptyMap()));
+    verify(fakePlayers.get("https://a")).release();
+  }
+
+  @Test
+  public void preload_doesNotCreateDuplicatePlayers() {
+    VideoPlayerPreloadPool.PlayerFactory fakeFactory =
+        mock(VideoPlayerPreloadPool.PlayerFactory.class);
+    when(fakeFactory.createPreparedPlayer(any(), any(), any(), any()))
+        .thenReturn(mock(ExoPlayer.class));
+    VideoPlayerPreloadPool pool = new VideoPlayerPreloadPool(fakeFactory);
+
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+
+    verify(fakeFactory, times(1))
+        .createPreparedPlayer(eq("https://a"), isNull(), eq(Collections.emptyMap()), any());
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void preload_evictsLeastRecentlyUsedPlayerWhenFull() {
+    pool.setLimits(2, VideoPlayerPreloadPool.DEFAULT_MAX_BUFFER_BYTES);
+
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+    pool.preload("https://b", null, Collections.emptyMap(), null);
+    // Marks "a" as recently used, so "b" is evicted next.
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+    pool.preload("https://c", null, Collections.emptyMap(), null);
+
+    assertEquals(2, pool.size());
+    verify(fakePlayers.get("https://b")).release();
+    verify(fakePlayers.get("https://a"), never()).release();
+    assertNull(pool.claim("https://b", null, Collections.emptyMap()));
+  }
+
+  @Test
+  public void setLimits_evictsPlayersAboveTheNewLimit() {
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+    pool.preload("https://b", null, Collections.emptyMap(), null);
+
+    pool.setLimits(1, VideoPlayerPreloadPool.DEFAULT_MAX_BUFFER_BYTES);
+
+    assertEquals(1, pool.size());
+    verify(fakePlayers.get("https://a")).release();
+  }
+
+  @Test
+  public void preload_doesNothingWhenPoolIsDisabled() {
+    pool.setLimits(0, VideoPlayerPreloadPool.DEFAULT_MAX_BUFFER_BYTES);
+
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+
+    assertEquals(0, pool.size());
+    assertNull(fakePlayers.get("https://a"));
+  }
+
+  @Test
+  public void clear_releasesAllPlayers() {
+    pool.preload("https://a", null, Collections.emptyMap(), null);
+    pool.preload("https://b", null, Collections.emptyMap(), null);
+
+    pool.clear();
+
+    assertEquals(0, pool.size());
+    verify(fakePlayers.get("https://a")).release();
+    verify(fakePlayers.get("https://b")).release();
+  }
+}
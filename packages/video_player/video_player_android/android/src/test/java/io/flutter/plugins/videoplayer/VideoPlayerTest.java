@@ -5,12 +5,14 @@
 package io.flutter.plugins.videoplayer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
@@ -154,4 +156,29 @@ public class VideoPlayerTest {
     assertEquals(event.get("height"), 200);
     assertEquals(event.get("rotationCorrection"), 180);
   }
+
+  @Test
+  public void sendsInitializedEventForPlayerThatIsAlreadyReady() {
+    Format testFormat =
+        new Format.Builder().setWidth(100).setHeight(200).setRotationDegrees(0).build();
+
+    when(fakeExoPlayer.getPlaybackState()).thenReturn(Player.STATE_READY);
+    when(fakeExoPlayer.getVideoFormat()).thenReturn(testFormat);
+    when(fakeExoPlayer.getDuration()).thenReturn(10L);
+
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+
+    assertTrue(videoPlayer.isInitialized);
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+
+    assertEquals(event.get("event"), "initialized");
+    assertEquals(event.get("duration"), 10L);
+  }
 }
@@ -9,6 +9,8 @@ import 'package:flutter/widgets.dart';
 import 'package:video_player_platform_interface/video_player_platform_interface.dart';
 
 import 'messages.g.dart';
+import 'video_cache.dart';
+import 'video_preload_pool.dart';
 
 /// An Android implementation of [VideoPlayerPlatform] that uses the
 /// Pigeon-generated [VideoPlayerApi].
@@ -32,6 +34,37 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<int?> create(DataSource dataSource) async {
+    final TextureMessage response =
+        await _api.create(_createMessageFor(dataSource));
+    return response.textureId;
+  }
+
+  /// Starts loading [dataSource] in an idle player, so that a later [create]
+  /// call for the same data source starts from an already prepared player.
+  ///
+  /// If [bufferDuration] is set, only that much of the video is buffered until
+  /// the player is claimed by [create]. Preloaded players are kept in a pool
+  /// configured by [setPreloadPoolOptions], which evicts the least recently
+  /// preloaded players once it is full.
+  Future<void> preload(DataSource dataSource, {Duration? bufferDuration}) {
+    return _api.preload(PreloadMessage(
+      source: _createMessageFor(dataSource),
+      bufferDurationMs: bufferDuration?.inMilliseconds,
+    ));
+  }
+
+  /// Configures the pool of players used by [preload].
+  ///
+  /// Players above the new [VideoPreloadPoolOptions.maxPlayers] are released
+  /// immediately.
+  Future<void> setPreloadPoolOptions(VideoPreloadPoolOptions options) {
+    return _api.setPreloadPoolOptions(PreloadPoolOptionsMessage(
+      maxPlayers: options.maxPlayers,
+      maxBufferBytes: options.maxBufferBytes,
+    ));
+  }
+
+  CreateMessage _createMessageFor(DataSource dataSource) {
     String? asset;
     String? packageName;
     String? uri;
@@ -54,16 +87,13 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         uri = dataSource.uri;
         break;
     }
-    final CreateMessage message = CreateMessage(
+    return CreateMessage(
       asset: asset,
       packageName: packageName,
       uri: uri,
       httpHeaders: httpHeaders,
       formatHint: formatHint,
     );
-
-    final TextureMessage response = await _api.create(message);
-    return response.textureId;
   }
 
   @override
@@ -164,6 +194,30 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         .setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  /// Configures the disk cache used for network videos.
+  ///
+  /// The cache is disabled by default. Options must be set before creating
+  /// network videos, or once every video has been disposed; changing them
+  /// while videos are open throws a [PlatformException].
+  Future<void> setCacheOptions(VideoCacheOptions options) {
+    return _api.setCacheOptions(CacheOptionsMessage(
+      enabled: options.enabled,
+      maxSizeBytes: options.maxSizeBytes,
+      evictionPolicy: options.evictionPolicy.index,
+    ));
+  }
+
+  /// Returns the usage counters of the network video cache.
+  Future<VideoCacheStatistics> getCacheStatistics() async {
+    final CacheStatisticsMessage response = await _api.cacheStatistics();
+    return VideoCacheStatistics(
+      hitCount: response.hitCount,
+      missCount: response.missCount,
+      bytesSaved: response.bytesSaved,
+      bytesDownloaded: response.bytesDownloaded,
+    );
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
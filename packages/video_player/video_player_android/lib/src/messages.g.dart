@@ -191,31 +191,155 @@ class MixWithOthersMessage {
   }
 }
 
+class CacheOptionsMessage {
+  CacheOptionsMessage({
+    required this.enabled,
+    required this.maxSizeBytes,
+    required this.evictionPolicy,
+  });
+
+  bool enabled;
+  int maxSizeBytes;
+  int evictionPolicy;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['enabled'] = enabled;
+    pigeonMap['maxSizeBytes'] = maxSizeBytes;
+    pigeonMap['evictionPolicy'] = evictionPolicy;
+    return pigeonMap;
+  }
+
+  static CacheOptionsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheOptionsMessage(
+      enabled: pigeonMap['enabled']! as bool,
+      maxSizeBytes: pigeonMap['maxSizeBytes']! as int,
+      evictionPolicy: pigeonMap['evictionPolicy']! as int,
+    );
+  }
+}
+
+class CacheStatisticsMessage {
+  CacheStatisticsMessage({
+    required this.hitCount,
+    required this.missCount,
+    required this.bytesSaved,
+    required this.bytesDownloaded,
+  });
+
+  int hitCount;
+  int missCount;
+  int bytesSaved;
+  int bytesDownloaded;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['hitCount'] = hitCount;
+    pigeonMap['missCount'] = missCount;
+    pigeonMap['bytesSaved'] = bytesSaved;
+    pigeonMap['bytesDownloaded'] = bytesDownloaded;
+    return pigeonMap;
+  }
+
+  static CacheStatisticsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheStatisticsMessage(
+      hitCount: pigeonMap['hitCount']! as int,
+      missCount: pigeonMap['missCount']! as int,
+      bytesSaved: pigeonMap['bytesSaved']! as int,
+      bytesDownloaded: pigeonMap['bytesDownloaded']! as int,
+    );
+  }
+}
+
+class PreloadMessage {
+  PreloadMessage({
+    required this.source,
+    this.bufferDurationMs,
+  });
+
+  CreateMessage source;
+  int? bufferDurationMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['source'] = source.encode();
+    pigeonMap['bufferDurationMs'] = bufferDurationMs;
+    return pigeonMap;
+  }
+
+  static PreloadMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PreloadMessage(
+      source: CreateMessage.decode(pigeonMap['source']!),
+      bufferDurationMs: pigeonMap['bufferDurationMs'] as int?,
+    );
+  }
+}
+
+class PreloadPoolOptionsMessage {
+  PreloadPoolOptionsMessage({
+    required this.maxPlayers,
+    required this.maxBufferBytes,
+  });
+
+  int maxPlayers;
+  int maxBufferBytes;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxPlayers'] = maxPlayers;
+    pigeonMap['maxBufferBytes'] = maxBufferBytes;
+    return pigeonMap;
+  }
+
+  static PreloadPoolOptionsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PreloadPoolOptionsMessage(
+      maxPlayers: pigeonMap['maxPlayers']! as int,
+      maxBufferBytes: pigeonMap['maxBufferBytes']! as int,
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is CacheOptionsMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is CacheStatisticsMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is MixWithOthersMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is PlaybackSpeedMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is PositionMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is PreloadMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is PreloadPoolOptionsMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -225,24 +349,36 @@ class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return CacheOptionsMessage.decode(readValue(buffer)!);
 
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return CacheStatisticsMessage.decode(readValue(buffer)!);
 
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
 
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return LoopingMessage.decode(readValue(buffer)!);
 
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return MixWithOthersMessage.decode(readValue(buffer)!);
 
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
 
       case 134:
+        return PositionMessage.decode(readValue(buffer)!);
+
+      case 135:
+        return PreloadMessage.decode(readValue(buffer)!);
+
+      case 136:
+        return PreloadPoolOptionsMessage.decode(readValue(buffer)!);
+
+      case 137:
+        return TextureMessage.decode(readValue(buffer)!);
+
+      case 138:
         return VolumeMessage.decode(readValue(buffer)!);
 
       default:
@@ -535,4 +671,105 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<void> setCacheOptions(CacheOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<CacheStatisticsMessage> cacheStatistics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.cacheStatistics', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as CacheStatisticsMessage?)!;
+    }
+  }
+
+  Future<void> setPreloadPoolOptions(PreloadPoolOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPreloadPoolOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> preload(PreloadMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.preload', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// How [AndroidVideoPlayer] removes content from its network media cache.
+enum VideoCacheEvictionPolicy {
+  /// Removes the least recently used content once the cache is full.
+  leastRecentlyUsed,
+
+  /// Never removes content, ignoring [VideoCacheOptions.maxSizeBytes].
+  none,
+}
+
+/// Configuration for the disk cache shared by all network videos.
+@immutable
+class VideoCacheOptions {
+  /// Creates cache options, which enable the cache by default.
+  const VideoCacheOptions({
+    this.enabled = true,
+    this.maxSizeBytes = defaultMaxSizeBytes,
+    this.evictionPolicy = VideoCacheEvictionPolicy.leastRecentlyUsed,
+  }) : assert(maxSizeBytes > 0);
+
+  /// The cache size used when none is specified, 100 MiB.
+  static const int defaultMaxSizeBytes = 100 * 1024 * 1024;
+
+  /// Whether network videos created from now on are read through the cache.
+  final bool enabled;
+
+  /// The size, in bytes, above which the cache starts evicting content.
+  final int maxSizeBytes;
+
+  /// How content is removed once the cache is full.
+  final VideoCacheEvictionPolicy evictionPolicy;
+}
+
+/// Usage counters for the network media cache.
+///
+/// The counters start at zero when the cache is opened by the first network
+/// video, and are reset whenever the cache is closed.
+@immutable
+class VideoCacheStatistics {
+  /// Creates a set of cache statistics.
+  const VideoCacheStatistics({
+    required this.hitCount,
+    required this.missCount,
+    required this.bytesSaved,
+    required this.bytesDownloaded,
+  });
+
+  /// The number of reads that were served, at least in part, from the cache.
+  final int hitCount;
+
+  /// The number of requests that had to go to the network.
+  final int missCount;
+
+  /// The number of bytes read from the cache instead of the network.
+  final int bytesSaved;
+
+  /// The number of bytes downloaded from the network through the cache.
+  final int bytesDownloaded;
+}
@@ -0,0 +1,30 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// Configuration for the pool of idle players used by
+/// [AndroidVideoPlayer.preload].
+@immutable
+class VideoPreloadPoolOptions {
+  /// Creates preload pool options.
+  const VideoPreloadPoolOptions({
+    this.maxPlayers = defaultMaxPlayers,
+    this.maxBufferBytes = defaultMaxBufferBytes,
+  })  : assert(maxPlayers >= 0),
+        assert(maxBufferBytes > 0);
+
+  /// The number of idle players kept when none is specified.
+  static const int defaultMaxPlayers = 3;
+
+  /// The buffer memory budget used when none is specified, 24 MiB.
+  static const int defaultMaxBufferBytes = 24 * 1024 * 1024;
+
+  /// The maximum number of idle players. 0 disables preloading.
+  final int maxPlayers;
+
+  /// The total number of bytes the idle players may buffer, shared equally
+  /// between them.
+  final int maxBufferBytes;
+}
@@ -3,3 +3,5 @@
 // found in the LICENSE file.
 
 export 'src/android_video_player.dart';
+export 'src/video_cache.dart';
+export 'src/video_preload_pool.dart';
@@ -56,6 +56,34 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class CacheOptionsMessage {
+  CacheOptionsMessage(this.enabled, this.maxSizeBytes, this.evictionPolicy);
+  bool enabled;
+  int maxSizeBytes;
+  int evictionPolicy;
+}
+
+class CacheStatisticsMessage {
+  CacheStatisticsMessage(
+      this.hitCount, this.missCount, this.bytesSaved, this.bytesDownloaded);
+  int hitCount;
+  int missCount;
+  int bytesSaved;
+  int bytesDownloaded;
+}
+
+class PreloadMessage {
+  PreloadMessage(this.source);
+  CreateMessage source;
+  int? bufferDurationMs;
+}
+
+class PreloadPoolOptionsMessage {
+  PreloadPoolOptionsMessage(this.maxPlayers, this.maxBufferBytes);
+  int maxPlayers;
+  int maxBufferBytes;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +97,8 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setCacheOptions(CacheOptionsMessage msg);
+  CacheStatisticsMessage cacheStatistics();
+  void setPreloadPoolOptions(PreloadPoolOptionsMessage msg);
+  void preload(PreloadMessage msg);
 }
@@ -23,6 +23,9 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheOptionsMessage? cacheOptionsMessage;
+  PreloadMessage? preloadMessage;
+  PreloadPoolOptionsMessage? preloadPoolOptionsMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -60,6 +63,35 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     mixWithOthersMessage = arg;
   }
 
+  @override
+  void setCacheOptions(CacheOptionsMessage arg) {
+    log.add('setCacheOptions');
+    cacheOptionsMessage = arg;
+  }
+
+  @override
+  CacheStatisticsMessage cacheStatistics() {
+    log.add('cacheStatistics');
+    return CacheStatisticsMessage(
+      hitCount: 3,
+      missCount: 1,
+      bytesSaved: 3000,
+      bytesDownloaded: 1000,
+    );
+  }
+
+  @override
+  void preload(PreloadMessage arg) {
+    log.add('preload');
+    preloadMessage = arg;
+  }
+
+  @override
+  void setPreloadPoolOptions(PreloadPoolOptionsMessage arg) {
+    log.add('setPreloadPoolOptions');
+    preloadPoolOptionsMessage = arg;
+  }
+
   @override
   PositionMessage position(TextureMessage arg) {
     log.add('position');
@@ -205,6 +237,77 @@ void main() {
       expect(log.mixWithOthersMessage?.mixWithOthers, false);
     });
 
+    test('preload with network', () async {
+      await player.preload(
+        DataSource(
+          sourceType: DataSourceType.network,
+          uri: 'someUri',
+          formatHint: VideoFormat.hls,
+          httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+        ),
+        bufferDuration: const Duration(seconds: 2),
+      );
+      expect(log.log.last, 'preload');
+      expect(log.preloadMessage?.source.asset, null);
+      expect(log.preloadMessage?.source.uri, 'someUri');
+      expect(log.preloadMessage?.source.formatHint, 'hls');
+      expect(log.preloadMessage?.source.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(log.preloadMessage?.bufferDurationMs, 2000);
+    });
+
+    test('preload with asset', () async {
+      await player.preload(DataSource(
+        sourceType: DataSourceType.asset,
+        asset: 'someAsset',
+        package: 'somePackage',
+      ));
+      expect(log.log.last, 'preload');
+      expect(log.preloadMessage?.source.asset, 'someAsset');
+      expect(log.preloadMessage?.source.packageName, 'somePackage');
+      expect(log.preloadMessage?.source.uri, null);
+      expect(log.preloadMessage?.bufferDurationMs, null);
+    });
+
+    test('setPreloadPoolOptions', () async {
+      await player.setPreloadPoolOptions(const VideoPreloadPoolOptions(
+        maxPlayers: 2,
+        maxBufferBytes: 1024,
+      ));
+      expect(log.log.last, 'setPreloadPoolOptions');
+      expect(log.preloadPoolOptionsMessage?.maxPlayers, 2);
+      expect(log.preloadPoolOptionsMessage?.maxBufferBytes, 1024);
+    });
+
+    test('setCacheOptions', () async {
+      await player.setCacheOptions(const VideoCacheOptions(
+        maxSizeBytes: 1024,
+        evictionPolicy: VideoCacheEvictionPolicy.none,
+      ));
+      expect(log.log.last, 'setCacheOptions');
+      expect(log.cacheOptionsMessage?.enabled, true);
+      expect(log.cacheOptionsMessage?.maxSizeBytes, 1024);
+      expect(log.cacheOptionsMessage?.evictionPolicy,
+          VideoCacheEvictionPolicy.none.index);
+
+      await player.setCacheOptions(const VideoCacheOptions(enabled: false));
+      expect(log.log.last, 'setCacheOptions');
+      expect(log.cacheOptionsMessage?.enabled, false);
+      expect(log.cacheOptionsMessage?.maxSizeBytes,
+          VideoCacheOptions.defaultMaxSizeBytes);
+      expect(log.cacheOptionsMessage?.evictionPolicy,
+          VideoCacheEvictionPolicy.leastRecentlyUsed.index);
+    });
+
+    test('getCacheStatistics', () async {
+      final VideoCacheStatistics statistics = await player.getCacheStatistics();
+      expect(log.log.last, 'cacheStatistics');
+      expect(statistics.hitCount, 3);
+      expect(statistics.missCount, 1);
+      expect(statistics.bytesSaved, 3000);
+      expect(statistics.bytesDownloaded, 1000);
+    });
+
     test('setVolume', () async {
       await player.setVolume(1, 0.7);
       expect(log.log.last, 'setVolume');